@@ -19,6 +19,7 @@ import io.camunda.client.api.CamundaFuture;
 import io.camunda.client.api.ExperimentalApi;
 import io.camunda.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.client.api.command.CompleteJobCommandStep1;
+import io.camunda.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.client.api.command.FailJobCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1;
 import io.camunda.client.api.command.StreamJobsCommandStep1.StreamJobsCommandStep3;
@@ -74,6 +75,25 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(ActivatedJob job);
 
+  /**
+   * Command to complete many jobs with a single request.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(jobKey, json)
+   *  .addJob(otherJobKey, otherJson)
+   *  .send();
+   * </pre>
+   *
+   * <p>Each job is completed as if it was completed with {@link #newCompleteCommand(long)}. The
+   * outcome is reported for each job separately: a job which cannot be completed does not prevent
+   * the other jobs from being completed. This command is only sent via gRPC.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
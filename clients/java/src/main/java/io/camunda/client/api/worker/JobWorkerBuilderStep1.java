@@ -131,6 +131,24 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 maxJobsActive(int maxJobsActive);
 
+    /**
+     * Enables adaptive concurrency for this worker. Instead of always keeping up to {@link
+     * #maxJobsActive(int)} jobs in flight, the worker then tunes how many jobs it activates and
+     * works on at once based on how long its jobs take to be handled: while the latency stays
+     * stable, the limit grows, and as soon as jobs start to queue up or the handler slows down
+     * (e.g. because a downstream system is overloaded), the limit shrinks again.
+     *
+     * <p>The limit is always between 1 and {@link #maxJobsActive(int)}, which then acts as an upper
+     * bound. It applies to both polled and streamed jobs. Changes to the limit are reported via
+     * {@link JobWorkerMetrics#concurrencyLimitChanged(int)}.
+     *
+     * <p>Adaptive concurrency is disabled by default.
+     *
+     * @param adaptiveConcurrency whether the worker should adapt the number of jobs in flight
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 adaptiveConcurrency(boolean adaptiveConcurrency);
+
     /**
      * Set the maximal interval between polling for new jobs.
      *
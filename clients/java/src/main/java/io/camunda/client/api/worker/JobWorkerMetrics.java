@@ -17,6 +17,7 @@ package io.camunda.client.api.worker;
 
 import io.camunda.client.api.worker.metrics.MicrometerJobWorkerMetricsBuilder;
 import io.camunda.client.impl.worker.metrics.MicrometerJobWorkerMetricsBuilderImpl;
+import java.time.Duration;
 
 /** Worker metrics API. Allows basic instrumenting of job activation and handling. */
 public interface JobWorkerMetrics {
@@ -39,6 +40,25 @@ public interface JobWorkerMetrics {
    */
   default void jobHandled(final int count) {}
 
+  /**
+   * Called every time a job is handled, with the time it took from handing the job over to the
+   * executor until its handler was done. This includes the time the job spent waiting for a free
+   * executor thread.
+   *
+   * @param latency the time it took to handle the job
+   */
+  default void jobHandlingLatency(final Duration latency) {}
+
+  /**
+   * Called when the worker is opened, and every time the number of jobs the worker may have in
+   * flight at once changes afterwards. Only workers with {@link
+   * JobWorkerBuilderStep1.JobWorkerBuilderStep3#adaptiveConcurrency(boolean) adaptive concurrency}
+   * change this limit after they were opened.
+   *
+   * @param limit the new maximum number of jobs in flight
+   */
+  default void concurrencyLimitChanged(final int limit) {}
+
   /**
    * Returns a new builder for the Micrometer bridge.
    *
@@ -32,6 +32,8 @@ import io.micrometer.core.instrument.Tag;
  * <ul>
  *   <li>A counter for the jobs activated count
  *   <li>A counter for the jobs handled count
+ *   <li>A timer for the job handling latency
+ *   <li>A gauge for the worker's current concurrency limit
  * </ul>
  *
  * From these counters you can derive the rate of jobs activated, the rate of jobs handled, and
@@ -81,6 +83,22 @@ public interface MicrometerJobWorkerMetricsBuilder {
       }
     },
 
+    /** Timer backing the {@link JobWorkerMetrics#jobHandlingLatency(java.time.Duration)}. */
+    JOB_HANDLING_LATENCY {
+      @Override
+      public String asString() {
+        return "camunda.client.worker.job.handling.latency";
+      }
+    },
+
+    /** Gauge backing the {@link JobWorkerMetrics#concurrencyLimitChanged(int)} limit. */
+    CONCURRENCY_LIMIT {
+      @Override
+      public String asString() {
+        return "camunda.client.worker.concurrency.limit";
+      }
+    },
+
     /**
      * Counter backing the {@link JobWorkerMetrics#jobActivated(int)} count.
      *
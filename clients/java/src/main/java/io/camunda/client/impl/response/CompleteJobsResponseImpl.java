@@ -0,0 +1,41 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.response;
+
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.api.response.JobCompletionResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class CompleteJobsResponseImpl implements CompleteJobsResponse {
+
+  private final List<JobCompletionResult> results = new ArrayList<>();
+
+  public CompleteJobsResponseImpl(final GatewayOuterClass.CompleteJobsResponse response) {
+    response.getResultsList().stream().map(JobCompletionResultImpl::new).forEach(results::add);
+  }
+
+  @Override
+  public List<JobCompletionResult> getResults() {
+    return results;
+  }
+
+  @Override
+  public String toString() {
+    return "CompleteJobsResponseImpl{" + "results=" + results + '}';
+  }
+}
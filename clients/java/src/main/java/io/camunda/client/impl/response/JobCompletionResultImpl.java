@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.response;
+
+import io.camunda.client.api.response.JobCompletionResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+
+public final class JobCompletionResultImpl implements JobCompletionResult {
+
+  private final long jobKey;
+  private final boolean completed;
+  private final String rejectionType;
+  private final String rejectionReason;
+
+  public JobCompletionResultImpl(final CompleteJobsResult result) {
+    jobKey = result.getJobKey();
+    completed = result.getCompleted();
+    rejectionType = result.getRejectionType();
+    rejectionReason = result.getRejectionReason();
+  }
+
+  @Override
+  public long getJobKey() {
+    return jobKey;
+  }
+
+  @Override
+  public boolean isCompleted() {
+    return completed;
+  }
+
+  @Override
+  public String getRejectionType() {
+    return rejectionType;
+  }
+
+  @Override
+  public String getRejectionReason() {
+    return rejectionReason;
+  }
+
+  @Override
+  public String toString() {
+    return "JobCompletionResultImpl{"
+        + "jobKey="
+        + jobKey
+        + ", completed="
+        + completed
+        + ", rejectionType='"
+        + rejectionType
+        + '\''
+        + ", rejectionReason='"
+        + rejectionReason
+        + '\''
+        + '}';
+  }
+}
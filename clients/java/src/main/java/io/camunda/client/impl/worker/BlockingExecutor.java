@@ -18,27 +18,42 @@ package io.camunda.client.impl.worker;
 import java.time.Duration;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import net.jcip.annotations.GuardedBy;
 
 final class BlockingExecutor implements Executor {
   private static final TimeUnit TIMEOUT_UNIT = TimeUnit.MILLISECONDS;
 
   private final Executor wrappedExecutor;
-  private final Semaphore semaphore;
+  private final JobConcurrencyLimit limit;
   private final long timeoutMillis;
+  private final Lock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+
+  @GuardedBy("lock")
+  private int inFlight;
 
   public BlockingExecutor(
       final Executor wrappedExecutor, final int maxActivate, final Duration jobActivationTimeout) {
+    this(wrappedExecutor, JobConcurrencyLimit.fixed(maxActivate), jobActivationTimeout);
+  }
+
+  BlockingExecutor(
+      final Executor wrappedExecutor,
+      final JobConcurrencyLimit limit,
+      final Duration jobActivationTimeout) {
     this.wrappedExecutor = wrappedExecutor;
-    semaphore = new Semaphore(maxActivate);
+    this.limit = limit;
     timeoutMillis = jobActivationTimeout.toMillis();
   }
 
   @Override
   public void execute(final Runnable command) throws RejectedExecutionException {
     try {
-      if (!semaphore.tryAcquire(timeoutMillis, TIMEOUT_UNIT)) {
+      if (!tryAcquire()) {
         throw new RejectedExecutionException(
             String.format(
                 "Not able to acquire lease in %d%s", timeoutMillis, TIMEOUT_UNIT.toString()));
@@ -49,11 +64,40 @@ final class BlockingExecutor implements Executor {
             try {
               command.run();
             } finally {
-              semaphore.release();
+              release();
             }
           });
     } catch (final InterruptedException e) {
       Thread.currentThread().interrupt();
     }
   }
+
+  private boolean tryAcquire() throws InterruptedException {
+    long remainingNanos = TIMEOUT_UNIT.toNanos(timeoutMillis);
+    lock.lockInterruptibly();
+    try {
+      // the limit may change at any time, so it has to be checked again after every release
+      while (inFlight >= limit.getLimit()) {
+        if (remainingNanos <= 0) {
+          return false;
+        }
+        remainingNanos = released.awaitNanos(remainingNanos);
+      }
+
+      inFlight++;
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void release() {
+    lock.lock();
+    try {
+      inFlight--;
+      released.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
 }
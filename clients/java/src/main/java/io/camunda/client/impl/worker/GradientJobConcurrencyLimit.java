@@ -0,0 +1,106 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import io.camunda.client.api.worker.JobWorkerMetrics;
+import net.jcip.annotations.GuardedBy;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A concurrency limit which adapts to the observed job handling latency, based on the gradient
+ * algorithm.
+ *
+ * <p>It keeps a long term, exponentially weighted average of the latency, and compares every new
+ * sample against it. As long as jobs are handled about as fast as usual, the limit grows by roughly
+ * the square root of itself; once jobs start queuing up in the executor or the handler slows down
+ * (e.g. because a downstream system is overloaded), the sampled latency rises above the average and
+ * the limit shrinks proportionally. The limit is always kept between 1 and the configured maximum.
+ *
+ * <p>To avoid growing the limit without bound when the worker simply does not receive enough jobs,
+ * samples taken while fewer than half of the limit were in flight do not change the limit.
+ */
+@ThreadSafe
+final class GradientJobConcurrencyLimit implements JobConcurrencyLimit {
+  static final int DEFAULT_INITIAL_LIMIT = 20;
+
+  private static final int MIN_LIMIT = 1;
+  private static final int LONG_WINDOW = 100;
+  private static final double LONG_WINDOW_FACTOR = 2.0 / (LONG_WINDOW + 1);
+  private static final double SMOOTHING = 0.2;
+  private static final double TOLERANCE = 1.5;
+  private static final double RECOVERY_RATIO = 2.0;
+  private static final double RECOVERY_FACTOR = 0.95;
+
+  private final int maxLimit;
+  private final JobWorkerMetrics metrics;
+
+  @GuardedBy("this")
+  private double estimatedLimit;
+
+  @GuardedBy("this")
+  private double longLatency;
+
+  private volatile int limit;
+
+  GradientJobConcurrencyLimit(final int maxLimit, final JobWorkerMetrics metrics) {
+    this(maxLimit, Math.min(maxLimit, DEFAULT_INITIAL_LIMIT), metrics);
+  }
+
+  GradientJobConcurrencyLimit(
+      final int maxLimit, final int initialLimit, final JobWorkerMetrics metrics) {
+    this.maxLimit = maxLimit;
+    this.metrics = metrics;
+    estimatedLimit = Math.max(MIN_LIMIT, Math.min(maxLimit, initialLimit));
+    limit = (int) estimatedLimit;
+  }
+
+  @Override
+  public int getLimit() {
+    return limit;
+  }
+
+  @Override
+  public synchronized void onJobHandled(final long latencyNanos, final int inFlight) {
+    final double latency = Math.max(1, latencyNanos);
+    if (longLatency == 0) {
+      longLatency = latency;
+    } else {
+      longLatency = longLatency * (1 - LONG_WINDOW_FACTOR) + latency * LONG_WINDOW_FACTOR;
+    }
+
+    // after a long period of slow jobs, the average would need a long time to catch up once the
+    // jobs are fast again; decay it faster so the limit can recover
+    if (longLatency / latency > RECOVERY_RATIO) {
+      longLatency *= RECOVERY_FACTOR;
+    }
+
+    if (inFlight < estimatedLimit / 2) {
+      return;
+    }
+
+    final double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / latency));
+    final double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+    estimatedLimit =
+        Math.max(
+            MIN_LIMIT, Math.min(maxLimit, estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+
+    final int updatedLimit = (int) estimatedLimit;
+    if (updatedLimit != limit) {
+      limit = updatedLimit;
+      metrics.concurrencyLimitChanged(updatedLimit);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+/**
+ * Determines how many jobs a worker may have in flight at once, i.e. activated but not yet handled.
+ * The worker uses the limit to size its activation requests, and to block the job stream once too
+ * many streamed jobs are in flight.
+ */
+interface JobConcurrencyLimit {
+
+  /**
+   * @return the current number of jobs which may be in flight at once; always at least 1
+   */
+  int getLimit();
+
+  /**
+   * Called every time a job was handled, successfully or not.
+   *
+   * @param latencyNanos the time between handing the job to the executor and the handler being done
+   * @param inFlight the number of jobs in flight when the job was handed to the executor, including
+   *     the job itself
+   */
+  void onJobHandled(long latencyNanos, int inFlight);
+
+  /** Returns a limit which never changes, regardless of how long jobs take to be handled. */
+  static JobConcurrencyLimit fixed(final int limit) {
+    return new JobConcurrencyLimit() {
+      @Override
+      public int getLimit() {
+        return limit;
+      }
+
+      @Override
+      public void onJobHandled(final long latencyNanos, final int inFlight) {}
+    };
+  }
+}
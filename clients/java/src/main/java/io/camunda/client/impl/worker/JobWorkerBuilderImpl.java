@@ -54,6 +54,7 @@ public final class JobWorkerBuilderImpl
   private Duration timeout;
   private String workerName;
   private int maxJobsActive;
+  private boolean adaptiveConcurrency;
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
@@ -124,6 +125,12 @@ public final class JobWorkerBuilderImpl
     return this;
   }
 
+  @Override
+  public JobWorkerBuilderStep3 adaptiveConcurrency(final boolean adaptiveConcurrency) {
+    this.adaptiveConcurrency = adaptiveConcurrency;
+    return this;
+  }
+
   @Override
   public JobWorkerBuilderStep3 pollInterval(final Duration pollInterval) {
     this.pollInterval = pollInterval;
@@ -199,6 +206,11 @@ public final class JobWorkerBuilderImpl
             getTenantIds(),
             maxJobsActive);
 
+    final JobConcurrencyLimit concurrencyLimit =
+        adaptiveConcurrency
+            ? new GradientJobConcurrencyLimit(maxJobsActive, metrics)
+            : JobConcurrencyLimit.fixed(maxJobsActive);
+
     final Executor jobExecutor;
     if (enableStreaming) {
       if (streamingTimeout != null) {
@@ -216,7 +228,7 @@ public final class JobWorkerBuilderImpl
               streamingTimeout,
               backoffSupplier,
               scheduledExecutor);
-      jobExecutor = new BlockingExecutor(jobHandlingExecutor, maxJobsActive, timeout);
+      jobExecutor = new BlockingExecutor(jobHandlingExecutor, concurrencyLimit, timeout);
     } else {
       jobStreamer = JobStreamer.noop();
       jobExecutor = jobHandlingExecutor;
@@ -224,7 +236,7 @@ public final class JobWorkerBuilderImpl
 
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
-            maxJobsActive,
+            concurrencyLimit,
             scheduledExecutor,
             pollInterval,
             jobRunnableFactory,
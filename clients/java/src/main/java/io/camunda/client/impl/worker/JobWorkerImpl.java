@@ -49,6 +49,11 @@ import org.slf4j.Logger;
  * retryDelaySupplier} to ask for a new {@code pollInterval}. By default, this retry delay supplier
  * is the {@link ExponentialBackoff}. This default is also used as a fallback for the user provided
  * backoff. On the next success, the {@code pollInterval} is reset to its original value.
+ *
+ * <p>How many jobs the worker keeps in flight is given by its {@link JobConcurrencyLimit}. By
+ * default this is a fixed {@code maxJobsActive}, but with adaptive concurrency the limit follows
+ * the observed job handling latency, so the size of each poll and the activation threshold change
+ * with it.
  */
 public final class JobWorkerImpl implements JobWorker, Closeable {
 
@@ -62,9 +67,9 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   private static final String SUPPLY_RETRY_DELAY_FAILURE_MESSAGE =
       "Expected to supply retry delay, but an exception was thrown. Falling back to default backoff supplier";
   // job queue state
-  private final int maxJobsActive;
-  private final int activationThreshold;
+  private final JobConcurrencyLimit concurrencyLimit;
   private final AtomicInteger remainingJobs;
+  private final AtomicInteger inFlightJobs;
 
   // job execution facilities
   private final Executor executor;
@@ -92,9 +97,31 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final BackoffSupplier backoffSupplier,
       final JobWorkerMetrics metrics,
       final Executor jobExecutor) {
-    this.maxJobsActive = maxJobsActive;
-    activationThreshold = Math.round(maxJobsActive * 0.3f);
+    this(
+        JobConcurrencyLimit.fixed(maxJobsActive),
+        executor,
+        pollInterval,
+        jobHandlerFactory,
+        jobPoller,
+        jobStreamer,
+        backoffSupplier,
+        metrics,
+        jobExecutor);
+  }
+
+  JobWorkerImpl(
+      final JobConcurrencyLimit concurrencyLimit,
+      final ScheduledExecutorService executor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobHandlerFactory,
+      final JobPoller jobPoller,
+      final JobStreamer jobStreamer,
+      final BackoffSupplier backoffSupplier,
+      final JobWorkerMetrics metrics,
+      final Executor jobExecutor) {
+    this.concurrencyLimit = concurrencyLimit;
     remainingJobs = new AtomicInteger(0);
+    inFlightJobs = new AtomicInteger(0);
 
     this.executor = jobExecutor;
     scheduledExecutorService = executor;
@@ -103,6 +130,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     initialPollInterval = pollInterval.toMillis();
     this.backoffSupplier = backoffSupplier;
     this.metrics = metrics;
+    metrics.concurrencyLimitChanged(concurrencyLimit.getLimit());
 
     claimableJobPoller = new AtomicReference<>(jobPoller);
     this.pollInterval = initialPollInterval;
@@ -151,7 +179,19 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private boolean shouldPoll(final int remainingJobs) {
-    return acquiringJobs.get() && remainingJobs <= activationThreshold;
+    return shouldPoll(remainingJobs, concurrencyLimit.getLimit());
+  }
+
+  private boolean shouldPoll(final int remainingJobs, final int limit) {
+    return acquiringJobs.get() && remainingJobs <= getActivationThreshold(limit);
+  }
+
+  /**
+   * The threshold is derived from the current limit on every call, since an adaptive limit may
+   * change after every handled job.
+   */
+  private int getActivationThreshold(final int limit) {
+    return Math.round(limit * 0.3f);
   }
 
   private void tryPoll() {
@@ -183,13 +223,15 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     // check the condition again within the critical section
     // to avoid race conditions that would let us exceed the buffer size
     final int actualRemainingJobs = remainingJobs.get();
-    if (!shouldPoll(actualRemainingJobs)) {
+    // read the limit only once, as handler threads may adapt it concurrently
+    final int limit = concurrencyLimit.getLimit();
+    final int maxJobsToActivate = limit - actualRemainingJobs;
+    if (!shouldPoll(actualRemainingJobs, limit) || maxJobsToActivate <= 0) {
       LOG.trace("Expected to activate for jobs, but still enough remain. Reschedule poll.");
       releaseJobPoller(jobPoller);
       schedulePoll();
       return;
     }
-    final int maxJobsToActivate = maxJobsActive - actualRemainingJobs;
     jobPoller.poll(
         maxJobsToActivate,
         this::handleJob,
@@ -251,9 +293,13 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   private void handleActivatedJob(final ActivatedJob job, final Runnable finalizer) {
     metrics.jobActivated(1);
+    final long startNanos = System.nanoTime();
+    final int inFlight = inFlightJobs.incrementAndGet();
     try {
-      executor.execute(jobHandlerFactory.create(job, finalizer));
+      executor.execute(
+          jobHandlerFactory.create(job, () -> onJobDone(startNanos, inFlight, finalizer)));
     } catch (final RejectedExecutionException e) {
+      inFlightJobs.decrementAndGet();
       if (isClosed()) {
         return;
       }
@@ -268,6 +314,14 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
     }
   }
 
+  private void onJobDone(final long startNanos, final int inFlight, final Runnable finalizer) {
+    final long latencyNanos = System.nanoTime() - startNanos;
+    inFlightJobs.decrementAndGet();
+    concurrencyLimit.onJobHandled(latencyNanos, inFlight);
+    metrics.jobHandlingLatency(Duration.ofNanos(latencyNanos));
+    finalizer.run();
+  }
+
   private void handleJobFinished() {
     final int actualRemainingJobs = remainingJobs.decrementAndGet();
     if (!isPollScheduled.get() && shouldPoll(actualRemainingJobs)) {
@@ -17,7 +17,10 @@ package io.camunda.client.impl.worker.metrics;
 
 import io.camunda.client.api.worker.JobWorkerMetrics;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
 
@@ -25,12 +28,30 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
   private final Counter jobHandledCounter;
   private final Counter zeebeJobActivatedCounter;
   private final Counter zeebeJobHandledCounter;
+  private final Timer jobHandlingLatencyTimer;
+  private final AtomicInteger concurrencyLimit;
 
   public MicrometerJobWorkerMetrics(
       final Counter jobActivatedCounter,
       final Counter jobHandledCounter,
       final Counter zeebeJobActivatedCounter,
       final Counter zeebeJobHandledCounter) {
+    this(
+        jobActivatedCounter,
+        jobHandledCounter,
+        zeebeJobActivatedCounter,
+        zeebeJobHandledCounter,
+        null,
+        null);
+  }
+
+  public MicrometerJobWorkerMetrics(
+      final Counter jobActivatedCounter,
+      final Counter jobHandledCounter,
+      final Counter zeebeJobActivatedCounter,
+      final Counter zeebeJobHandledCounter,
+      final Timer jobHandlingLatencyTimer,
+      final AtomicInteger concurrencyLimit) {
     this.jobActivatedCounter =
         Objects.requireNonNull(jobActivatedCounter, "must specify a job activated counter");
     this.jobHandledCounter =
@@ -39,6 +60,8 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
         Objects.requireNonNull(zeebeJobActivatedCounter, "must specify a job activated counter");
     this.zeebeJobHandledCounter =
         Objects.requireNonNull(zeebeJobHandledCounter, "must specify a job handled counter");
+    this.jobHandlingLatencyTimer = jobHandlingLatencyTimer;
+    this.concurrencyLimit = concurrencyLimit;
   }
 
   @Override
@@ -52,4 +75,18 @@ public final class MicrometerJobWorkerMetrics implements JobWorkerMetrics {
     jobHandledCounter.increment(count);
     zeebeJobHandledCounter.increment(count);
   }
+
+  @Override
+  public void jobHandlingLatency(final Duration latency) {
+    if (jobHandlingLatencyTimer != null) {
+      jobHandlingLatencyTimer.record(latency);
+    }
+  }
+
+  @Override
+  public void concurrencyLimitChanged(final int limit) {
+    if (concurrencyLimit != null) {
+      concurrencyLimit.set(limit);
+    }
+  }
 }
@@ -22,6 +22,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class MicrometerJobWorkerMetricsBuilderImpl
     implements MicrometerJobWorkerMetricsBuilder {
@@ -48,7 +50,16 @@ public final class MicrometerJobWorkerMetricsBuilderImpl
         meterRegistry.counter(Names.ZEEBE_JOB_ACTIVATED.asString(), tags);
     final Counter zeebeJobHandledCounter =
         meterRegistry.counter(Names.ZEEBE_JOB_HANDLED.asString(), tags);
+    final Timer jobHandlingLatencyTimer =
+        meterRegistry.timer(Names.JOB_HANDLING_LATENCY.asString(), tags);
+    final AtomicInteger concurrencyLimit =
+        meterRegistry.gauge(Names.CONCURRENCY_LIMIT.asString(), tags, new AtomicInteger());
     return new MicrometerJobWorkerMetrics(
-        jobActivatedCounter, jobHandledCounter, zeebeJobActivatedCounter, zeebeJobHandledCounter);
+        jobActivatedCounter,
+        jobHandledCounter,
+        zeebeJobActivatedCounter,
+        zeebeJobHandledCounter,
+        jobHandlingLatencyTimer,
+        concurrencyLimit);
   }
 }
@@ -26,6 +26,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.awaitility.Awaitility;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
@@ -81,4 +82,32 @@ public class BlockingExecutorTest {
       wrappedExecutor.shutdownNow();
     }
   }
+
+  @Test
+  public void shouldFollowChangingLimit() {
+    // given
+    final AtomicInteger limit = new AtomicInteger(1);
+    final JobConcurrencyLimit concurrencyLimit =
+        new JobConcurrencyLimit() {
+          @Override
+          public int getLimit() {
+            return limit.get();
+          }
+
+          @Override
+          public void onJobHandled(final long latencyNanos, final int inFlight) {}
+        };
+    final Executor noop = command -> {};
+    final BlockingExecutor executor =
+        new BlockingExecutor(noop, concurrencyLimit, Duration.ofMillis(10));
+    executor.execute(() -> {});
+
+    // when
+    limit.set(2);
+
+    // then
+    executor.execute(() -> {});
+    assertThatThrownBy(() -> executor.execute(() -> {}))
+        .isInstanceOf(RejectedExecutionException.class);
+  }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.impl.worker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.client.api.worker.JobWorkerMetrics;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+final class GradientJobConcurrencyLimitTest {
+  private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private final RecordingMetrics metrics = new RecordingMetrics();
+
+  @Test
+  void shouldStartWithInitialLimit() {
+    // when
+    final GradientJobConcurrencyLimit limit = new GradientJobConcurrencyLimit(32, metrics);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(GradientJobConcurrencyLimit.DEFAULT_INITIAL_LIMIT);
+  }
+
+  @Test
+  void shouldNotStartAboveMaxLimit() {
+    // when
+    final GradientJobConcurrencyLimit limit = new GradientJobConcurrencyLimit(4, metrics);
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldGrowUpToMaxLimitWhileLatencyIsStable() {
+    // given
+    final GradientJobConcurrencyLimit limit = new GradientJobConcurrencyLimit(64, 10, metrics);
+
+    // when
+    for (int i = 0; i < 200; i++) {
+      limit.onJobHandled(FAST, limit.getLimit());
+    }
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(64);
+    assertThat(metrics.limits).isNotEmpty().isSorted().last().isEqualTo(64);
+  }
+
+  @Test
+  void shouldShrinkWhenLatencyIncreases() {
+    // given
+    final GradientJobConcurrencyLimit limit = new GradientJobConcurrencyLimit(64, 32, metrics);
+    for (int i = 0; i < 100; i++) {
+      limit.onJobHandled(FAST, 32);
+    }
+    final int limitBeforeSlowdown = limit.getLimit();
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      limit.onJobHandled(SLOW, limit.getLimit());
+    }
+
+    // then
+    assertThat(limit.getLimit()).isLessThan(limitBeforeSlowdown);
+  }
+
+  @Test
+  void shouldRecoverOnceLatencyDropsAgain() {
+    // given
+    final GradientJobConcurrencyLimit limit = new GradientJobConcurrencyLimit(64, 32, metrics);
+    for (int i = 0; i < 100; i++) {
+      limit.onJobHandled(SLOW, limit.getLimit());
+    }
+    for (int i = 0; i < 20; i++) {
+      limit.onJobHandled(SLOW * 10, limit.getLimit());
+    }
+    final int limitAfterSlowdown = limit.getLimit();
+
+    // when
+    for (int i = 0; i < 200; i++) {
+      limit.onJobHandled(FAST, limit.getLimit());
+    }
+
+    // then
+    assertThat(limitAfterSlowdown).isLessThan(32);
+    assertThat(limit.getLimit()).isEqualTo(64);
+  }
+
+  @Test
+  void shouldNotGrowWhenTooFewJobsAreInFlight() {
+    // given
+    final GradientJobConcurrencyLimit limit = new GradientJobConcurrencyLimit(64, 10, metrics);
+
+    // when
+    for (int i = 0; i < 200; i++) {
+      limit.onJobHandled(FAST, 1);
+    }
+
+    // then
+    assertThat(limit.getLimit()).isEqualTo(10);
+    assertThat(metrics.limits).isEmpty();
+  }
+
+  private static final class RecordingMetrics implements JobWorkerMetrics {
+    private final List<Integer> limits = new ArrayList<>();
+
+    @Override
+    public void concurrencyLimitChanged(final int limit) {
+      limits.add(limit);
+    }
+  }
+}
@@ -18,13 +18,16 @@ package io.camunda.client.impl.worker.metrics;
 import io.camunda.client.api.worker.JobWorkerMetrics;
 import io.camunda.client.api.worker.metrics.MicrometerJobWorkerMetricsBuilder.Names;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.assertj.core.condition.VerboseCondition;
@@ -64,6 +67,31 @@ final class MicrometerJobWorkerMetricsTest {
         .has(hasCount(3));
   }
 
+  @Test
+  void shouldRecordJobHandlingLatency() {
+    // when
+    metrics.jobHandlingLatency(Duration.ofMillis(20));
+
+    // then
+    Assertions.assertThat(
+            meterRegistry.find(Names.JOB_HANDLING_LATENCY.asString()).tags(tags).timer())
+        .isNotNull()
+        .extracting(timer -> timer.totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(20.0);
+  }
+
+  @Test
+  void shouldTrackConcurrencyLimit() {
+    // when
+    metrics.concurrencyLimitChanged(12);
+
+    // then
+    Assertions.assertThat(meterRegistry.find(Names.CONCURRENCY_LIMIT.asString()).tags(tags).gauge())
+        .isNotNull()
+        .extracting(Gauge::value)
+        .isEqualTo(12.0);
+  }
+
   private Condition<MeterRegistry> hasCounter(final Names name, final Iterable<Tag> tags) {
     return VerboseCondition.verboseCondition(
         registry -> registry.find(name.asString()).tags(tags).counter() != null,
@@ -0,0 +1,100 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.client.api.response.CompleteJobsResponse;
+import io.camunda.client.api.response.JobCompletionResult;
+import io.camunda.client.util.ClientTest;
+import io.camunda.client.util.JsonUtil;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobsWithVariables() {
+    // given
+    final String json = JsonUtil.toJson(Collections.singletonMap("key", "val"));
+
+    // when
+    client
+        .newCompleteJobsCommand()
+        .addJob(1L)
+        .addJob(2L, json)
+        .addJob(3L, Collections.singletonMap("foo", "bar"))
+        .send()
+        .join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey, CompleteJobRequest::getVariables)
+        .containsExactly(
+            tuple(1L, ""),
+            tuple(2L, json),
+            tuple(3L, JsonUtil.toJson(Collections.singletonMap("foo", "bar"))));
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnOutcomeOfEachJob() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        GatewayOuterClass.CompleteJobsResponse.newBuilder()
+            .addResults(CompleteJobsResult.newBuilder().setJobKey(1L).setCompleted(true))
+            .addResults(
+                CompleteJobsResult.newBuilder()
+                    .setJobKey(2L)
+                    .setCompleted(false)
+                    .setRejectionType("NOT_FOUND")
+                    .setRejectionReason("no such job"))
+            .build());
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().addJob(1L).addJob(2L).send().join();
+
+    // then
+    assertThat(response.getResults())
+        .extracting(
+            JobCompletionResult::getJobKey,
+            JobCompletionResult::isCompleted,
+            JobCompletionResult::getRejectionType,
+            JobCompletionResult::getRejectionReason)
+        .containsExactly(tuple(1L, true, "", ""), tuple(2L, false, "NOT_FOUND", "no such job"));
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client.newCompleteJobsCommand().addJob(1L).requestTimeout(requestTimeout).send().join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
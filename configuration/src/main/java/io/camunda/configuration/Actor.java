@@ -7,11 +7,27 @@
  */
 package io.camunda.configuration;
 
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import java.time.Duration;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 public class Actor {
   @NestedConfigurationProperty private ActorIdleStrategy idle = new ActorIdleStrategy();
 
+  /**
+   * When enabled, all actors of a partition are pinned to the same CPU thread, such that they share
+   * the thread's caches instead of migrating between threads. Other threads only steal a pinned
+   * actor when it waited longer than the partition-affinity-steal-threshold.
+   */
+  private boolean partitionAffinityEnabled = false;
+
+  /**
+   * How long an actor pinned to a thread must wait in that thread's queue before another thread is
+   * allowed to steal it. Only used if partition-affinity-enabled is true.
+   */
+  private Duration partitionAffinityStealThreshold =
+      ActorSchedulerBuilder.DEFAULT_PARTITION_AFFINITY_STEAL_THRESHOLD;
+
   public ActorIdleStrategy getIdle() {
     return idle;
   }
@@ -19,4 +35,20 @@ public class Actor {
   public void setIdle(final ActorIdleStrategy idle) {
     this.idle = idle;
   }
+
+  public boolean isPartitionAffinityEnabled() {
+    return partitionAffinityEnabled;
+  }
+
+  public void setPartitionAffinityEnabled(final boolean partitionAffinityEnabled) {
+    this.partitionAffinityEnabled = partitionAffinityEnabled;
+  }
+
+  public Duration getPartitionAffinityStealThreshold() {
+    return partitionAffinityStealThreshold;
+  }
+
+  public void setPartitionAffinityStealThreshold(final Duration partitionAffinityStealThreshold) {
+    this.partitionAffinityStealThreshold = partitionAffinityStealThreshold;
+  }
 }
@@ -47,6 +47,19 @@ public class LongPolling implements Cloneable {
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
 
+  /**
+   * Set the number of jobs the gateway may activate in excess per job type, worker and request
+   * properties, and buffer to serve subsequent activation requests without contacting the brokers.
+   * If set to 0, no jobs are buffered.
+   */
+  private int activationBufferSize = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_BUFFER_SIZE;
+
+  /**
+   * Set how long an over-activated job may be buffered in milliseconds, before it is yielded back
+   * to the broker. A job is never buffered for longer than half of its job timeout.
+   */
+  private long activationBufferTtl = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_BUFFER_TTL;
+
   public boolean isEnabled() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".enabled",
@@ -99,6 +112,22 @@ public class LongPolling implements Cloneable {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public int getActivationBufferSize() {
+    return activationBufferSize;
+  }
+
+  public void setActivationBufferSize(final int activationBufferSize) {
+    this.activationBufferSize = activationBufferSize;
+  }
+
+  public long getActivationBufferTtl() {
+    return activationBufferTtl;
+  }
+
+  public void setActivationBufferTtl(final long activationBufferTtl) {
+    this.activationBufferTtl = activationBufferTtl;
+  }
+
   @Override
   public Object clone() {
     try {
@@ -83,6 +83,20 @@ public class Membership implements Cloneable {
    */
   private Duration syncInterval = Duration.ofMillis(10_000);
 
+  /**
+   * Sets the multiplier for the number of gossip rounds in which each membership update is
+   * retransmitted. The number of rounds grows logarithmically with the cluster size, which speeds
+   * up the dissemination of updates in large clusters. If set to 0, each update is gossiped only
+   * once.
+   */
+  private int gossipRetransmitMultiplier = 0;
+
+  /**
+   * Configure whether the failure timeout grows logarithmically with the cluster size, giving a
+   * suspect member more time to refute the suspicion in large clusters.
+   */
+  private boolean adaptiveFailureTimeout = false;
+
   public boolean isBroadcastUpdates() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".broadcast-updates",
@@ -213,6 +227,22 @@ public class Membership implements Cloneable {
     this.syncInterval = syncInterval;
   }
 
+  public int getGossipRetransmitMultiplier() {
+    return gossipRetransmitMultiplier;
+  }
+
+  public void setGossipRetransmitMultiplier(final int gossipRetransmitMultiplier) {
+    this.gossipRetransmitMultiplier = gossipRetransmitMultiplier;
+  }
+
+  public boolean isAdaptiveFailureTimeout() {
+    return adaptiveFailureTimeout;
+  }
+
+  public void setAdaptiveFailureTimeout(final boolean adaptiveFailureTimeout) {
+    this.adaptiveFailureTimeout = adaptiveFailureTimeout;
+  }
+
   @Override
   public Object clone() {
     try {
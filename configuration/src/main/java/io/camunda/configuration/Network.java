@@ -86,6 +86,25 @@ public class Network implements Cloneable {
    */
   private Duration heartbeatInterval = Duration.ofSeconds(5);
 
+  /**
+   * Gathers outgoing messages to the same member for up to this time before they are flushed
+   * together, trading a little latency for fewer writes under high fan-out. Zero, the default,
+   * flushes every message on its own.
+   */
+  private Duration messageCoalescingWindow = Duration.ZERO;
+
+  /**
+   * Flushes the gathered messages before the coalescing window elapsed once they reach this size.
+   * Only used if a message coalescing window is set.
+   */
+  private DataSize messageCoalescingMaxSize = DataSize.ofKilobytes(64);
+
+  /**
+   * Number of connections opened to each member, over which message types are spread by hash. Zero,
+   * the default, opens one connection per message type.
+   */
+  private int connectionsPerAddress = 0;
+
   /** Sets the internal api configuration */
   @NestedConfigurationProperty private InternalApi internalApi = new InternalApi();
 
@@ -195,6 +214,30 @@ public class Network implements Cloneable {
     this.heartbeatInterval = heartbeatInterval;
   }
 
+  public Duration getMessageCoalescingWindow() {
+    return messageCoalescingWindow;
+  }
+
+  public void setMessageCoalescingWindow(final Duration messageCoalescingWindow) {
+    this.messageCoalescingWindow = messageCoalescingWindow;
+  }
+
+  public DataSize getMessageCoalescingMaxSize() {
+    return messageCoalescingMaxSize;
+  }
+
+  public void setMessageCoalescingMaxSize(final DataSize messageCoalescingMaxSize) {
+    this.messageCoalescingMaxSize = messageCoalescingMaxSize;
+  }
+
+  public int getConnectionsPerAddress() {
+    return connectionsPerAddress;
+  }
+
+  public void setConnectionsPerAddress(final int connectionsPerAddress) {
+    this.connectionsPerAddress = connectionsPerAddress;
+  }
+
   public InternalApi getInternalApi() {
     return internalApi;
   }
@@ -32,6 +32,8 @@ public class Raft {
       "zeebe.broker.cluster.raft.enablePriorityElection";
   private static final String LEGACY_FLUSH_ENABLED = "zeebe.broker.cluster.raft.flush.enabled";
   private static final String LEGACY_FLUSH_DELAY = "zeebe.broker.cluster.raft.flush.delay";
+  private static final String LEGACY_FLUSH_LATENCY_TARGET =
+      "zeebe.broker.cluster.raft.flush.latencyTarget";
   private static final String LEGACY_MAX_APPENDS_PER_FOLLOWER =
       "zeebe.broker.experimental.maxAppendsPerFollower";
   private static final String LEGACY_MAX_APPEND_BATCH_SIZE =
@@ -50,6 +52,14 @@ public class Raft {
       "zeebe.broker.experimental.raft.minStepDownFailureCount";
   private static final String LEGACY_PREFER_SNAPSHOT_REPLICATION_THRESHOLD =
       "zeebe.broker.experimental.raft.preferSnapshotReplicationThreshold";
+  private static final String LEGACY_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT =
+      "zeebe.broker.experimental.raft.maxSnapshotChunksInFlight";
+  private static final String LEGACY_ADAPTIVE_APPEND_LIMIT_ENABLED =
+      "zeebe.broker.experimental.raft.adaptiveAppendLimitEnabled";
+  private static final String LEGACY_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER =
+      "zeebe.broker.experimental.raft.maxAdaptiveAppendsPerFollower";
+  private static final String LEGACY_MAX_ADAPTIVE_APPEND_BATCH_SIZE =
+      "zeebe.broker.experimental.raft.maxAdaptiveAppendBatchSize";
   private static final String LEGACY_PREALLOCATE_SEGMENT_FILES =
       "zeebe.broker.experimental.raft.preallocateSegmentFiles";
   private static final String LEGACY_SEGMENT_PREALLOCATION_STRATEGY =
@@ -103,6 +113,18 @@ public class Raft {
    */
   private Duration flushDelay = Duration.ZERO;
 
+  /**
+   * If the latency target is > 0, then flushes are delayed like with the flush delay, but the delay
+   * adapts to the measured flush duration: flushes are spaced by the latency target minus the flush
+   * duration, so that data is flushed within about the latency target, and data appended after an
+   * idle period is flushed right away. Takes precedence over the flush delay.
+   *
+   * <p>This provides the same safety as the flush delay, not more: entries are committed and
+   * acknowledged before they are flushed, so if a majority of the replicas fails, up to the latency
+   * target worth of committed data can be lost.
+   */
+  private Duration flushLatencyTarget = Duration.ZERO;
+
   /** Sets the maximum of appends which are send per follower. */
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
 
@@ -156,6 +178,27 @@ public class Raft {
    */
   private int preferSnapshotReplicationThreshold = 100;
 
+  /**
+   * The maximum number of snapshot chunks the leader sends to a follower without awaiting their
+   * acknowledgement. With the default of 1, each chunk is acknowledged before the next one is sent;
+   * higher values speed up snapshot replication over links with a high latency.
+   */
+  private int maxSnapshotChunksInFlight = 1;
+
+  /**
+   * If enabled, the leader adapts the number of in-flight append requests and the size of each
+   * append request per follower to the observed round trip time: both grow while the follower
+   * responds quickly, and shrink when its responses slow down or fail. The configured
+   * max-appends-per-follower and max-append-batch-size are then the initial values.
+   */
+  private boolean adaptiveAppendLimitEnabled = false;
+
+  /** The upper bound of in-flight append requests per follower if the limit is adaptive. */
+  private int maxAdaptiveAppendsPerFollower = 16;
+
+  /** The upper bound of the size of an append request if the limit is adaptive. */
+  private DataSize maxAdaptiveAppendBatchSize = DataSize.ofMegabytes(1);
+
   /**
    * Defines whether segment files are pre-allocated to their full size on creation or not. If true,
    * when a new segment is created on demand, disk space will be reserved for its full maximum size.
@@ -253,6 +296,19 @@ public class Raft {
     this.flushDelay = flushDelay;
   }
 
+  public Duration getFlushLatencyTarget() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".flush-latency-target",
+        flushLatencyTarget,
+        Duration.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_FLUSH_LATENCY_TARGET));
+  }
+
+  public void setFlushLatencyTarget(final Duration flushLatencyTarget) {
+    this.flushLatencyTarget = flushLatencyTarget;
+  }
+
   public int getMaxAppendsPerFollower() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".max-appends-per-follower",
@@ -370,6 +426,58 @@ public class Raft {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".max-snapshot-chunks-in-flight",
+        maxSnapshotChunksInFlight,
+        Integer.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT));
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
+  public boolean isAdaptiveAppendLimitEnabled() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".adaptive-append-limit-enabled",
+        adaptiveAppendLimitEnabled,
+        Boolean.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_ADAPTIVE_APPEND_LIMIT_ENABLED));
+  }
+
+  public void setAdaptiveAppendLimitEnabled(final boolean adaptiveAppendLimitEnabled) {
+    this.adaptiveAppendLimitEnabled = adaptiveAppendLimitEnabled;
+  }
+
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".max-adaptive-appends-per-follower",
+        maxAdaptiveAppendsPerFollower,
+        Integer.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER));
+  }
+
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
+  public DataSize getMaxAdaptiveAppendBatchSize() {
+    return UnifiedConfigurationHelper.validateLegacyConfiguration(
+        PREFIX + ".max-adaptive-append-batch-size",
+        maxAdaptiveAppendBatchSize,
+        DataSize.class,
+        UnifiedConfigurationHelper.BackwardsCompatibilityMode.SUPPORTED,
+        Set.of(LEGACY_MAX_ADAPTIVE_APPEND_BATCH_SIZE));
+  }
+
+  public void setMaxAdaptiveAppendBatchSize(final DataSize maxAdaptiveAppendBatchSize) {
+    this.maxAdaptiveAppendBatchSize = maxAdaptiveAppendBatchSize;
+  }
+
   public boolean isPreallocateSegmentFiles() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".preallocate-segment-files",
@@ -22,6 +22,9 @@ public class Rest {
   /** Set the executor configuration */
   @NestedConfigurationProperty private Executor executor = new Executor();
 
+  /** Set the search streaming configuration */
+  @NestedConfigurationProperty private SearchStreaming searchStreaming = new SearchStreaming();
+
   public List<Filter> getFilters() {
     return filters;
   }
@@ -45,4 +48,12 @@ public class Rest {
   public void setExecutor(final Executor executor) {
     this.executor = executor;
   }
+
+  public SearchStreaming getSearchStreaming() {
+    return searchStreaming;
+  }
+
+  public void setSearchStreaming(final SearchStreaming searchStreaming) {
+    this.searchStreaming = searchStreaming;
+  }
 }
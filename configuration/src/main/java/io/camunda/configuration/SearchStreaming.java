@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.configuration;
+
+public class SearchStreaming {
+
+  /**
+   * Whether search responses are streamed. When enabled, large pages are fetched from the secondary
+   * storage in chunks and written to the response item by item, bounding the memory used per
+   * request by the chunk size instead of the page size.
+   */
+  private boolean enabled = false;
+
+  /**
+   * The maximum number of items fetched from the secondary storage at once when streaming search
+   * responses. Pages which are not larger than this are fetched in one go.
+   */
+  private int chunkSize = 100;
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  public void setChunkSize(final int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+}
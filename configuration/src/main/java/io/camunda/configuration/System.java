@@ -35,6 +35,13 @@ public class System {
    */
   private int ioThreadCount = 2;
 
+  /**
+   * Controls how many actors performing long blocking I/O (e.g. exporters and snapshot file copies)
+   * can run at the same time, each on its own virtual thread. When 0, these actors share the io
+   * threads instead.
+   */
+  private int virtualIoThreadCount = 0;
+
   /**
    * Controls whether the system clock or mutable one. When enabled, time progression can be
    * controlled programmatically for testing purposes.
@@ -71,6 +78,14 @@ public class System {
     this.ioThreadCount = ioThreadCount;
   }
 
+  public int getVirtualIoThreadCount() {
+    return virtualIoThreadCount;
+  }
+
+  public void setVirtualIoThreadCount(final int virtualIoThreadCount) {
+    this.virtualIoThreadCount = virtualIoThreadCount;
+  }
+
   public boolean getClockControlled() {
     return UnifiedConfigurationHelper.validateLegacyConfiguration(
         PREFIX + ".clock-controlled",
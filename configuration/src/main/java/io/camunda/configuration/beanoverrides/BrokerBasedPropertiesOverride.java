@@ -435,6 +435,8 @@ public class BrokerBasedPropertiesOverride {
     longPollingCfg.setTimeout(longPolling.getTimeout());
     longPollingCfg.setProbeTimeout(longPolling.getProbeTimeout());
     longPollingCfg.setMinEmptyResponses(longPolling.getMinEmptyResponses());
+    longPollingCfg.setActivationBufferSize(longPolling.getActivationBufferSize());
+    longPollingCfg.setActivationBufferTtl(longPolling.getActivationBufferTtl());
   }
 
   private void populateFromMembership(final BrokerBasedProperties override) {
@@ -455,6 +457,8 @@ public class BrokerBasedPropertiesOverride {
     membershipCfg.setSuspectProbes(membership.getSuspectProbes());
     membershipCfg.setFailureTimeout(membership.getFailureTimeout());
     membershipCfg.setSyncInterval(membership.getSyncInterval());
+    membershipCfg.setGossipRetransmitMultiplier(membership.getGossipRetransmitMultiplier());
+    membershipCfg.setAdaptiveFailureTimeout(membership.isAdaptiveFailureTimeout());
   }
 
   private void populateFromRaftProperties(final BrokerBasedProperties override) {
@@ -464,7 +468,8 @@ public class BrokerBasedPropertiesOverride {
     override.getCluster().getRaft().setEnablePriorityElection(raft.isPriorityElectionEnabled());
 
     // Set flush configuration
-    final var flushConfig = new FlushConfig(raft.isFlushEnabled(), raft.getFlushDelay());
+    final var flushConfig =
+        new FlushConfig(raft.isFlushEnabled(), raft.getFlushDelay(), raft.getFlushLatencyTarget());
     override.getCluster().getRaft().setFlush(flushConfig);
 
     override.getExperimental().setMaxAppendsPerFollower(raft.getMaxAppendsPerFollower());
@@ -491,6 +496,22 @@ public class BrokerBasedPropertiesOverride {
         .getExperimental()
         .getRaft()
         .setPreferSnapshotReplicationThreshold(raft.getPreferSnapshotReplicationThreshold());
+    override
+        .getExperimental()
+        .getRaft()
+        .setMaxSnapshotChunksInFlight(raft.getMaxSnapshotChunksInFlight());
+    override
+        .getExperimental()
+        .getRaft()
+        .setAdaptiveAppendLimitEnabled(raft.isAdaptiveAppendLimitEnabled());
+    override
+        .getExperimental()
+        .getRaft()
+        .setMaxAdaptiveAppendsPerFollower(raft.getMaxAdaptiveAppendsPerFollower());
+    override
+        .getExperimental()
+        .getRaft()
+        .setMaxAdaptiveAppendBatchSize(raft.getMaxAdaptiveAppendBatchSize());
     override
         .getExperimental()
         .getRaft()
@@ -526,6 +547,9 @@ public class BrokerBasedPropertiesOverride {
     brokerNetwork.setSocketReceiveBuffer(network.getSocketReceiveBuffer());
     brokerNetwork.setHeartbeatTimeout(network.getHeartbeatTimeout());
     brokerNetwork.setHeartbeatInterval(network.getHeartbeatInterval());
+    brokerNetwork.setMessageCoalescingWindow(network.getMessageCoalescingWindow());
+    brokerNetwork.setMessageCoalescingMaxSize(network.getMessageCoalescingMaxSize());
+    brokerNetwork.setConnectionsPerAddress(network.getConnectionsPerAddress());
 
     final var ucNetwork =
         unifiedConfiguration.getCamunda().getCluster().getNetwork().withBrokerNetworkProperties();
@@ -588,6 +612,10 @@ public class BrokerBasedPropertiesOverride {
     final var threadsCfg = new ThreadsCfg();
     threadsCfg.setCpuThreadCount(system.getCpuThreadCount());
     threadsCfg.setIoThreadCount(system.getIoThreadCount());
+    threadsCfg.setVirtualIoThreadCount(system.getVirtualIoThreadCount());
+    threadsCfg.setPartitionAffinityEnabled(system.getActor().isPartitionAffinityEnabled());
+    threadsCfg.setPartitionAffinityStealThreshold(
+        system.getActor().getPartitionAffinityStealThreshold());
     override.setThreads(threadsCfg);
 
     final var enableVersionCheck =
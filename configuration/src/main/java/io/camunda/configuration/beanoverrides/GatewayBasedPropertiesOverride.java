@@ -169,6 +169,8 @@ public class GatewayBasedPropertiesOverride {
     longPollingCfg.setTimeout(longPolling.getTimeout());
     longPollingCfg.setProbeTimeout(longPolling.getProbeTimeout());
     longPollingCfg.setMinEmptyResponses(longPolling.getMinEmptyResponses());
+    longPollingCfg.setActivationBufferSize(longPolling.getActivationBufferSize());
+    longPollingCfg.setActivationBufferTtl(longPolling.getActivationBufferTtl());
   }
 
   private void populateFromCluster(final GatewayBasedProperties override) {
@@ -198,6 +200,9 @@ public class GatewayBasedPropertiesOverride {
     gatewayCluster.setAdvertisedHost(resolveAdvertisedHost());
     gatewayCluster.setSocketSendBuffer(network.getSocketSendBuffer());
     gatewayCluster.setSocketReceiveBuffer(network.getSocketReceiveBuffer());
+    gatewayCluster.setMessageCoalescingWindow(network.getMessageCoalescingWindow());
+    gatewayCluster.setMessageCoalescingMaxSize(network.getMessageCoalescingMaxSize());
+    gatewayCluster.setConnectionsPerAddress(network.getConnectionsPerAddress());
 
     populateFromInternalApi(override);
   }
@@ -274,5 +279,7 @@ public class GatewayBasedPropertiesOverride {
     membershipCfg.setSuspectProbes(membership.getSuspectProbes());
     membershipCfg.setFailureTimeout(membership.getFailureTimeout());
     membershipCfg.setSyncInterval(membership.getSyncInterval());
+    membershipCfg.setGossipRetransmitMultiplier(membership.getGossipRetransmitMultiplier());
+    membershipCfg.setAdaptiveFailureTimeout(membership.isAdaptiveFailureTimeout());
   }
 }
@@ -9,11 +9,13 @@ package io.camunda.configuration.beanoverrides;
 
 import io.camunda.configuration.Executor;
 import io.camunda.configuration.ProcessCache;
+import io.camunda.configuration.SearchStreaming;
 import io.camunda.configuration.UnifiedConfiguration;
 import io.camunda.configuration.beans.GatewayRestProperties;
 import io.camunda.configuration.beans.LegacyGatewayRestProperties;
 import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration.ApiExecutorConfiguration;
 import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration.ProcessCacheConfiguration;
+import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration.SearchStreamingConfiguration;
 import org.springframework.beans.BeanUtils;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
@@ -44,6 +46,7 @@ public class GatewayRestPropertiesOverride {
 
     populateFromProcessCache(override);
     populateFromExecutor(override);
+    populateFromSearchStreaming(override);
 
     return override;
   }
@@ -64,4 +67,12 @@ public class GatewayRestPropertiesOverride {
     apiExecutorConfiguration.setKeepAliveSeconds(executor.getKeepAlive().getSeconds());
     apiExecutorConfiguration.setQueueCapacity(executor.getQueueCapacity());
   }
+
+  private void populateFromSearchStreaming(final GatewayRestProperties override) {
+    final SearchStreaming searchStreaming =
+        unifiedConfiguration.getCamunda().getApi().getRest().getSearchStreaming();
+    final SearchStreamingConfiguration searchStreamingConfiguration = override.getSearchStreaming();
+    searchStreamingConfiguration.setEnabled(searchStreaming.isEnabled());
+    searchStreamingConfiguration.setChunkSize(searchStreaming.getChunkSize());
+  }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.configuration.beanoverrides.GatewayRestPropertiesOverride;
+import io.camunda.configuration.beans.GatewayRestProperties;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig({
+  UnifiedConfiguration.class,
+  GatewayRestPropertiesOverride.class,
+  UnifiedConfigurationHelper.class
+})
+public class ApiRestSearchStreamingTest {
+
+  @Nested
+  class WithDefaults {
+    final GatewayRestProperties gatewayRestProperties;
+
+    WithDefaults(@Autowired final GatewayRestProperties gatewayRestProperties) {
+      this.gatewayRestProperties = gatewayRestProperties;
+    }
+
+    @Test
+    void shouldBeDisabled() {
+      assertThat(gatewayRestProperties.getSearchStreaming().isEnabled()).isFalse();
+    }
+
+    @Test
+    void shouldUseDefaultChunkSize() {
+      assertThat(gatewayRestProperties.getSearchStreaming().getChunkSize()).isEqualTo(100);
+    }
+  }
+
+  @Nested
+  @TestPropertySource(
+      properties = {
+        "camunda.api.rest.search-streaming.enabled=true",
+        "camunda.api.rest.search-streaming.chunk-size=500",
+      })
+  class WithUnifiedConfigSet {
+    final GatewayRestProperties gatewayRestProperties;
+
+    WithUnifiedConfigSet(@Autowired final GatewayRestProperties gatewayRestProperties) {
+      this.gatewayRestProperties = gatewayRestProperties;
+    }
+
+    @Test
+    void shouldSetEnabled() {
+      assertThat(gatewayRestProperties.getSearchStreaming().isEnabled()).isTrue();
+    }
+
+    @Test
+    void shouldSetChunkSize() {
+      assertThat(gatewayRestProperties.getSearchStreaming().getChunkSize()).isEqualTo(500);
+    }
+  }
+}
@@ -18,18 +18,55 @@ public interface FlowNodeInstanceMapper
 
   void insert(FlowNodeInstanceDbModel flowNode);
 
-  void updateStateAndEndDate(EndFlowNodeDto dto);
+  void insertMultiple(List<FlowNodeInstanceDbModel> flowNodes);
 
-  void updateIncident(UpdateIncidentDto dto);
+  void updateCoalesced(CoalescedUpdateDto dto);
 
   Long count(FlowNodeInstanceDbQuery filter);
 
   List<FlowNodeInstanceDbModel> search(FlowNodeInstanceDbQuery filter);
 
-  record EndFlowNodeDto(
+  /**
+   * The combined changes of all updates of a flow node instance within one flush, which are written
+   * by a single statement. The state and end date are only changed if a state is set, and the
+   * incident key only if {@code incidentKeyChanged} is true.
+   */
+  record CoalescedUpdateDto(
       long flowNodeInstanceKey,
       FlowNodeInstanceEntity.FlowNodeState state,
-      OffsetDateTime endDate) {}
+      OffsetDateTime endDate,
+      boolean incidentKeyChanged,
+      Long incidentKey,
+      int subprocessIncidentCountDelta) {
 
-  record UpdateIncidentDto(long flowNodeInstanceKey, Long incidentKey) {}
+    public CoalescedUpdateDto(final long flowNodeInstanceKey) {
+      this(flowNodeInstanceKey, null, null, false, null, 0);
+    }
+
+    public CoalescedUpdateDto withStateAndEndDate(
+        final FlowNodeInstanceEntity.FlowNodeState state, final OffsetDateTime endDate) {
+      return new CoalescedUpdateDto(
+          flowNodeInstanceKey,
+          state,
+          endDate,
+          incidentKeyChanged,
+          incidentKey,
+          subprocessIncidentCountDelta);
+    }
+
+    public CoalescedUpdateDto withIncidentKey(final Long incidentKey) {
+      return new CoalescedUpdateDto(
+          flowNodeInstanceKey, state, endDate, true, incidentKey, subprocessIncidentCountDelta);
+    }
+
+    public CoalescedUpdateDto addSubprocessIncidents(final int delta) {
+      return new CoalescedUpdateDto(
+          flowNodeInstanceKey,
+          state,
+          endDate,
+          incidentKeyChanged,
+          incidentKey,
+          subprocessIncidentCountDelta + delta);
+    }
+  }
 }
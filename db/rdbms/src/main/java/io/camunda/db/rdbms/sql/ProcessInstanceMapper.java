@@ -18,11 +18,9 @@ public interface ProcessInstanceMapper extends ProcessBasedHistoryCleanupMapper
 
   void insert(ProcessInstanceDbModel processInstance);
 
-  void updateStateAndEndDate(EndProcessInstanceDto dto);
+  void insertMultiple(List<ProcessInstanceDbModel> processInstances);
 
-  void incrementIncidentCount(Long processInstanceKey);
-
-  void decrementIncidentCount(Long processInstanceKey);
+  void updateCoalesced(CoalescedUpdateDto dto);
 
   void insertTags(ProcessInstanceDbModel processInstance);
 
@@ -36,8 +34,27 @@ public interface ProcessInstanceMapper extends ProcessBasedHistoryCleanupMapper
 
   void deleteByKeys(List<Long> processInstanceKeys);
 
-  record EndProcessInstanceDto(
+  /**
+   * The combined changes of all updates of a process instance within one flush, which are written
+   * by a single statement. The state and end date are only changed if a state is set.
+   */
+  record CoalescedUpdateDto(
       long processInstanceKey,
       ProcessInstanceEntity.ProcessInstanceState state,
-      OffsetDateTime endDate) {}
+      OffsetDateTime endDate,
+      int incidentCountDelta) {
+
+    public CoalescedUpdateDto(final long processInstanceKey) {
+      this(processInstanceKey, null, null, 0);
+    }
+
+    public CoalescedUpdateDto withStateAndEndDate(
+        final ProcessInstanceEntity.ProcessInstanceState state, final OffsetDateTime endDate) {
+      return new CoalescedUpdateDto(processInstanceKey, state, endDate, incidentCountDelta);
+    }
+
+    public CoalescedUpdateDto addIncidents(final int delta) {
+      return new CoalescedUpdateDto(processInstanceKey, state, endDate, incidentCountDelta + delta);
+    }
+  }
 }
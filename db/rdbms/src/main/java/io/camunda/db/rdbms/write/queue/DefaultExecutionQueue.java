@@ -12,15 +12,17 @@ import io.camunda.zeebe.util.ObjectSizeEstimator;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 import org.slf4j.Logger;
@@ -30,6 +32,10 @@ public class DefaultExecutionQueue implements ExecutionQueue {
 
   private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutionQueue.class);
   private static final long BYTES_PER_MB = 1024L * 1024L;
+  // keeps the number of bind parameters of a multi-row INSERT well below the limits of the
+  // supported databases
+  private static final int MAX_ROWS_PER_INSERT = 50;
+  private static final String MULTI_ROW_INSERT_SUFFIX = "Multiple";
   private static final Set<Pattern> IGNORE_EMPTY_UPDATES =
       Set.of(
           Pattern.compile(".*updateHistoryCleanupDate$"),
@@ -39,7 +45,12 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final List<QueueItem> queue = new ArrayList<>();
+  // positions of the enqueued items per entity, used to look up merge candidates without scanning
+  // the whole queue; only valid until the next flush, which clears the queue
+  private final Map<QueueItemKey, List<Integer>> queueIndex = new HashMap<>();
+  // the multi-row counterpart of each INSERT statement, if the mapper declares one
+  private final Map<String, Optional<String>> multiRowInserts = new HashMap<>();
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
@@ -73,6 +84,7 @@ public class DefaultExecutionQueue implements ExecutionQueue {
       }
 
       queue.add(entry);
+      indexQueueItem(entry, queue.size() - 1);
       // Track memory consumption
       final long entrySize = ObjectSizeEstimator.estimateSize(entry);
       currentQueueMemoryBytes += entrySize;
@@ -126,34 +138,74 @@ public class DefaultExecutionQueue implements ExecutionQueue {
 
   /**
    * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * queueItem will be replaced with a new, combined queueItem. If the merger declares a {@link
+   * QueueItemMerger#mergeKey()}, only the items enqueued for this key are considered.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger merger) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
-
-        if (merger.canBeMerged(item)) {
-          LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
-          final QueueItem oldItem = item;
-          final long oldSize = ObjectSizeEstimator.estimateSize(oldItem);
-          final QueueItem newItem = merger.merge(oldItem);
-          final long newSize = ObjectSizeEstimator.estimateSize(newItem);
-          queue.set(index, newItem);
-          currentQueueMemoryBytes = currentQueueMemoryBytes - oldSize + newSize;
-          metrics.recordMergedQueueItem(item.contextType(), item.statementId());
-          return true;
+      final var mergeKey = merger.mergeKey();
+      if (mergeKey != null) {
+        final var candidates = queueIndex.get(mergeKey);
+        if (candidates == null) {
+          return false;
+        }
+
+        for (int i = candidates.size() - 1; i >= 0; i--) {
+          final int index = candidates.get(i);
+          if (merger.canBeMerged(queue.get(index))) {
+            mergeQueueItem(index, merger);
+            return true;
+          }
         }
 
-        index--;
+        return false;
+      }
+
+      for (int index = queue.size() - 1; index >= 0; index--) {
+        if (merger.canBeMerged(queue.get(index))) {
+          mergeQueueItem(index, merger);
+          return true;
+        }
       }
 
       return false;
     }
   }
 
+  private void mergeQueueItem(final int index, final QueueItemMerger merger) {
+    final QueueItem oldItem = queue.get(index);
+    LOG.trace("Merging new item with item {}, {}", oldItem.contextType(), oldItem.id());
+    final long oldSize = ObjectSizeEstimator.estimateSize(oldItem);
+    final QueueItem newItem = merger.merge(oldItem);
+    final long newSize = ObjectSizeEstimator.estimateSize(newItem);
+    queue.set(index, newItem);
+    if (!QueueItemKey.of(oldItem).equals(QueueItemKey.of(newItem))) {
+      final var oldPositions = queueIndex.get(QueueItemKey.of(oldItem));
+      if (oldPositions != null) {
+        oldPositions.remove(Integer.valueOf(index));
+      }
+      indexQueueItem(newItem, index);
+    }
+    currentQueueMemoryBytes = currentQueueMemoryBytes - oldSize + newSize;
+    metrics.recordMergedQueueItem(oldItem.contextType(), oldItem.statementId());
+  }
+
+  private void indexQueueItem(final QueueItem item, final int index) {
+    if (item.id() == null) {
+      return;
+    }
+
+    final var positions =
+        queueIndex.computeIfAbsent(QueueItemKey.of(item), k -> new ArrayList<>(2));
+    // keep the positions sorted, such that the last added compatible item is found first
+    int insertAt = positions.size();
+    while (insertAt > 0 && positions.get(insertAt - 1) > index) {
+      insertAt--;
+    }
+    positions.add(insertAt, index);
+  }
+
   @Override
   public boolean checkQueueForFlush() {
     final boolean hasCountLimit = queueFlushLimit > 0;
@@ -209,36 +261,22 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     final var session =
         sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
 
-    var flushedElements = 0;
-    final var optimizedItems = optimizeQueueOrder(queue);
+    final var flushedElements = queue.size();
 
     try {
-      for (final var entry : optimizedItems) {
+      for (final var entry : optimizeQueueOrder(queue)) {
         LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
         session.update(entry.statementId(), entry.parameter());
-        queue.remove();
-        flushedElements++;
       }
+      queue.clear();
+      queueIndex.clear();
 
       if (!preFlushListeners.isEmpty()) {
         LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
         preFlushListeners.forEach(PreFlushListener::onPreFlush);
       }
 
-      final var batchResult = session.flushStatements();
-      for (final BatchResult singleBatchResult : batchResult) {
-        if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)
-            && !shouldIgnoreWhenNoRowsAffected(singleBatchResult.getMappedStatement().getId())) {
-          LOG.error(
-              "[RDBMS ExecutionQueue, Partition {}] Some statements with ID {} were not executed successfully",
-              partitionId,
-              singleBatchResult.getMappedStatement().getId());
-        }
-        metrics.recordExecutedStatement(
-            singleBatchResult.getMappedStatement().getId(),
-            singleBatchResult.getParameterObjects().size());
-      }
-
+      flushStatements(session);
       session.commit();
       if (!postFlushListeners.isEmpty()) {
         LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
@@ -261,44 +299,109 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  private void flushStatements(final SqlSession session) {
+    final var batchResult = session.flushStatements();
+    for (final BatchResult singleBatchResult : batchResult) {
+      if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)
+          && !shouldIgnoreWhenNoRowsAffected(singleBatchResult.getMappedStatement().getId())) {
+        LOG.error(
+            "[RDBMS ExecutionQueue, Partition {}] Some statements with ID {} were not executed successfully",
+            partitionId,
+            singleBatchResult.getMappedStatement().getId());
+      }
+      metrics.recordExecutedStatement(
+          singleBatchResult.getMappedStatement().getId(),
+          singleBatchResult.getParameterObjects().size());
+    }
+  }
+
   /**
    * Optimizes the order of the queue items to minimize the number of executed statements. Primary
    * goal of this optimization is to batch as many statements as possible For this statements with
    * the same MyBatis-ID have to be executed sequentially directly after each other. A second goal
    * is to ensure that INSERT statements are always executed before UPDATE statements. <br>
-   * The optimization happens in two steps: <br>
+   * The optimization happens in three steps: <br>
    * <br>
    * First the queue is grouped by the {@link ContextType}. Here the order of the items inside this
    * group is still preserved.<br>
    * <br>
    * In the second step the items inside the groups are sorted by the {@link WriteStatementType}
    * (natural order) and {@link QueueItem#statementId()}. For some entities this step will lead to
-   * errors. Therefore, this second step can be deactivated in the {@link ContextType}.
+   * errors. Therefore, this second step can be deactivated in the {@link ContextType}.<br>
+   * <br>
+   * In the third step consecutive inserts are combined, see {@link #toMultiRowInserts(List)}.
    *
    * @param items queue of items
    * @return optimized queue of items
    */
   private List<QueueItem> optimizeQueueOrder(final List<QueueItem> items) {
-    final Map<ContextType, List<QueueItem>> itemsByContextType =
-        items.stream().collect(Collectors.groupingBy(QueueItem::contextType));
+    final var groups =
+        items.stream()
+            .collect(
+                Collectors.groupingBy(
+                    QueueItem::contextType,
+                    LinkedHashMap::new,
+                    Collectors.toCollection(ArrayList::new)));
 
     final List<QueueItem> resultList = new ArrayList<>();
-    for (final var entry : itemsByContextType.entrySet()) {
-      final var contextType = entry.getKey();
-      if (contextType.preserveOrder()) {
-        resultList.addAll(entry.getValue());
+    groups.forEach((contextType, group) -> resultList.addAll(optimizeGroup(contextType, group)));
+    return resultList;
+  }
+
+  private List<QueueItem> optimizeGroup(
+      final ContextType contextType, final List<QueueItem> items) {
+    if (!contextType.preserveOrder()) {
+      items.sort(
+          Comparator.comparing(QueueItem::statementType).thenComparing(QueueItem::statementId));
+    }
+    return toMultiRowInserts(items);
+  }
+
+  /**
+   * Combines consecutive INSERT items of the same statement into multi-row INSERTs of up to {@link
+   * #MAX_ROWS_PER_INSERT} rows. This applies to all INSERT statements for which the mapper declares
+   * a counterpart with the suffix {@value #MULTI_ROW_INSERT_SUFFIX}, which takes the list of the
+   * parameters of the combined items. All other items are returned unchanged.
+   */
+  private List<QueueItem> toMultiRowInserts(final List<QueueItem> items) {
+    final List<QueueItem> resultList = new ArrayList<>(items.size());
+    int start = 0;
+    while (start < items.size()) {
+      final var first = items.get(start);
+      int end = start + 1;
+      if (first.statementType() == WriteStatementType.INSERT) {
+        while (end < items.size()
+            && end - start < MAX_ROWS_PER_INSERT
+            && items.get(end).statementType() == WriteStatementType.INSERT
+            && items.get(end).statementId().equals(first.statementId())) {
+          end++;
+        }
+      }
+
+      final var multiRowInsert =
+          end - start > 1 ? getMultiRowInsert(first.statementId()) : Optional.<String>empty();
+      if (multiRowInsert.isPresent()) {
+        final var rows = items.subList(start, end).stream().map(QueueItem::parameter).toList();
+        resultList.add(
+            new QueueItem(
+                first.contextType(), WriteStatementType.INSERT, null, multiRowInsert.get(), rows));
       } else {
-        final var contextItems = new ArrayList<>(entry.getValue());
-        contextItems.sort(
-            Comparator.comparing(QueueItem::statementType).thenComparing(QueueItem::statementId));
-        resultList.addAll(contextItems);
+        resultList.addAll(items.subList(start, end));
       }
+      start = end;
     }
-
     return resultList;
   }
 
-  LinkedList<QueueItem> getQueue() {
+  private Optional<String> getMultiRowInsert(final String statementId) {
+    return multiRowInserts.computeIfAbsent(
+        statementId,
+        id ->
+            Optional.of(id + MULTI_ROW_INSERT_SUFFIX)
+                .filter(sessionFactory.getConfiguration()::hasStatement));
+  }
+
+  List<QueueItem> getQueue() {
     return queue;
   }
 
@@ -12,4 +12,15 @@ public interface QueueItemMerger {
   boolean canBeMerged(QueueItem queueItem);
 
   QueueItem merge(QueueItem originalItem);
+
+  /**
+   * Returns the key of the only queue items this merger can be applied to. If present, the queue
+   * looks up merge candidates directly by this key instead of testing every enqueued item, so
+   * {@link #canBeMerged(QueueItem)} must never accept an item with a different key.
+   *
+   * @return the key of the mergeable queue items, or null if any item may be merged
+   */
+  default QueueItemKey mergeKey() {
+    return null;
+  }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Merges a change of an entity into an UPDATE of the same entity which is still enqueued with the
+ * given statement, such that all changes of the entity within one flush are written by a single
+ * statement. The parameter of the statement must be able to carry the combined changes.
+ */
+public class UpdateMerger<T> implements QueueItemMerger {
+
+  private final ContextType contextType;
+  private final Object id;
+  private final String statementId;
+  private final Class<T> clazz;
+  private final UnaryOperator<T> mergeFunction;
+
+  public UpdateMerger(
+      final ContextType contextType,
+      final Object id,
+      final String statementId,
+      final Class<T> clazz,
+      final UnaryOperator<T> mergeFunction) {
+    this.contextType = contextType;
+    this.id = id;
+    this.statementId = statementId;
+    this.clazz = clazz;
+    this.mergeFunction = mergeFunction;
+  }
+
+  @Override
+  public boolean canBeMerged(final QueueItem queueItem) {
+    return queueItem.statementType() == WriteStatementType.UPDATE
+        && queueItem.contextType() == contextType
+        && id.equals(queueItem.id())
+        && statementId.equals(queueItem.statementId())
+        && clazz.isInstance(queueItem.parameter());
+  }
+
+  @Override
+  public QueueItemKey mergeKey() {
+    return new QueueItemKey(contextType, id);
+  }
+
+  @Override
+  public QueueItem merge(final QueueItem originalItem) {
+    return originalItem.copy(
+        b -> b.parameter(mergeFunction.apply(clazz.cast(originalItem.parameter()))));
+  }
+}
@@ -36,6 +36,11 @@ public class UpsertMerger<T extends Copyable<T>> implements QueueItemMerger {
         && clazz.isInstance(queueItem.parameter());
   }
 
+  @Override
+  public QueueItemKey mergeKey() {
+    return new QueueItemKey(contextType, id);
+  }
+
   @Override
   public QueueItem merge(final QueueItem originalItem) {
     return originalItem.copy(
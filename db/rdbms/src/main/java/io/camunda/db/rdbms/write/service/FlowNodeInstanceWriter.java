@@ -8,8 +8,7 @@
 package io.camunda.db.rdbms.write.service;
 
 import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper;
-import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.EndFlowNodeDto;
-import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.UpdateIncidentDto;
+import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.CoalescedUpdateDto;
 import io.camunda.db.rdbms.sql.HistoryCleanupMapper.CleanupHistoryDto;
 import io.camunda.db.rdbms.sql.ProcessBasedHistoryCleanupMapper;
 import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
@@ -18,14 +17,19 @@ import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
 import io.camunda.db.rdbms.write.queue.UpdateHistoryCleanupDateMerger;
+import io.camunda.db.rdbms.write.queue.UpdateMerger;
 import io.camunda.db.rdbms.write.queue.UpsertMerger;
 import io.camunda.db.rdbms.write.queue.WriteStatementType;
 import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeState;
 import java.time.OffsetDateTime;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 public class FlowNodeInstanceWriter extends ProcessInstanceDependant implements RdbmsWriter {
 
+  private static final String UPDATE_COALESCED_STATEMENT =
+      "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.updateCoalesced";
+
   private final ExecutionQueue executionQueue;
   private final FlowNodeInstanceMapper mapper;
 
@@ -60,14 +64,7 @@ public class FlowNodeInstanceWriter extends ProcessInstanceDependant implements
     final boolean wasMerged = mergeToQueue(key, b -> b.state(state).endDate(endDate));
 
     if (!wasMerged) {
-      final var dto = new EndFlowNodeDto(key, state, endDate);
-      executionQueue.executeInQueue(
-          new QueueItem(
-              ContextType.FLOW_NODE,
-              WriteStatementType.UPDATE,
-              key,
-              "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.updateStateAndEndDate",
-              dto));
+      updateCoalesced(key, dto -> dto.withStateAndEndDate(state, endDate));
     }
   }
 
@@ -85,13 +82,7 @@ public class FlowNodeInstanceWriter extends ProcessInstanceDependant implements
             flowNodeInstanceKey, b -> b.numSubprocessIncidents(b.numSubprocessIncidents() + 1));
 
     if (!wasMerged) {
-      executionQueue.executeInQueue(
-          new QueueItem(
-              ContextType.FLOW_NODE,
-              WriteStatementType.UPDATE,
-              flowNodeInstanceKey,
-              "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.incrementSubprocessIncidentCount",
-              flowNodeInstanceKey));
+      updateCoalesced(flowNodeInstanceKey, dto -> dto.addSubprocessIncidents(1));
     }
   }
 
@@ -101,13 +92,7 @@ public class FlowNodeInstanceWriter extends ProcessInstanceDependant implements
             flowNodeInstanceKey, b -> b.numSubprocessIncidents(b.numSubprocessIncidents() - 1));
 
     if (!wasMerged) {
-      executionQueue.executeInQueue(
-          new QueueItem(
-              ContextType.FLOW_NODE,
-              WriteStatementType.UPDATE,
-              flowNodeInstanceKey,
-              "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.decrementSubprocessIncidentCount",
-              flowNodeInstanceKey));
+      updateCoalesced(flowNodeInstanceKey, dto -> dto.addSubprocessIncidents(-1));
     }
   }
 
@@ -136,14 +121,33 @@ public class FlowNodeInstanceWriter extends ProcessInstanceDependant implements
     final boolean wasMerged = mergeToQueue(flowNodeInstanceKey, b -> b.incidentKey(incidentKey));
 
     if (!wasMerged) {
-      final var dto = new UpdateIncidentDto(flowNodeInstanceKey, incidentKey);
+      updateCoalesced(flowNodeInstanceKey, dto -> dto.withIncidentKey(incidentKey));
+    }
+  }
+
+  /**
+   * Applies the change to the coalesced update of the flow node instance which is still enqueued,
+   * or enqueues a new one, such that all changes of a flow node instance which is not enqueued as
+   * insert anymore are written by a single statement per flush.
+   */
+  private void updateCoalesced(final long key, final UnaryOperator<CoalescedUpdateDto> change) {
+    final boolean wasMerged =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpdateMerger<>(
+                ContextType.FLOW_NODE,
+                key,
+                UPDATE_COALESCED_STATEMENT,
+                CoalescedUpdateDto.class,
+                change));
+
+    if (!wasMerged) {
       executionQueue.executeInQueue(
           new QueueItem(
               ContextType.FLOW_NODE,
               WriteStatementType.UPDATE,
-              flowNodeInstanceKey,
-              "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.updateIncident",
-              dto));
+              key,
+              UPDATE_COALESCED_STATEMENT,
+              change.apply(new CoalescedUpdateDto(key))));
     }
   }
 
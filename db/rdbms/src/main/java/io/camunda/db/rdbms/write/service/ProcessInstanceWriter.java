@@ -10,22 +10,27 @@ package io.camunda.db.rdbms.write.service;
 import io.camunda.db.rdbms.sql.HistoryCleanupMapper.CleanupHistoryDto;
 import io.camunda.db.rdbms.sql.ProcessBasedHistoryCleanupMapper;
 import io.camunda.db.rdbms.sql.ProcessInstanceMapper;
-import io.camunda.db.rdbms.sql.ProcessInstanceMapper.EndProcessInstanceDto;
+import io.camunda.db.rdbms.sql.ProcessInstanceMapper.CoalescedUpdateDto;
 import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel;
 import io.camunda.db.rdbms.write.domain.ProcessInstanceDbModel.ProcessInstanceDbModelBuilder;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
 import io.camunda.db.rdbms.write.queue.UpdateHistoryCleanupDateMerger;
+import io.camunda.db.rdbms.write.queue.UpdateMerger;
 import io.camunda.db.rdbms.write.queue.UpsertMerger;
 import io.camunda.db.rdbms.write.queue.WriteStatementType;
 import io.camunda.search.entities.ProcessInstanceEntity.ProcessInstanceState;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 public class ProcessInstanceWriter implements RdbmsWriter {
 
+  private static final String UPDATE_COALESCED_STATEMENT =
+      "io.camunda.db.rdbms.sql.ProcessInstanceMapper.updateCoalesced";
+
   private final ProcessInstanceMapper mapper;
   private final ExecutionQueue executionQueue;
 
@@ -69,14 +74,7 @@ public class ProcessInstanceWriter implements RdbmsWriter {
     final boolean wasMerged = mergeToQueue(key, b -> b.state(state).endDate(endDate));
 
     if (!wasMerged) {
-      final var dto = new EndProcessInstanceDto(key, state, endDate);
-      executionQueue.executeInQueue(
-          new QueueItem(
-              ContextType.PROCESS_INSTANCE,
-              WriteStatementType.UPDATE,
-              key,
-              "io.camunda.db.rdbms.sql.ProcessInstanceMapper.updateStateAndEndDate",
-              dto));
+      updateCoalesced(key, dto -> dto.withStateAndEndDate(state, endDate));
     }
   }
 
@@ -84,27 +82,41 @@ public class ProcessInstanceWriter implements RdbmsWriter {
     final boolean wasMerged = mergeToQueue(key, b -> b.numIncidents(b.numIncidents() + 1));
 
     if (!wasMerged) {
-      executionQueue.executeInQueue(
-          new QueueItem(
-              ContextType.PROCESS_INSTANCE,
-              WriteStatementType.UPDATE,
-              key,
-              "io.camunda.db.rdbms.sql.ProcessInstanceMapper.incrementIncidentCount",
-              key));
+      updateCoalesced(key, dto -> dto.addIncidents(1));
     }
   }
 
   public void resolveIncident(final long key) {
     final boolean wasMerged = mergeToQueue(key, b -> b.numIncidents(b.numIncidents() - 1));
 
+    if (!wasMerged) {
+      updateCoalesced(key, dto -> dto.addIncidents(-1));
+    }
+  }
+
+  /**
+   * Applies the change to the coalesced update of the process instance which is still enqueued, or
+   * enqueues a new one, such that all changes of a process instance which is not enqueued as insert
+   * anymore are written by a single statement per flush.
+   */
+  private void updateCoalesced(final long key, final UnaryOperator<CoalescedUpdateDto> change) {
+    final boolean wasMerged =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpdateMerger<>(
+                ContextType.PROCESS_INSTANCE,
+                key,
+                UPDATE_COALESCED_STATEMENT,
+                CoalescedUpdateDto.class,
+                change));
+
     if (!wasMerged) {
       executionQueue.executeInQueue(
           new QueueItem(
               ContextType.PROCESS_INSTANCE,
               WriteStatementType.UPDATE,
               key,
-              "io.camunda.db.rdbms.sql.ProcessInstanceMapper.decrementIncidentCount",
-              key));
+              UPDATE_COALESCED_STATEMENT,
+              change.apply(new CoalescedUpdateDto(key))));
     }
   }
 
@@ -11,13 +11,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
@@ -32,6 +37,7 @@ class DefaultExecutionQueueTest {
 
   private SqlSession session;
   private SqlSessionFactory sqlSessionFactory;
+  private Configuration configuration;
   private RdbmsWriterMetrics metrics;
 
   private DefaultExecutionQueue executionQueue;
@@ -41,6 +47,8 @@ class DefaultExecutionQueueTest {
     session = mock(SqlSession.class);
     sqlSessionFactory = mock(SqlSessionFactory.class);
     metrics = mock(RdbmsWriterMetrics.class);
+    configuration = mock(Configuration.class);
+    when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
     when(sqlSessionFactory.openSession(
             ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED))
         .thenReturn(session);
@@ -317,6 +325,143 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
 
+  @Test
+  public void whenMergeKeyIsGivenShouldMergeLastItemWithThisKey() {
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    final var item2 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            2L,
+            "statement2",
+            "parameter2");
+    final var item3 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.UPDATE,
+            1L,
+            "statement3",
+            "parameter3");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            keyedMerger(new QueueItemKey(ContextType.PROCESS_INSTANCE, 1L)));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue()).hasSize(3);
+    assertThat(executionQueue.getQueue().get(0)).isSameAs(item1);
+    assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
+    assertThat(executionQueue.getQueue().get(2).parameter()).isEqualTo("parameter3+");
+  }
+
+  @Test
+  public void whenMergeKeyIsNotEnqueuedShouldNotMergeItems() {
+    final var item1 =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1");
+    executionQueue.executeInQueue(item1);
+
+    // when
+    final var otherContext =
+        executionQueue.tryMergeWithExistingQueueItem(
+            keyedMerger(new QueueItemKey(ContextType.FLOW_NODE, 1L)));
+    executionQueue.flush();
+    final var afterFlush =
+        executionQueue.tryMergeWithExistingQueueItem(
+            keyedMerger(new QueueItemKey(ContextType.PROCESS_INSTANCE, 1L)));
+
+    // then
+    assertThat(otherContext).isFalse();
+    assertThat(afterFlush).isFalse();
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void whenUpdateMergerIsGivenShouldOnlyMergeUpdateWithSameStatement() {
+    final var insert =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "update", "insert");
+    final var otherUpdate =
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE, WriteStatementType.UPDATE, 1L, "other", "other");
+    final var update =
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.UPDATE, 1L, "update", "a");
+    executionQueue.executeInQueue(update);
+    executionQueue.executeInQueue(insert);
+    executionQueue.executeInQueue(otherUpdate);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpdateMerger<>(
+                ContextType.PROCESS_INSTANCE, 1L, "update", String.class, p -> p + "+b"));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue())
+        .containsExactly(update.copy(b -> b.parameter("a+b")), insert, otherUpdate);
+  }
+
+  @Test
+  public void whenMultiRowInsertExistsConsecutiveInsertsShouldBeCombined() {
+    when(configuration.hasStatement("insertMultiple")).thenReturn(true);
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 0, 0, metrics);
+    for (long key = 1; key <= 52; key++) {
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, key, "insert", key));
+    }
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "other", 0L));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.FLOW_NODE, WriteStatementType.INSERT, 1L, "insert", 1L));
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(54);
+    final var inOrder = inOrder(session);
+    inOrder
+        .verify(session)
+        .update("insertMultiple", LongStream.rangeClosed(1, 50).boxed().toList());
+    inOrder.verify(session).update("insertMultiple", List.of(51L, 52L));
+    inOrder.verify(session).update("other", 0L);
+    inOrder.verify(session).update("insert", 1L);
+    inOrder.verify(session).commit();
+  }
+
+  @Test
+  public void whenNoMultiRowInsertExistsInsertsShouldNotBeCombined() {
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, "insert", 1L));
+    executionQueue.executeInQueue(
+        new QueueItem(ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 2L, "insert", 2L));
+
+    // when
+    executionQueue.flush();
+
+    // then
+    verify(session).update("insert", 1L);
+    verify(session).update("insert", 2L);
+    verify(session, never()).update(eq("insertMultiple"), any());
+  }
+
   @Test
   public void shouldSortQueueItemsDuringFlush() {
     executionQueue.executeInQueue(
@@ -504,4 +649,74 @@ class DefaultExecutionQueueTest {
     verify(sqlSessionFactory)
         .openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
   }
+
+  @Test
+  public void whenFlushFailsItShouldBePossibleToFlushTheSameItemsAgain() {
+    executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, 0, metrics);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    final var e = new RuntimeException("Some error");
+    when(session.flushStatements()).thenThrow(e).thenReturn(List.of());
+
+    // when
+    enqueueExportedItems();
+    assertThatThrownBy(() -> executionQueue.flush()).isEqualTo(e);
+
+    // then
+    verify(session).rollback();
+    verify(session, never()).commit();
+    verify(postFlushListener, never()).onPostFlush();
+    verify(metrics).recordFailedFlush();
+
+    // when the exporter exports the same records again
+    enqueueExportedItems();
+    final var flushed = executionQueue.flush();
+
+    // then
+    assertThat(flushed).isEqualTo(3);
+    verify(session, times(2)).update("statement1", "parameter1");
+    verify(session, times(2)).update("statement2", "parameter2");
+    verify(session, times(2)).update("position", "parameter3");
+    verify(session).commit();
+    verify(postFlushListener).onPostFlush();
+  }
+
+  private void enqueueExportedItems() {
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.INSERT,
+            1L,
+            "statement1",
+            "parameter1"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.INSERT, 2L, "statement2", "parameter2"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.EXPORTER_POSITION,
+            WriteStatementType.UPDATE,
+            1L,
+            "position",
+            "parameter3"));
+  }
+
+  private QueueItemMerger keyedMerger(final QueueItemKey key) {
+    return new QueueItemMerger() {
+      @Override
+      public boolean canBeMerged(final QueueItem queueItem) {
+        return QueueItemKey.of(queueItem).equals(key);
+      }
+
+      @Override
+      public QueueItem merge(final QueueItem originalItem) {
+        return originalItem.copy(b -> b.parameter(originalItem.parameter() + "+"));
+      }
+
+      @Override
+      public QueueItemKey mergeKey() {
+        return key;
+      }
+    };
+  }
 }
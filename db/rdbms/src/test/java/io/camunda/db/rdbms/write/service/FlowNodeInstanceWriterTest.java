@@ -15,10 +15,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper;
+import io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.CoalescedUpdateDto;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.UpdateMerger;
 import io.camunda.db.rdbms.write.queue.UpsertMerger;
 import io.camunda.db.rdbms.write.queue.WriteStatementType;
 import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeState;
@@ -63,7 +65,32 @@ class FlowNodeInstanceWriterTest {
                     ContextType.FLOW_NODE,
                     WriteStatementType.UPDATE,
                     1L,
-                    "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.updateStateAndEndDate",
-                    new FlowNodeInstanceMapper.EndFlowNodeDto(1L, FlowNodeState.COMPLETED, NOW))));
+                    "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.updateCoalesced",
+                    new CoalescedUpdateDto(1L, FlowNodeState.COMPLETED, NOW, false, null, 0))));
+  }
+
+  @Test
+  void whenFinishFlowNodeCanBeMergedWithUpdateNoItemShouldBeEnqueued() {
+    when(executionQueue.tryMergeWithExistingQueueItem(any(UpsertMerger.class))).thenReturn(false);
+    when(executionQueue.tryMergeWithExistingQueueItem(any(UpdateMerger.class))).thenReturn(true);
+
+    writer.finish(1L, FlowNodeState.COMPLETED, NOW);
+
+    verify(executionQueue, never()).executeInQueue(any(QueueItem.class));
+  }
+
+  @Test
+  void whenIncidentIsResolvedItemShouldClearIncidentKey() {
+    writer.resolveIncident(1L);
+
+    verify(executionQueue)
+        .executeInQueue(
+            eq(
+                new QueueItem(
+                    ContextType.FLOW_NODE,
+                    WriteStatementType.UPDATE,
+                    1L,
+                    "io.camunda.db.rdbms.sql.FlowNodeInstanceMapper.updateCoalesced",
+                    new CoalescedUpdateDto(1L, null, null, true, null, 0))));
   }
 }
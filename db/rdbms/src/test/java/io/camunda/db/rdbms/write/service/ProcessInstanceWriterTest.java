@@ -15,10 +15,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.sql.ProcessInstanceMapper;
-import io.camunda.db.rdbms.sql.ProcessInstanceMapper.EndProcessInstanceDto;
+import io.camunda.db.rdbms.sql.ProcessInstanceMapper.CoalescedUpdateDto;
 import io.camunda.db.rdbms.write.queue.ContextType;
 import io.camunda.db.rdbms.write.queue.ExecutionQueue;
 import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.UpdateMerger;
 import io.camunda.db.rdbms.write.queue.UpsertMerger;
 import io.camunda.db.rdbms.write.queue.WriteStatementType;
 import io.camunda.search.entities.ProcessInstanceEntity.ProcessInstanceState;
@@ -63,7 +64,32 @@ class ProcessInstanceWriterTest {
                     ContextType.PROCESS_INSTANCE,
                     WriteStatementType.UPDATE,
                     1L,
-                    "io.camunda.db.rdbms.sql.ProcessInstanceMapper.updateStateAndEndDate",
-                    new EndProcessInstanceDto(1L, ProcessInstanceState.COMPLETED, NOW))));
+                    "io.camunda.db.rdbms.sql.ProcessInstanceMapper.updateCoalesced",
+                    new CoalescedUpdateDto(1L, ProcessInstanceState.COMPLETED, NOW, 0))));
+  }
+
+  @Test
+  void whenFinishProcessCanBeMergedWithUpdateNoItemShouldBeEnqueued() {
+    when(executionQueue.tryMergeWithExistingQueueItem(any(UpsertMerger.class))).thenReturn(false);
+    when(executionQueue.tryMergeWithExistingQueueItem(any(UpdateMerger.class))).thenReturn(true);
+
+    writer.finish(1L, ProcessInstanceState.COMPLETED, NOW);
+
+    verify(executionQueue, never()).executeInQueue(any(QueueItem.class));
+  }
+
+  @Test
+  void whenIncidentIsCreatedItemShouldIncrementIncidentCount() {
+    writer.createIncident(1L);
+
+    verify(executionQueue)
+        .executeInQueue(
+            eq(
+                new QueueItem(
+                    ContextType.PROCESS_INSTANCE,
+                    WriteStatementType.UPDATE,
+                    1L,
+                    "io.camunda.db.rdbms.sql.ProcessInstanceMapper.updateCoalesced",
+                    new CoalescedUpdateDto(1L, null, null, 1))));
   }
 }
@@ -9,8 +9,10 @@ package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -49,9 +51,13 @@ public final class ActorSchedulerConfiguration {
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setVirtualIoBoundActorThreadCount(schedulerConfiguration.virtualIoThreads())
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
+            .setPartitionAffinityEnabled(schedulerConfiguration.partitionAffinityEnabled())
+            .setPartitionAffinityStealThreshold(
+                schedulerConfiguration.partitionAffinityStealThreshold())
             .build();
     scheduler.start();
 
@@ -63,5 +69,26 @@ public final class ActorSchedulerConfiguration {
       int ioThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
-      String nodeId) {}
+      String nodeId,
+      int virtualIoThreads,
+      boolean partitionAffinityEnabled,
+      Duration partitionAffinityStealThreshold) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String schedulerPrefix,
+        final String nodeId) {
+      this(
+          cpuThreads,
+          ioThreads,
+          metricsEnabled,
+          schedulerPrefix,
+          nodeId,
+          0,
+          false,
+          ActorSchedulerBuilder.DEFAULT_PARTITION_AFFINITY_STEAL_THRESHOLD);
+    }
+  }
 }
@@ -48,6 +48,9 @@ public final class BrokerClientConfiguration {
     final var brokerClient =
         new BrokerClientImpl(
             config.requestTimeout(),
+            config.requestBatchSize(),
+            config.requestBatchWindow(),
+            config.requestLatencySamplingRate(),
             cluster.getMessagingService(),
             cluster.getEventService(),
             scheduler,
@@ -57,5 +60,14 @@ public final class BrokerClientConfiguration {
     return brokerClient;
   }
 
-  public record BrokerClientTimeoutConfiguration(Duration requestTimeout) {}
+  public record BrokerClientTimeoutConfiguration(
+      Duration requestTimeout,
+      int requestBatchSize,
+      Duration requestBatchWindow,
+      double requestLatencySamplingRate) {
+
+    public BrokerClientTimeoutConfiguration(final Duration requestTimeout) {
+      this(requestTimeout, 1, Duration.ZERO, 0);
+    }
+  }
 }
@@ -65,8 +65,12 @@ public class BrokerBasedConfiguration {
 
   @Bean
   public BrokerClientTimeoutConfiguration brokerClientConfig() {
+    final var cluster = properties.getGateway().getCluster();
     return new BrokerClientTimeoutConfiguration(
-        properties.getGateway().getCluster().getRequestTimeout());
+        cluster.getRequestTimeout(),
+        cluster.getRequestBatchSize(),
+        cluster.getRequestBatchWindow(),
+        cluster.getRequestLatencySamplingRate());
   }
 
   @Bean
@@ -76,7 +80,15 @@ public class BrokerBasedConfiguration {
     final var ioThreads = threadCfg.getIoThreadCount();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    return new SchedulerConfiguration(
+        cpuThreads,
+        ioThreads,
+        metricsEnabled,
+        "Broker",
+        nodeId,
+        threadCfg.getVirtualIoThreadCount(),
+        threadCfg.isPartitionAffinityEnabled(),
+        threadCfg.getPartitionAffinityStealThreshold());
   }
 
   @ConditionalOnRestGatewayEnabled
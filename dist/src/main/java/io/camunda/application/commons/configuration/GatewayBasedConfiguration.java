@@ -78,7 +78,12 @@ public final class GatewayBasedConfiguration {
 
   @Bean
   public BrokerClientTimeoutConfiguration brokerClientConfig() {
-    return new BrokerClientTimeoutConfiguration(properties.getCluster().getRequestTimeout());
+    final var cluster = properties.getCluster();
+    return new BrokerClientTimeoutConfiguration(
+        cluster.getRequestTimeout(),
+        cluster.getRequestBatchSize(),
+        cluster.getRequestBatchWindow(),
+        cluster.getRequestLatencySamplingRate());
   }
 
   @Bean
@@ -126,7 +131,9 @@ public final class GatewayBasedConfiguration {
         .setProbeInterval(config.getProbeInterval())
         .setProbeTimeout(config.getProbeTimeout())
         .setSuspectProbes(config.getSuspectProbes())
-        .setSyncInterval(config.getSyncInterval());
+        .setSyncInterval(config.getSyncInterval())
+        .setGossipRetransmitMultiplier(config.getGossipRetransmitMultiplier())
+        .setAdaptiveFailureTimeout(config.isAdaptiveFailureTimeout());
   }
 
   private DynamicDiscoveryConfig discoveryConfig(final Collection<String> contactPoints) {
@@ -140,7 +147,10 @@ public final class GatewayBasedConfiguration {
         new MessagingConfig()
             .setCompressionAlgorithm(cluster.getMessageCompression())
             .setInterfaces(Collections.singletonList(cluster.getHost()))
-            .setPort(cluster.getPort());
+            .setPort(cluster.getPort())
+            .setMessageCoalescingWindow(cluster.getMessageCoalescingWindow())
+            .setMessageCoalescingMaxSize((int) cluster.getMessageCoalescingMaxSize().toBytes())
+            .setConnectionsPerAddress(cluster.getConnectionsPerAddress());
     if (cluster.getSocketSendBuffer() != null) {
       messaging.setSocketSendBuffer((int) cluster.getSocketSendBuffer().toBytes());
     }
@@ -13,8 +13,10 @@ import io.camunda.gateway.protocol.model.JobActivationResult;
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.gateway.impl.configuration.LongPollingCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobActivationBuffer;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
+import io.camunda.zeebe.gateway.metrics.JobActivationBufferMetrics;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled;
@@ -23,6 +25,8 @@ import io.camunda.zeebe.gateway.rest.controller.ResponseObserverProvider;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorScheduler;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
@@ -37,6 +41,7 @@ public class JobHandlerConfiguration {
   private final BrokerClient brokerClient;
   private final ActorScheduler scheduler;
   private final MeterRegistry meterRegistry;
+  private Actor activateJobsActor;
 
   @Autowired
   public JobHandlerConfiguration(
@@ -59,15 +64,23 @@ public class JobHandlerConfiguration {
   public ActivateJobsHandler<JobActivationResult> activateJobsHandler() {
     final var handler = buildActivateJobsHandler(brokerClient);
     final var future = new CompletableFuture<ActivateJobsHandler<JobActivationResult>>();
-    final var actor =
+    activateJobsActor =
         Actor.newActor()
             .name(config.actorName())
             .actorStartedHandler(handler.andThen(t -> future.complete(handler)))
+            .actorClosingHandler(handler::onActorClosing)
             .build();
-    scheduler.submitActor(actor);
+    scheduler.submitActor(activateJobsActor);
     return handler;
   }
 
+  @PreDestroy
+  public void closeActivateJobsHandler() {
+    if (activateJobsActor != null) {
+      activateJobsActor.close();
+    }
+  }
+
   private ActivateJobsHandler<JobActivationResult> buildActivateJobsHandler(
       final BrokerClient brokerClient) {
     if (config.longPolling().isEnabled()) {
@@ -77,10 +90,18 @@ public class JobHandlerConfiguration {
           brokerClient,
           config.maxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          RuntimeException::new);
+          RuntimeException::new,
+          buildActivationBuffer());
     }
   }
 
+  private JobActivationBuffer buildActivationBuffer() {
+    return new JobActivationBuffer(
+        config.longPolling().getActivationBufferSize(),
+        Duration.ofMillis(config.longPolling().getActivationBufferTtl()),
+        new JobActivationBufferMetrics(meterRegistry, LongPollingMetricsDoc.GatewayProtocol.REST));
+  }
+
   private LongPollingActivateJobsHandler<JobActivationResult> buildLongPollingHandler(
       final BrokerClient brokerClient) {
     return LongPollingActivateJobsHandler.<JobActivationResult>newBuilder()
@@ -95,6 +116,7 @@ public class JobHandlerConfiguration {
         .setRequestCanceledExceptionProvider(GatewayErrorMapper.REQUEST_CANCELED_EXCEPTION_PROVIDER)
         .setMetrics(
             new LongPollingMetrics(meterRegistry, LongPollingMetricsDoc.GatewayProtocol.REST))
+        .setActivationBuffer(buildActivationBuffer())
         .build();
   }
 
@@ -647,7 +647,7 @@ public final class SearchQueryResponseMapper {
                 .orElseGet(Collections::emptyList));
   }
 
-  private static SearchQueryPageResponse toSearchQueryPageResponse(
+  public static SearchQueryPageResponse toSearchQueryPageResponse(
       final SearchQueryResult<?> result) {
 
     return new SearchQueryPageResponse()
@@ -1238,7 +1238,7 @@ public final class SearchQueryResponseMapper {
     return variableEntities.stream().map(entity -> toVariable(entity, truncateValues)).toList();
   }
 
-  private static VariableSearchResult toVariable(
+  public static VariableSearchResult toVariable(
       final VariableEntity variableEntity, final boolean truncateValues) {
     return new VariableSearchResult()
         .variableKey(KeyUtil.keyToString(variableEntity.variableKey()))
@@ -0,0 +1,225 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+
+package io.camunda.microbenchmarks.rdbms;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.queue.ContextType;
+import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
+import io.camunda.db.rdbms.write.queue.QueueItem;
+import io.camunda.db.rdbms.write.queue.QueueItemKey;
+import io.camunda.db.rdbms.write.queue.QueueItemMerger;
+import io.camunda.db.rdbms.write.queue.WriteStatementType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of enqueuing, merging and flushing statements through the {@link
+ * DefaultExecutionQueue} of the RDBMS exporter, against an in-memory H2 database. No containers are
+ * required to run it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(
+    value = 1,
+    jvmArgsAppend = {"-Xms1G", "-Xmx1G"})
+public class ExecutionQueueBenchmark {
+
+  // has a multi-row counterpart, so consecutive inserts are combined when flushing
+  private static final String INSERT_STATEMENT =
+      "io.camunda.microbenchmarks.rdbms.BenchmarkEntityMapper.insert";
+  private static final String SINGLE_ROW_INSERT_STATEMENT =
+      "io.camunda.microbenchmarks.rdbms.BenchmarkEntityMapper.insertSingleRow";
+  private static final String UPDATE_STATEMENT =
+      "io.camunda.microbenchmarks.rdbms.BenchmarkEntityMapper.update";
+
+  public static void main(final String[] args) throws RunnerException {
+    final Options options =
+        new OptionsBuilder()
+            .addProfiler("gc")
+            .include(ExecutionQueueBenchmark.class.getSimpleName())
+            .build();
+    new Runner(options).run();
+  }
+
+  /**
+   * Entities are created and then updated several times before the queue is flushed, such that all
+   * updates are merged into the enqueued insert.
+   */
+  @Benchmark
+  public int createAndUpdateInSameFlush(final BenchmarkState state) {
+    final long firstKey = state.nextKeys();
+    for (long key = firstKey; key < firstKey + state.flushSize; key++) {
+      state.queue.executeInQueue(
+          new QueueItem(
+              ContextType.PROCESS_INSTANCE,
+              WriteStatementType.INSERT,
+              key,
+              state.insertStatement,
+              new BenchmarkEntity(key, "CREATED", 0)));
+    }
+
+    updateAll(state, firstKey);
+    return state.queue.flush();
+  }
+
+  /**
+   * Entities were created in a previous flush, so the first update of each entity cannot be merged
+   * into its insert and is enqueued as an update; any further update of the entity is merged into
+   * this update.
+   */
+  @Benchmark
+  public int updateInLaterFlush(final BenchmarkState state) {
+    updateAll(state, state.persistedKeys);
+    return state.queue.flush();
+  }
+
+  private void updateAll(final BenchmarkState state, final long firstKey) {
+    for (int update = 1; update <= state.updatesPerEntity; update++) {
+      for (long key = firstKey; key < firstKey + state.flushSize; key++) {
+        final var entity = new BenchmarkEntity(key, "UPDATED", update);
+        if (!state.queue.tryMergeWithExistingQueueItem(new BenchmarkEntityMerger(entity))) {
+          state.queue.executeInQueue(
+              new QueueItem(
+                  ContextType.PROCESS_INSTANCE,
+                  WriteStatementType.UPDATE,
+                  key,
+                  UPDATE_STATEMENT,
+                  entity));
+        }
+      }
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class BenchmarkState {
+
+    @Param({"100", "1000", "10000"})
+    public int flushSize;
+
+    @Param({"1", "5"})
+    public int updatesPerEntity;
+
+    @Param({"true", "false"})
+    public boolean multiRowInserts;
+
+    String insertStatement;
+    DefaultExecutionQueue queue;
+    UnpooledDataSource dataSource;
+    long persistedKeys;
+    long nextKey;
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException, SQLException {
+      insertStatement = multiRowInserts ? INSERT_STATEMENT : SINGLE_ROW_INSERT_STATEMENT;
+      dataSource =
+          new UnpooledDataSource(
+              "org.h2.Driver", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1", "sa", "");
+      try (final var connection = dataSource.getConnection();
+          final var statement = connection.createStatement()) {
+        statement.execute(
+            """
+            CREATE TABLE IF NOT EXISTS BENCHMARK_ENTITY (
+              ENTITY_KEY BIGINT PRIMARY KEY,
+              STATE VARCHAR(20),
+              UPDATES INT)""");
+      }
+
+      final var configuration =
+          new Configuration(new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+      final var mapperResource = "io/camunda/microbenchmarks/rdbms/BenchmarkEntityMapper.xml";
+      try (final var mapper = getClass().getClassLoader().getResourceAsStream(mapperResource)) {
+        new XMLMapperBuilder(mapper, configuration, mapperResource, configuration.getSqlFragments())
+            .parse();
+      }
+
+      queue =
+          new DefaultExecutionQueue(
+              new SqlSessionFactoryBuilder().build(configuration),
+              1,
+              0,
+              0,
+              new RdbmsWriterMetrics(new SimpleMeterRegistry()));
+
+      // entities which already exist in the database when they are updated
+      persistedKeys = nextKeys();
+      for (long key = persistedKeys; key < persistedKeys + flushSize; key++) {
+        queue.executeInQueue(
+            new QueueItem(
+                ContextType.PROCESS_INSTANCE,
+                WriteStatementType.INSERT,
+                key,
+                insertStatement,
+                new BenchmarkEntity(key, "CREATED", 0)));
+      }
+      queue.flush();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws SQLException {
+      try (final var connection = dataSource.getConnection();
+          final var statement = connection.createStatement()) {
+        statement.execute("DROP TABLE BENCHMARK_ENTITY");
+      }
+    }
+
+    long nextKeys() {
+      final long firstKey = nextKey;
+      nextKey += flushSize;
+      return firstKey;
+    }
+  }
+
+  public record BenchmarkEntity(long key, String state, int updates) {}
+
+  private record BenchmarkEntityMerger(BenchmarkEntity entity) implements QueueItemMerger {
+
+    @Override
+    public boolean canBeMerged(final QueueItem queueItem) {
+      return queueItem.parameter() instanceof BenchmarkEntity
+          && mergeKey().equals(QueueItemKey.of(queueItem));
+    }
+
+    @Override
+    public QueueItem merge(final QueueItem originalItem) {
+      return originalItem.copy(b -> b.parameter(entity));
+    }
+
+    @Override
+    public QueueItemKey mergeKey() {
+      return new QueueItemKey(ContextType.PROCESS_INSTANCE, entity.key());
+    }
+  }
+}
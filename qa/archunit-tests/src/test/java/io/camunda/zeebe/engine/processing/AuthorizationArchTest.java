@@ -22,6 +22,7 @@ import com.tngtech.archunit.lang.conditions.ArchConditions;
 import io.camunda.zeebe.engine.processing.identity.PermissionsBehavior;
 import io.camunda.zeebe.engine.processing.identity.authorization.AuthorizationCheckBehavior;
 import io.camunda.zeebe.engine.processing.identity.authorization.request.AuthorizationRequest;
+import io.camunda.zeebe.engine.processing.job.JobCompleteProcessor;
 import io.camunda.zeebe.engine.processing.job.behaviour.JobUpdateBehaviour;
 import io.camunda.zeebe.engine.processing.processinstance.ProcessInstanceCreationHelper;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
@@ -93,6 +94,10 @@ public class AuthorizationArchTest {
             .or(
                 ArchConditions.callMethod(
                     JobUpdateBehaviour.class, "isAuthorized", TypedRecord.class, JobRecord.class))
+            // Or the processor should have delegated authorization to the JobCompleteProcessor
+            .or(
+                ArchConditions.callMethod(
+                    JobCompleteProcessor.class, "tryCompleteJob", TypedRecord.class))
             // Or the processor should have delegated authorization to the
             // UserTaskCommandPreconditionChecker
             .or(
@@ -47,6 +47,9 @@ public class MessagingConfig implements Config {
   private int socketReceiveBuffer = AUTO_SOCKET_SIZE;
   private Duration heartbeatTimeout = Duration.ofSeconds(15);
   private Duration heartbeatInterval = Duration.ofSeconds(5);
+  private Duration messageCoalescingWindow = Duration.ZERO;
+  private int messageCoalescingMaxSize = 64 * 1024;
+  private int connectionsPerAddress = 0;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -328,6 +331,69 @@ public class MessagingConfig implements Config {
     return this;
   }
 
+  /**
+   * @return the time for which outgoing messages are gathered before they are flushed together, or
+   *     zero if every message is flushed on its own
+   */
+  public Duration getMessageCoalescingWindow() {
+    return messageCoalescingWindow;
+  }
+
+  /**
+   * Sets the time for which outgoing messages on a connection are gathered before they are flushed
+   * together. This trades a little latency for fewer writes and syscalls when many small messages
+   * are sent to the same member. Zero, the default, disables coalescing and flushes every message
+   * on its own.
+   *
+   * @param messageCoalescingWindow the maximum time a message waits to be flushed
+   * @return this config for chaining
+   */
+  public MessagingConfig setMessageCoalescingWindow(final Duration messageCoalescingWindow) {
+    this.messageCoalescingWindow = messageCoalescingWindow;
+    return this;
+  }
+
+  /**
+   * @return the size in bytes of gathered messages after which they are flushed before the
+   *     coalescing window elapsed
+   */
+  public int getMessageCoalescingMaxSize() {
+    return messageCoalescingMaxSize;
+  }
+
+  /**
+   * Sets the size in bytes of gathered messages after which they are flushed right away, even if
+   * the coalescing window did not elapse yet. Only used if a coalescing window is set.
+   *
+   * @param messageCoalescingMaxSize the maximum size in bytes of gathered messages
+   * @return this config for chaining
+   */
+  public MessagingConfig setMessageCoalescingMaxSize(final int messageCoalescingMaxSize) {
+    this.messageCoalescingMaxSize = messageCoalescingMaxSize;
+    return this;
+  }
+
+  /**
+   * @return the number of pooled connections per remote address, or zero if there is one connection
+   *     per message type
+   */
+  public int getConnectionsPerAddress() {
+    return connectionsPerAddress;
+  }
+
+  /**
+   * Sets the number of pooled connections opened to each remote address. Message types are spread
+   * over these connections by their hash, such that all messages of one type still use the same
+   * connection and keep their order. Zero, the default, opens one connection per message type.
+   *
+   * @param connectionsPerAddress the number of connections per remote address
+   * @return this config for chaining
+   */
+  public MessagingConfig setConnectionsPerAddress(final int connectionsPerAddress) {
+    this.connectionsPerAddress = connectionsPerAddress;
+    return this;
+  }
+
   public enum CompressionAlgorithm {
     GZIP,
     NONE,
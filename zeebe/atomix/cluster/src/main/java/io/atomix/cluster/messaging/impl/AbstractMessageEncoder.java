@@ -19,17 +19,31 @@ package io.atomix.cluster.messaging.impl;
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
 import java.io.IOException;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Encode InternalMessage out into a byte buffer. */
-abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
-  // Effectively MessageToByteEncoder<InternalMessage>,
+/**
+ * Encode InternalMessage out into a byte buffer.
+ *
+ * <p>Payloads of at least {@link #WRAP_PAYLOAD_THRESHOLD} bytes, e.g. append requests carrying
+ * journal records, are not copied into the outbound buffer; instead they are wrapped and sent as
+ * part of a composite buffer together with the encoded headers. Smaller payloads are copied into a
+ * single buffer, which is sized upfront so that it never has to grow while being written.
+ */
+abstract class AbstractMessageEncoder extends MessageToMessageEncoder<Object> {
+  // Effectively MessageToMessageEncoder<InternalMessage>,
   // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  static final int WRAP_PAYLOAD_THRESHOLD = 8 * 1024;
+
+  // address, message and request/reply headers are small; the subject is the only variable part
+  private static final int HEADER_SIZE_ESTIMATE = 64;
+
   protected final Address address;
   private final Logger log = LoggerFactory.getLogger(getClass());
   private boolean addressWritten;
@@ -41,7 +55,8 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
 
   protected abstract void encodeAddress(ProtocolMessage message, ByteBuf buffer);
 
-  protected abstract void encodeMessage(ProtocolMessage message, ByteBuf buffer);
+  /** Encodes the message header, up to and including the payload length, but not the payload. */
+  protected abstract void encodeMessageHeader(ProtocolMessage message, ByteBuf buffer);
 
   protected abstract void encodeRequest(ProtocolRequest request, ByteBuf out);
 
@@ -161,18 +176,48 @@ abstract class AbstractMessageEncoder extends MessageToByteEncoder<Object> {
 
   @Override
   protected void encode(
-      final ChannelHandlerContext context, final Object rawMessage, final ByteBuf out) {
-    if (!addressWritten) {
-      encodeAddress((ProtocolMessage) rawMessage, out);
-      addressWritten = true;
+      final ChannelHandlerContext context, final Object rawMessage, final List<Object> out) {
+    final var message = (ProtocolMessage) rawMessage;
+    final byte[] payload = message.payload();
+    final boolean wrapPayload = payload.length >= WRAP_PAYLOAD_THRESHOLD;
+
+    final ByteBuf header =
+        context.alloc().ioBuffer(HEADER_SIZE_ESTIMATE + (wrapPayload ? 0 : payload.length));
+    ByteBuf trailer = null;
+    try {
+      if (!addressWritten) {
+        encodeAddress(message, header);
+        addressWritten = true;
+      }
+      encodeMessageHeader(message, header);
+
+      if (wrapPayload) {
+        trailer = context.alloc().ioBuffer(HEADER_SIZE_ESTIMATE);
+        encodeTrailer(message, trailer);
+        out.add(
+            context
+                .alloc()
+                .compositeBuffer(3)
+                .addComponents(true, header, Unpooled.wrappedBuffer(payload), trailer));
+      } else {
+        header.writeBytes(payload);
+        encodeTrailer(message, header);
+        out.add(header);
+      }
+    } catch (final RuntimeException e) {
+      header.release();
+      if (trailer != null) {
+        trailer.release();
+      }
+      throw e;
     }
+  }
 
-    encodeMessage((ProtocolMessage) rawMessage, out);
-
-    if (rawMessage instanceof ProtocolRequest) {
-      encodeRequest((ProtocolRequest) rawMessage, out);
-    } else if (rawMessage instanceof ProtocolReply) {
-      encodeReply((ProtocolReply) rawMessage, out);
+  private void encodeTrailer(final ProtocolMessage message, final ByteBuf buffer) {
+    if (message instanceof final ProtocolRequest request) {
+      encodeRequest(request, buffer);
+    } else if (message instanceof final ProtocolReply reply) {
+      encodeReply(reply, buffer);
     }
   }
 }
@@ -32,11 +32,24 @@ class ChannelPool {
   private static final Logger LOGGER = LoggerFactory.getLogger(ChannelPool.class);
 
   private final Function<Address, CompletableFuture<Channel>> factory;
+  private final int connectionsPerAddress;
   private final Map<Tuple<Address, InetAddress>, Map<String, CompletableFuture<Channel>>> channels =
       Maps.newConcurrentMap();
 
   ChannelPool(final Function<Address, CompletableFuture<Channel>> factory) {
+    this(factory, 0);
+  }
+
+  /**
+   * @param factory opens a new channel to the given address
+   * @param connectionsPerAddress the number of channels per address over which message types are
+   *     spread by their hash; if zero, each message type gets its own channel
+   */
+  ChannelPool(
+      final Function<Address, CompletableFuture<Channel>> factory,
+      final int connectionsPerAddress) {
     this.factory = factory;
+    this.connectionsPerAddress = connectionsPerAddress;
   }
 
   /**
@@ -59,15 +72,32 @@ class ChannelPool {
    * @return a future to be completed with a channel from the pool
    */
   CompletableFuture<Channel> getChannel(final Address address, final String messageType) {
+    return getPooledChannel(address, channelKey(messageType));
+  }
+
+  /**
+   * Returns the key of the channel used for the given message type. All messages of one type are
+   * always sent over the same channel, such that their order is kept.
+   */
+  private String channelKey(final String messageType) {
+    if (connectionsPerAddress <= 0) {
+      return messageType;
+    }
+
+    return String.valueOf(Math.floorMod(messageType.hashCode(), connectionsPerAddress));
+  }
+
+  private CompletableFuture<Channel> getPooledChannel(
+      final Address address, final String channelKey) {
     final InetAddress inetAddress = address.getAddress();
 
     final Map<String, CompletableFuture<Channel>> channelPool =
         getChannelPool(address, inetAddress);
 
-    CompletableFuture<Channel> channelFuture = channelPool.get(messageType);
+    CompletableFuture<Channel> channelFuture = channelPool.get(channelKey);
     if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
       synchronized (channelPool) {
-        channelFuture = channelPool.get(messageType);
+        channelFuture = channelPool.get(channelKey);
         if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
           LOGGER.debug("Connecting to {}", address);
           channelFuture = factory.apply(address);
@@ -83,14 +113,14 @@ class ChannelPool {
                           closed -> {
                             synchronized (channelPool) {
                               // Remove channel from the pool after it is closed.
-                              removeChannel(channelPool, messageType, finalFuture);
+                              removeChannel(channelPool, channelKey, finalFuture);
                             }
                           });
                 } else {
                   LOGGER.debug("Failed to connect to {}", address, error);
                 }
               });
-          channelPool.put(messageType, channelFuture);
+          channelPool.put(channelKey, channelFuture);
         }
       }
     }
@@ -103,18 +133,18 @@ class ChannelPool {
             if (!channel.isActive()) {
               CompletableFuture<Channel> currentFuture;
               synchronized (channelPool) {
-                currentFuture = channelPool.get(messageType);
+                currentFuture = channelPool.get(channelKey);
                 if (currentFuture == finalFuture) {
-                  channelPool.put(messageType, null);
+                  channelPool.put(channelKey, null);
                 } else if (currentFuture == null) {
                   currentFuture = factory.apply(address);
                   currentFuture.whenComplete(this::logConnection);
-                  channelPool.put(messageType, currentFuture);
+                  channelPool.put(channelKey, currentFuture);
                 }
               }
 
               if (currentFuture == finalFuture) {
-                getChannel(address, messageType)
+                getPooledChannel(address, channelKey)
                     .whenComplete(
                         (recursiveResult, recursiveError) -> {
                           completeFuture(future, recursiveResult, recursiveError);
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelOutboundBuffer;
+import io.netty.channel.ChannelPromise;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes messages to a channel, but gathers them until either the coalescing window elapsed since
+ * the first pending message was written, or the pending messages reached the maximum size. The
+ * gathered messages are then flushed together, which results in fewer writes to the socket than
+ * flushing each message on its own.
+ *
+ * <p>All state is only accessed from the channel's event loop, so no synchronization is required.
+ */
+final class CoalescingChannelWriter {
+  private final Channel channel;
+  private final MessagingMetrics metrics;
+  private final long windowNanos;
+  private final int maxSize;
+
+  private ScheduledFuture<?> scheduledFlush;
+  private int pendingMessages;
+  private long pendingBytes;
+
+  CoalescingChannelWriter(
+      final Channel channel,
+      final MessagingMetrics metrics,
+      final Duration window,
+      final int maxSize) {
+    this.channel = channel;
+    this.metrics = metrics;
+    windowNanos = window.toNanos();
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Writes the given message to the channel; it will be flushed at the latest after the coalescing
+   * window elapsed.
+   *
+   * @param message the message to write
+   * @param size the approximate size of the message in bytes
+   * @return a future which is completed once the message was written to the socket
+   */
+  ChannelFuture write(final Object message, final int size) {
+    final ChannelPromise promise = channel.newPromise();
+    if (channel.eventLoop().inEventLoop()) {
+      write(message, size, promise);
+    } else {
+      try {
+        channel.eventLoop().execute(() -> write(message, size, promise));
+      } catch (final RejectedExecutionException e) {
+        promise.tryFailure(e);
+      }
+    }
+
+    return promise;
+  }
+
+  private void write(final Object message, final int size, final ChannelPromise promise) {
+    channel.write(message, promise);
+    pendingMessages++;
+    pendingBytes += size;
+
+    if (pendingBytes >= maxSize) {
+      flush();
+    } else if (scheduledFlush == null) {
+      scheduledFlush = channel.eventLoop().schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void flush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel(false);
+      scheduledFlush = null;
+    }
+
+    if (pendingMessages == 0) {
+      return;
+    }
+
+    final String address = String.valueOf(channel.remoteAddress());
+    metrics.observeMessagesPerFlush(address, pendingMessages);
+    pendingMessages = 0;
+    pendingBytes = 0;
+
+    channel.flush();
+
+    // whatever is left in the outbound buffer could not be written to the socket yet
+    final ChannelOutboundBuffer outboundBuffer = channel.unsafe().outboundBuffer();
+    metrics.observeChannelQueueDepth(address, outboundBuffer == null ? 0 : outboundBuffer.size());
+  }
+}
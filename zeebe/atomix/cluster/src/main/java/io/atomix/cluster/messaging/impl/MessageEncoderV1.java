@@ -36,13 +36,10 @@ class MessageEncoderV1 extends AbstractMessageEncoder {
   }
 
   @Override
-  protected void encodeMessage(final ProtocolMessage message, final ByteBuf buffer) {
+  protected void encodeMessageHeader(final ProtocolMessage message, final ByteBuf buffer) {
     buffer.writeByte(message.type().id());
     writeLong(buffer, message.id());
-
-    final byte[] payload = message.payload();
-    writeInt(buffer, payload.length);
-    buffer.writeBytes(payload);
+    writeInt(buffer, message.payload().length);
   }
 
   @Override
@@ -142,6 +142,64 @@ public enum MessagingMetricsDoc implements ExtendedMeterDocumentation {
     public String getDescription() {
       return "The count of inflight requests";
     }
+  },
+  /** The number of messages which have been written to a connection with a single flush */
+  MESSAGES_PER_FLUSH {
+    @Override
+    public String getName() {
+      return "zeebe.messaging.flush.messages";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {MessagingKeyNames.ADDRESS};
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of messages which have been written to a connection with a single flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return new double[] {1, 2, 4, 8, 16, 32, 64, 128, 256};
+    }
+  },
+  /**
+   * The number of messages queued on a connection which were not yet written to the socket, sampled
+   * after each flush
+   */
+  CHANNEL_QUEUE_DEPTH {
+    @Override
+    public String getName() {
+      return "zeebe.messaging.channel.queue.depth";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {MessagingKeyNames.ADDRESS};
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of messages queued on a connection which were not yet written to the"
+          + " socket, sampled after each flush";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return new double[] {0, 1, 4, 16, 64, 256, 1024};
+    }
   };
 
   enum MessagingKeyNames implements KeyName {
@@ -39,6 +39,8 @@ final class MessagingMetricsImpl implements MessagingMetrics {
   private final Table<String, String, Counter> requestRespCounter;
   private final Map3D<String, String, String, Counter> responseCounter;
   private final Table<String, String, Counter> inFlightCounter;
+  private final Map<String, DistributionSummary> messagesPerFlush;
+  private final Map<String, DistributionSummary> channelQueueDepth;
 
   MessagingMetricsImpl(final MeterRegistry registry) {
     this.registry = registry;
@@ -48,6 +50,8 @@ final class MessagingMetricsImpl implements MessagingMetrics {
     requestRespCounter = Table.concurrent();
     responseCounter = Map3D.concurrent();
     inFlightCounter = Table.concurrent();
+    messagesPerFlush = new ConcurrentHashMap<>();
+    channelQueueDepth = new ConcurrentHashMap<>();
   }
 
   @Override
@@ -99,6 +103,29 @@ final class MessagingMetricsImpl implements MessagingMetrics {
     inFlightCounter.computeIfAbsent(address, topic, this::registerInFlightCounter).increment(-1.0D);
   }
 
+  @Override
+  public void observeMessagesPerFlush(final String address, final int messages) {
+    messagesPerFlush
+        .computeIfAbsent(address, a -> registerAddressSummary(MESSAGES_PER_FLUSH, a))
+        .record(messages);
+  }
+
+  @Override
+  public void observeChannelQueueDepth(final String address, final int queuedMessages) {
+    channelQueueDepth
+        .computeIfAbsent(address, a -> registerAddressSummary(CHANNEL_QUEUE_DEPTH, a))
+        .record(queuedMessages);
+  }
+
+  private DistributionSummary registerAddressSummary(
+      final MessagingMetricsDoc meterDoc, final String address) {
+    return DistributionSummary.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .serviceLevelObjectives(meterDoc.getDistributionSLOs())
+        .tag(MessagingKeyNames.ADDRESS.asString(), address)
+        .register(registry);
+  }
+
   private DistributionSummary getRequestSizeSummary(final String to, final String name) {
     return requestSize.computeIfAbsent(
         to,
@@ -180,7 +180,7 @@ public final class NettyMessagingService implements ManagedMessagingService {
     this.protocolVersion = protocolVersion;
     this.config = verifyHeartbeatConfig(config);
     // pool of client connections
-    channelPool = new ChannelPool(this::openChannel);
+    channelPool = new ChannelPool(this::openChannel, config.getConnectionsPerAddress());
     this.actorSchedulerName = actorSchedulerName;
     messagingMetrics = new MessagingMetricsImpl(registry);
     this.registry = registry;
@@ -789,7 +789,13 @@ public final class NettyMessagingService implements ManagedMessagingService {
     if (connection == null) {
       connection =
           connections.computeIfAbsent(
-              channel, c -> new RemoteClientConnection(messagingMetrics, c));
+              channel,
+              c ->
+                  new RemoteClientConnection(
+                      messagingMetrics,
+                      c,
+                      config.getMessageCoalescingWindow(),
+                      config.getMessageCoalescingMaxSize()));
       channel
           .closeFuture()
           .addListener(
@@ -17,24 +17,45 @@
 package io.atomix.cluster.messaging.impl;
 
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 
 /** Client-side Netty remote connection. */
 final class RemoteClientConnection extends AbstractClientConnection {
   private final Channel channel;
   private final MessagingMetrics messagingMetrics;
+  private final CoalescingChannelWriter coalescingWriter;
 
   RemoteClientConnection(final MessagingMetrics messagingMetrics, final Channel channel) {
+    this(messagingMetrics, channel, Duration.ZERO, 0);
+  }
+
+  /**
+   * @param coalescingWindow the time for which messages are gathered before they are flushed
+   *     together; if zero, every message is flushed on its own
+   * @param coalescingMaxSize the size in bytes of gathered messages after which they are flushed
+   *     before the window elapsed
+   */
+  RemoteClientConnection(
+      final MessagingMetrics messagingMetrics,
+      final Channel channel,
+      final Duration coalescingWindow,
+      final int coalescingMaxSize) {
     this.messagingMetrics = messagingMetrics;
     this.channel = channel;
+    coalescingWriter =
+        coalescingWindow.isPositive()
+            ? new CoalescingChannelWriter(
+                channel, messagingMetrics, coalescingWindow, coalescingMaxSize)
+            : null;
   }
 
   @Override
   public CompletableFuture<Void> sendAsync(final ProtocolRequest message) {
     final CompletableFuture<Void> future = new CompletableFuture<>();
     countMessageMetrics(message);
-    channel
-        .writeAndFlush(message)
+    write(message)
         .addListener(
             channelFuture -> {
               if (!channelFuture.isSuccess()) {
@@ -50,8 +71,7 @@ final class RemoteClientConnection extends AbstractClientConnection {
   public CompletableFuture<byte[]> sendAndReceive(final ProtocolRequest message) {
     final CompletableFuture<byte[]> responseFuture = awaitResponseForRequestWithId(message.id());
     countReqResponseMetrics(message, responseFuture);
-    channel
-        .writeAndFlush(message)
+    write(message)
         .addListener(
             channelFuture -> {
               if (!channelFuture.isSuccess()) {
@@ -61,6 +81,15 @@ final class RemoteClientConnection extends AbstractClientConnection {
     return responseFuture;
   }
 
+  private ChannelFuture write(final ProtocolRequest message) {
+    if (coalescingWriter == null) {
+      return channel.writeAndFlush(message);
+    }
+
+    final byte[] payload = message.payload();
+    return coalescingWriter.write(message, payload == null ? 0 : payload.length);
+  }
+
   private void countMessageMetrics(final ProtocolRequest message) {
     final String toAddress = channel.remoteAddress().toString();
     final String subject = message.subject();
@@ -81,6 +81,13 @@ public class SwimMembershipProtocol
   private static final String MEMBERSHIP_GOSSIP = "atomix-membership-gossip";
   private static final String MEMBERSHIP_PROBE = "atomix-membership-probe";
   private static final String MEMBERSHIP_PROBE_REQUEST = "atomix-membership-probe-request";
+
+  /**
+   * Upper bound of updates sent with a single gossip message when updates are retransmitted, to
+   * keep the messages small; the remaining updates are sent in the next rounds.
+   */
+  private static final int MAX_GOSSIP_UPDATES = 16;
+
   private static final Serializer SERIALIZER =
       Serializer.using(
           new Namespace.Builder()
@@ -98,7 +105,7 @@ public class SwimMembershipProtocol
   private final AtomicBoolean started = new AtomicBoolean();
   private final Map<MemberId, SwimMember> members = Maps.newConcurrentMap();
   private final List<SwimMember> randomMembers = Lists.newCopyOnWriteArrayList();
-  private final Map<MemberId, ImmutableMember> updates = new LinkedHashMap<>();
+  private final Map<MemberId, PendingUpdate> updates = new LinkedHashMap<>();
   private final List<SwimMember> syncMembers = new ArrayList<>();
   private final ScheduledExecutorService swimScheduler;
   private final ExecutorService eventExecutor;
@@ -416,17 +423,34 @@ public class SwimMembershipProtocol
    * @param member the updated member
    */
   private void recordUpdate(final ImmutableMember member) {
-    updates.put(member.id(), member);
+    updates.put(member.id(), new PendingUpdate(member, System.nanoTime()));
+    swimMembershipProtocolMetrics.setPendingUpdates(updates.size());
     swimMembershipProtocolMetrics.updateMemberIncarnationNumber(
         member.id().id(), member.incarnationNumber);
   }
 
+  /**
+   * Returns the timeout after which a suspect member is declared dead. If adaptive, the base
+   * failure timeout grows logarithmically with the cluster size, like the number of gossip rounds
+   * needed for the suspect's refutation to reach every member.
+   */
+  private long failureTimeoutMillis() {
+    final long baseTimeout = config.getFailureTimeout().toMillis();
+    if (!config.isAdaptiveFailureTimeout()) {
+      return baseTimeout;
+    }
+
+    return (long) (baseTimeout * Math.max(1.0, Math.log10(members.size())));
+  }
+
   /** Checks suspect nodes for failures. */
   private void checkFailures() {
+    final long failureTimeout = failureTimeoutMillis();
+    swimMembershipProtocolMetrics.setFailureTimeout(failureTimeout);
+
     for (final SwimMember member : members.values()) {
       final long suspectedDuration = System.currentTimeMillis() - member.getUpdated();
-      if (member.getState() == State.SUSPECT
-          && suspectedDuration > config.getFailureTimeout().toMillis()) {
+      if (member.getState() == State.SUSPECT && suspectedDuration > failureTimeout) {
         LOGGER.info(
             "{} - Member {} not reachable for {}",
             localMember.id(),
@@ -789,18 +813,59 @@ public class SwimMembershipProtocol
     // Check local metadata for changes.
     checkMetadata();
 
-    // Copy and clear the list of pending updates.
+    // Gossip the pending updates to peers.
     if (!updates.isEmpty()) {
-      final List<ImmutableMember> updates = Lists.newArrayList(this.updates.values());
-      this.updates.clear();
-
-      // Gossip the pending updates to peers.
-      gossip(updates);
+      gossip(nextGossipUpdates());
     }
 
     scheduleGossip();
   }
 
+  /**
+   * Selects the pending updates to gossip in this round. Every update is gossiped in as many rounds
+   * as given by {@link #retransmitLimit()}, after which it is dropped. When updates are gossiped in
+   * more than one round, the ones which were sent the least often are preferred, such that new
+   * updates spread first.
+   *
+   * @return the updates to gossip in this round
+   */
+  private List<ImmutableMember> nextGossipUpdates() {
+    final int retransmitLimit = retransmitLimit();
+    final long maxUpdates = retransmitLimit > 1 ? MAX_GOSSIP_UPDATES : Long.MAX_VALUE;
+    final List<PendingUpdate> selected =
+        updates.values().stream()
+            .sorted(Comparator.comparingInt(PendingUpdate::transmissions))
+            .limit(maxUpdates)
+            .toList();
+
+    final long now = System.nanoTime();
+    final List<ImmutableMember> gossipUpdates = new ArrayList<>(selected.size());
+    for (final PendingUpdate update : selected) {
+      gossipUpdates.add(update.member());
+      if (update.incrementTransmissions() >= retransmitLimit) {
+        updates.remove(update.member().id());
+        swimMembershipProtocolMetrics.observeDisseminationTime(now - update.recordedAt());
+      }
+    }
+
+    swimMembershipProtocolMetrics.setPendingUpdates(updates.size());
+    return gossipUpdates;
+  }
+
+  /**
+   * Returns in how many gossip rounds each update is sent. With a retransmit multiplier, this grows
+   * logarithmically with the cluster size, as in the infection-style dissemination of SWIM, such
+   * that an update reaches every member with high probability.
+   */
+  private int retransmitLimit() {
+    final int multiplier = config.getGossipRetransmitMultiplier();
+    if (multiplier <= 0) {
+      return 1;
+    }
+
+    return Math.max(1, (int) Math.ceil(multiplier * Math.log10(members.size() + 1)));
+  }
+
   /**
    * Gossips this node's pending updates with a random set of peers.
    *
@@ -1184,6 +1249,34 @@ public class SwimMembershipProtocol
     }
   }
 
+  /** A membership update which is still to be gossiped. */
+  private static final class PendingUpdate {
+    private final ImmutableMember member;
+    private final long recordedAt;
+    private int transmissions;
+
+    private PendingUpdate(final ImmutableMember member, final long recordedAt) {
+      this.member = member;
+      this.recordedAt = recordedAt;
+    }
+
+    private ImmutableMember member() {
+      return member;
+    }
+
+    private long recordedAt() {
+      return recordedAt;
+    }
+
+    private int transmissions() {
+      return transmissions;
+    }
+
+    private int incrementTransmissions() {
+      return ++transmissions;
+    }
+  }
+
   /** Member states. */
   enum State {
     ALIVE(true, true),
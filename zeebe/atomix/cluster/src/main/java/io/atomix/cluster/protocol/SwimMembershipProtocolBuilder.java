@@ -139,6 +139,30 @@ public class SwimMembershipProtocolBuilder extends GroupMembershipProtocolBuilde
     return this;
   }
 
+  /**
+   * Sets the multiplier for the number of gossip rounds in which each update is retransmitted.
+   *
+   * @param gossipRetransmitMultiplier the retransmit multiplier, or zero to gossip each update once
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withGossipRetransmitMultiplier(
+      final int gossipRetransmitMultiplier) {
+    config.setGossipRetransmitMultiplier(gossipRetransmitMultiplier);
+    return this;
+  }
+
+  /**
+   * Sets whether the failure timeout should grow with the cluster size.
+   *
+   * @param adaptiveFailureTimeout whether the failure timeout adapts to the cluster size
+   * @return the protocol builder
+   */
+  public SwimMembershipProtocolBuilder withAdaptiveFailureTimeout(
+      final boolean adaptiveFailureTimeout) {
+    config.setAdaptiveFailureTimeout(adaptiveFailureTimeout);
+    return this;
+  }
+
   @Override
   public GroupMembershipProtocol build() {
     return new SwimMembershipProtocol(config, "", meterRegistry);
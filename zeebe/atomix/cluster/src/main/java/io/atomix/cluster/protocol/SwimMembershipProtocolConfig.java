@@ -33,6 +33,8 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
   private static final int DEFAULT_SUSPECT_PROBES = 3;
   private static final int DEFAULT_FAILURE_TIMEOUT = 10000;
   private static final int DEFAULT_SYNC_INTERVAL = 10_000;
+  private static final int DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER = 0;
+  private static final boolean DEFAULT_ADAPTIVE_FAILURE_TIMEOUT = false;
 
   private boolean broadcastUpdates = DEFAULT_BROADCAST_UPDATES;
   private boolean broadcastDisputes = DEFAULT_BROADCAST_DISPUTES;
@@ -44,6 +46,8 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
   private int suspectProbes = DEFAULT_SUSPECT_PROBES;
   private Duration failureTimeout = Duration.ofMillis(DEFAULT_FAILURE_TIMEOUT);
   private Duration syncInterval = Duration.ofMillis(DEFAULT_SYNC_INTERVAL);
+  private int gossipRetransmitMultiplier = DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER;
+  private boolean adaptiveFailureTimeout = DEFAULT_ADAPTIVE_FAILURE_TIMEOUT;
 
   /**
    * Returns whether to broadcast member updates to all peers.
@@ -260,6 +264,55 @@ public class SwimMembershipProtocolConfig extends GroupMembershipProtocolConfig
     return this;
   }
 
+  /**
+   * Returns the gossip retransmit multiplier.
+   *
+   * @return the gossip retransmit multiplier
+   */
+  public int getGossipRetransmitMultiplier() {
+    return gossipRetransmitMultiplier;
+  }
+
+  /**
+   * Sets the gossip retransmit multiplier. If positive, each membership update is gossiped in
+   * {@code multiplier * log10(members + 1)} (rounded up) consecutive gossip rounds, each to {@link
+   * #getGossipFanout()} random peers, such that updates spread infection-style through the cluster.
+   * If zero, the default, each update is gossiped in a single round only.
+   *
+   * @param gossipRetransmitMultiplier the gossip retransmit multiplier
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setGossipRetransmitMultiplier(
+      final int gossipRetransmitMultiplier) {
+    checkArgument(
+        gossipRetransmitMultiplier >= 0, "gossipRetransmitMultiplier must not be negative");
+    this.gossipRetransmitMultiplier = gossipRetransmitMultiplier;
+    return this;
+  }
+
+  /**
+   * Returns whether the failure timeout adapts to the cluster size.
+   *
+   * @return whether the failure timeout adapts to the cluster size
+   */
+  public boolean isAdaptiveFailureTimeout() {
+    return adaptiveFailureTimeout;
+  }
+
+  /**
+   * Sets whether the failure timeout adapts to the cluster size. If enabled, the base failure
+   * timeout is multiplied by {@code max(1, log10(members))}, as a refutation of a suspect member
+   * needs more gossip rounds to spread through a larger cluster.
+   *
+   * @param adaptiveFailureTimeout whether the failure timeout adapts to the cluster size
+   * @return the protocol configuration
+   */
+  public SwimMembershipProtocolConfig setAdaptiveFailureTimeout(
+      final boolean adaptiveFailureTimeout) {
+    this.adaptiveFailureTimeout = adaptiveFailureTimeout;
+    return this;
+  }
+
   @Override
   public GroupMembershipProtocol.Type getType() {
     return SwimMembershipProtocol.TYPE;
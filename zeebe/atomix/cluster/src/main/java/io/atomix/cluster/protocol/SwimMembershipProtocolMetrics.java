@@ -8,10 +8,13 @@
 package io.atomix.cluster.protocol;
 
 import io.atomix.cluster.protocol.SwimMembershipProtocolMetricsDoc.SwimKeyNames;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import net.jcip.annotations.ThreadSafe;
 
@@ -20,10 +23,38 @@ final class SwimMembershipProtocolMetrics {
 
   private final Map<String, AtomicLong> incarnationNumbers = new ConcurrentHashMap<>();
 
+  private final AtomicLong pendingUpdates = new AtomicLong();
+  private final AtomicLong failureTimeout = new AtomicLong();
+  private final Timer disseminationTime;
+
   private final MeterRegistry registry;
 
   public SwimMembershipProtocolMetrics(final MeterRegistry registry) {
     this.registry = registry;
+
+    disseminationTime =
+        MicrometerUtil.buildTimer(SwimMembershipProtocolMetricsDoc.GOSSIP_UPDATE_DISSEMINATION_TIME)
+            .register(registry);
+    Gauge.builder(
+            SwimMembershipProtocolMetricsDoc.GOSSIP_PENDING_UPDATES.getName(), pendingUpdates::get)
+        .description(SwimMembershipProtocolMetricsDoc.GOSSIP_PENDING_UPDATES.getDescription())
+        .register(registry);
+    Gauge.builder(SwimMembershipProtocolMetricsDoc.FAILURE_TIMEOUT.getName(), failureTimeout::get)
+        .description(SwimMembershipProtocolMetricsDoc.FAILURE_TIMEOUT.getDescription())
+        .baseUnit(SwimMembershipProtocolMetricsDoc.FAILURE_TIMEOUT.getBaseUnit())
+        .register(registry);
+  }
+
+  public void observeDisseminationTime(final long nanos) {
+    disseminationTime.record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  public void setPendingUpdates(final int count) {
+    pendingUpdates.set(count);
+  }
+
+  public void setFailureTimeout(final long millis) {
+    failureTimeout.set(millis);
   }
 
   public void updateMemberIncarnationNumber(final String member, final long incarnationNumber) {
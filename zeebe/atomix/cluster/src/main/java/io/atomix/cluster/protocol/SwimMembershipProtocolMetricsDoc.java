@@ -35,6 +35,89 @@ public enum SwimMembershipProtocolMetricsDoc implements ExtendedMeterDocumentati
           + "member information.";
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {};
+    }
+  },
+
+  /**
+   * Time from recording a membership update locally until it was gossiped in all of its gossip
+   * rounds. This is how long this member takes to spread an update, and thus an indicator of how
+   * fast the membership view of the cluster converges.
+   */
+  GOSSIP_UPDATE_DISSEMINATION_TIME {
+    @Override
+    public String getName() {
+      return "zeebe.smp.gossip.update.dissemination.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time from recording a membership update locally until it was gossiped in all of its"
+          + " gossip rounds";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {};
+    }
+  },
+
+  /** Number of membership updates which are still to be gossiped by this member */
+  GOSSIP_PENDING_UPDATES {
+    @Override
+    public String getName() {
+      return "zeebe.smp.gossip.pending.updates";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of membership updates which are still to be gossiped by this member";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {};
+    }
+  },
+
+  /**
+   * The failure timeout after which a suspect member is declared dead, which may be scaled with the
+   * cluster size
+   */
+  FAILURE_TIMEOUT {
+    @Override
+    public String getName() {
+      return "zeebe.smp.failure.timeout";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The failure timeout after which a suspect member is declared dead, which may be"
+          + " scaled with the cluster size";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "ms";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {};
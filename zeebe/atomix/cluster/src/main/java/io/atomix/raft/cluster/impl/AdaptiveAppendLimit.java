@@ -0,0 +1,161 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Limits the number of in-flight append requests and the size of each append request sent to a
+ * single follower, adapting both with an AIMD (additive increase, multiplicative decrease) scheme
+ * based on the observed round trip time of the append requests.
+ *
+ * <p>The lowest round trip time observed within the last {@link #BASELINE_WINDOW} samples is used
+ * as the baseline of an uncongested connection. An append whose round trip time exceeds {@link
+ * #RTT_TOLERANCE} times that baseline, or which failed, is treated as a congestion signal, and both
+ * limits are multiplied by {@link #BACKOFF_RATIO}. Otherwise, the in-flight limit is increased by
+ * one if the window is used, and the batch size is increased by its initial value if the last batch
+ * was full.
+ *
+ * <p>Both limits never exceed the given hard caps. The batch size never drops below its initial
+ * value, since smaller batches only add per-request overhead; the in-flight limit never drops below
+ * one.
+ */
+final class AdaptiveAppendLimit {
+
+  static final double BACKOFF_RATIO = 0.75;
+  static final double RTT_TOLERANCE = 2.0;
+  static final int BASELINE_WINDOW = 100;
+
+  /**
+   * Round trip times are measured in milliseconds; this slack keeps a jitter of a few milliseconds
+   * on a fast connection, with a baseline close to zero, from being treated as congestion.
+   */
+  static final long RTT_SLACK_MS = 10;
+
+  private final int minInFlight;
+  private final int initialInFlight;
+  private final int maxInFlight;
+  private final int minBatchSize;
+  private final int maxBatchSize;
+
+  private int inFlightLimit;
+  private int batchSize;
+  private long baselineRtt = Long.MAX_VALUE;
+  private long windowMinRtt = Long.MAX_VALUE;
+  private int windowSamples;
+
+  private AdaptiveAppendLimit(
+      final int minInFlight,
+      final int initialInFlight,
+      final int maxInFlight,
+      final int initialBatchSize,
+      final int maxBatchSize) {
+    this.minInFlight = minInFlight;
+    this.initialInFlight = initialInFlight;
+    this.maxInFlight = Math.max(initialInFlight, maxInFlight);
+    minBatchSize = initialBatchSize;
+    this.maxBatchSize = Math.max(initialBatchSize, maxBatchSize);
+    inFlightLimit = initialInFlight;
+    batchSize = initialBatchSize;
+  }
+
+  /**
+   * Creates a limit which adapts between the given initial values and the hard caps.
+   *
+   * @param initialInFlight the initial limit of in-flight append requests
+   * @param maxInFlight the hard cap of in-flight append requests
+   * @param initialBatchSize the initial, and minimal, size in bytes of an append request
+   * @param maxBatchSize the hard cap of the size in bytes of an append request
+   */
+  static AdaptiveAppendLimit adaptive(
+      final int initialInFlight,
+      final int maxInFlight,
+      final int initialBatchSize,
+      final int maxBatchSize) {
+    return new AdaptiveAppendLimit(
+        1, Math.max(1, initialInFlight), maxInFlight, initialBatchSize, maxBatchSize);
+  }
+
+  /** Creates a limit which always returns the given values. */
+  static AdaptiveAppendLimit fixed(final int inFlight, final int batchSize) {
+    return new AdaptiveAppendLimit(inFlight, inFlight, inFlight, batchSize, batchSize);
+  }
+
+  /**
+   * Updates the limits after an append request completed successfully.
+   *
+   * @param rttMillis the round trip time of the request in milliseconds
+   * @param inFlight the number of append requests in flight when the request completed, including
+   *     the completed one
+   * @param requestSize the size in bytes of the entries sent with the request
+   */
+  void onSuccess(final long rttMillis, final int inFlight, final int requestSize) {
+    updateBaseline(rttMillis);
+
+    if (rttMillis > baselineRtt * RTT_TOLERANCE + RTT_SLACK_MS) {
+      backoff();
+      return;
+    }
+
+    if (inFlight * 2 >= inFlightLimit) {
+      inFlightLimit = Math.min(maxInFlight, inFlightLimit + 1);
+    }
+    if (requestSize >= batchSize) {
+      batchSize = (int) Math.min(maxBatchSize, (long) batchSize + minBatchSize);
+    }
+  }
+
+  /** Updates the limits after an append request failed, e.g. because it timed out. */
+  void onFailure() {
+    backoff();
+  }
+
+  /** Resets the limits to their initial values and forgets the observed round trip times. */
+  void reset() {
+    inFlightLimit = initialInFlight;
+    batchSize = minBatchSize;
+    baselineRtt = Long.MAX_VALUE;
+    windowMinRtt = Long.MAX_VALUE;
+    windowSamples = 0;
+  }
+
+  int getInFlightLimit() {
+    return inFlightLimit;
+  }
+
+  int getBatchSize() {
+    return batchSize;
+  }
+
+  private void backoff() {
+    inFlightLimit = Math.max(minInFlight, (int) (inFlightLimit * BACKOFF_RATIO));
+    batchSize = Math.max(minBatchSize, (int) (batchSize * BACKOFF_RATIO));
+  }
+
+  private void updateBaseline(final long rttMillis) {
+    windowMinRtt = Math.min(windowMinRtt, rttMillis);
+    baselineRtt = Math.min(baselineRtt, rttMillis);
+
+    if (++windowSamples >= BASELINE_WINDOW) {
+      // start over with the minimum of the last window, so that the baseline can follow a
+      // connection which permanently became slower
+      baselineRtt = windowMinRtt;
+      windowMinRtt = Long.MAX_VALUE;
+      windowSamples = 0;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("inFlightLimit", inFlightLimit)
+        .add("batchSize", batchSize)
+        .add("baselineRtt", baselineRtt)
+        .toString();
+  }
+}
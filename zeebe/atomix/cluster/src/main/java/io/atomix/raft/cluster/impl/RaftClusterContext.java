@@ -361,6 +361,19 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
     }
   }
 
+  private AdaptiveAppendLimit newAppendLimit() {
+    if (!raft.isAdaptiveAppendLimitEnabled()) {
+      return AdaptiveAppendLimit.fixed(
+          raft.getMaxAppendsPerFollower(), raft.getMaxAppendBatchSize());
+    }
+
+    return AdaptiveAppendLimit.adaptive(
+        raft.getMaxAppendsPerFollower(),
+        raft.getMaxAdaptiveAppendsPerFollower(),
+        raft.getMaxAppendBatchSize(),
+        raft.getMaxAdaptiveAppendBatchSize());
+  }
+
   private void updateMemberContext(final RaftMember member, final Instant time) {
     if (member.equals(localMember)) {
       localMember.update(member.getType(), time);
@@ -375,7 +388,8 @@ public final class RaftClusterContext implements RaftCluster, AutoCloseable {
                 new RaftMemberContext(
                     new DefaultRaftMember(memberId, member.getType(), time),
                     this,
-                    raft.getMaxAppendsPerFollower()));
+                    newAppendLimit(),
+                    raft.getMaxSnapshotChunksInFlight()));
 
     // If the member type has changed, update the member type and reset its state.
     if (context.getMember().getType() != member.getType()) {
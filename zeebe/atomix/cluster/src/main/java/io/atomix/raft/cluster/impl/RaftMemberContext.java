@@ -25,6 +25,9 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
 import org.slf4j.LoggerFactory;
 
 /** Cluster member state. */
@@ -32,20 +35,27 @@ public final class RaftMemberContext {
 
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
-  private final int maxAppendsPerMember;
+  private final AdaptiveAppendLimit appendLimit;
+  private final int maxSnapshotChunksInFlight;
   private boolean open = true;
   private long term;
   private long configIndex;
   private long snapshotIndex;
   private long nextSnapshotIndex;
   private ByteBuffer nextSnapshotChunk;
+  private final Deque<ByteBuffer> inFlightSnapshotChunks = new ArrayDeque<>();
+  private boolean snapshotChunksExhausted;
+  private boolean snapshotChunkAcknowledged;
+  private long snapshotReplicationAttempt;
+  private int snapshotChunkSize;
+  private Set<String> reusedSnapshotFiles = Set.of();
   private long matchIndex;
   private long heartbeatTime;
   private long responseTime;
   private int inFlightAppendCount;
   private boolean appendSucceeded;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -55,23 +65,25 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final AdaptiveAppendLimit appendLimit,
+      final int maxSnapshotChunksInFlight) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
-    this.maxAppendsPerMember = maxAppendsPerMember;
+    this.appendLimit = checkNotNull(appendLimit, "appendLimit cannot be null");
+    this.maxSnapshotChunksInFlight = Math.max(1, maxSnapshotChunksInFlight);
   }
 
   /** Resets the member state. */
   public void resetState(final RaftLog log) {
     snapshotIndex = 0;
-    nextSnapshotIndex = 0;
-    nextSnapshotChunk = null;
+    resetSnapshotReplication();
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
     appendSucceeded = false;
+    appendLimit.reset();
     failures = 0;
     failureTime = 0;
 
@@ -147,7 +159,26 @@ public final class RaftMemberContext {
   public boolean canAppend() {
     return open
         && (inFlightAppendCount == 0
-            || (appendSucceeded && inFlightAppendCount < maxAppendsPerMember));
+            || (appendSucceeded && inFlightAppendCount < appendLimit.getInFlightLimit()));
+  }
+
+  /**
+   * Returns the maximum size in bytes of the entries sent with a single append request to the
+   * member.
+   *
+   * @return the current maximum append batch size
+   */
+  public int getAppendBatchSize() {
+    return appendLimit.getBatchSize();
+  }
+
+  /**
+   * Returns the maximum number of append requests which may be in flight to the member.
+   *
+   * @return the current in-flight append limit
+   */
+  public int getAppendInFlightLimit() {
+    return appendLimit.getInFlightLimit();
   }
 
   /**
@@ -188,6 +219,24 @@ public final class RaftMemberContext {
     inFlightAppendCount--;
   }
 
+  /**
+   * Completes an append request to the member which carried entries, and adapts the append limits
+   * to the observed round trip time.
+   *
+   * @param latencyMillis the round trip time of the request in milliseconds
+   * @param requestSize the size in bytes of the entries sent with the request
+   * @param failed whether the request failed, e.g. because it timed out
+   */
+  public void completeAppend(
+      final long latencyMillis, final int requestSize, final boolean failed) {
+    if (failed) {
+      appendLimit.onFailure();
+    } else {
+      appendLimit.onSuccess(latencyMillis, inFlightAppendCount, requestSize);
+    }
+    completeAppend();
+  }
+
   /**
    * Returns a boolean indicating whether a configure request can be sent to the member.
    *
@@ -208,22 +257,125 @@ public final class RaftMemberContext {
   }
 
   /**
-   * Returns a boolean indicating whether an install request can be sent to the member.
+   * Returns a boolean indicating whether an install request can be sent to the member. Only the
+   * first chunk of a snapshot is sent on its own; once the member acknowledged a chunk, up to
+   * {@code maxSnapshotChunksInFlight} chunks may be awaiting a response at the same time.
    *
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open
+        && !snapshotChunksExhausted
+        && (inFlightInstallCount == 0
+            || (snapshotChunkAcknowledged && inFlightInstallCount < maxSnapshotChunksInFlight));
+  }
+
+  /**
+   * Returns whether more than one snapshot chunk may be sent to the member without awaiting a
+   * response.
+   *
+   * @return true if snapshot chunks are replicated with a sliding window
+   */
+  public boolean isSnapshotReplicationWindowed() {
+    return maxSnapshotChunksInFlight > 1;
   }
 
-  /** Starts an install request to the member. */
-  public void startInstall() {
-    installing = true;
+  /**
+   * Starts an install request to the member for the given chunk.
+   *
+   * @param chunkId the ID of the chunk sent to the member
+   * @param lastChunk whether this is the last chunk of the snapshot
+   */
+  public void startInstall(final ByteBuffer chunkId, final boolean lastChunk) {
+    inFlightInstallCount++;
+    inFlightSnapshotChunks.addLast(chunkId);
+    snapshotChunksExhausted = lastChunk;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
+  }
+
+  /**
+   * Flags the given chunk as acknowledged by the member.
+   *
+   * @param chunkId the ID of the acknowledged chunk
+   * @return true if all chunks of the snapshot have been sent and acknowledged
+   */
+  public boolean snapshotChunkAcknowledged(final ByteBuffer chunkId) {
+    inFlightSnapshotChunks.remove(chunkId);
+    snapshotChunkAcknowledged = true;
+    return snapshotChunksExhausted && inFlightSnapshotChunks.isEmpty();
+  }
+
+  /**
+   * Rewinds the snapshot replication to the oldest chunk which has not been acknowledged yet, such
+   * that it and all chunks after it are sent again. Responses to requests sent before are ignored
+   * from then on, see {@link #getSnapshotReplicationAttempt()}.
+   */
+  public void rewindSnapshotReplication() {
+    if (!snapshotChunkAcknowledged) {
+      // the first chunk was never acknowledged, so it must be sent again as the initial chunk
+      nextSnapshotChunk = null;
+    } else if (!inFlightSnapshotChunks.isEmpty()) {
+      nextSnapshotChunk = inFlightSnapshotChunks.peekFirst();
+    }
+    inFlightSnapshotChunks.clear();
+    snapshotChunksExhausted = false;
+    snapshotReplicationAttempt++;
+  }
+
+  /**
+   * Resets the snapshot replication, such that the next install request will start again from the
+   * first chunk of the latest snapshot. Responses to requests sent before are ignored from then on.
+   */
+  public void resetSnapshotReplication() {
+    nextSnapshotIndex = 0;
+    nextSnapshotChunk = null;
+    inFlightSnapshotChunks.clear();
+    snapshotChunksExhausted = false;
+    snapshotChunkAcknowledged = false;
+    reusedSnapshotFiles = Set.of();
+    snapshotReplicationAttempt++;
+  }
+
+  /**
+   * Returns the current snapshot replication attempt, which changes whenever the replication is
+   * rewound or reset. Responses to install requests sent during a previous attempt are stale.
+   *
+   * @return the current snapshot replication attempt
+   */
+  public long getSnapshotReplicationAttempt() {
+    return snapshotReplicationAttempt;
+  }
+
+  /**
+   * Returns the maximum chunk size the leader currently uses for this member, or 0 if the leader
+   * did not adapt it yet.
+   *
+   * @return the current maximum snapshot chunk size
+   */
+  public int getSnapshotChunkSize() {
+    return snapshotChunkSize;
+  }
+
+  public void setSnapshotChunkSize(final int snapshotChunkSize) {
+    this.snapshotChunkSize = snapshotChunkSize;
+  }
+
+  /**
+   * Returns the files of the snapshot being replicated which are not sent, as the member already
+   * holds them in its latest snapshot.
+   *
+   * @return the names of the reused snapshot files
+   */
+  public Set<String> getReusedSnapshotFiles() {
+    return reusedSnapshotFiles;
+  }
+
+  public void setReusedSnapshotFiles(final Set<String> reusedSnapshotFiles) {
+    this.reusedSnapshotFiles = reusedSnapshotFiles;
   }
 
   /**
@@ -257,8 +409,9 @@ public final class RaftMemberContext {
         .add("heartbeatTime", heartbeatTime)
         .add("appending", inFlightAppendCount)
         .add("appendSucceeded", appendSucceeded)
+        .add("appendLimit", appendLimit)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
         .add("failures", failures)
         .toString();
   }
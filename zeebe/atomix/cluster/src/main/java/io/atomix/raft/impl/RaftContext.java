@@ -426,6 +426,22 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return partitionConfig.getMaxAppendsPerFollower();
   }
 
+  public boolean isAdaptiveAppendLimitEnabled() {
+    return partitionConfig.isAdaptiveAppendLimitEnabled();
+  }
+
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return partitionConfig.getMaxAdaptiveAppendsPerFollower();
+  }
+
+  public int getMaxAdaptiveAppendBatchSize() {
+    return partitionConfig.getMaxAdaptiveAppendBatchSize();
+  }
+
+  public int getMaxSnapshotChunksInFlight() {
+    return partitionConfig.getMaxSnapshotChunksInFlight();
+  }
+
   /**
    * Adds a role change listener. If there isn't currently a transition ongoing the listener is
    * called immediately after adding the listener.
@@ -33,6 +33,8 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
   private final Counter commitRate;
   private final StatefulGauge nonCommittedEntriesValue;
   private final Map<String, StatefulGauge> nonReplicatedEntries;
+  private final Map<String, StatefulGauge> appendInFlightLimit;
+  private final Map<String, StatefulGauge> appendBatchSizeLimit;
 
   public LeaderAppenderMetrics(final String partitionName, final MeterRegistry meterRegistry) {
     super(partitionName);
@@ -41,6 +43,8 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendDataRate = new HashMap<>();
     appendRate = new HashMap<>();
     nonReplicatedEntries = new HashMap<>();
+    appendInFlightLimit = new HashMap<>();
+    appendBatchSizeLimit = new HashMap<>();
 
     commitRate =
         Counter.builder(LeaderMetricsDoc.COMMIT_RATE.getName())
@@ -79,6 +83,18 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .set(remainingEntries);
   }
 
+  public void observeAppendLimit(
+      final String memberId, final int inFlightLimit, final int batchSizeLimit) {
+    appendInFlightLimit
+        .computeIfAbsent(
+            memberId, id -> registerFollowerGauge(LeaderMetricsDoc.APPEND_INFLIGHT_LIMIT, id))
+        .set(inFlightLimit);
+    appendBatchSizeLimit
+        .computeIfAbsent(
+            memberId, id -> registerFollowerGauge(LeaderMetricsDoc.APPEND_BATCH_SIZE_LIMIT, id))
+        .set(batchSizeLimit);
+  }
+
   private Timer getAppendLatency(final String memberId) {
     return appendLatency.computeIfAbsent(
         memberId,
@@ -130,6 +146,16 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
         .register(meterRegistry);
   }
 
+  private StatefulGauge registerFollowerGauge(
+      final LeaderMetricsDoc meterDoc, final String memberId) {
+    return StatefulGauge.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .baseUnit(meterDoc.getBaseUnit())
+        .tag(RaftKeyNames.FOLLOWER.asString(), memberId)
+        .tag(RaftKeyNames.PARTITION_GROUP.asString(), partitionGroupName)
+        .register(meterRegistry);
+  }
+
   @Override
   public void close() {
     meterRegistry.remove(commitRate);
@@ -138,5 +164,7 @@ public class LeaderAppenderMetrics extends RaftMetrics implements CloseableSilen
     appendRate.values().forEach(meterRegistry::remove);
     appendDataRate.values().forEach(meterRegistry::remove);
     nonReplicatedEntries.values().forEach(meterRegistry::remove);
+    appendInFlightLimit.values().forEach(meterRegistry::remove);
+    appendBatchSizeLimit.values().forEach(meterRegistry::remove);
   }
 }
@@ -157,5 +157,58 @@ public enum LeaderMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {RaftKeyNames.PARTITION_GROUP, PartitionKeyNames.PARTITION};
     }
+  },
+  /** The current limit of in-flight append requests for a given follower */
+  APPEND_INFLIGHT_LIMIT {
+    @Override
+    public String getName() {
+      return "atomix.append.limit.inflight";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The current limit of in-flight append requests for a given follower";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
+  },
+  /** The current maximum size in bytes of an append request for a given follower */
+  APPEND_BATCH_SIZE_LIMIT {
+    @Override
+    public String getName() {
+      return "atomix.append.limit.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public String getDescription() {
+      return "The current maximum size in bytes of an append request for a given follower";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {
+        PartitionKeyNames.PARTITION, RaftKeyNames.FOLLOWER, RaftKeyNames.PARTITION_GROUP
+      };
+    }
   }
 }
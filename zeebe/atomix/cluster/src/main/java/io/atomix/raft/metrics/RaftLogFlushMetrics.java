@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import static io.atomix.raft.metrics.RaftLogFlushMetricsDoc.FLUSH_BATCH_SIZE;
+import static io.atomix.raft.metrics.RaftLogFlushMetricsDoc.FLUSH_TIME_TO_DURABLE;
+
+import io.camunda.zeebe.util.CloseableSilently;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+public final class RaftLogFlushMetrics implements CloseableSilently {
+  private final MeterRegistry registry;
+  private final DistributionSummary flushBatchSize;
+  private final Timer flushTimeToDurable;
+
+  public RaftLogFlushMetrics(final MeterRegistry registry) {
+    this.registry = Objects.requireNonNull(registry, "MeterRegistry cannot be null");
+    flushBatchSize = MicrometerUtil.buildSummary(FLUSH_BATCH_SIZE).register(registry);
+    flushTimeToDurable = MicrometerUtil.buildTimer(FLUSH_TIME_TO_DURABLE).register(registry);
+  }
+
+  public void observeFlush(final int coalescedRequests, final long timeToDurableNanos) {
+    flushBatchSize.record(coalescedRequests);
+    flushTimeToDurable.record(timeToDurableNanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void close() {
+    registry.remove(flushBatchSize);
+    registry.remove(flushTimeToDurable);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.metrics;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+@SuppressWarnings("NullableProblems")
+public enum RaftLogFlushMetricsDoc implements ExtendedMeterDocumentation {
+  /** The number of flush requests which were coalesced into a single flush of the Raft log */
+  FLUSH_BATCH_SIZE {
+    private static final double[] BUCKETS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000};
+
+    @Override
+    public String getName() {
+      return "atomix.log.flush.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public String getDescription() {
+      return "The number of flush requests which were coalesced into a single flush of the Raft log";
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+  /** Time from the first flush request of a batch until the batch is flushed to disk */
+  FLUSH_TIME_TO_DURABLE {
+    private static final Duration[] BUCKETS =
+        MicrometerUtil.exponentialBucketDuration(100, 2, 16, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "atomix.log.flush.time.to.durable";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time from the first flush request of a batch until the batch is flushed to disk";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  }
+}
@@ -58,6 +58,60 @@ public enum SnapshotReplicationMetricsDoc implements ExtendedMeterDocumentation
       return "ms";
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Number of snapshot bytes received by this follower */
+  RECEIVED_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.received.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of snapshot bytes received by this follower";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Throughput of the last completed snapshot replication in bytes per second */
+  THROUGHPUT {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.throughput";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Throughput of the last completed snapshot replication in bytes per second";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes/s";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
@@ -30,11 +30,18 @@ public class RaftPartitionConfig {
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
+  private static final boolean DEFAULT_ADAPTIVE_APPEND_LIMIT_ENABLED = false;
+  private static final int DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER = 16;
+  private static final int DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE = 1024 * 1024;
 
   private Duration electionTimeout = DEFAULT_ELECTION_TIMEOUT;
   private Duration heartbeatInterval = DEFAULT_HEARTBEAT_INTERVAL;
   private int maxAppendsPerFollower = 2;
   private int maxAppendBatchSize = 32 * 1024;
+  private boolean adaptiveAppendLimitEnabled = DEFAULT_ADAPTIVE_APPEND_LIMIT_ENABLED;
+  private int maxAdaptiveAppendsPerFollower = DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER;
+  private int maxAdaptiveAppendBatchSize = DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE;
   private boolean priorityElectionEnabled = DEFAULT_PRIORITY_ELECTION;
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
   private Duration snapshotRequestTimeout = DEFAULT_SNAPSHOT_REQUEST_TIMEOUT;
@@ -45,6 +52,7 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
 
   /**
    * Returns the Raft leader election timeout.
@@ -102,6 +110,39 @@ public class RaftPartitionConfig {
     this.maxAppendBatchSize = maxAppendBatchSize;
   }
 
+  public boolean isAdaptiveAppendLimitEnabled() {
+    return adaptiveAppendLimitEnabled;
+  }
+
+  /**
+   * Sets whether the leader adapts the number of in-flight append requests and the size of each
+   * append request per follower, based on the observed round trip time. If enabled, {@link
+   * #getMaxAppendsPerFollower()} and {@link #getMaxAppendBatchSize()} are the initial values, which
+   * may grow up to {@link #getMaxAdaptiveAppendsPerFollower()} and {@link
+   * #getMaxAdaptiveAppendBatchSize()} respectively.
+   *
+   * @param adaptiveAppendLimitEnabled true to adapt the append limits per follower
+   */
+  public void setAdaptiveAppendLimitEnabled(final boolean adaptiveAppendLimitEnabled) {
+    this.adaptiveAppendLimitEnabled = adaptiveAppendLimitEnabled;
+  }
+
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return maxAdaptiveAppendsPerFollower;
+  }
+
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
+  public int getMaxAdaptiveAppendBatchSize() {
+    return maxAdaptiveAppendBatchSize;
+  }
+
+  public void setMaxAdaptiveAppendBatchSize(final int maxAdaptiveAppendBatchSize) {
+    this.maxAdaptiveAppendBatchSize = maxAdaptiveAppendBatchSize;
+  }
+
   public boolean isPriorityElectionEnabled() {
     return priorityElectionEnabled;
   }
@@ -144,6 +185,20 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  /**
+   * Sets how many snapshot chunks a leader may send to a follower without awaiting a response. With
+   * a value of 1, chunks are sent one after the other, waiting for each to be acknowledged.
+   *
+   * @param maxSnapshotChunksInFlight the maximum number of unacknowledged chunks per follower
+   */
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -220,6 +275,12 @@ public class RaftPartitionConfig {
         + maxAppendsPerFollower
         + ", maxAppendBatchSize="
         + maxAppendBatchSize
+        + ", adaptiveAppendLimitEnabled="
+        + adaptiveAppendLimitEnabled
+        + ", maxAdaptiveAppendsPerFollower="
+        + maxAdaptiveAppendsPerFollower
+        + ", maxAdaptiveAppendBatchSize="
+        + maxAdaptiveAppendBatchSize
         + ", priorityElectionEnabled="
         + priorityElectionEnabled
         + ", requestTimeout="
@@ -228,6 +289,8 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", maxSnapshotChunksInFlight="
+        + maxSnapshotChunksInFlight
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
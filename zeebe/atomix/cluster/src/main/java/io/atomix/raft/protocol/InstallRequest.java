@@ -24,6 +24,9 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -35,6 +38,11 @@ import java.util.Objects;
  * received by the follower, the snapshot is reconstructed based on the provided {@link #chunkId()}
  * and other metadata. The last install request will be sent with {@link #complete()} being {@code
  * true} to indicate that all chunks of the snapshot have been sent.
+ *
+ * <p>Files which the follower already holds in its latest snapshot, as announced in its {@link
+ * InstallResponse#snapshotChecksums() response} to the first chunk, may be skipped by the leader.
+ * These are listed in {@link #reusedFiles()} of the last request, and are copied by the follower
+ * from its own snapshot instead.
  */
 public class InstallRequest extends AbstractRaftRequest {
 
@@ -58,6 +66,9 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // files which were not sent, but should be taken from the receiver's latest snapshot; may be
+  // null when sent by an older version
+  private final ArrayList<String> reusedFiles;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +80,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final ArrayList<String> reusedFiles) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +92,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedFiles = reusedFiles;
   }
 
   /**
@@ -170,10 +183,30 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the files of the snapshot which were not sent, as the receiver already holds them in
+   * its latest snapshot. Only set on the last chunk of a snapshot.
+   *
+   * @return the names of the files to take from the receiver's latest snapshot
+   */
+  public List<String> reusedFiles() {
+    return reusedFiles == null ? List.of() : reusedFiles;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedFiles());
   }
 
   @Override
@@ -194,7 +227,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedFiles(), that.reusedFiles());
   }
 
   @Override
@@ -212,6 +246,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedFiles", reusedFiles().size())
         .toString();
   }
 
@@ -233,6 +268,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private final ArrayList<String> reusedFiles = new ArrayList<>();
 
     /**
      * Sets the request current term.
@@ -346,6 +382,17 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the files which the receiver should take from its latest snapshot instead.
+     *
+     * @param reusedFiles the names of the files which are not sent
+     * @return the request builder
+     */
+    public Builder withReusedFiles(final Collection<String> reusedFiles) {
+      this.reusedFiles.addAll(checkNotNull(reusedFiles, "reusedFiles cannot be null"));
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +400,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reusedFiles);
     }
 
     @Override
@@ -20,33 +20,52 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Besides indicating whether or not the request was successful, the response to the
+ * first chunk of a snapshot lists the files of the receiver's latest snapshot with their checksums,
+ * such that the leader can skip sending files which the receiver already holds.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // may be null when sent by an older version
+  protected HashMap<String, Long> snapshotChecksums;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final HashMap<String, Long> snapshotChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.snapshotChecksums = snapshotChecksums;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * @return the checksums of the files in the receiver's latest snapshot, by file name; empty if
+   *     the receiver did not announce them
+   */
+  public Map<String, Long> snapshotChecksums() {
+    return snapshotChecksums == null ? Map.of() : snapshotChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("snapshotFiles", snapshotChecksums().size())
         .toString();
   }
 
@@ -62,17 +81,23 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected HashMap<String, Long> snapshotChecksums;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, snapshotChecksums);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withSnapshotChecksums(final Map<String, Long> snapshotChecksums) {
+      this.snapshotChecksums = new HashMap<>(snapshotChecksums);
+      return this;
+    }
   }
 }
@@ -47,10 +47,12 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
@@ -65,8 +67,9 @@ final class LeaderAppender {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(LeaderAppender.class);
   private static final int MIN_BACKOFF_FAILURE_COUNT = 5;
+  // lower bound when shrinking the snapshot chunk size after timeouts
+  private static final int MIN_SNAPSHOT_CHUNK_SIZE = 1024 * 1024;
 
-  private final int maxBatchSizePerAppend;
   private final RaftContext raft;
   private boolean open = true;
 
@@ -83,7 +86,6 @@ final class LeaderAppender {
   LeaderAppender(final LeaderRole leader) {
     raft = checkNotNull(leader.raft, "context cannot be null");
     metrics = new LeaderAppenderMetrics(raft.getName(), raft.getMeterRegistry());
-    maxBatchSizePerAppend = raft.getMaxAppendBatchSize();
     leaderTime = System.currentTimeMillis();
     leaderIndex =
         raft.getLog().isEmpty() ? raft.getLog().getFirstIndex() : raft.getLog().getLastIndex() + 1;
@@ -170,13 +172,14 @@ final class LeaderAppender {
     // Build a list of entries to send to the member.
     final List<ReplicatableJournalRecord> entries = new ArrayList<>();
 
-    // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
-    // be null if they've been compacted and the member to which we're sending entries is just
+    // Build a list of entries up to the member's append batch size. Note that entries in the log
+    // may be null if they've been compacted and the member to which we're sending entries is just
     // joining the cluster or is otherwise far behind. Null entries are simply skipped and not
     // counted towards the size of the batch.
-    // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
+    // If there exists an entry in the log with size >= the batch size the logic ensures that
     // entry will be sent in a batch of size one
     int size = 0;
+    final int maxBatchSize = member.getAppendBatchSize();
 
     // Iterate through the log until the last index or the end of the log is reached.
     while (hasMoreEntries(member)) {
@@ -185,7 +188,7 @@ final class LeaderAppender {
       final var replicatableRecord = entry.getReplicatableJournalRecord();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
@@ -215,8 +218,15 @@ final class LeaderAppender {
               if (open) {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
-                metrics.appendComplete(appendLatency, member.getMember().memberId().id());
-                member.completeAppend();
+                final var memberId = member.getMember().memberId().id();
+                metrics.appendComplete(appendLatency, memberId);
+                if (request.entries().isEmpty()) {
+                  member.completeAppend();
+                } else {
+                  member.completeAppend(appendLatency, requestSize(request), error != null);
+                  metrics.observeAppendLimit(
+                      memberId, member.getAppendInFlightLimit(), member.getAppendBatchSize());
+                }
 
                 if (error == null) {
                   LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
@@ -378,6 +388,9 @@ final class LeaderAppender {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
+        if (member.getSnapshotChunkSize() > 0) {
+          snapshotChunkReader.setMaximumChunkSize(member.getSnapshotChunkSize());
+        }
         member.setSnapshotChunkReader(snapshotChunkReader);
       } catch (final UncheckedIOException e) {
         LOGGER.warn(
@@ -387,8 +400,8 @@ final class LeaderAppender {
             e);
         return Optional.empty();
       }
+      member.resetSnapshotReplication();
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
-      member.setNextSnapshotChunkId(null);
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -409,6 +422,7 @@ final class LeaderAppender {
       }
       final ByteBuffer currentChunkId = reader.nextId();
       final SnapshotChunk chunk = reader.next();
+      final boolean complete = !reader.hasNext();
 
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
@@ -424,8 +438,9 @@ final class LeaderAppender {
               .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
               .withChunkId(currentChunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
-              .withComplete(!reader.hasNext())
+              .withComplete(complete)
               .withNextChunkId(reader.nextId())
+              .withReusedFiles(complete ? member.getReusedSnapshotFiles() : Set.of())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -435,17 +450,21 @@ final class LeaderAppender {
           member.getMember().memberId(),
           e);
       // If snapshot was deleted, a new reader should be created with the new snapshot
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      member.resetSnapshotReplication();
       return Optional.empty();
     }
   }
 
-  /** Connects to the member and sends a snapshot request. */
+  /**
+   * Connects to the member and sends a snapshot request. The member's next chunk is advanced right
+   * away, such that further chunks can be sent before this one is acknowledged.
+   */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
-    member.startInstall();
+    member.startInstall(request.chunkId(), request.complete());
+    member.setNextSnapshotChunkId(request.nextChunkId());
 
+    final long attempt = member.getSnapshotReplicationAttempt();
     final long timestamp = System.currentTimeMillis();
 
     LOGGER.trace("Sending {} to {}", request, member.getMember().memberId());
@@ -457,7 +476,17 @@ final class LeaderAppender {
                 // Complete the install to the member.
                 member.completeInstall();
 
-                if (error == null) {
+                if (attempt != member.getSnapshotReplicationAttempt()) {
+                  // the replication was rewound or restarted since this request was sent, so
+                  // its outcome is irrelevant; the chunk has or will be sent again if needed
+                  LOGGER.trace(
+                      "Ignoring outdated response to {} from {}",
+                      request,
+                      member.getMember().memberId());
+                  if (error == null) {
+                    appendEntries(member);
+                  }
+                } else if (error == null) {
                   LOGGER.trace("Received {} from {}", response, member.getMember().memberId());
                   handleInstallResponse(member, request, response, timestamp);
                 } else {
@@ -479,8 +508,11 @@ final class LeaderAppender {
             || (error != null && error.getCause() instanceof TimeoutException);
 
     if (!isTimeout) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+      member.resetSnapshotReplication();
+    } else {
+      // resend all chunks which have not been acknowledged yet, starting with the oldest one
+      member.rewindSnapshotReplication();
+      shrinkSnapshotChunkSize(member, request);
     }
 
     // Log the failed attempt to contact the member.
@@ -497,20 +529,18 @@ final class LeaderAppender {
 
     //    if not given in response defaults to 0
     if (response.preferredChunkSize() > 0) {
-      member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
+      growSnapshotChunkSize(member, response.preferredChunkSize());
+    }
+    if (request.isInitial() && !request.complete()) {
+      excludeReusableSnapshotFiles(member, request, response);
     }
-    // If the install request was completed successfully, set the member's snapshotIndex and reset
-    // the next snapshot index/offset.
-    if (request.complete()) {
-      member.setNextSnapshotIndex(0);
-      member.setNextSnapshotChunkId(null);
+    // If all chunks were sent and acknowledged, set the member's snapshotIndex and reset the next
+    // snapshot index/offset.
+    if (member.snapshotChunkAcknowledged(request.chunkId())) {
+      member.resetSnapshotReplication();
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
-    // If more install requests remain, increment the member's snapshot offset.
-    else {
-      member.setNextSnapshotChunkId(request.nextChunkId());
-    }
 
     // Recursively append entries to the member.
     appendEntries(member);
@@ -528,8 +558,78 @@ final class LeaderAppender {
         member.getMember().memberId(),
         response.error().toString());
 
-    member.setNextSnapshotIndex(0);
-    member.setNextSnapshotChunkId(null);
+    member.resetSnapshotReplication();
+  }
+
+  /**
+   * Skips sending the files which the member already holds in its latest snapshot, as announced in
+   * its response to the first chunk. These are listed in the last install request instead, such
+   * that the member takes them from its own snapshot.
+   */
+  private void excludeReusableSnapshotFiles(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (response.snapshotChecksums().isEmpty()
+        || persistedSnapshot == null
+        || persistedSnapshot.getIndex() != request.index()
+        || member.getNextSnapshotIndex() != request.index()) {
+      return;
+    }
+
+    final var checksums = persistedSnapshot.getChecksums().getChecksums();
+    final var identicalFiles = new HashSet<String>();
+    response
+        .snapshotChecksums()
+        .forEach(
+            (fileName, checksum) -> {
+              if (checksum.equals(checksums.get(fileName))) {
+                identicalFiles.add(fileName);
+              }
+            });
+
+    final var reusedFiles = member.getSnapshotChunkReader().excludeFiles(identicalFiles);
+    member.setReusedSnapshotFiles(reusedFiles);
+    LOGGER.debug(
+        "Skipping {} of {} files of snapshot {} when replicating to {}, as it already has them",
+        reusedFiles.size(),
+        checksums.size(),
+        persistedSnapshot.getId(),
+        member.getMember().memberId());
+  }
+
+  /**
+   * Uses the chunk size preferred by the member. When chunks are sent with a sliding window, the
+   * chunk size is instead doubled up to the preferred size, recovering from earlier timeouts.
+   */
+  private void growSnapshotChunkSize(final RaftMemberContext member, final int preferredSize) {
+    final int currentSize = member.getSnapshotChunkSize();
+    final int chunkSize =
+        member.isSnapshotReplicationWindowed() && currentSize > 0
+            ? (int) Math.min(2L * currentSize, preferredSize)
+            : preferredSize;
+    member.setSnapshotChunkSize(chunkSize);
+    member.getSnapshotChunkReader().setMaximumChunkSize(chunkSize);
+  }
+
+  /**
+   * Halves the chunk size after a timed out install request when chunks are sent with a sliding
+   * window, such that slow links are not flooded with large chunks which repeatedly time out.
+   */
+  private void shrinkSnapshotChunkSize(
+      final RaftMemberContext member, final InstallRequest request) {
+    if (!member.isSnapshotReplicationWindowed() || member.getSnapshotChunkReader() == null) {
+      return;
+    }
+
+    final int currentSize =
+        member.getSnapshotChunkSize() > 0
+            ? member.getSnapshotChunkSize()
+            : request.data().remaining();
+    final int chunkSize = Math.max(MIN_SNAPSHOT_CHUNK_SIZE, currentSize / 2);
+    member.setSnapshotChunkSize(chunkSize);
+    member.getSnapshotChunkReader().setMaximumChunkSize(chunkSize);
   }
 
   /**
@@ -624,6 +724,10 @@ final class LeaderAppender {
     observeNonCommittedEntries(commitIndex);
   }
 
+  private static int requestSize(final VersionedAppendRequest request) {
+    return request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum();
+  }
+
   private void handleAppendResponseFailure(
       final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
     failHeartbeat();
@@ -694,9 +798,7 @@ final class LeaderAppender {
       member.appendSucceeded();
       updateMatchIndex(member, response);
       metrics.observeAppend(
-          member.getMember().memberId().id(),
-          request.entries().size(),
-          request.entries().stream().mapToInt(ReplicatableJournalRecord::approximateSize).sum());
+          member.getMember().memberId().id(), request.entries().size(), requestSize(request));
 
       commitEntries();
 
@@ -907,8 +1009,14 @@ final class LeaderAppender {
         "Replicating snapshot {} to {}",
         persistedSnapshot.getIndex(),
         member.getMember().memberId());
-    buildInstallRequest(member, persistedSnapshot)
-        .ifPresent(installRequest -> sendInstallRequest(member, installRequest));
+    // keep sending chunks until the member's window of unacknowledged chunks is full
+    do {
+      final var installRequest = buildInstallRequest(member, persistedSnapshot);
+      if (installRequest.isEmpty()) {
+        return;
+      }
+      sendInstallRequest(member, installRequest.get());
+    } while (member.canInstall());
   }
 
   private void replicateEvents(final RaftMemberContext member) {
@@ -54,6 +54,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidIndex;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivedSnapshot;
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsException;
+import io.camunda.zeebe.snapshots.SnapshotReservation;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import io.camunda.zeebe.util.CheckedRunnable;
 import io.camunda.zeebe.util.Either;
@@ -75,6 +76,11 @@ public class PassiveRole extends InactiveRole {
   private ReceivedSnapshot pendingSnapshot;
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
+  private boolean pendingSnapshotLastChunkReceived;
+  private long pendingSnapshotReceivedBytes;
+  // the latest local snapshot, from which files shared with the pending snapshot are taken
+  private PersistedSnapshot pendingSnapshotBase;
+  private SnapshotReservation pendingSnapshotBaseReservation;
   private final int snapshotChunkSize;
 
   public PassiveRole(final RaftContext context) {
@@ -204,14 +210,24 @@ public class PassiveRole extends InactiveRole {
 
       log.info("Started receiving new snapshot {} from {}", pendingSnapshot, request.leader());
       pendingSnapshotStartTimestamp = System.currentTimeMillis();
+      pendingSnapshotLastChunkReceived = false;
+      pendingSnapshotReceivedBytes = 0;
       snapshotReplicationMetrics.incrementCount();
 
       // When all chunks of the snapshot is received the log will be reset. Hence notify the
       // listeners in advance so that they can close all consumers of the log.
       raft.notifySnapshotReplicationStarted();
+      reservePendingSnapshotBase();
     }
 
     try {
+      if (!request.reusedFiles().isEmpty()) {
+        if (pendingSnapshotBase == null) {
+          throw new IllegalStateException(
+              "Expected to reuse files of the latest snapshot, but none was reserved");
+        }
+        pendingSnapshot.reuseFiles(pendingSnapshotBase, request.reusedFiles()).join();
+      }
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
       log.warn(
@@ -230,9 +246,14 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
+    snapshotReplicationMetrics.countReceivedBytes(snapshotChunk.getContent().length);
+    pendingSnapshotReceivedBytes += snapshotChunk.getContent().length;
+    pendingSnapshotLastChunkReceived |= request.complete();
+
     // If the snapshot is complete, store the snapshot and reset state, otherwise update the next
-    // snapshot offset.
-    if (request.complete()) {
+    // snapshot offset. The leader may send multiple chunks without waiting for their
+    // acknowledgement, so the last chunk can be received before all others were.
+    if (pendingSnapshotLastChunkReceived && pendingSnapshot.isComplete()) {
       final long elapsed = System.currentTimeMillis() - pendingSnapshotStartTimestamp;
       final PersistedSnapshot persistedSnapshot;
       log.debug("Committing snapshot {}", pendingSnapshot);
@@ -259,8 +280,10 @@ public class PassiveRole extends InactiveRole {
       pendingSnapshotStartTimestamp = 0L;
       setNextExpected(null);
       previouslyReceivedSnapshotChunkId = null;
+      releasePendingSnapshotBase();
       snapshotReplicationMetrics.decrementCount();
       snapshotReplicationMetrics.observeDuration(elapsed);
+      snapshotReplicationMetrics.observeThroughput(pendingSnapshotReceivedBytes, elapsed);
       raft.updateCurrentSnapshot();
       onSnapshotReceiveCompletedOrAborted();
     } else {
@@ -268,12 +291,41 @@ public class PassiveRole extends InactiveRole {
       previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(
-            InstallResponse.builder()
-                .withStatus(RaftResponse.Status.OK)
-                .withPreferredChunkSize(snapshotChunkSize)
-                .build()));
+    final var response =
+        InstallResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withPreferredChunkSize(snapshotChunkSize);
+    if (request.isInitial() && pendingSnapshot != null && pendingSnapshotBase != null) {
+      // let the leader know which files we already have, so it can skip sending them
+      response.withSnapshotChecksums(pendingSnapshotBase.getChecksums().getChecksums());
+    }
+    return CompletableFuture.completedFuture(logResponse(response.build()));
+  }
+
+  private void reservePendingSnapshotBase() {
+    final var latestSnapshot = raft.getPersistedSnapshotStore().getLatestSnapshot();
+    if (latestSnapshot.isEmpty()) {
+      return;
+    }
+
+    try {
+      pendingSnapshotBaseReservation = latestSnapshot.get().reserve().join();
+      pendingSnapshotBase = latestSnapshot.get();
+    } catch (final Exception e) {
+      log.debug(
+          "Failed to reserve snapshot {}, receiving all files of snapshot {}",
+          latestSnapshot.get().getId(),
+          pendingSnapshot,
+          e);
+    }
+  }
+
+  private void releasePendingSnapshotBase() {
+    if (pendingSnapshotBaseReservation != null) {
+      pendingSnapshotBaseReservation.release();
+    }
+    pendingSnapshotBaseReservation = null;
+    pendingSnapshotBase = null;
   }
 
   @Override
@@ -440,22 +492,14 @@ public class PassiveRole extends InactiveRole {
                   .build()));
     }
 
-    // if null assume it is first chunk of file
+    // if null assume it is first chunk of file; chunks are written at their position in the
+    // file, so a chunk which overtook or was resent after its predecessor can still be applied
     if (nextPendingSnapshotChunkId != null
         && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
-      final var errMsg =
-          "Expected chunkId of ["
-              + new SnapshotChunkId(nextPendingSnapshotChunkId)
-              + "] got ["
-              + new SnapshotChunkId(request.chunkId())
-              + "].";
-      abortPendingSnapshots();
-      return Either.left(
-          logResponse(
-              InstallResponse.builder()
-                  .withStatus(Status.ERROR)
-                  .withError(Type.ILLEGAL_MEMBER_STATE, errMsg)
-                  .build()));
+      log.trace(
+          "Expected chunkId of [{}] got [{}], applying it out of order",
+          new SnapshotChunkId(nextPendingSnapshotChunkId),
+          new SnapshotChunkId(request.chunkId()));
     }
 
     // If the request is for a lesser term, reject the request.
@@ -559,6 +603,7 @@ public class PassiveRole extends InactiveRole {
       }
       pendingSnapshot = null;
       pendingSnapshotStartTimestamp = 0L;
+      releasePendingSnapshotBase();
 
       snapshotReplicationMetrics.decrementCount();
       onSnapshotReceiveCompletedOrAborted();
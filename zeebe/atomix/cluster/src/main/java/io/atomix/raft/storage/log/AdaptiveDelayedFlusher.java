@@ -0,0 +1,203 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A variant of the {@link DelayedFlusher} whose delay adapts to the measured flush duration. Like
+ * it, calls to {@link #flush(Journal)} are signals that there is data to be flushed, and the flush
+ * itself happens asynchronously, such that a single flush covers all signals since the previous
+ * one.
+ *
+ * <p>Unlike it, the delay is not fixed: flushes are spaced by a window of the latency target minus
+ * the measured flush duration, so that waiting for the window and flushing takes about as long as
+ * the latency target. If the last flush completed longer than a window ago, i.e. the log was idle,
+ * a request is flushed right away. If flushing takes longer than the latency target, the log is
+ * flushed back to back.
+ *
+ * <p>NOTE: this is not a group commit. Exactly as with the {@link DelayedFlusher}, the Raft log
+ * does not wait for the flush: the leader commits and followers acknowledge appended entries before
+ * they are on disk. If a majority of the replicas fails before the next flush, up to a latency
+ * target worth of committed entries can be lost. The latency target only bounds how long data stays
+ * unflushed.
+ */
+public final class AdaptiveDelayedFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveDelayedFlusher.class);
+
+  /** Weight of a new sample in the moving average of the flush duration. */
+  private static final double FLUSH_DURATION_SMOOTHING = 0.2;
+
+  private static final long NONE = -1;
+
+  private final Scheduler scheduler;
+  private final long latencyTargetNanos;
+  private final Clock clock;
+  private final RaftLogFlushMetrics metrics;
+
+  private final Object monitor = new Object();
+  private Scheduled scheduledFlush;
+  private boolean flushing;
+  private int pendingRequests;
+  private long pendingSince = NONE;
+  private long lastFlushCompletedAt = NONE;
+  private double flushDurationNanos;
+
+  private boolean closed;
+
+  public AdaptiveDelayedFlusher(
+      final Scheduler scheduler, final Duration latencyTarget, final MeterRegistry meterRegistry) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    latencyTargetNanos =
+        Objects.requireNonNull(latencyTarget, "must specify a latency target").toNanos();
+    clock = meterRegistry.config().clock();
+    metrics = new RaftLogFlushMetrics(meterRegistry);
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    synchronized (monitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      pendingRequests++;
+      if (pendingSince == NONE) {
+        pendingSince = clock.monotonicTime();
+      }
+
+      if (scheduledFlush == null && !flushing) {
+        scheduleFlush(journal, remainingWindow());
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (monitor) {
+      closed = true;
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    metrics.close();
+    scheduler.close();
+  }
+
+  /**
+   * Returns the current window between two flushes, which is the latency target minus the measured
+   * flush duration.
+   *
+   * @return the current flush window
+   */
+  Duration getWindow() {
+    synchronized (monitor) {
+      return Duration.ofNanos(window());
+    }
+  }
+
+  private long window() {
+    return Math.max(0, latencyTargetNanos - (long) flushDurationNanos);
+  }
+
+  private Duration remainingWindow() {
+    if (lastFlushCompletedAt == NONE) {
+      return Duration.ZERO;
+    }
+
+    final long sinceLastFlush = clock.monotonicTime() - lastFlushCompletedAt;
+    return Duration.ofNanos(Math.max(0, window() - sinceLastFlush));
+  }
+
+  private void scheduleFlush(final Journal journal, final Duration delay) {
+    LOGGER.trace("Scheduling group flush in {} up to index {}", delay, journal.getLastIndex());
+    scheduledFlush = scheduler.schedule(delay, () -> asyncFlush(journal));
+  }
+
+  private void asyncFlush(final Journal journal) {
+    final int requests;
+    final long requestedAt;
+    synchronized (monitor) {
+      scheduledFlush = null;
+      if (closed) {
+        return;
+      }
+
+      flushing = true;
+      requests = pendingRequests;
+      requestedAt = pendingSince;
+      pendingRequests = 0;
+      pendingSince = NONE;
+    }
+
+    final long startedAt = clock.monotonicTime();
+    try {
+      journal.flush();
+    } catch (final CheckedJournalException | JournalException | UncheckedIOException e) {
+      final var retryDelay = Duration.ofNanos(latencyTargetNanos);
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", retryDelay, e);
+      synchronized (monitor) {
+        flushing = false;
+        pendingRequests += requests;
+        pendingSince = pendingSince == NONE ? requestedAt : Math.min(pendingSince, requestedAt);
+        if (!closed) {
+          scheduleFlush(journal, retryDelay);
+        }
+      }
+      return;
+    }
+
+    final long completedAt = clock.monotonicTime();
+    metrics.observeFlush(requests, completedAt - requestedAt);
+
+    synchronized (monitor) {
+      flushing = false;
+      lastFlushCompletedAt = completedAt;
+      final long flushDuration = completedAt - startedAt;
+      flushDurationNanos =
+          flushDurationNanos == 0
+              ? flushDuration
+              : flushDurationNanos
+                  + FLUSH_DURATION_SMOOTHING * (flushDuration - flushDurationNanos);
+
+      // requests which arrived while flushing form the next group
+      if (pendingRequests > 0 && !closed) {
+        scheduleFlush(journal, remainingWindow());
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveDelayedFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", latencyTarget="
+        + Duration.ofNanos(latencyTargetNanos)
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+}
@@ -28,6 +28,11 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link AdaptiveDelayedFlusher} offers the same trade-off, but adapts its delay to the measured
+ * flush duration and a latency target: it coalesces flush requests under load, and flushes right
+ * away when the log was idle. As with the {@link DelayedFlusher}, entries are acknowledged and
+ * committed before they are flushed.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
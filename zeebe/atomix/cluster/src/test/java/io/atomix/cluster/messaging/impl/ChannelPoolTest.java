@@ -15,8 +15,10 @@ import io.atomix.utils.net.Address;
 import io.netty.channel.Channel;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.HashSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 
 class ChannelPoolTest {
@@ -59,4 +61,35 @@ class ChannelPoolTest {
     // then
     assertThat(channelForOldNode).isNotEqualTo(channelForNewNode);
   }
+
+  @Test
+  void shouldSpreadMessageTypesOverConnectionsPerAddress() throws UnknownHostException {
+    // given
+    final var pool = new ChannelPool(factory, 2);
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+
+    // when
+    final var channels = new HashSet<Channel>();
+    IntStream.range(0, 20)
+        .mapToObj(i -> pool.getChannel(address, MESSAGE_TYPE + i).join())
+        .forEach(channels::add);
+
+    // then
+    assertThat(channels).hasSize(2);
+  }
+
+  @Test
+  void shouldUseSameChannelForSameMessageTypeWithConnectionsPerAddress()
+      throws UnknownHostException {
+    // given
+    final var pool = new ChannelPool(factory, 4);
+    final Address address = new Address("foo.bar", 1234, InetAddress.getByName("10.1.1.1"));
+    final var channel = pool.getChannel(address, MESSAGE_TYPE).join();
+
+    // when
+    final var sameTypeChannel = pool.getChannel(address, MESSAGE_TYPE).join();
+
+    // then
+    assertThat(sameTypeChannel).isSameAs(channel);
+  }
 }
@@ -50,6 +50,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -282,6 +283,27 @@ final class NettyMessagingServiceTest {
       assertThat(response).isEqualTo(payload);
     }
 
+    @Test
+    void shouldSendPayloadLargerThanWrapThreshold() throws Exception {
+      // given
+      final byte[] payload = new byte[AbstractMessageEncoder.WRAP_PAYLOAD_THRESHOLD * 16];
+      ThreadLocalRandom.current().nextBytes(payload);
+      final var subjectV1 = nextSubject();
+      final var subjectV2 = nextSubject();
+      nettyv11.registerHandler(
+          subjectV1, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+      nettyv21.registerHandler(
+          subjectV2, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+      // when
+      final var responseV1 = nettyv12.sendAndReceive(nettyv11.address(), subjectV1, payload);
+      final var responseV2 = nettyv22.sendAndReceive(nettyv21.address(), subjectV2, payload);
+
+      // then
+      assertThat(responseV1.get(10, TimeUnit.SECONDS)).isEqualTo(payload);
+      assertThat(responseV2.get(10, TimeUnit.SECONDS)).isEqualTo(payload);
+    }
+
     @Test
     void testVersionNegotiation() throws Exception {
       String subject;
@@ -17,8 +17,12 @@ import io.atomix.utils.net.Address;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
 import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -142,6 +146,51 @@ public class RemoteClientConnectionTest {
         .withMessageContaining("was closed");
   }
 
+  @Test
+  public void shouldCoalesceMessagesWithinWindow() {
+    // given
+    final var embeddedChannel = new EmbeddedChannel();
+    final var connection =
+        new RemoteClientConnection(simpleMetrics, embeddedChannel, Duration.ofMillis(5), 1024);
+
+    // when
+    final var first = connection.sendAsync(request(1, 10));
+    final var second = connection.sendAsync(request(2, 10));
+
+    // then
+    assertThat(embeddedChannel.outboundMessages().size()).isZero();
+    assertThat(first).isNotDone();
+
+    embeddedChannel.advanceTimeBy(5, TimeUnit.MILLISECONDS);
+    embeddedChannel.runScheduledPendingTasks();
+    assertThat(embeddedChannel.outboundMessages().size()).isEqualTo(2);
+    assertThat(first).isCompleted();
+    assertThat(second).isCompleted();
+    assertThat(simpleMetrics.messagesPerFlush).isEqualTo(List.of(2));
+    assertThat(simpleMetrics.channelQueueDepth).isEqualTo(List.of(0));
+  }
+
+  @Test
+  public void shouldFlushCoalescedMessagesWhenMaxSizeIsReached() {
+    // given
+    final var embeddedChannel = new EmbeddedChannel();
+    final var connection =
+        new RemoteClientConnection(simpleMetrics, embeddedChannel, Duration.ofMinutes(1), 100);
+    connection.sendAsync(request(1, 60));
+
+    // when
+    final var second = connection.sendAsync(request(2, 60));
+
+    // then
+    assertThat(embeddedChannel.outboundMessages().size()).isEqualTo(2);
+    assertThat(second).isCompleted();
+    assertThat(simpleMetrics.messagesPerFlush).isEqualTo(List.of(2));
+  }
+
+  private static ProtocolRequest request(final long id, final int payloadSize) {
+    return new ProtocolRequest(id, new Address("", 12345), "subj", new byte[payloadSize]);
+  }
+
   private static final class SimpleMessagingMetrics implements MessagingMetrics {
 
     private static final String LABEL_FORMAT = "%s-%s";
@@ -152,6 +201,8 @@ public class RemoteClientConnectionTest {
     final Map<String, Integer> reqRespCount = new HashMap<>();
     final Map<String, Integer> reqSize = new HashMap<>();
     final Map<String, Boolean> requestOutcome = new HashMap<>();
+    final List<Integer> messagesPerFlush = new ArrayList<>();
+    final List<Integer> channelQueueDepth = new ArrayList<>();
 
     @Override
     public CloseableSilently startRequestTimer(final String name) {
@@ -205,6 +256,16 @@ public class RemoteClientConnectionTest {
       inFlightRequestCount.put(key, integer - 1);
     }
 
+    @Override
+    public void observeMessagesPerFlush(final String address, final int messages) {
+      messagesPerFlush.add(messages);
+    }
+
+    @Override
+    public void observeChannelQueueDepth(final String address, final int queuedMessages) {
+      channelQueueDepth.add(queuedMessages);
+    }
+
     String computeKey(final String to, final String name) {
       return String.format(LABEL_FORMAT, to, name);
     }
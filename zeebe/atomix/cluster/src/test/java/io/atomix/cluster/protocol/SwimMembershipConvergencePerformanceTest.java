@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.cluster.protocol;
+
+import io.atomix.cluster.BootstrapService;
+import io.atomix.cluster.Member;
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.Node;
+import io.atomix.cluster.TestBootstrapService;
+import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
+import io.atomix.cluster.impl.DefaultNodeDiscoveryService;
+import io.atomix.cluster.messaging.impl.TestMessagingServiceFactory;
+import io.atomix.cluster.messaging.impl.TestUnicastServiceFactory;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how quickly a metadata change of a single member reaches every member of a simulated
+ * cluster. The members communicate over the in-memory test messaging services, so the result only
+ * depends on the protocol's gossip rounds, not on the network.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class SwimMembershipConvergencePerformanceTest {
+  private static final int CLUSTER_SIZE = 40;
+  private static final int RETRANSMIT_MULTIPLIER = 3;
+  private static final String PROPERTY = "generation";
+
+  private final List<SwimMembershipProtocol> protocols = new ArrayList<>();
+  private final List<Member> members = new ArrayList<>();
+  private Member changedMember;
+  private int generation;
+
+  @Setup
+  public void setup() {
+    final var messagingServiceFactory = new TestMessagingServiceFactory();
+    final var unicastServiceFactory = new TestUnicastServiceFactory();
+    IntStream.range(0, CLUSTER_SIZE)
+        .mapToObj(i -> Member.member(MemberId.from(String.valueOf(i)), Address.from(5000 + i)))
+        .forEach(members::add);
+    final List<Node> nodes = List.copyOf(members);
+
+    for (final Member member : members) {
+      final var config =
+          new SwimMembershipProtocolConfig()
+              .setGossipInterval(Duration.ofMillis(25))
+              .setProbeInterval(Duration.ofMillis(100))
+              .setGossipRetransmitMultiplier(RETRANSMIT_MULTIPLIER);
+      final var protocol =
+          new SwimMembershipProtocol(config, member.id().id(), new SimpleMeterRegistry());
+      final BootstrapService bootstrap =
+          new TestBootstrapService(
+              messagingServiceFactory.newMessagingService(member.address()).start().join(),
+              unicastServiceFactory.newUnicastService(member.address()).start().join());
+      final var provider = new BootstrapDiscoveryProvider(nodes);
+      provider.join(bootstrap, member).join();
+      final var discovery = new DefaultNodeDiscoveryService(bootstrap, member, provider);
+      protocol.join(bootstrap, discovery.start().join(), member).join();
+      protocols.add(protocol);
+    }
+
+    while (protocols.stream().anyMatch(p -> p.getMembers().size() < CLUSTER_SIZE)) {
+      LockSupport.parkNanos(Duration.ofMillis(10).toNanos());
+    }
+    changedMember = members.getFirst();
+  }
+
+  @TearDown
+  public void tearDown() {
+    for (int i = 0; i < protocols.size(); i++) {
+      protocols.get(i).leave(members.get(i)).join();
+    }
+  }
+
+  @JMHTest("measureMetadataConvergence")
+  void shouldConvergeWithinDeviation(final JMHTestCase testCase) {
+    // given
+    final var referenceScore = 5.0;
+
+    // when
+    final var assertResult = testCase.run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.3);
+  }
+
+  @Benchmark
+  public int measureMetadataConvergence() {
+    final var value = String.valueOf(++generation);
+    changedMember.properties().setProperty(PROPERTY, value);
+
+    while (!hasConverged(value)) {
+      LockSupport.parkNanos(Duration.ofMillis(1).toNanos());
+    }
+
+    return generation;
+  }
+
+  private boolean hasConverged(final String value) {
+    for (final SwimMembershipProtocol protocol : protocols) {
+      final var member = protocol.getMember(changedMember.id());
+      if (member == null || !value.equals(member.properties().getProperty(PROPERTY))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
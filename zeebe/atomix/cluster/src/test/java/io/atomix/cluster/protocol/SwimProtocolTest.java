@@ -52,6 +52,7 @@ import java.util.concurrent.BlockingDeque;
 import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
 import net.jodah.concurrentunit.ConcurrentTestCase;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.AfterEach;
@@ -415,6 +416,70 @@ public class SwimProtocolTest extends ConcurrentTestCase {
     Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> hasNewProperty(protocol3));
   }
 
+  @Test
+  public void shouldPropagateMetadataWithGossipRetransmissions() throws InterruptedException {
+    // given
+    reset(false);
+    final UnaryOperator<SwimMembershipProtocolConfig> configurator =
+        config -> config.setGossipRetransmitMultiplier(3);
+    startProtocol(member1, configurator, member1.id().toString());
+    startProtocol(member2, configurator, member2.id().toString());
+    final SwimMembershipProtocol protocol3 =
+        startProtocol(member3, configurator, member3.id().toString());
+    awaitMembers(member1, member1, member2, member3);
+    awaitMembers(member2, member1, member2, member3);
+    awaitMembers(member3, member1, member2, member3);
+
+    // when
+    member1.properties().put("newProperty", 1);
+
+    // then
+    Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> hasNewProperty(protocol3));
+    Awaitility.await("until the update was gossiped in every round and dropped")
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () ->
+                meterRegistry
+                        .get(
+                            SwimMembershipProtocolMetricsDoc.GOSSIP_UPDATE_DISSEMINATION_TIME
+                                .getName())
+                        .timer()
+                        .count()
+                    > 0);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldAdaptFailureTimeoutToClusterSize() {
+    // given
+    reset(false);
+    members =
+        IntStream.rangeClosed(1, 12)
+            .mapToObj(
+                i -> (Member) member(String.valueOf(i), null, "localhost", 5000 + i, version1))
+            .toList();
+    nodes = (Collection) members;
+
+    // when
+    members.forEach(
+        member ->
+            startProtocol(
+                (SwimMember) member,
+                config -> config.setAdaptiveFailureTimeout(true),
+                member.id().toString()));
+
+    // then - the base timeout scaled by log10(12)
+    Awaitility.await("until the failure timeout accounts for all members")
+        .atMost(Duration.ofSeconds(10))
+        .until(
+            () ->
+                meterRegistry
+                    .get(SwimMembershipProtocolMetricsDoc.FAILURE_TIMEOUT.getName())
+                    .gauge()
+                    .value(),
+            timeout -> timeout == 1079);
+  }
+
   private boolean hasNewProperty(final SwimMembershipProtocol protocol3) {
     final var memberOne = protocol3.getMember(member1.id());
 
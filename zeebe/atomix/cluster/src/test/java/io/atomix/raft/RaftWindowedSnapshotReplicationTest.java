@@ -0,0 +1,189 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError.Type;
+import io.atomix.raft.RaftServer.Builder;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.protocol.TestRaftServerProtocol.ResponseInterceptor;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftWindowedSnapshotReplicationTest {
+
+  private static final int MAX_CHUNKS_IN_FLIGHT = 4;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new RaftRule.Configurator() {
+            @Override
+            public void configure(final MemberId id, final Builder builder) {
+              final var config =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              config.setMaxSnapshotChunksInFlight(MAX_CHUNKS_IN_FLIGHT);
+              builder.withPartitionConfig(config);
+            }
+          });
+
+  private RaftServer follower;
+  private AtomicInteger totalInstallRequest;
+  private TestRaftServerProtocol leaderProtocol;
+  private RaftServer leader;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    totalInstallRequest = new AtomicInteger(0);
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Consumer<InstallRequest>) (request) -> totalInstallRequest.incrementAndGet());
+  }
+
+  @Test
+  public void shouldReplicateSnapshotWithMultipleChunksInFlight() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(follower.getContext().getPersistedSnapshotStore().getCurrentSnapshotIndex())
+        .isEqualTo(leader.getContext().getPersistedSnapshotStore().getCurrentSnapshotIndex());
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should send every chunk once")
+        // Before follower reconnects, sometimes leader sends an InstallRequest which
+        // ends up in connect exception
+        .isLessThan(numberOfChunks + 3);
+  }
+
+  @Test
+  public void shouldResendOnlyUnacknowledgedChunksWhenInstallRequestTimesOut() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    // Time out a request after the follower processed it, while other chunks are still in flight
+    leaderProtocol.interceptResponse(InstallResponse.class, new TimingOutResponseInterceptor(5));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(totalInstallRequest.get())
+        .describedAs("Should resend at most the chunks which were in flight")
+        .isLessThan(numberOfChunks + MAX_CHUNKS_IN_FLIGHT + 3);
+  }
+
+  @Test
+  public void shouldRestartSnapshotReplicationIfFollowerRejectedRequest() throws Throwable {
+    // given
+    final int numberOfChunks = 10;
+    disconnectFollowerAndTakeSnapshot(numberOfChunks);
+
+    leaderProtocol.interceptResponse(InstallResponse.class, new RejectingInterceptor(5));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(follower.getContext().getPersistedSnapshotStore().getCurrentSnapshotIndex())
+        .isEqualTo(leader.getContext().getPersistedSnapshotStore().getCurrentSnapshotIndex());
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot(final int numberOfChunks) throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, numberOfChunks);
+    raftRule.appendEntry();
+  }
+
+  private static class TimingOutResponseInterceptor
+      implements ResponseInterceptor<InstallResponse> {
+    private final AtomicInteger count = new AtomicInteger();
+    private final int timeoutAtRequest;
+
+    public TimingOutResponseInterceptor(final int timeoutAtRequest) {
+      this.timeoutAtRequest = timeoutAtRequest;
+    }
+
+    @Override
+    public CompletableFuture<InstallResponse> apply(final InstallResponse installResponse) {
+      if (count.incrementAndGet() == timeoutAtRequest) {
+        return CompletableFuture.failedFuture(new TimeoutException());
+      } else {
+        return CompletableFuture.completedFuture(installResponse);
+      }
+    }
+  }
+
+  private static class RejectingInterceptor implements ResponseInterceptor<InstallResponse> {
+    private final AtomicInteger count = new AtomicInteger();
+    private final int rejectAtChunk;
+
+    public RejectingInterceptor(final int rejectAtChunk) {
+      this.rejectAtChunk = rejectAtChunk;
+    }
+
+    @Override
+    public CompletableFuture<InstallResponse> apply(final InstallResponse installResponse) {
+      if (count.incrementAndGet() == rejectAtChunk) {
+        final var rejectionResponse =
+            InstallResponse.builder()
+                .withError(Type.PROTOCOL_ERROR)
+                .withStatus(InstallResponse.Status.ERROR)
+                .build();
+        return CompletableFuture.completedFuture(rejectionResponse);
+      } else {
+        return CompletableFuture.completedFuture(installResponse);
+      }
+    }
+  }
+}
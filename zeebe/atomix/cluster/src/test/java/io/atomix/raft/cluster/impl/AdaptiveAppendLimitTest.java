@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveAppendLimitTest {
+
+  private static final int BATCH_SIZE = 32 * 1024;
+
+  @Test
+  void shouldStartWithInitialValues() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(2, 16, BATCH_SIZE, 1024 * 1024);
+
+    // then
+    assertThat(limit.getInFlightLimit()).isEqualTo(2);
+    assertThat(limit.getBatchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldIncreaseLimitsWhileResponsesAreFast() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(2, 16, BATCH_SIZE, 1024 * 1024);
+
+    // when
+    limit.onSuccess(1, 2, BATCH_SIZE);
+    limit.onSuccess(1, 3, 2 * BATCH_SIZE);
+
+    // then
+    assertThat(limit.getInFlightLimit()).isEqualTo(4);
+    assertThat(limit.getBatchSize()).isEqualTo(3 * BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitsIfTheyAreNotUsed() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(4, 16, BATCH_SIZE, 1024 * 1024);
+
+    // when
+    limit.onSuccess(1, 1, BATCH_SIZE / 2);
+
+    // then
+    assertThat(limit.getInFlightLimit()).isEqualTo(4);
+    assertThat(limit.getBatchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotExceedHardCaps() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(2, 4, BATCH_SIZE, 2 * BATCH_SIZE);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      limit.onSuccess(1, limit.getInFlightLimit(), limit.getBatchSize());
+    }
+
+    // then
+    assertThat(limit.getInFlightLimit()).isEqualTo(4);
+    assertThat(limit.getBatchSize()).isEqualTo(2 * BATCH_SIZE);
+  }
+
+  @Test
+  void shouldBackOffWhenRoundTripTimeIncreases() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(2, 16, BATCH_SIZE, 1024 * 1024);
+    for (int i = 0; i < 6; i++) {
+      limit.onSuccess(5, limit.getInFlightLimit(), limit.getBatchSize());
+    }
+    assertThat(limit.getInFlightLimit()).isEqualTo(8);
+    assertThat(limit.getBatchSize()).isEqualTo(7 * BATCH_SIZE);
+
+    // when
+    limit.onSuccess(100, limit.getInFlightLimit(), limit.getBatchSize());
+
+    // then
+    assertThat(limit.getInFlightLimit()).isEqualTo(6);
+    assertThat(limit.getBatchSize()).isEqualTo((int) (7 * BATCH_SIZE * 0.75));
+  }
+
+  @Test
+  void shouldTolerateJitterOnFastConnections() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(2, 16, BATCH_SIZE, 1024 * 1024);
+    limit.onSuccess(0, 2, BATCH_SIZE);
+
+    // when
+    limit.onSuccess(AdaptiveAppendLimit.RTT_SLACK_MS, 3, BATCH_SIZE);
+
+    // then
+    assertThat(limit.getInFlightLimit()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldBackOffOnFailureButNotBelowMinimum() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(2, 16, BATCH_SIZE, 1024 * 1024);
+
+    // when
+    limit.onFailure();
+    limit.onFailure();
+
+    // then
+    assertThat(limit.getInFlightLimit()).isOne();
+    assertThat(limit.getBatchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldFollowPermanentlySlowerConnection() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(2, 16, BATCH_SIZE, 1024 * 1024);
+    limit.onSuccess(1, 1, 0);
+
+    // when - the round trip time permanently increases, which backs off until the fast sample
+    // dropped out of the baseline window
+    for (int i = 1; i < 2 * AdaptiveAppendLimit.BASELINE_WINDOW - 1; i++) {
+      limit.onSuccess(100, 1, 0);
+    }
+    assertThat(limit.getInFlightLimit()).isOne();
+    for (int i = 0; i < 2; i++) {
+      limit.onSuccess(100, limit.getInFlightLimit(), 0);
+    }
+
+    // then - the slower round trip time became the new baseline
+    assertThat(limit.getInFlightLimit()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldResetToInitialValues() {
+    // given
+    final var limit = AdaptiveAppendLimit.adaptive(2, 16, BATCH_SIZE, 1024 * 1024);
+    limit.onSuccess(1, 2, BATCH_SIZE);
+
+    // when
+    limit.reset();
+
+    // then
+    assertThat(limit.getInFlightLimit()).isEqualTo(2);
+    assertThat(limit.getBatchSize()).isEqualTo(BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotAdaptFixedLimit() {
+    // given
+    final var limit = AdaptiveAppendLimit.fixed(2, BATCH_SIZE);
+
+    // when
+    limit.onSuccess(1, 2, BATCH_SIZE);
+    limit.onFailure();
+
+    // then
+    assertThat(limit.getInFlightLimit()).isEqualTo(2);
+    assertThat(limit.getBatchSize()).isEqualTo(BATCH_SIZE);
+  }
+}
@@ -50,6 +50,7 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
   private final Set<SnapshotReservation> reservations = new CopyOnWriteArraySet<>();
 
   private ImmutableChecksumsSFV checksum;
+  private int expectedChunkCount;
 
   InMemorySnapshot(final TestSnapshotStore testSnapshotStore, final String snapshotId) {
     this.testSnapshotStore = testSnapshotStore;
@@ -209,9 +210,15 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
   @Override
   public ActorFuture<Void> apply(final SnapshotChunk chunk) {
     chunks.put(chunk.getChunkName(), StringUtil.fromBytes(chunk.getContent()));
+    expectedChunkCount = chunk.getTotalCount();
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public boolean isComplete() {
+    return chunks.size() == expectedChunkCount;
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
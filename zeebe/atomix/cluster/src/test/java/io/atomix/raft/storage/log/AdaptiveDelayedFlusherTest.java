@@ -0,0 +1,254 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.raft.metrics.RaftLogFlushMetricsDoc;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.CheckedJournalException;
+import io.camunda.zeebe.journal.Journal;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class AdaptiveDelayedFlusherTest {
+  private static final Duration LATENCY_TARGET = Duration.ofMillis(10);
+  private static final Duration FLUSH_DURATION = Duration.ofMillis(2);
+
+  private final TestScheduler scheduler = new TestScheduler();
+  private final MockClock clock = new MockClock();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+  private final AdaptiveDelayedFlusher flusher =
+      new AdaptiveDelayedFlusher(scheduler, LATENCY_TARGET, registry);
+  private final Journal journal = Mockito.mock(Journal.class);
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenIdle() throws CheckedJournalException {
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.getFirst().delay).isZero();
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldSizeWindowFromFlushDuration() throws CheckedJournalException {
+    // given
+    flushTakes(FLUSH_DURATION);
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(flusher.getWindow()).isEqualTo(LATENCY_TARGET.minus(FLUSH_DURATION));
+  }
+
+  @Test
+  void shouldCoalesceRequestsWithinWindow() throws CheckedJournalException {
+    // given
+    flushTakes(FLUSH_DURATION);
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // when
+    clock.add(Duration.ofMillis(1));
+    flusher.flush(journal);
+    flusher.flush(journal);
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.getFirst().delay)
+        .isEqualTo(LATENCY_TARGET.minus(FLUSH_DURATION).minusMillis(1));
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    assertThat(batchSize().count()).isEqualTo(2);
+    assertThat(batchSize().max()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldFlushBackToBackIfFlushIsSlowerThanTarget() throws CheckedJournalException {
+    // given
+    flushTakes(LATENCY_TARGET.multipliedBy(2));
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(flusher.getWindow()).isZero();
+    assertThat(scheduler.operations.getFirst().delay).isZero();
+  }
+
+  @Test
+  void shouldGroupRequestsArrivingWhileFlushing() throws CheckedJournalException {
+    // given
+    Mockito.doAnswer(
+            invocation -> {
+              clock.add(FLUSH_DURATION);
+              flusher.flush(journal);
+              flusher.flush(journal);
+              return null;
+            })
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    assertThat(batchSize().totalAmount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRecordTimeToDurable() throws CheckedJournalException {
+    // given
+    flushTakes(FLUSH_DURATION);
+
+    // when
+    flusher.flush(journal);
+    clock.add(Duration.ofMillis(1));
+    scheduler.runNext();
+
+    // then
+    final var timeToDurable =
+        registry.get(RaftLogFlushMetricsDoc.FLUSH_TIME_TO_DURABLE.getName()).timer();
+    assertThat(timeToDurable.count()).isOne();
+    assertThat(timeToDurable.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRescheduleOnFlushError() throws CheckedJournalException {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .doNothing()
+        .when(journal)
+        .flush();
+
+    // when
+    flusher.flush(journal);
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.getFirst().delay).isEqualTo(LATENCY_TARGET);
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(2)).flush();
+    assertThat(batchSize().max()).isOne();
+  }
+
+  @Test
+  void shouldCancelScheduledFlushOnClose() {
+    // given
+    flusher.flush(journal);
+
+    // when
+    flusher.close();
+
+    // then
+    assertThat(scheduler.operations.getFirst().cancelled).isTrue();
+  }
+
+  @Test
+  void shouldNotScheduleFlushWhenClosed() {
+    // given
+    flusher.close();
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  private void flushTakes(final Duration duration) throws CheckedJournalException {
+    Mockito.doAnswer(
+            invocation -> {
+              clock.add(duration);
+              return null;
+            })
+        .when(journal)
+        .flush();
+  }
+
+  private DistributionSummary batchSize() {
+    return registry.get(RaftLogFlushMetricsDoc.FLUSH_BATCH_SIZE.getName()).summary();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(final long delay, final TimeUnit timeUnit, final Runnable callback) {
+      final var scheduled =
+          new TestScheduled(Duration.of(delay, timeUnit.toChronoUnit()), callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      throw new UnsupportedOperationException("fixed rate scheduling unsupported");
+    }
+
+    private void runNext() {
+      operations.removeFirst().operation.run();
+    }
+  }
+}
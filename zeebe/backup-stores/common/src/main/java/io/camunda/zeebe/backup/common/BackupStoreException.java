@@ -37,4 +37,13 @@ public abstract class BackupStoreException extends RuntimeException {
       super(message, cause);
     }
   }
+
+  public static class ContentChecksumMismatch extends BackupStoreException {
+    public ContentChecksumMismatch(
+        final String fileName, final String expectedChecksum, final String actualChecksum) {
+      super(
+          "Expected file '%s' to have checksum '%s', but its content has checksum '%s'; the backup is corrupted"
+              .formatted(fileName, expectedChecksum, actualChecksum));
+    }
+  }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import io.camunda.zeebe.backup.common.BackupStoreException.ContentChecksumMismatch;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Computes the checksums by which backup files are stored content-addressed. Files with the same
+ * checksum are considered identical, so a store only has to keep a single copy of them, no matter
+ * how many backups contain them.
+ */
+public final class ContentChecksum {
+
+  private static final String ALGORITHM = "SHA-256";
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final HexFormat HEX_FORMAT = HexFormat.of();
+
+  private ContentChecksum() {}
+
+  /**
+   * @return the hex encoded checksum of the given file's content
+   * @throws IOException if the file cannot be read
+   */
+  public static String of(final Path file) throws IOException {
+    final var digest = newDigest();
+    final var buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(buffer) != -1) {
+        digest.update(buffer.flip());
+        buffer.clear();
+      }
+    }
+
+    return HEX_FORMAT.formatHex(digest.digest());
+  }
+
+  /**
+   * Copies all bytes from the source to the target, computing the checksum of the copied content on
+   * the way. Prefer this over {@link #of(Path)} when the source may still change while it is
+   * copied, as the result always matches what was actually written.
+   *
+   * @return the hex encoded checksum of the copied content
+   * @throws IOException if reading from the source or writing to the target fails
+   */
+  public static String copy(final InputStream source, final OutputStream target)
+      throws IOException {
+    final var digest = newDigest();
+    final var buffer = new byte[BUFFER_SIZE];
+    int read;
+    while ((read = source.read(buffer)) != -1) {
+      digest.update(buffer, 0, read);
+      target.write(buffer, 0, read);
+    }
+
+    return HEX_FORMAT.formatHex(digest.digest());
+  }
+
+  /**
+   * Copies all bytes from the source to the target, and fails if their checksum does not match the
+   * expected one. The target must be discarded by the caller if the copy fails.
+   *
+   * @param fileName the name of the copied file, used for error reporting only
+   * @param expectedChecksum the checksum the copied content must have
+   * @throws ContentChecksumMismatch if the copied content has a different checksum
+   * @throws IOException if reading from the source or writing to the target fails
+   */
+  public static void copyVerified(
+      final String fileName,
+      final String expectedChecksum,
+      final InputStream source,
+      final OutputStream target)
+      throws IOException {
+    final var actualChecksum = copy(source, target);
+    if (!actualChecksum.equals(expectedChecksum)) {
+      throw new ContentChecksumMismatch(fileName, expectedChecksum, actualChecksum);
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      // every JVM is required to support SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.backup.common;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import java.util.List;
 import java.util.Objects;
@@ -43,9 +46,26 @@ public record FileSet(List<NamedFile> files) {
     return new FileSet(fileSet.namedFiles().keySet().stream().map(NamedFile::new).toList());
   }
 
-  public record NamedFile(String name) {
+  /**
+   * A file stored as part of a backup.
+   *
+   * @param name the name of the file, unique within its file set
+   * @param checksum the SHA-256 checksum of the file's content, as computed by {@link
+   *     ContentChecksum}, if the file is stored content-addressed; null for files stored under
+   *     their name, which was the only layout before content-addressed storage was introduced
+   */
+  public record NamedFile(String name, @JsonInclude(Include.NON_NULL) String checksum) {
     public NamedFile {
       Objects.requireNonNull(name);
     }
+
+    public NamedFile(final String name) {
+      this(name, null);
+    }
+
+    @JsonIgnore
+    public boolean isContentAddressed() {
+      return checksum != null;
+    }
   }
 }
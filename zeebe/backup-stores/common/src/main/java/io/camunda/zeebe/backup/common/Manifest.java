@@ -93,6 +93,12 @@ public sealed interface Manifest {
 
     CompletedManifest complete();
 
+    /**
+     * Completes the manifest with the given file sets, replacing the ones it was created with, e.g.
+     * to record the checksums of files which were stored content-addressed.
+     */
+    CompletedManifest complete(FileSet snapshot, FileSet segments);
+
     FailedManifest fail(final String failureReason);
   }
 
@@ -49,6 +49,11 @@ public record ManifestImpl(
 
   @Override
   public CompletedManifest complete() {
+    return complete(snapshot, segments);
+  }
+
+  @Override
+  public CompletedManifest complete(final FileSet snapshot, final FileSet segments) {
     return new ManifestImpl(
         id, descriptor, COMPLETED, snapshot, segments, createdAt, Instant.now());
   }
@@ -0,0 +1,82 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.backup.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Transfers the files of a {@link FileSet} concurrently, e.g. to upload or download them, while
+ * bounding the number of transfers in flight.
+ *
+ * <p>The executor must be able to run the transfers while the calling thread is blocked waiting for
+ * them; a virtual thread per task executor is the natural fit.
+ */
+public final class ParallelFileTransfer {
+
+  private final Executor executor;
+  private final int maxConcurrentTransfers;
+
+  public ParallelFileTransfer(final Executor executor, final int maxConcurrentTransfers) {
+    if (maxConcurrentTransfers < 1) {
+      throw new IllegalArgumentException(
+          "Expected at least one concurrent transfer, but got %d"
+              .formatted(maxConcurrentTransfers));
+    }
+    this.executor = executor;
+    this.maxConcurrentTransfers = maxConcurrentTransfers;
+  }
+
+  /**
+   * Applies the transfer to every file, and blocks until all transfers are done. Once a transfer
+   * fails, no further transfers are started, and the failure is rethrown after the ones in flight
+   * have finished.
+   *
+   * @return the results of the transfers, in the iteration order of the given files
+   */
+  public <T, R> List<R> transfer(final Collection<T> files, final Function<T, R> transfer) {
+    final var permits = new Semaphore(maxConcurrentTransfers);
+    final var failed = new AtomicBoolean();
+    final var transfers = new ArrayList<CompletableFuture<R>>(files.size());
+
+    for (final var file : files) {
+      permits.acquireUninterruptibly();
+      if (failed.get()) {
+        break;
+      }
+
+      final var pending = CompletableFuture.supplyAsync(() -> transfer.apply(file), executor);
+      transfers.add(
+          pending.whenComplete(
+              (ignored, error) -> {
+                if (error != null) {
+                  failed.set(true);
+                }
+                permits.release();
+              }));
+    }
+
+    try {
+      CompletableFuture.allOf(transfers.toArray(CompletableFuture[]::new)).join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+
+    return transfers.stream().map(CompletableFuture::join).toList();
+  }
+}
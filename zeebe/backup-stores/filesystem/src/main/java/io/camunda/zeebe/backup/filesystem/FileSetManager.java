@@ -9,9 +9,11 @@ package io.camunda.zeebe.backup.filesystem;
 
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.ContentChecksum;
 import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.common.ParallelFileTransfer;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -19,55 +21,93 @@ import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Stores the files of a backup content-addressed: every file is stored once per partition, as a
+ * blob named after the checksum of its content, at {@code
+ * contentsPath/partitionId/blobs/checksumPrefix/checksum}. Files which are contained in multiple
+ * backups of the same partition, like unchanged snapshot files or journal segments, are thus only
+ * stored once, and the manifest of each backup points at the shared blobs.
+ *
+ * <p>Blobs are not owned by a single backup; they are deleted by {@link #deleteUnreferencedBlobs}
+ * once no completed backup refers to them anymore. As the backup directory may be shared by
+ * multiple brokers, which can't synchronize with each other, this happens in two phases: a sweep
+ * first moves an unreferenced blob to {@code contentsPath/partitionId/trash}, from where it can
+ * still be restored, and only a later sweep deletes it for good, if it is still not referenced
+ * then. A backup which reused a blob while it was moved is thus never left without it.
+ *
+ * <p>Backups taken before content-addressed storage was introduced store their files under their
+ * name at {@code contentsPath/partitionId/checkpointId/nodeId/fileSetName}; these are recognized by
+ * their missing checksum, and can still be restored and deleted.
+ */
 final class FileSetManager {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileSetManager.class);
+  private static final String BLOBS_DIRECTORY = "blobs";
+  private static final String TRASH_DIRECTORY = "trash";
+  private static final String TEMPORARY_BLOB_SUFFIX = ".tmp";
+  private static final int BLOB_PREFIX_LENGTH = 2;
+  private static final int MAX_CONCURRENT_TRANSFERS = 8;
+
+  /**
+   * Blobs are only moved to the trash if they were last written before the sweep started, minus
+   * this grace period, and only deleted if they were moved before that point in time, to account
+   * for clock differences between brokers sharing the same backup directory.
+   */
+  private static final Duration DEFAULT_SWEEP_GRACE_PERIOD = Duration.ofMinutes(5);
 
   private final Path contentsPath;
+  private final ParallelFileTransfer transfer;
+  private final Duration sweepGracePeriod;
 
-  FileSetManager(final Path contentsPath) {
-    this.contentsPath = contentsPath;
+  FileSetManager(final Path contentsPath, final Executor executor) {
+    this(contentsPath, executor, DEFAULT_SWEEP_GRACE_PERIOD);
   }
 
-  void save(final BackupIdentifier id, final String fileSetName, final NamedFileSet fileSet) {
-    final var fileSetPath = fileSetPath(id, fileSetName);
+  FileSetManager(
+      final Path contentsPath, final Executor executor, final Duration sweepGracePeriod) {
+    this.contentsPath = contentsPath;
+    this.sweepGracePeriod = sweepGracePeriod;
+    transfer = new ParallelFileTransfer(executor, MAX_CONCURRENT_TRANSFERS);
+  }
 
+  /**
+   * Stores all files of the given file set as blobs, skipping the ones which are already stored.
+   *
+   * @return the stored file set, with the checksum of each file
+   */
+  FileSet save(final BackupIdentifier id, final NamedFileSet fileSet) {
+    final var blobsPath = blobsPath(id.partitionId());
     try {
-      FileUtil.ensureDirectoryExists(fileSetPath);
+      FileUtil.ensureDirectoryExists(blobsPath);
     } catch (final IOException e) {
       throw new UncheckedIOException("Unable to create backup directory", e);
     }
 
-    for (final var namedFile : fileSet.namedFiles().entrySet()) {
-      final var sourceFileName = namedFile.getKey();
-      final var sourceFilePath = namedFile.getValue();
-
-      final var targetFilePath = fileSetPath.resolve(sourceFileName);
-      try {
-        Files.copy(sourceFilePath, targetFilePath);
-        FileUtil.flush(targetFilePath);
-      } catch (final IOException e) {
-        throw new UncheckedIOException("Unable to copy file " + sourceFilePath, e);
-      }
-    }
-
-    try {
-      FileUtil.flushDirectory(fileSetPath);
-    } catch (final IOException e) {
-      throw new UncheckedIOException(
-          "Unable to flush directory "
-              + fileSetPath
-              + " data might not be consistent on the filesystem. Backup should be restarted.",
-          e);
-    }
+    return new FileSet(
+        transfer.transfer(
+            fileSet.namedFiles().entrySet(), namedFile -> saveFile(blobsPath, namedFile)));
   }
 
-  public void delete(final BackupIdentifier id, final String fileSetName) {
+  void delete(final BackupIdentifier id, final String fileSetName) {
     final var fileSetPath = fileSetPath(id, fileSetName);
+    if (!Files.exists(fileSetPath)) {
+      // content-addressed backups have no files of their own
+      return;
+    }
+
     try {
       FileUtil.deleteFolder(fileSetPath);
       FileUtil.flushDirectory(fileSetPath.getParent());
@@ -78,7 +118,46 @@ final class FileSetManager {
     }
   }
 
-  public NamedFileSet restore(
+  /**
+   * Deletes all blobs of the given partition which are not referenced anymore, in two phases: blobs
+   * which are not referenced are moved to the trash, and blobs which were moved to the trash by a
+   * previous sweep are deleted, unless they are referenced again, in which case they are moved
+   * back.
+   *
+   * <p>Blobs written after {@code keepWrittenAfter} are always kept, as they may belong to a backup
+   * which is still in progress and thus not yet referenced; blobs which a backup reuses are touched
+   * when they are reused, so the same applies to them. A sweep which checked a blob right before it
+   * was reused, e.g. on another broker, still moves it, but since it is referenced by the time the
+   * backup is completed, a later sweep moves it back instead of deleting it.
+   *
+   * @param partitionId the partition whose blobs to sweep
+   * @param referencedChecksums the checksums of all blobs referenced by completed backups
+   * @param keepWrittenAfter blobs written or moved to the trash after this point in time are kept
+   * @return the number of blobs moved to the trash
+   */
+  int deleteUnreferencedBlobs(
+      final int partitionId,
+      final Set<String> referencedChecksums,
+      final Instant keepWrittenAfter) {
+    final var cutOff = FileTime.from(keepWrittenAfter.minus(sweepGracePeriod));
+    final var blobsPath = blobsPath(partitionId);
+    final var trashPath = trashPath(partitionId);
+
+    // empty the trash first, such that blobs are kept there for at least one sweep
+    final var deletedBlobs = emptyTrash(trashPath, blobsPath, referencedChecksums, cutOff);
+    final var trashedBlobs = moveToTrash(blobsPath, trashPath, referencedChecksums, cutOff);
+
+    if (deletedBlobs > 0 || trashedBlobs > 0) {
+      LOGGER.debug(
+          "Deleted {} and moved {} unreferenced blobs of partition {} to the trash",
+          deletedBlobs,
+          trashedBlobs,
+          partitionId);
+    }
+    return trashedBlobs;
+  }
+
+  NamedFileSet restore(
       final BackupIdentifier id,
       final String fileSetName,
       final FileSet fileSet,
@@ -88,19 +167,20 @@ final class FileSetManager {
         fileSet.files().stream()
             .collect(Collectors.toMap(NamedFile::name, f -> targetFolder.resolve(f.name())));
 
-    final Path fileSetPath = fileSetPath(id, fileSetName);
-    for (final var entry : pathByName.entrySet()) {
-      final var fileName = entry.getKey();
-      final var filePath = entry.getValue();
-      final var backupFilePath = fileSetPath.resolve(fileName);
-
-      try {
-        Files.copy(backupFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
-        FileUtil.flush(filePath);
-      } catch (final IOException e) {
-        throw new UncheckedIOException("Unable to restore file " + fileName, e);
-      }
-    }
+    final var fileSetPath = fileSetPath(id, fileSetName);
+    final var blobsPath = blobsPath(id.partitionId());
+    final var trashPath = trashPath(id.partitionId());
+    transfer.transfer(
+        fileSet.files(),
+        file -> {
+          final var source =
+              file.isContentAddressed()
+                  ? blobSource(blobsPath, trashPath, file.checksum())
+                  : fileSetPath.resolve(file.name());
+          restoreFile(file, source, pathByName.get(file.name()));
+          return null;
+        });
+
     try {
       FileUtil.flushDirectory(targetFolder);
     } catch (final IOException e) {
@@ -116,6 +196,180 @@ final class FileSetManager {
     return new NamedFileSetImpl(pathByName);
   }
 
+  private NamedFile saveFile(final Path blobsPath, final Entry<String, Path> namedFile) {
+    final var sourceFilePath = namedFile.getValue();
+    try {
+      final var checksum = ContentChecksum.of(sourceFilePath);
+      if (reuseBlob(blobPath(blobsPath, checksum))) {
+        return new NamedFile(namedFile.getKey(), checksum);
+      }
+
+      return new NamedFile(namedFile.getKey(), writeBlob(blobsPath, sourceFilePath));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to copy file " + sourceFilePath, e);
+    }
+  }
+
+  /**
+   * Touches the blob, if it exists, so that a concurrent sweep does not move it to the trash before
+   * the backup reusing it is completed. If a sweep checked the blob right before, and moves it
+   * anyway, it is kept in the trash until the backup is completed, and then moved back.
+   *
+   * @return true if the blob exists and can be reused, false otherwise
+   */
+  private boolean reuseBlob(final Path blob) throws IOException {
+    try {
+      Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+      return true;
+    } catch (final NoSuchFileException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Moves all blobs which are not referenced and were last written before the cut-off to the trash.
+   * A blob is touched before it is moved, so that its modification time in the trash is the time it
+   * was moved at.
+   */
+  private int moveToTrash(
+      final Path blobsPath,
+      final Path trashPath,
+      final Set<String> referencedChecksums,
+      final FileTime cutOff) {
+    if (!Files.exists(blobsPath)) {
+      return 0;
+    }
+
+    var trashedBlobs = 0;
+    try (final Stream<Path> files = Files.walk(blobsPath)) {
+      for (final var blob : files.filter(Files::isRegularFile).toList()) {
+        final var checksum = blob.getFileName().toString();
+        if (referencedChecksums.contains(checksum)) {
+          continue;
+        }
+
+        try {
+          if (Files.getLastModifiedTime(blob).compareTo(cutOff) < 0) {
+            Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+            final var trashedBlob = blobPath(trashPath, checksum);
+            FileUtil.ensureDirectoryExists(trashedBlob.getParent());
+            FileUtil.moveDurably(blob, trashedBlob, StandardCopyOption.ATOMIC_MOVE);
+            trashedBlobs++;
+          }
+        } catch (final NoSuchFileException e) {
+          // already moved by a concurrent sweep
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to move unreferenced blobs in " + blobsPath, e);
+    }
+
+    return trashedBlobs;
+  }
+
+  /**
+   * Deletes all blobs in the trash which are not referenced and were moved there before the
+   * cut-off. Blobs which are referenced again, because a backup reused them while they were moved,
+   * are moved back.
+   */
+  private int emptyTrash(
+      final Path trashPath,
+      final Path blobsPath,
+      final Set<String> referencedChecksums,
+      final FileTime cutOff) {
+    if (!Files.exists(trashPath)) {
+      return 0;
+    }
+
+    var deletedBlobs = 0;
+    try (final Stream<Path> files = Files.walk(trashPath)) {
+      for (final var trashedBlob : files.filter(Files::isRegularFile).toList()) {
+        final var checksum = trashedBlob.getFileName().toString();
+        try {
+          if (referencedChecksums.contains(checksum)) {
+            final var blob = blobPath(blobsPath, checksum);
+            FileUtil.ensureDirectoryExists(blob.getParent());
+            FileUtil.moveDurably(trashedBlob, blob, StandardCopyOption.ATOMIC_MOVE);
+          } else if (Files.getLastModifiedTime(trashedBlob).compareTo(cutOff) < 0
+              && Files.deleteIfExists(trashedBlob)) {
+            deletedBlobs++;
+          }
+        } catch (final NoSuchFileException e) {
+          // already moved back or deleted by a concurrent sweep
+        }
+      }
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to empty the trash in " + trashPath, e);
+    }
+
+    return deletedBlobs;
+  }
+
+  /**
+   * Copies the file to a temporary file first, and then moves it atomically to its blob path, so
+   * that a blob is either complete or does not exist. The checksum is computed from the copied
+   * bytes, which keeps the blob consistent with its name even if the source file was modified after
+   * it was first hashed, e.g. because it is the journal segment which is currently written to.
+   *
+   * @return the checksum of the written blob
+   */
+  private String writeBlob(final Path blobsPath, final Path sourceFilePath) throws IOException {
+    final var temporaryBlob = blobsPath.resolve(UUID.randomUUID() + TEMPORARY_BLOB_SUFFIX);
+    try {
+      final String checksum;
+      try (final var source = Files.newInputStream(sourceFilePath);
+          final var target = Files.newOutputStream(temporaryBlob, StandardOpenOption.CREATE_NEW)) {
+        checksum = ContentChecksum.copy(source, target);
+      }
+      FileUtil.flush(temporaryBlob);
+
+      final var blob = blobPath(blobsPath, checksum);
+      FileUtil.ensureDirectoryExists(blob.getParent());
+      FileUtil.moveDurably(temporaryBlob, blob, StandardCopyOption.ATOMIC_MOVE);
+      return checksum;
+    } finally {
+      Files.deleteIfExists(temporaryBlob);
+    }
+  }
+
+  private void restoreFile(final NamedFile file, final Path source, final Path target) {
+    try {
+      if (file.isContentAddressed()) {
+        try (final var input = Files.newInputStream(source);
+            final var output = Files.newOutputStream(target)) {
+          ContentChecksum.copyVerified(file.name(), file.checksum(), input, output);
+        }
+      } else {
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+      }
+      FileUtil.flush(target);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Unable to restore file " + file.name(), e);
+    }
+  }
+
+  /**
+   * Returns the path of the blob, or of its copy in the trash if it was moved there since the
+   * backup was completed, and not moved back yet.
+   */
+  private Path blobSource(final Path blobsPath, final Path trashPath, final String checksum) {
+    final var blob = blobPath(blobsPath, checksum);
+    final var trashedBlob = blobPath(trashPath, checksum);
+    return Files.exists(blob) || !Files.exists(trashedBlob) ? blob : trashedBlob;
+  }
+
+  private Path blobsPath(final int partitionId) {
+    return contentsPath.resolve(String.valueOf(partitionId)).resolve(BLOBS_DIRECTORY);
+  }
+
+  private Path trashPath(final int partitionId) {
+    return contentsPath.resolve(String.valueOf(partitionId)).resolve(TRASH_DIRECTORY);
+  }
+
+  private Path blobPath(final Path blobsPath, final String checksum) {
+    return blobsPath.resolve(checksum.substring(0, BLOB_PREFIX_LENGTH)).resolve(checksum);
+  }
+
   private Path fileSetPath(final BackupIdentifier id, final String fileSetName) {
     return contentsPath
         .resolve(String.valueOf(id.partitionId()))
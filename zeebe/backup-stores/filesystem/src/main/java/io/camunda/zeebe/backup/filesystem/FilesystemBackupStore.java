@@ -10,24 +10,32 @@ package io.camunda.zeebe.backup.filesystem;
 import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard.CheckpointPattern;
 import io.camunda.zeebe.backup.api.BackupIndexFile;
 import io.camunda.zeebe.backup.api.BackupIndexIdentifier;
 import io.camunda.zeebe.backup.api.BackupStatus;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
 import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
 import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStatusImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.StatusCode;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,7 +43,9 @@ import org.slf4j.LoggerFactory;
  * {@link BackupStore} for local filesystem. Stores all backups in a given baseDir.
  *
  * <p>All created object keys are prefixed by the {@link BackupIdentifier}, with the following
- * scheme: {@code basePath/partitionId/checkpointId/nodeId}.
+ * scheme: {@code basePath/partitionId/checkpointId/nodeId}. The backed up files themselves are
+ * stored content-addressed and shared between the backups of a partition, see {@link
+ * FileSetManager}.
  */
 public final class FilesystemBackupStore implements BackupStore {
 
@@ -77,7 +87,7 @@ public final class FilesystemBackupStore implements BackupStore {
           e);
     }
 
-    fileSetManager = new FileSetManager(contentsDir);
+    fileSetManager = new FileSetManager(contentsDir, executor);
     manifestManager = new ManifestManager(manifestsDir);
     indexManager = new FilesystemIndexManager(indexDir);
   }
@@ -88,9 +98,9 @@ public final class FilesystemBackupStore implements BackupStore {
         () -> {
           final var manifest = manifestManager.createInitialManifest(backup);
           try {
-            fileSetManager.save(backup.id(), SNAPSHOT_FILESET_NAME, backup.snapshot());
-            fileSetManager.save(backup.id(), SEGMENTS_FILESET_NAME, backup.segments());
-            manifestManager.completeManifest(manifest);
+            final var snapshot = fileSetManager.save(backup.id(), backup.snapshot());
+            final var segments = fileSetManager.save(backup.id(), backup.segments());
+            manifestManager.completeManifest(manifest, snapshot, segments);
           } catch (final Exception e) {
             manifestManager.markAsFailed(manifest.id(), e.getMessage());
             throw e;
@@ -126,10 +136,39 @@ public final class FilesystemBackupStore implements BackupStore {
           manifestManager.deleteManifest(id);
           fileSetManager.delete(id, SNAPSHOT_FILESET_NAME);
           fileSetManager.delete(id, SEGMENTS_FILESET_NAME);
+          deleteUnreferencedBlobs(id.partitionId());
         },
         executor);
   }
 
+  /**
+   * Blobs are shared between all backups of a partition, so they are reference counted by the
+   * manifests of the completed backups. Backups in progress do not reference their blobs yet, so
+   * every blob written since the oldest one of them started is kept as well.
+   */
+  private void deleteUnreferencedBlobs(final int partitionId) {
+    var keepWrittenAfter = Instant.now();
+    final var referencedChecksums = new HashSet<String>();
+    final var manifests =
+        manifestManager.listManifests(
+            new BackupIdentifierWildcardImpl(
+                Optional.empty(), Optional.of(partitionId), CheckpointPattern.any()));
+    // a failed backup cannot be restored, so the blobs it references are not needed anymore
+    for (final var manifest : manifests) {
+      if (manifest.statusCode() == StatusCode.COMPLETED) {
+        final var completed = manifest.asCompleted();
+        Stream.concat(completed.snapshot().files().stream(), completed.segments().files().stream())
+            .filter(NamedFile::isContentAddressed)
+            .forEach(file -> referencedChecksums.add(file.checksum()));
+      } else if (manifest.statusCode() == StatusCode.IN_PROGRESS
+          && manifest.createdAt().isBefore(keepWrittenAfter)) {
+        keepWrittenAfter = manifest.createdAt();
+      }
+    }
+
+    fileSetManager.deleteUnreferencedBlobs(partitionId, referencedChecksums, keepWrittenAfter);
+  }
+
   @Override
   public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
     return CompletableFuture.supplyAsync(
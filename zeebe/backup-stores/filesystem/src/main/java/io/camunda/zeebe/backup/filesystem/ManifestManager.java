@@ -17,7 +17,9 @@ import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
+import io.camunda.zeebe.backup.common.FileSet;
 import io.camunda.zeebe.backup.common.Manifest;
+import io.camunda.zeebe.backup.common.Manifest.CompletedManifest;
 import io.camunda.zeebe.backup.common.Manifest.InProgressManifest;
 import io.camunda.zeebe.backup.common.Manifest.StatusCode;
 import io.camunda.zeebe.util.FileUtil;
@@ -94,8 +96,17 @@ public final class ManifestManager {
   }
 
   void completeManifest(final InProgressManifest inProgressManifest) {
+    completeManifest(inProgressManifest, inProgressManifest.complete());
+  }
+
+  void completeManifest(
+      final InProgressManifest inProgressManifest, final FileSet snapshot, final FileSet segments) {
+    completeManifest(inProgressManifest, inProgressManifest.complete(snapshot, segments));
+  }
+
+  private void completeManifest(
+      final InProgressManifest inProgressManifest, final CompletedManifest completed) {
     final byte[] serializedManifest;
-    final var completed = inProgressManifest.complete();
     try {
       serializedManifest = MAPPER.writeValueAsBytes(completed);
 
@@ -108,7 +119,12 @@ public final class ManifestManager {
                 .formatted(existingManifest.statusCode().name()));
       }
       final var path = manifestPath(inProgressManifest);
-      Files.write(path, serializedManifest, StandardOpenOption.CREATE, StandardOpenOption.SYNC);
+      Files.write(
+          path,
+          serializedManifest,
+          StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.SYNC);
     } catch (final IOException e) {
       throw new UncheckedIOException("Unable to write updated manifest", e);
     }
@@ -8,19 +8,30 @@
 package io.camunda.zeebe.backup.filesystem;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.backup.api.BackupIdentifier;
 import io.camunda.zeebe.backup.api.NamedFileSet;
 import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupStoreException.ContentChecksumMismatch;
+import io.camunda.zeebe.backup.common.ContentChecksum;
 import io.camunda.zeebe.backup.common.FileSet;
+import io.camunda.zeebe.backup.common.FileSet.NamedFile;
 import io.camunda.zeebe.backup.common.NamedFileSetImpl;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -30,6 +41,7 @@ class FileSetManagerTest {
   @TempDir Path backupDir;
 
   @TempDir Path tempDir;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
   private FileSetManager fileSetManager;
   private BackupIdentifier backupIdentifier;
   private FileSet fileSet;
@@ -38,21 +50,201 @@ class FileSetManagerTest {
   void setUp() {
 
     // do not mock the backupIdentifier
-    fileSetManager = new FileSetManager(backupDir);
+    fileSetManager = new FileSetManager(backupDir, executor, Duration.ZERO);
     backupIdentifier = new BackupIdentifierImpl(1337, 0, 42L);
     fileSet = mock(FileSet.class);
   }
 
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
   @Test
   void testSave() throws IOException {
     final Path filePath = tempDir.resolve("testFile.txt");
-    Files.createFile(filePath);
+    Files.writeString(filePath, "content");
     final var namedFileSet = new NamedFileSetImpl(Map.of("testFile.txt", filePath));
 
-    fileSetManager.save(backupIdentifier, "fileSetName", namedFileSet);
+    final var savedFileSet = fileSetManager.save(backupIdentifier, namedFileSet);
+
+    final var checksum = ContentChecksum.of(filePath);
+    assertThat(savedFileSet.files()).containsExactly(new NamedFile("testFile.txt", checksum));
+    final Path savedFilePath = blobPath(checksum);
+    assertThat(savedFilePath).hasContent("content");
+  }
+
+  @Test
+  void shouldStoreIdenticalFilesOnlyOnce() throws IOException {
+    // given
+    final Path firstFile = tempDir.resolve("first.txt");
+    final Path secondFile = tempDir.resolve("second.txt");
+    Files.writeString(firstFile, "content");
+    Files.writeString(secondFile, "content");
+
+    // when
+    fileSetManager.save(backupIdentifier, new NamedFileSetImpl(Map.of("file", firstFile)));
+    fileSetManager.save(
+        new BackupIdentifierImpl(1337, 0, 43L),
+        new NamedFileSetImpl(Map.of("file", firstFile, "other", secondFile)));
+
+    // then
+    try (final var files = Files.walk(backupDir)) {
+      assertThat(files.filter(Files::isRegularFile))
+          .containsExactly(blobPath(ContentChecksum.of(firstFile)));
+    }
+  }
+
+  @Test
+  void shouldDeleteOnlyUnreferencedBlobs() throws IOException {
+    // given
+    final Path referencedFile = tempDir.resolve("referenced.txt");
+    final Path unreferencedFile = tempDir.resolve("unreferenced.txt");
+    Files.writeString(referencedFile, "referenced");
+    Files.writeString(unreferencedFile, "unreferenced");
+    fileSetManager.save(
+        backupIdentifier,
+        new NamedFileSetImpl(Map.of("referenced", referencedFile, "other", unreferencedFile)));
+    final var referencedChecksum = ContentChecksum.of(referencedFile);
+
+    // when
+    final var trashedBlobs =
+        fileSetManager.deleteUnreferencedBlobs(
+            backupIdentifier.partitionId(), Set.of(referencedChecksum), Instant.now());
+
+    // then
+    assertThat(trashedBlobs).isOne();
+    assertThat(blobPath(referencedChecksum)).exists();
+    assertThat(blobPath(ContentChecksum.of(unreferencedFile))).doesNotExist();
+  }
+
+  @Test
+  void shouldDeleteTrashedBlobsOnNextSweep() throws IOException {
+    // given
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    fileSetManager.save(backupIdentifier, new NamedFileSetImpl(Map.of("file", filePath)));
+    fileSetManager.deleteUnreferencedBlobs(backupIdentifier.partitionId(), Set.of(), Instant.now());
+    assertThat(trashPath(ContentChecksum.of(filePath))).exists();
+
+    // when
+    fileSetManager.deleteUnreferencedBlobs(backupIdentifier.partitionId(), Set.of(), Instant.now());
+
+    // then
+    try (final var files = Files.walk(backupDir)) {
+      assertThat(files.filter(Files::isRegularFile)).isEmpty();
+    }
+  }
+
+  @Test
+  void shouldKeepTrashedBlobsWithinGracePeriod() throws IOException {
+    // given
+    final var sweepingBroker = new FileSetManager(backupDir, executor, Duration.ofMinutes(5));
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var checksum = ContentChecksum.of(filePath);
+    fileSetManager.save(backupIdentifier, new NamedFileSetImpl(Map.of("file", filePath)));
+    Files.setLastModifiedTime(
+        blobPath(checksum), FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+    sweepingBroker.deleteUnreferencedBlobs(backupIdentifier.partitionId(), Set.of(), Instant.now());
 
-    final Path savedFilePath = backupDir.resolve("0/42/1337/fileSetName/testFile.txt");
-    assertThat(Files.exists(savedFilePath)).isTrue();
+    // when
+    sweepingBroker.deleteUnreferencedBlobs(backupIdentifier.partitionId(), Set.of(), Instant.now());
+
+    // then
+    assertThat(trashPath(checksum)).hasContent("content");
+  }
+
+  @Test
+  void shouldKeepBlobsWrittenAfterSweepStarted() throws IOException {
+    // given
+    final var sweepStart = Instant.now().minusSeconds(60);
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    fileSetManager.save(backupIdentifier, new NamedFileSetImpl(Map.of("file", filePath)));
+
+    // when
+    final var deletedBlobs =
+        fileSetManager.deleteUnreferencedBlobs(
+            backupIdentifier.partitionId(), Set.of(), sweepStart);
+
+    // then
+    assertThat(deletedBlobs).isZero();
+    assertThat(blobPath(ContentChecksum.of(filePath))).exists();
+  }
+
+  @Test
+  void shouldKeepBlobReusedByAnotherBrokerWhileItIsSwept() throws IOException {
+    // given - a blob whose backup was deleted, so that it can be swept
+    final var otherBroker = new FileSetManager(backupDir, executor, Duration.ZERO);
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var checksum = ContentChecksum.of(filePath);
+    fileSetManager.save(backupIdentifier, new NamedFileSetImpl(Map.of("file", filePath)));
+    Files.setLastModifiedTime(
+        blobPath(checksum), FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+
+    // when - another broker reuses the blob for its backup, while a sweep on this broker, which
+    // listed the manifests before that backup was completed, and checked the blob right before it
+    // was reused, removes the blob
+    final var reusingBackup = new BackupIdentifierImpl(1338, 0, 43L);
+    final var savedFileSet =
+        otherBroker.save(reusingBackup, new NamedFileSetImpl(Map.of("file", filePath)));
+    final var checkedBeforeReuse = Instant.now().plusSeconds(1);
+    fileSetManager.deleteUnreferencedBlobs(
+        backupIdentifier.partitionId(), Set.of(), checkedBeforeReuse);
+
+    // then - the backup of the other broker can still be restored
+    final Path targetFolder = Files.createDirectories(tempDir.resolve("restoreTarget"));
+    otherBroker.restore(reusingBackup, "fileSetName", savedFileSet, targetFolder);
+    assertThat(targetFolder.resolve("file")).hasContent("content");
+
+    // when - the next sweep sees the completed backup
+    fileSetManager.deleteUnreferencedBlobs(
+        backupIdentifier.partitionId(), Set.of(checksum), Instant.now().plusSeconds(1));
+
+    // then - the blob is moved back instead of deleted
+    assertThat(blobPath(checksum)).hasContent("content");
+    assertThat(trashPath(checksum)).doesNotExist();
+  }
+
+  @Test
+  void shouldRestoreSavedFiles() throws IOException {
+    // given
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var savedFileSet =
+        fileSetManager.save(
+            backupIdentifier, new NamedFileSetImpl(Map.of("testFile.txt", filePath)));
+    final Path targetFolder = Files.createDirectories(tempDir.resolve("restoreTarget"));
+
+    // when
+    final var restoredFileSet =
+        fileSetManager.restore(backupIdentifier, "fileSetName", savedFileSet, targetFolder);
+
+    // then
+    final Path restoredFilePath = targetFolder.resolve("testFile.txt");
+    assertThat(restoredFilePath).hasContent("content");
+    assertThat(restoredFileSet.namedFiles()).containsEntry("testFile.txt", restoredFilePath);
+  }
+
+  @Test
+  void shouldFailToRestoreCorruptedBlob() throws IOException {
+    // given
+    final Path filePath = tempDir.resolve("testFile.txt");
+    Files.writeString(filePath, "content");
+    final var savedFileSet =
+        fileSetManager.save(
+            backupIdentifier, new NamedFileSetImpl(Map.of("testFile.txt", filePath)));
+    Files.writeString(blobPath(ContentChecksum.of(filePath)), "corrupted");
+    final Path targetFolder = Files.createDirectories(tempDir.resolve("restoreTarget"));
+
+    // when - then
+    assertThatThrownBy(
+            () ->
+                fileSetManager.restore(backupIdentifier, "fileSetName", savedFileSet, targetFolder))
+        .isInstanceOf(ContentChecksumMismatch.class)
+        .hasMessageContaining("testFile.txt");
   }
 
   @Test
@@ -71,7 +263,7 @@ class FileSetManagerTest {
   }
 
   @Test
-  void testRestore() throws IOException {
+  void testRestoreFilesStoredUnderTheirName() throws IOException {
     final Path backupFilePath = backupDir.resolve("0/42/1337/fileSetName/testFile.txt");
     Files.createDirectories(backupFilePath.getParent());
     Files.createFile(backupFilePath);
@@ -87,4 +279,12 @@ class FileSetManagerTest {
     assertThat(Files.exists(restoredFilePath)).isTrue();
     assertThat(restoredFileSet.namedFiles()).containsEntry("testFile.txt", restoredFilePath);
   }
+
+  private Path blobPath(final String checksum) {
+    return backupDir.resolve("0/blobs").resolve(checksum.substring(0, 2)).resolve(checksum);
+  }
+
+  private Path trashPath(final String checksum) {
+    return backupDir.resolve("0/trash").resolve(checksum.substring(0, 2)).resolve(checksum);
+  }
 }
@@ -16,6 +16,8 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.camunda.zeebe.backup.api.Backup;
 import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
 import io.camunda.zeebe.backup.common.BackupStoreException.UnexpectedManifestState;
 import io.camunda.zeebe.backup.common.Manifest;
 import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
@@ -123,6 +125,33 @@ public class FilesystemBackupStoreIT implements BackupStoreTestKit {
                 but was in state 'IN_PROGRESS'""");
   }
 
+  @ParameterizedTest
+  @ArgumentsSource(TestBackupProvider.class)
+  void shouldShareFilesBetweenBackups(final Backup backup, @TempDir final Path targetDir)
+      throws IOException {
+    // given
+    final var id = backup.id();
+    final var laterBackup =
+        new BackupImpl(
+            new BackupIdentifierImpl(id.nodeId(), id.partitionId(), id.checkpointId() + 1),
+            backup.descriptor(),
+            backup.snapshot(),
+            backup.segments());
+    getStore().save(backup).join();
+    getStore().save(laterBackup).join();
+
+    // when
+    getStore().delete(backup.id()).join();
+
+    // then
+    final var fileCount = backup.snapshot().files().size() + backup.segments().files().size();
+    try (final var blobs = Files.walk(backupDir.resolve("contents"))) {
+      assertThat(blobs.filter(Files::isRegularFile)).hasSizeLessThanOrEqualTo(fileCount);
+    }
+    assertThat(getStore().restore(laterBackup.id(), targetDir))
+        .succeedsWithin(Duration.ofSeconds(10));
+  }
+
   void uploadInProgressManifest(final Backup backup) {
     final var manifest = Manifest.createInProgress(backup);
     final byte[] serializedManifest;
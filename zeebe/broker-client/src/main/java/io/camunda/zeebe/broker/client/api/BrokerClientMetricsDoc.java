@@ -11,6 +11,7 @@ import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
 import io.micrometer.common.docs.KeyName;
 import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
 
 /** Provides metrics relating to the communication between brokers and gateways. */
 @SuppressWarnings("NullableProblems")
@@ -99,6 +100,88 @@ public enum BrokerClientMetricsDoc implements ExtendedMeterDocumentation {
     }
   },
 
+  /** Number of commands sent together to a partition in one request batch */
+  REQUEST_BATCH_SIZE {
+    private static final double[] BUCKETS = {2, 4, 8, 16, 32, 64, 128, 256};
+
+    @Override
+    public String getDescription() {
+      return "Number of commands sent together to a partition in one request batch";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.gateway.request.batch.size";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.DISTRIBUTION_SUMMARY;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+
+    @Override
+    public double[] getDistributionSLOs() {
+      return BUCKETS;
+    }
+  },
+
+  /** Time a sampled request spent in each stage within the gateway, organized by stage */
+  REQUEST_STAGE_LATENCY {
+    private static final Duration[] BUCKETS = {
+      Duration.ofNanos(50_000),
+      Duration.ofNanos(100_000),
+      Duration.ofNanos(250_000),
+      Duration.ofNanos(500_000),
+      Duration.ofMillis(1),
+      Duration.ofNanos(2_500_000),
+      Duration.ofMillis(5),
+      Duration.ofMillis(10),
+      Duration.ofMillis(25),
+      Duration.ofMillis(50),
+      Duration.ofMillis(100),
+      Duration.ofMillis(250),
+      Duration.ofMillis(500),
+      Duration.ofSeconds(1),
+      Duration.ofMillis(2500),
+      Duration.ofSeconds(5)
+    };
+
+    @Override
+    public String getDescription() {
+      return "Time a sampled request spent in each stage within the gateway, organized by stage";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.gateway.request.stage.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return StageKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+  },
+
   /** The partition role of the broker. Possible values are those at {@link PartitionRoleValues} */
   PARTITION_ROLE {
     @Override
@@ -169,6 +252,38 @@ public enum BrokerClientMetricsDoc implements ExtendedMeterDocumentation {
     }
   }
 
+  /** Tags/labels associated with the {@link #REQUEST_STAGE_LATENCY} metric. */
+  public enum StageKeyNames implements KeyName {
+    /** The stage of the request; see {@link RequestStage} for possible values */
+    STAGE {
+      @Override
+      public String asString() {
+        return "stage";
+      }
+    }
+  }
+
+  /**
+   * The stages of a request within the gateway, each measured on the gateway's monotonic clock.
+   * What happens in between on the broker is traced by the broker itself.
+   */
+  public enum RequestStage {
+    /** From the gateway receiving the request until the broker client sent it to the broker */
+    DISPATCH("dispatch"),
+    /** From the broker client sending the request until it received the response */
+    ROUND_TRIP("roundTrip");
+
+    private final String value;
+
+    RequestStage(final String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
   /** Possibly key names for the topology metrics */
   public enum TopologyKeyNames implements KeyName {
     /** A tag/label which specifies the broker; possible values are the broker's node ID. */
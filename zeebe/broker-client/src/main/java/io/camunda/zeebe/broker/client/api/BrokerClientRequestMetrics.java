@@ -8,16 +8,23 @@
 package io.camunda.zeebe.broker.client.api;
 
 import static io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.FAILED_REQUESTS;
+import static io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.REQUEST_BATCH_SIZE;
 import static io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.REQUEST_LATENCY;
+import static io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.REQUEST_STAGE_LATENCY;
 import static io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.TOTAL_REQUESTS;
 
 import io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.RequestKeyNames;
+import io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.RequestStage;
+import io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.StageKeyNames;
 import io.camunda.zeebe.util.collection.Map3D;
 import io.camunda.zeebe.util.collection.Table;
 import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
@@ -31,6 +38,8 @@ public final class BrokerClientRequestMetrics {
   private final Table<Integer, String, Timer> requestLatency;
   private final Table<Integer, String, Counter> totalRequests;
   private final Map3D<Integer, String, Enum<?>, Counter> failedRequests;
+  private final Map<Integer, DistributionSummary> requestBatchSize;
+  private final Table<Integer, RequestStage, Timer> requestStageLatency;
 
   public BrokerClientRequestMetrics(final MeterRegistry registry) {
     this.registry = Objects.requireNonNull(registry, "must specify a meter registry");
@@ -38,6 +47,8 @@ public final class BrokerClientRequestMetrics {
     requestLatency = Table.simple();
     totalRequests = Table.simple();
     failedRequests = Map3D.simple();
+    requestBatchSize = new HashMap<>();
+    requestStageLatency = Table.simple();
   }
 
   /** Increments the count of successful requests for the given parameters, using these as tags. */
@@ -62,6 +73,36 @@ public final class BrokerClientRequestMetrics {
         .increment();
   }
 
+  /** Records the number of commands which were sent to the given partition in one batch. */
+  public void registerRequestBatch(final int partitionId, final int batchSize) {
+    requestBatchSize.computeIfAbsent(partitionId, this::registerRequestBatchSize).record(batchSize);
+  }
+
+  /** Records the time a sampled request spent in the given stage, between two monotonic times. */
+  public void registerRequestStage(
+      final int partitionId, final RequestStage stage, final long start, final long end) {
+    requestStageLatency
+        .computeIfAbsent(partitionId, stage, this::registerRequestStageLatency)
+        .record(Math.max(0, end - start), TimeUnit.NANOSECONDS);
+  }
+
+  private Timer registerRequestStageLatency(final int partitionId, final RequestStage stage) {
+    return Timer.builder(REQUEST_STAGE_LATENCY.getName())
+        .description(REQUEST_STAGE_LATENCY.getDescription())
+        .serviceLevelObjectives(REQUEST_STAGE_LATENCY.getTimerSLOs())
+        .tag(StageKeyNames.STAGE.asString(), stage.getValue())
+        .tag(PartitionKeyNames.PARTITION.asString(), String.valueOf(partitionId))
+        .register(registry);
+  }
+
+  private DistributionSummary registerRequestBatchSize(final int partitionId) {
+    return DistributionSummary.builder(REQUEST_BATCH_SIZE.getName())
+        .description(REQUEST_BATCH_SIZE.getDescription())
+        .serviceLevelObjectives(REQUEST_BATCH_SIZE.getDistributionSLOs())
+        .tag(PartitionKeyNames.PARTITION.asString(), String.valueOf(partitionId))
+        .register(registry);
+  }
+
   private Counter registerFailedRequestCounter(
       final int partitionId, final String requestType, final Enum<?> error) {
     return Counter.builder(FAILED_REQUESTS.getName())
@@ -33,11 +33,19 @@ public abstract class BrokerRequest<T> implements ClientRequest {
   protected final int schemaId;
   protected final int templateId;
 
+  // the gateway creates the request as soon as it received the call, so this marks its receipt
+  private final long createdAt = System.nanoTime();
+
   public BrokerRequest(final int schemaId, final int templateId) {
     this.schemaId = schemaId;
     this.templateId = templateId;
   }
 
+  /** Returns the monotonic time, as per {@link System#nanoTime()}, at which this was created. */
+  public long getCreatedAt() {
+    return createdAt;
+  }
+
   public Optional<Integer> getBrokerId() {
     return Optional.empty();
   }
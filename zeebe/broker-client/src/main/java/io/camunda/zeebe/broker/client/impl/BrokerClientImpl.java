@@ -46,6 +46,60 @@ public final class BrokerClientImpl implements BrokerClient {
       final ActorSchedulingService schedulingService,
       final BrokerTopologyManager topologyManager,
       final BrokerClientRequestMetrics metrics) {
+    this(
+        requestTimeout,
+        1,
+        Duration.ZERO,
+        messagingService,
+        eventService,
+        schedulingService,
+        topologyManager,
+        metrics);
+  }
+
+  /**
+   * @param maxRequestBatchSize the maximum number of commands sent together to a partition in one
+   *     message; one or less sends every command on its own
+   * @param requestBatchWindow how long commands for a partition are gathered before being sent
+   */
+  public BrokerClientImpl(
+      final Duration requestTimeout,
+      final int maxRequestBatchSize,
+      final Duration requestBatchWindow,
+      final MessagingService messagingService,
+      final ClusterEventService eventService,
+      final ActorSchedulingService schedulingService,
+      final BrokerTopologyManager topologyManager,
+      final BrokerClientRequestMetrics metrics) {
+    this(
+        requestTimeout,
+        maxRequestBatchSize,
+        requestBatchWindow,
+        0,
+        messagingService,
+        eventService,
+        schedulingService,
+        topologyManager,
+        metrics);
+  }
+
+  /**
+   * @param maxRequestBatchSize the maximum number of commands sent together to a partition in one
+   *     message; one or less sends every command on its own
+   * @param requestBatchWindow how long commands for a partition are gathered before being sent
+   * @param requestLatencySamplingRate the share of requests, between 0 (none) and 1 (all), whose
+   *     time spent in each stage within the gateway is recorded
+   */
+  public BrokerClientImpl(
+      final Duration requestTimeout,
+      final int maxRequestBatchSize,
+      final Duration requestBatchWindow,
+      final double requestLatencySamplingRate,
+      final MessagingService messagingService,
+      final ClusterEventService eventService,
+      final ActorSchedulingService schedulingService,
+      final BrokerTopologyManager topologyManager,
+      final BrokerClientRequestMetrics metrics) {
     this.eventService = eventService;
     this.schedulingService = schedulingService;
 
@@ -57,7 +111,10 @@ public final class BrokerClientImpl implements BrokerClient {
             topologyManager,
             new RoundRobinDispatchStrategy(),
             requestTimeout,
-            metrics);
+            metrics,
+            maxRequestBatchSize,
+            requestBatchWindow,
+            requestLatencySamplingRate);
   }
 
   @Override
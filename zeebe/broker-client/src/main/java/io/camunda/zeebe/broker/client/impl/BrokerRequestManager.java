@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.client.impl;
 
 import io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.AdditionalErrorCodes;
+import io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.RequestStage;
 import io.camunda.zeebe.broker.client.api.BrokerClientRequestMetrics;
 import io.camunda.zeebe.broker.client.api.BrokerClusterState;
 import io.camunda.zeebe.broker.client.api.BrokerErrorException;
@@ -25,27 +26,39 @@ import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
+import io.camunda.zeebe.transport.RequestType;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 import java.util.function.ToIntFunction;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
 
 final class BrokerRequestManager extends Actor {
 
   private static final TransportRequestSender SENDER_WITH_RETRY =
       (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
+  private static final long NOT_TRACED = Long.MIN_VALUE;
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManager topologyManager;
   private final Duration requestTimeout;
   private final BrokerClientRequestMetrics metrics;
+  private final int maxBatchSize;
+  private final Duration batchWindow;
+  private final double requestLatencySamplingRate;
+  private final Int2ObjectHashMap<RequestBatch> batchesWithRetry = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<RequestBatch> batchesWithoutRetry = new Int2ObjectHashMap<>();
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
@@ -53,11 +66,48 @@ final class BrokerRequestManager extends Actor {
       final RequestDispatchStrategy dispatchStrategy,
       final Duration requestTimeout,
       final BrokerClientRequestMetrics metrics) {
+    this(
+        clientTransport,
+        topologyManager,
+        dispatchStrategy,
+        requestTimeout,
+        metrics,
+        1,
+        Duration.ZERO,
+        0);
+  }
+
+  /**
+   * @param maxBatchSize the maximum number of commands for the same partition which are sent to it
+   *     together in one message; one or less disables batching
+   * @param batchWindow how long to gather commands for a partition before sending them; with a
+   *     window of zero, only commands which are already queued up are sent together
+   * @param requestLatencySamplingRate the share of requests, between 0 (none) and 1 (all), whose
+   *     time spent in each {@link RequestStage stage} within the gateway is recorded
+   */
+  BrokerRequestManager(
+      final ClientTransport clientTransport,
+      final BrokerTopologyManager topologyManager,
+      final RequestDispatchStrategy dispatchStrategy,
+      final Duration requestTimeout,
+      final BrokerClientRequestMetrics metrics,
+      final int maxBatchSize,
+      final Duration batchWindow,
+      final double requestLatencySamplingRate) {
+    if (requestLatencySamplingRate < 0 || requestLatencySamplingRate > 1) {
+      throw new IllegalArgumentException(
+          "Expected request latency sampling rate to be between 0 and 1, but was '%s'"
+              .formatted(requestLatencySamplingRate));
+    }
+
     this.clientTransport = clientTransport;
     this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
     this.metrics = metrics;
+    this.maxBatchSize = maxBatchSize;
+    this.batchWindow = batchWindow;
+    this.requestLatencySamplingRate = requestLatencySamplingRate;
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -105,15 +155,22 @@ final class BrokerRequestManager extends Actor {
       final Duration requestTimeout) {
     final CompletableFuture<BrokerResponse<T>> responseFuture = new CompletableFuture<>();
     request.serializeValue();
-    actor.run(() -> sendRequestInternal(request, responseFuture, sender, requestTimeout));
+    final var traced = sample();
+    actor.run(() -> sendRequestInternal(request, responseFuture, sender, requestTimeout, traced));
     return responseFuture;
   }
 
+  private boolean sample() {
+    return requestLatencySamplingRate > 0
+        && ThreadLocalRandom.current().nextDouble() < requestLatencySamplingRate;
+  }
+
   private <T> void sendRequestInternal(
       final BrokerRequest<T> request,
       final CompletableFuture<BrokerResponse<T>> returnFuture,
       final TransportRequestSender sender,
-      final Duration requestTimeout) {
+      final Duration requestTimeout,
+      final boolean traced) {
 
     final BrokerAddressProvider nodeIdProvider;
     try {
@@ -135,34 +192,178 @@ final class BrokerRequestManager extends Actor {
       return;
     }
 
+    if (isBatchable(request)) {
+      addToBatch(
+          new BatchedRequest<>(
+              request,
+              returnFuture,
+              System.currentTimeMillis() + requestTimeout.toMillis(),
+              traced),
+          sender == SENDER_WITH_RETRY);
+      return;
+    }
+
+    send(request, returnFuture, nodeIdProvider, sender, requestTimeout, traced);
+  }
+
+  private <T> void send(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final BrokerAddressProvider nodeIdProvider,
+      final TransportRequestSender sender,
+      final Duration requestTimeout,
+      final boolean traced) {
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
     final long startTime = System.currentTimeMillis();
+    final long sentAt = traced ? onSent(request) : NOT_TRACED;
 
     actor.runOnCompletion(
         responseFuture,
-        (clientResponse, error) -> {
-          RequestResult result = null;
-          try {
-            if (error == null) {
-              final BrokerResponse<T> response = request.getResponse(clientResponse);
-
-              result = handleResponse(response, returnFuture);
-              if (result.wasProcessed()) {
-                final long elapsedTime = System.currentTimeMillis() - startTime;
-                metrics.registerSuccessfulRequest(
-                    request.getPartitionId(), request.getType(), elapsedTime);
+        (clientResponse, error) ->
+            onResponse(request, returnFuture, clientResponse, error, startTime, sentAt));
+  }
+
+  /** Records the dispatch stage of a traced request, and returns the time it was sent at. */
+  private long onSent(final BrokerRequest<?> request) {
+    final long sentAt = System.nanoTime();
+    metrics.registerRequestStage(
+        request.getPartitionId(), RequestStage.DISPATCH, request.getCreatedAt(), sentAt);
+    return sentAt;
+  }
+
+  private <T> void onResponse(
+      final BrokerRequest<T> request,
+      final CompletableFuture<BrokerResponse<T>> returnFuture,
+      final DirectBuffer clientResponse,
+      final Throwable error,
+      final long startTime,
+      final long sentAt) {
+    RequestResult result = null;
+    try {
+      if (error == null) {
+        if (sentAt != NOT_TRACED) {
+          metrics.registerRequestStage(
+              request.getPartitionId(), RequestStage.ROUND_TRIP, sentAt, System.nanoTime());
+        }
+        final BrokerResponse<T> response = request.getResponse(clientResponse);
+
+        result = handleResponse(response, returnFuture);
+        if (result.wasProcessed()) {
+          final long elapsedTime = System.currentTimeMillis() - startTime;
+          metrics.registerSuccessfulRequest(
+              request.getPartitionId(), request.getType(), elapsedTime);
+          return;
+        }
+      } else {
+        returnFuture.completeExceptionally(error);
+      }
+    } catch (final RuntimeException e) {
+      returnFuture.completeExceptionally(new BrokerResponseException(e));
+    }
+
+    registerFailure(request, result, error);
+  }
+
+  /**
+   * Only commands for a known partition are batched; everything else is sent on its own, since it
+   * goes to a different topic or node anyway.
+   */
+  private boolean isBatchable(final BrokerRequest<?> request) {
+    return maxBatchSize > 1
+        && request.getRequestType() == RequestType.COMMAND
+        && request.getBrokerId().isEmpty()
+        && (request.addressesSpecificPartition() || request.requiresPartitionId());
+  }
+
+  private void addToBatch(final BatchedRequest<?> request, final boolean withRetry) {
+    final var batches = withRetry ? batchesWithRetry : batchesWithoutRetry;
+    final var partitionId = request.request().getPartitionId();
+    var batch = batches.get(partitionId);
+    if (batch == null) {
+      batch = new RequestBatch(partitionId, withRetry);
+      batches.put(partitionId, batch);
+
+      final var newBatch = batch;
+      if (batchWindow.isZero()) {
+        // submitted jobs run after everything that is already queued up on this actor
+        actor.submit(() -> flush(newBatch));
+      } else {
+        batch.timer = actor.schedule(batchWindow, () -> flush(newBatch));
+      }
+    }
+
+    batch.requests.add(request);
+    if (batch.requests.size() >= maxBatchSize) {
+      flush(batch);
+    }
+  }
+
+  private void flush(final RequestBatch batch) {
+    final var batches = batch.withRetry ? batchesWithRetry : batchesWithoutRetry;
+    if (batches.get(batch.partitionId) != batch) {
+      // already sent, e.g. because it was full before the window elapsed
+      return;
+    }
+
+    batches.remove(batch.partitionId);
+    if (batch.timer != null) {
+      batch.timer.cancel();
+    }
+
+    final var sender = batch.withRetry ? SENDER_WITH_RETRY : SENDER_WITHOUT_RETRY;
+    final var nodeIdProvider = new BrokerAddressProvider(batch.partitionId);
+    if (batch.requests.size() == 1) {
+      final var request = batch.requests.getFirst();
+      sendAlone(request, nodeIdProvider, sender, request.remainingTimeout(), request.traced());
+      return;
+    }
+
+    metrics.registerRequestBatch(batch.partitionId, batch.requests.size());
+    final var requests = batch.requests.stream().map(BatchedRequest::request).toList();
+    // the time spent waiting for the batch counts towards each request's own timeout
+    final var timeouts = batch.requests.stream().map(BatchedRequest::remainingTimeout).toList();
+    final var responseFutures =
+        clientTransport.sendRequestBatch(nodeIdProvider, requests, batch.withRetry, timeouts);
+    final long startTime = System.currentTimeMillis();
+
+    for (int i = 0; i < batch.requests.size(); i++) {
+      final var request = batch.requests.get(i);
+      final long sentAt = request.traced() ? onSent(request.request()) : NOT_TRACED;
+      actor.runOnCompletion(
+          responseFutures.get(i),
+          (response, error) -> {
+            if (response != null && batch.withRetry && !responseValidation(response)) {
+              // the leader changed in the meantime, so retry it on its own within its timeout
+              final var remainingTimeout = request.remainingTimeout();
+              if (remainingTimeout.isPositive()) {
+                // its dispatch was already recorded, so the retry is not traced again
+                sendAlone(request, nodeIdProvider, sender, remainingTimeout, false);
                 return;
               }
-            } else {
-              returnFuture.completeExceptionally(error);
             }
-          } catch (final RuntimeException e) {
-            returnFuture.completeExceptionally(new BrokerResponseException(e));
-          }
 
-          registerFailure(request, result, error);
-        });
+            onResponse(request, response, error, startTime, sentAt);
+          });
+    }
+  }
+
+  private <T> void sendAlone(
+      final BatchedRequest<T> request,
+      final BrokerAddressProvider nodeIdProvider,
+      final TransportRequestSender sender,
+      final Duration requestTimeout,
+      final boolean traced) {
+    send(request.request(), request.future(), nodeIdProvider, sender, requestTimeout, traced);
+  }
+
+  private <T> void onResponse(
+      final BatchedRequest<T> request,
+      final DirectBuffer clientResponse,
+      final Throwable error,
+      final long startTime,
+      final long sentAt) {
+    onResponse(request.request(), request.future(), clientResponse, error, startTime, sentAt);
   }
 
   private <T> void registerFailure(
@@ -287,6 +488,33 @@ final class BrokerRequestManager extends Actor {
     }
   }
 
+  /**
+   * @param deadline the wall clock time in milliseconds at which the request times out
+   * @param traced whether the time the request spends in each stage is recorded
+   */
+  private record BatchedRequest<T>(
+      BrokerRequest<T> request,
+      CompletableFuture<BrokerResponse<T>> future,
+      long deadline,
+      boolean traced) {
+
+    private Duration remainingTimeout() {
+      return Duration.ofMillis(Math.max(deadline - System.currentTimeMillis(), 0));
+    }
+  }
+
+  private static final class RequestBatch {
+    private final int partitionId;
+    private final boolean withRetry;
+    private final List<BatchedRequest<?>> requests = new ArrayList<>();
+    private ScheduledTimer timer;
+
+    private RequestBatch(final int partitionId, final boolean withRetry) {
+      this.partitionId = partitionId;
+      this.withRetry = withRetry;
+    }
+  }
+
   private interface TransportRequestSender {
 
     ActorFuture<DirectBuffer> send(
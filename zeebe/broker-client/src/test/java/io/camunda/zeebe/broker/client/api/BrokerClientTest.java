@@ -16,6 +16,8 @@ import io.atomix.cluster.ClusterMembershipEvent;
 import io.atomix.cluster.ClusterMembershipEvent.Type;
 import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
 import io.atomix.utils.net.Address;
+import io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.RequestStage;
+import io.camunda.zeebe.broker.client.api.BrokerClientMetricsDoc.StageKeyNames;
 import io.camunda.zeebe.broker.client.api.dto.BrokerError;
 import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
 import io.camunda.zeebe.broker.client.api.dto.BrokerRejection;
@@ -39,8 +41,10 @@ import io.camunda.zeebe.test.broker.protocol.brokerapi.StubBroker;
 import io.camunda.zeebe.test.util.socket.SocketUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
@@ -492,6 +496,12 @@ public final class BrokerClientTest {
       return key;
     }
 
+    /** Sends the key along with the request, so stubbed responses can echo it back. */
+    private TestCommand withRequestKey() {
+      request.setKey(key);
+      return this;
+    }
+
     @Override
     public BufferWriter getRequestWriter() {
       return record;
@@ -510,6 +520,183 @@ public final class BrokerClientTest {
     }
   }
 
+  @Nested
+  final class BatchingTest {
+    private BrokerClient batchingClient;
+
+    @BeforeEach
+    void beforeEach() {
+      batchingClient =
+          new BrokerClientImpl(
+              Duration.ofSeconds(5),
+              10,
+              Duration.ofMillis(100),
+              atomixCluster.getMessagingService(),
+              atomixCluster.getEventService(),
+              actorScheduler,
+              topologyManager,
+              new BrokerClientRequestMetrics(meterRegistry));
+      batchingClient.start().forEach(ActorFuture::join);
+    }
+
+    @AfterEach
+    void afterEach() {
+      CloseHelper.quietClose(batchingClient);
+    }
+
+    @Test
+    void shouldSendCommandsForSamePartitionTogether() {
+      // given
+      registerSuccessResponse(broker);
+
+      // when
+      final var responses =
+          List.of(
+              batchingClient.sendRequestWithRetry(new TestCommand()),
+              batchingClient.sendRequestWithRetry(new TestCommand()),
+              batchingClient.sendRequestWithRetry(new TestCommand()));
+
+      // then
+      assertThat(responses)
+          .allSatisfy(
+              response ->
+                  assertThat(response)
+                      .succeedsWithin(Duration.ofSeconds(10))
+                      .matches(BrokerResponse::isResponse));
+      assertThat(broker.getReceivedCommandRequests()).hasSize(3);
+      final var batchSize =
+          meterRegistry.get(BrokerClientMetricsDoc.REQUEST_BATCH_SIZE.getName()).summary();
+      assertThat(batchSize.count()).isOne();
+      assertThat(batchSize.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldCompleteEachBatchedRequestWithItsOwnResponse() {
+      // given
+      registerSuccessResponse(broker);
+      final var keys =
+          List.of(
+              Protocol.encodePartitionId(1, 1),
+              Protocol.encodePartitionId(1, 2),
+              Protocol.encodePartitionId(1, 3));
+
+      // when
+      final var responses =
+          keys.stream()
+              .map(key -> batchingClient.sendRequest(new TestCommand(key).withRequestKey()))
+              .toList();
+
+      // then
+      assertThat(responses)
+          .map(response -> response.join().getKey())
+          .containsExactlyElementsOf(keys);
+    }
+
+    @Test
+    void shouldTimeOutBatchedCommandsIndependently() {
+      // given
+      broker.onExecuteCommandRequest(TestCommand.VALUE_TYPE, TestCommand.INTENT).doNotRespond();
+
+      // when
+      final var shortTimeout =
+          batchingClient.sendRequest(new TestCommand(), Duration.ofMillis(200));
+      final var longTimeout = batchingClient.sendRequest(new TestCommand(), Duration.ofMinutes(1));
+
+      // then
+      assertThat(shortTimeout)
+          .failsWithin(Duration.ofSeconds(10))
+          .withThrowableThat()
+          .withRootCauseInstanceOf(TimeoutException.class);
+      assertThat(longTimeout).isNotDone();
+      final var batchSize =
+          meterRegistry.get(BrokerClientMetricsDoc.REQUEST_BATCH_SIZE.getName()).summary();
+      assertThat(batchSize.count()).isOne();
+      assertThat(batchSize.totalAmount()).isEqualTo(2);
+    }
+  }
+
+  @Nested
+  final class RequestStageLatencyTest {
+    private BrokerClient tracingClient;
+
+    @AfterEach
+    void afterEach() {
+      CloseHelper.quietClose(tracingClient);
+    }
+
+    @Test
+    void shouldRecordStagesOfSampledRequest() {
+      // given
+      registerSuccessResponse(broker);
+      tracingClient = startClient(1, 1);
+
+      // when
+      tracingClient.sendRequestWithRetry(new TestCommand()).join();
+
+      // then
+      assertThat(stageLatency(RequestStage.DISPATCH).count()).isOne();
+      assertThat(stageLatency(RequestStage.ROUND_TRIP).count()).isOne();
+    }
+
+    @Test
+    void shouldRecordStagesOfEachBatchedRequest() {
+      // given
+      registerSuccessResponse(broker);
+      tracingClient = startClient(10, 1);
+
+      // when
+      final var responses =
+          List.of(
+              tracingClient.sendRequestWithRetry(new TestCommand()),
+              tracingClient.sendRequestWithRetry(new TestCommand()),
+              tracingClient.sendRequestWithRetry(new TestCommand()));
+
+      // then
+      assertThat(responses)
+          .allSatisfy(response -> assertThat(response).succeedsWithin(Duration.ofSeconds(10)));
+      assertThat(stageLatency(RequestStage.DISPATCH).count()).isEqualTo(3);
+      assertThat(stageLatency(RequestStage.ROUND_TRIP).count()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotRecordStagesIfNotSampled() {
+      // given
+      registerSuccessResponse(broker);
+      tracingClient = startClient(1, 0);
+
+      // when
+      tracingClient.sendRequestWithRetry(new TestCommand()).join();
+
+      // then
+      assertThat(
+              meterRegistry.find(BrokerClientMetricsDoc.REQUEST_STAGE_LATENCY.getName()).timers())
+          .isEmpty();
+    }
+
+    private BrokerClient startClient(final int batchSize, final double samplingRate) {
+      final var brokerClient =
+          new BrokerClientImpl(
+              Duration.ofSeconds(5),
+              batchSize,
+              Duration.ofMillis(100),
+              samplingRate,
+              atomixCluster.getMessagingService(),
+              atomixCluster.getEventService(),
+              actorScheduler,
+              topologyManager,
+              new BrokerClientRequestMetrics(meterRegistry));
+      brokerClient.start().forEach(ActorFuture::join);
+      return brokerClient;
+    }
+
+    private Timer stageLatency(final RequestStage stage) {
+      return meterRegistry
+          .get(BrokerClientMetricsDoc.REQUEST_STAGE_LATENCY.getName())
+          .tag(StageKeyNames.STAGE.asString(), stage.getValue())
+          .timer();
+    }
+  }
+
   @Nested
   final class RoutingTest {
     @Test
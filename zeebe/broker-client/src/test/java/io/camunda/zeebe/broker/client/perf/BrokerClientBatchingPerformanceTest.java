@@ -0,0 +1,279 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.client.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.AtomixCluster;
+import io.atomix.cluster.ClusterMembershipEvent;
+import io.atomix.cluster.ClusterMembershipEvent.Type;
+import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerClientRequestMetrics;
+import io.camunda.zeebe.broker.client.api.BrokerClientTopologyMetrics;
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.broker.client.api.dto.BrokerExecuteCommand;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.broker.client.impl.BrokerClientImpl;
+import io.camunda.zeebe.broker.client.impl.BrokerTopologyManagerImpl;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
+import io.camunda.zeebe.dynamic.config.state.MemberState;
+import io.camunda.zeebe.dynamic.config.state.PartitionState;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.camunda.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
+import io.camunda.zeebe.protocol.record.MessageHeaderDecoder;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.camunda.zeebe.transport.RequestHandler;
+import io.camunda.zeebe.transport.RequestType;
+import io.camunda.zeebe.transport.ServerOutput;
+import io.camunda.zeebe.transport.ServerTransport;
+import io.camunda.zeebe.transport.TransportFactory;
+import io.camunda.zeebe.transport.impl.ServerResponseImpl;
+import io.camunda.zeebe.util.VersionUtil;
+import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.SnowflakeIdGenerator;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.awaitility.Awaitility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares sending commands one by one with sending them in batches over the network, against a
+ * server transport which answers every command right away. This isolates the network part of
+ * request batching from the log appends on the broker side, which are covered by the command API's
+ * batching benchmark in the broker module.
+ */
+@Warmup(iterations = 20, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class BrokerClientBatchingPerformanceTest {
+  private static final int CONCURRENT_REQUESTS = 32;
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final String CLUSTER_ID = "cluster";
+  private static final int PARTITION_ID = 1;
+  // an empty MessagePack map
+  private static final DirectBuffer EMPTY_VALUE = new UnsafeBuffer(new byte[] {(byte) 0x80});
+
+  @Param({"1", "32"})
+  private int requestBatchSize;
+
+  private final ActorScheduler actorScheduler = ActorScheduler.newActorScheduler().build();
+  // the server runs on its own scheduler, like a broker in a separate process
+  private final ActorScheduler serverScheduler = ActorScheduler.newActorScheduler().build();
+  private AtomixCluster serverCluster;
+  private ServerTransport serverTransport;
+  private AtomixCluster atomixCluster;
+  private BrokerTopologyManagerImpl topologyManager;
+  private BrokerClient client;
+
+  @Setup
+  public void setup() {
+    final var meterRegistry = new SimpleMeterRegistry();
+    final var serverAddress = SocketUtil.getNextAddress();
+    serverCluster =
+        AtomixCluster.builder(meterRegistry)
+            .withPort(serverAddress.getPort())
+            .withMemberId("0")
+            .withClusterId(CLUSTER_ID)
+            .build();
+    serverCluster.start().join();
+    serverScheduler.start();
+    serverTransport =
+        new TransportFactory(serverScheduler)
+            .createServerTransport(
+                serverCluster.getMessagingService(), new SnowflakeIdGenerator(0));
+    serverTransport.subscribe(PARTITION_ID, RequestType.COMMAND, new RespondingHandler()).join();
+    final var server = serverCluster.getMembershipService().getLocalMember();
+    final var brokerInfo =
+        new BrokerInfo()
+            .setNodeId(0)
+            .setCommandApiAddress(Address.from("localhost", serverAddress.getPort()).toString())
+            .setClusterSize(1)
+            .setPartitionsCount(1)
+            .setReplicationFactor(1)
+            .setPartitionHealthy(PARTITION_ID)
+            .setLeaderForPartition(PARTITION_ID, 1);
+    brokerInfo.setVersion(VersionUtil.getVersion());
+    brokerInfo.writeIntoProperties(server.properties());
+
+    final var brokerAddress = Address.from(serverAddress.getHostName(), serverAddress.getPort());
+    atomixCluster =
+        AtomixCluster.builder(meterRegistry)
+            .withPort(SocketUtil.getNextAddress().getPort())
+            .withMembershipProvider(
+                BootstrapDiscoveryProvider.builder().withNodes(brokerAddress).build())
+            .withClusterId(CLUSTER_ID)
+            .build();
+    atomixCluster.start().join();
+    actorScheduler.start();
+
+    topologyManager =
+        new BrokerTopologyManagerImpl(
+            () -> atomixCluster.getMembershipService().getMembers(),
+            new BrokerClientTopologyMetrics(meterRegistry));
+    actorScheduler.submitActor(topologyManager).join();
+    atomixCluster.getMembershipService().addListener(topologyManager);
+    topologyManager.onClusterConfigurationUpdated(
+        ClusterConfiguration.init()
+            .addMember(
+                server.id(),
+                MemberState.initializeAsActive(
+                    Map.of(PARTITION_ID, PartitionState.active(1, null)))));
+    topologyManager.event(new ClusterMembershipEvent(Type.MEMBER_ADDED, server));
+    Awaitility.await("until the client knows the partition leader")
+        .untilAsserted(
+            () ->
+                assertThat(topologyManager.getTopology().getLeaderForPartition(PARTITION_ID))
+                    .isNotEqualTo(BrokerClusterState.NODE_ID_NULL));
+
+    client =
+        new BrokerClientImpl(
+            REQUEST_TIMEOUT,
+            requestBatchSize,
+            Duration.ZERO,
+            atomixCluster.getMessagingService(),
+            atomixCluster.getEventService(),
+            actorScheduler,
+            topologyManager,
+            new BrokerClientRequestMetrics(meterRegistry));
+    client.start().forEach(ActorFuture::join);
+  }
+
+  @TearDown
+  public void tearDown() {
+    // the actors have to be closed before their scheduler
+    CloseHelper.quietCloseAll(
+        client,
+        topologyManager,
+        atomixCluster,
+        actorScheduler,
+        serverTransport,
+        serverCluster,
+        serverScheduler);
+  }
+
+  @JMHTest("measureCommandThroughput")
+  void shouldIncreaseThroughputWithBatching(final JMHTestCase testCase) {
+    // given
+    final var unbatchedScore =
+        JMHTestCase.of(
+                BrokerClientBatchingPerformanceTest.class,
+                "measureCommandThroughput",
+                options -> options.param("requestBatchSize", "1"))
+            .run()
+            .actual()
+            .getPrimaryResult()
+            .getScore();
+
+    // when
+    final var assertResult =
+        testCase.withOptions(options -> options.param("requestBatchSize", "32")).run();
+
+    // then
+    assertThat(assertResult.actual().getPrimaryResult().getScore())
+        .isGreaterThan(unbatchedScore * 1.2);
+  }
+
+  @Benchmark
+  @Threads(CONCURRENT_REQUESTS)
+  public BrokerResponse<UnifiedRecordValue> measureCommandThroughput() {
+    final var response = client.sendRequest(new BenchmarkCommand()).join();
+    if (!response.isResponse()) {
+      throw new IllegalStateException("Expected a response, but got %s".formatted(response));
+    }
+
+    return response;
+  }
+
+  private static final class BenchmarkCommand extends BrokerExecuteCommand<UnifiedRecordValue> {
+    private final UnifiedRecordValue record = new UnifiedRecordValue(10);
+
+    private BenchmarkCommand() {
+      super(ValueType.JOB, JobIntent.YIELD);
+      request.setKey(Protocol.encodePartitionId(PARTITION_ID, 1));
+    }
+
+    @Override
+    public BufferWriter getRequestWriter() {
+      return record;
+    }
+
+    @Override
+    protected UnifiedRecordValue toResponseDto(final DirectBuffer buffer) {
+      final var response = new UnifiedRecordValue(10);
+      response.wrap(buffer);
+      return response;
+    }
+  }
+
+  /** Answers every command with an event for its key, without any processing. */
+  private static final class RespondingHandler implements RequestHandler {
+    private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+    private final ExecuteCommandRequestDecoder requestDecoder = new ExecuteCommandRequestDecoder();
+    private final ExecuteCommandResponse response = new ExecuteCommandResponse();
+    private final ServerResponseImpl serverResponse = new ServerResponseImpl();
+
+    @Override
+    public void onRequest(
+        final ServerOutput serverOutput,
+        final int partitionId,
+        final long requestId,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length) {
+      headerDecoder.wrap(buffer, offset);
+      requestDecoder.wrap(
+          buffer,
+          offset + headerDecoder.encodedLength(),
+          headerDecoder.blockLength(),
+          headerDecoder.version());
+      response
+          .reset()
+          .setPartitionId(partitionId)
+          .setKey(requestDecoder.key())
+          .setRecordType(RecordType.EVENT)
+          .setValueType(ValueType.JOB)
+          .setIntent(JobIntent.YIELDED)
+          .setValue(EMPTY_VALUE, 0, EMPTY_VALUE.capacity());
+      serverResponse.reset().setRequestId(requestId).setPartitionId(partitionId).writer(response);
+      serverOutput.sendResponse(serverResponse);
+    }
+  }
+}
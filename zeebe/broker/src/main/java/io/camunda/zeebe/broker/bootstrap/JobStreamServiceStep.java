@@ -37,8 +37,9 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
       final ConcurrencyControl concurrencyControl,
       final ActorFuture<BrokerStartupContext> startupFuture) {
     final var clusterServices = brokerStartupContext.getClusterServices();
+    final var metrics = new JobStreamMetrics(brokerStartupContext.getMeterRegistry());
     final var errorHandlerService =
-        new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler());
+        new RemoteJobStreamErrorHandlerService(new YieldingJobStreamErrorHandler(metrics));
 
     final var scheduler = brokerStartupContext.getActorSchedulingService();
     final RemoteStreamService<JobActivationProperties, ActivatedJob> remoteStreamService =
@@ -47,7 +48,7 @@ public final class JobStreamServiceStep extends AbstractBrokerStartupStep {
                 clusterServices.getCommunicationService(),
                 JobStreamServiceStep::readJobActivationProperties,
                 errorHandlerService,
-                new JobStreamMetrics(brokerStartupContext.getMeterRegistry()));
+                metrics);
     final var errorHandlerStarted = scheduler.submitActor(errorHandlerService);
 
     errorHandlerStarted.onComplete(
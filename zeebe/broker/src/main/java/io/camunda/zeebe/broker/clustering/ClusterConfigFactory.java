@@ -62,7 +62,9 @@ public final class ClusterConfigFactory {
         .setProbeInterval(config.getProbeInterval())
         .setProbeTimeout(config.getProbeTimeout())
         .setSuspectProbes(config.getSuspectProbes())
-        .setSyncInterval(config.getSyncInterval());
+        .setSyncInterval(config.getSyncInterval())
+        .setGossipRetransmitMultiplier(config.getGossipRetransmitMultiplier())
+        .setAdaptiveFailureTimeout(config.isAdaptiveFailureTimeout());
   }
 
   private DynamicDiscoveryConfig discoveryConfig(final Collection<String> contactPoints) {
@@ -76,7 +78,10 @@ public final class ClusterConfigFactory {
             .setInterfaces(Collections.singletonList(network.getInternalApi().getHost()))
             .setPort(network.getInternalApi().getPort())
             .setHeartbeatTimeout(network.getHeartbeatTimeout())
-            .setHeartbeatInterval(network.getHeartbeatInterval());
+            .setHeartbeatInterval(network.getHeartbeatInterval())
+            .setMessageCoalescingWindow(network.getMessageCoalescingWindow())
+            .setMessageCoalescingMaxSize((int) network.getMessageCoalescingMaxSize().toBytes())
+            .setConnectionsPerAddress(network.getConnectionsPerAddress());
 
     if (network.getSocketSendBuffer() != null) {
       messaging.setSocketSendBuffer((int) network.getSocketSendBuffer().toBytes());
@@ -12,7 +12,6 @@ import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
 import io.camunda.zeebe.exporter.api.Exporter;
-import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
@@ -47,6 +46,7 @@ final class ExporterContainer implements Controller {
   private ExporterMetrics metrics;
   private ActorControl actor;
   private final ExporterInitializationInfo initializationInfo;
+  private ExporterRecordFilter recordFilter;
 
   ExporterContainer(
       final ExporterDescriptor descriptor,
@@ -64,6 +64,7 @@ final class ExporterContainer implements Controller {
             clock);
 
     exporter = descriptor.newInstance();
+    recordFilter = ExporterRecordFilter.of(context.getFilter());
   }
 
   void initContainer(
@@ -203,25 +204,31 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
-    final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType())
-        && filter.acceptIntent(metadata.getIntent());
+  /**
+   * Checks whether the record described by the given metadata should be passed to the exporter.
+   * This only looks at the metadata, so it can be used to filter records before their value is
+   * deserialized.
+   */
+  boolean acceptRecord(final RecordMetadata metadata) {
+    return recordFilter.accepts(metadata);
   }
 
   void configureExporter() throws Exception {
     LOG.debug("Configure exporter with id '{}'", getId());
     ThreadContextUtil.runCheckedWithClassLoader(
         () -> exporter.configure(context), exporter.getClass().getClassLoader());
+    // the filter is usually set during configuration
+    recordFilter = ExporterRecordFilter.of(context.getFilter());
   }
 
   boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
     try {
       if (position < typedEvent.getPosition()) {
         if (acceptRecord(rawMetadata)) {
+          metrics.recordsDecoded(getId());
           export(typedEvent);
         } else {
+          metrics.recordsSkipped(getId(), 1);
           updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
         }
       }
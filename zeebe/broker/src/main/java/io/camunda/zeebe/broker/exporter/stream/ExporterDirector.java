@@ -12,15 +12,11 @@ import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirectorContext.ExporterMode;
 import io.camunda.zeebe.broker.system.partitions.PartitionMessagingService;
 import io.camunda.zeebe.db.ZeebeDb;
-import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.record.RecordType;
-import io.camunda.zeebe.protocol.record.ValueType;
-import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ScheduledTimer;
@@ -39,7 +35,6 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.time.InstantSource;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -60,6 +55,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
+  private static final int MAX_SKIPPED_RECORDS_PER_READ = 1_000;
 
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -97,6 +93,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  private final RecordMetadata skippedMetadata = new RecordMetadata();
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -142,7 +139,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
-    return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
+    return actorSchedulingService.submitActor(this, SchedulingHints.virtualIoBound());
   }
 
   public ActorFuture<Void> stopAsync() {
@@ -481,33 +478,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
-
-    final List<Context.RecordFilter> recordFilters =
-        containers.stream().map(c -> c.getContext().getFilter()).toList();
-
-    final Map<RecordType, Boolean> acceptRecordTypes =
-        Arrays.stream(RecordType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptType(type))));
-
-    final Map<ValueType, Boolean> acceptValueTypes =
-        Arrays.stream(ValueType.values())
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
-
-    final Map<Intent, Boolean> acceptIntents =
-        Intent.INTENT_CLASSES.stream()
-            .flatMap(i -> Arrays.stream(i.getEnumConstants()))
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    intent -> recordFilters.stream().anyMatch(f -> f.acceptIntent(intent))));
-
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes, acceptIntents);
+    return new ExporterEventFilter(containers);
   }
 
   private void onFailure() {
@@ -634,32 +605,48 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterDistributionService.distributeExporterState(exporterStateMessage);
   }
 
-  private void skipRecord(final LoggedEvent currentEvent) {
-    final RecordMetadata metadata = new RecordMetadata();
-    final long eventPosition = currentEvent.getPosition();
-
-    currentEvent.readMetadata(metadata);
-    metrics.eventSkipped(metadata.getValueType());
-
+  private void skipRecords(final int skippedRecords, final long lastSkippedPosition) {
     // increase position of all up to date exporters - an up to date exporter is one which has
-    // acknowledged the last record we passed to it
+    // acknowledged the last record we passed to it; since no record was passed to any exporter
+    // while skipping, it's enough to update them once with the last skipped position
     for (final ExporterContainer container : containers) {
-      container.updatePositionOnSkipIfUpToDate(eventPosition);
+      metrics.recordsSkipped(container.getId(), skippedRecords);
+      container.updatePositionOnSkipIfUpToDate(lastSkippedPosition);
     }
-
-    actor.submit(this::readNextEvent);
   }
 
   private void readNextEvent() {
-    if (shouldExport()) {
+    int skippedRecords = 0;
+    long lastSkippedPosition = -1;
+
+    // records which no exporter is interested in are skipped in bulk, by looking only at their
+    // metadata; the loop is bounded to give other jobs of this actor a chance to run
+    while (shouldExport()) {
       final LoggedEvent currentEvent = logStreamReader.next();
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
+        if (skippedRecords > 0) {
+          skipRecords(skippedRecords, lastSkippedPosition);
+        }
         inExportingPhase = true;
         exportEvent(currentEvent);
-      } else {
-        skipRecord(currentEvent);
+        return;
+      }
+
+      currentEvent.readMetadata(skippedMetadata);
+      metrics.eventSkipped(skippedMetadata.getValueType());
+      lastSkippedPosition = currentEvent.getPosition();
+      skippedRecords++;
+
+      if (skippedRecords >= MAX_SKIPPED_RECORDS_PER_READ) {
+        skipRecords(skippedRecords, lastSkippedPosition);
+        actor.submit(this::readNextEvent);
+        return;
       }
     }
+
+    if (skippedRecords > 0) {
+      skipRecords(skippedRecords, lastSkippedPosition);
+    }
   }
 
   private boolean shouldExport() {
@@ -756,71 +743,41 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
 
-  private static class ExporterEventFilter implements EventFilter {
+  /**
+   * Filters records based on the filters of all exporters, using only the metadata of the record. A
+   * record is accepted if at least one exporter would accept it, such that records which no
+   * exporter is interested in are never decoded.
+   *
+   * <p>The filter evaluates the current list of containers, so exporters which are added or removed
+   * at runtime are taken into account.
+   */
+  private static final class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadata metadata = new RecordMetadata();
-    private final Map<RecordType, Boolean> acceptRecordTypes;
-    private final Map<ValueType, Boolean> acceptValueTypes;
-    private final Map<Intent, Boolean> acceptIntents;
+    private final List<ExporterContainer> containers;
 
-    ExporterEventFilter(
-        final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes,
-        final Map<Intent, Boolean> acceptIntents) {
-      this.acceptRecordTypes = acceptRecordTypes;
-      this.acceptValueTypes = acceptValueTypes;
-      this.acceptIntents = acceptIntents;
+    ExporterEventFilter(final List<ExporterContainer> containers) {
+      this.containers = containers;
     }
 
     @Override
     public boolean applies(final LoggedEvent event) {
       event.readMetadata(metadata);
 
-      final RecordType recordType = metadata.getRecordType();
-      final ValueType valueType = metadata.getValueType();
-      final Intent intent = metadata.getIntent();
-
-      try {
-        return acceptRecordTypes.get(recordType)
-            && acceptValueTypes.get(valueType)
-            && acceptIntents.get(intent);
-      } catch (final NullPointerException e) {
-        // Log added to root cause https://github.com/camunda/camunda/issues/36621
-        LOG.error(
-            """
-                NPE when applying event filter for event: {}
-                - metadata: {}
-                - acceptRecordTypes: {}
-                - acceptValueTypes: {}
-                - acceptIntents: {}""",
-            event,
-            metadata,
-            acceptRecordTypes,
-            acceptValueTypes,
-            acceptIntents.entrySet().stream()
-                .map(
-                    entry -> {
-                      final var key = entry.getKey();
-                      if (key == null) {
-                        return "null: %s".formatted(entry.getValue());
-                      }
-                      return String.format(
-                          "%s.%s: %s", key.getClass().getSimpleName(), key, entry.getValue());
-                    })
-                .toList());
-        throw e;
+      // avoid allocating an iterator, this is called for every record
+      for (int i = 0; i < containers.size(); i++) {
+        if (containers.get(i).acceptRecord(metadata)) {
+          return true;
+        }
       }
+
+      return false;
     }
 
     @Override
     public String toString() {
-      return "ExporterEventFilter{"
-          + "acceptRecordTypes="
-          + acceptRecordTypes
-          + ", acceptValueTypes="
-          + acceptValueTypes
-          + ", acceptIntents="
-          + acceptIntents
+      return "ExporterEventFilter{exporters="
+          + containers.stream().map(ExporterContainer::getId).toList()
           + '}';
     }
   }
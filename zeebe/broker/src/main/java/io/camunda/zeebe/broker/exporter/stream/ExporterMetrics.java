@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import io.camunda.zeebe.broker.exporter.stream.ExporterMetricsDoc.ExporterActionKeyNames;
+import io.camunda.zeebe.broker.exporter.stream.ExporterMetricsDoc.ExporterFilterKeyNames;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.collection.Table;
@@ -28,6 +29,7 @@ public final class ExporterMetrics {
   private static final String LABEL_NAME_EXPORTER = "exporter";
   private static final String LABEL_NAME_ACTION = "action";
   private static final String LABEL_NAME_VALUE_TYPE = "valueType";
+  private static final String LABEL_NAME_RESULT = "result";
 
   private final Map<String, AtomicLong> lastExportedPositions = new HashMap<>();
   private final Map<String, AtomicLong> lastUpdatedExportedPositions = new HashMap<>();
@@ -36,6 +38,7 @@ public final class ExporterMetrics {
   private final Table<String, ValueType, Timer> exporterExportingDuration = Table.simple();
   private final Table<ExporterActionKeyNames, ValueType, Counter> exporterEvents =
       Table.ofEnum(ExporterActionKeyNames.class, ValueType.class, Counter[]::new);
+  private final Table<String, ExporterFilterKeyNames, Counter> filteredRecords = Table.simple();
 
   private final MeterRegistry meterRegistry;
 
@@ -63,6 +66,20 @@ public final class ExporterMetrics {
     event(ExporterActionKeyNames.SKIPPED, valueType);
   }
 
+  /** Counts a record which was accepted by the filter of the given exporter and decoded for it. */
+  public void recordsDecoded(final String exporter) {
+    filteredRecords
+        .computeIfAbsent(exporter, ExporterFilterKeyNames.DECODED, this::registerFilteredCounter)
+        .increment();
+  }
+
+  /** Counts records which were skipped by the filter of the given exporter without decoding. */
+  public void recordsSkipped(final String exporter, final long count) {
+    filteredRecords
+        .computeIfAbsent(exporter, ExporterFilterKeyNames.SKIPPED, this::registerFilteredCounter)
+        .increment(count);
+  }
+
   public void setLastUpdatedExportedPosition(final String exporter, final long position) {
     lastUpdatedExportedPositions
         .computeIfAbsent(
@@ -131,6 +148,16 @@ public final class ExporterMetrics {
         .register(meterRegistry);
   }
 
+  private Counter registerFilteredCounter(
+      final String exporterId, final ExporterFilterKeyNames result) {
+    final var meterDoc = ExporterMetricsDoc.EXPORTER_FILTERED_RECORDS;
+    return Counter.builder(meterDoc.getName())
+        .description(meterDoc.getDescription())
+        .tag(LABEL_NAME_EXPORTER, exporterId)
+        .tag(LABEL_NAME_RESULT, result.asString())
+        .register(meterRegistry);
+  }
+
   private AtomicLong registerPerExporterGauge(
       final ExtendedMeterDocumentation meterDoc,
       final String exporterId,
@@ -133,6 +133,33 @@ public enum ExporterMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return ExporterActionKeyNames.values();
     }
+  },
+
+  /**
+   * Number of records per exporter which were either skipped based on their metadata (see {@link
+   * ExporterFilterKeyNames}), or decoded and passed to the exporter
+   */
+  EXPORTER_FILTERED_RECORDS {
+    @Override
+    public String getName() {
+      return "zeebe.exporter.filtered.records.total";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of records per exporter which were either skipped by the exporter's record "
+          + "filter before being decoded, or decoded and passed to the exporter";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return ExporterFilterKeyNames.values();
+    }
   };
 
   public enum ExporterContainerKeyNames implements KeyName {
@@ -160,4 +187,22 @@ public enum ExporterMetricsDoc implements ExtendedMeterDocumentation {
       }
     }
   }
+
+  enum ExporterFilterKeyNames implements KeyName {
+    /** The record was rejected by the exporter's filter, and was never decoded for it */
+    SKIPPED {
+      @Override
+      public String asString() {
+        return "skipped";
+      }
+    },
+
+    /** The record was accepted by the exporter's filter, decoded and passed to the exporter */
+    DECODED {
+      @Override
+      public String asString() {
+        return "decoded";
+      }
+    }
+  }
 }
@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pre-computed view of an exporter's {@link RecordFilter}, which can be evaluated against the raw
+ * {@link RecordMetadata} of a logged event. This allows deciding whether a record is relevant for
+ * an exporter without deserializing its value, and without calling into the exporter's filter
+ * implementation for every record.
+ *
+ * <p>The answers of the given filter are cached once on creation, so the filter is expected to be
+ * stable, i.e. to always return the same answer for the same input. Intents which are unknown at
+ * creation time are delegated to the original filter.
+ */
+final class ExporterRecordFilter {
+
+  private final RecordFilter filter;
+  private final boolean[] acceptRecordTypes;
+  private final boolean[] acceptValueTypes;
+  private final Map<Intent, Boolean> acceptIntents;
+
+  private ExporterRecordFilter(
+      final RecordFilter filter,
+      final boolean[] acceptRecordTypes,
+      final boolean[] acceptValueTypes,
+      final Map<Intent, Boolean> acceptIntents) {
+    this.filter = filter;
+    this.acceptRecordTypes = acceptRecordTypes;
+    this.acceptValueTypes = acceptValueTypes;
+    this.acceptIntents = acceptIntents;
+  }
+
+  static ExporterRecordFilter of(final RecordFilter filter) {
+    final var recordTypes = RecordType.values();
+    final var acceptRecordTypes = new boolean[recordTypes.length];
+    for (final var recordType : recordTypes) {
+      acceptRecordTypes[recordType.ordinal()] = filter.acceptType(recordType);
+    }
+
+    final var valueTypes = ValueType.values();
+    final var acceptValueTypes = new boolean[valueTypes.length];
+    for (final var valueType : valueTypes) {
+      acceptValueTypes[valueType.ordinal()] = filter.acceptValue(valueType);
+    }
+
+    final var acceptIntents = new HashMap<Intent, Boolean>();
+    Intent.INTENT_CLASSES.stream()
+        .flatMap(intentClass -> Arrays.stream(intentClass.getEnumConstants()))
+        .forEach(intent -> acceptIntents.put(intent, filter.acceptIntent(intent)));
+
+    return new ExporterRecordFilter(filter, acceptRecordTypes, acceptValueTypes, acceptIntents);
+  }
+
+  /**
+   * @param metadata the metadata of the record, read directly from the log
+   * @return true if the record should be passed to the exporter, false otherwise
+   */
+  boolean accepts(final RecordMetadata metadata) {
+    return acceptRecordTypes[metadata.getRecordType().ordinal()]
+        && acceptValueTypes[metadata.getValueType().ordinal()]
+        && acceptIntent(metadata.getIntent());
+  }
+
+  private boolean acceptIntent(final Intent intent) {
+    final Boolean accepted = acceptIntents.get(intent);
+    if (accepted == null) {
+      return filter.acceptIntent(intent);
+    }
+
+    return accepted;
+  }
+}
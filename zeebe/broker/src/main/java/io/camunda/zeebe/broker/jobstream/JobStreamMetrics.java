@@ -24,12 +24,16 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
   private final MeterRegistry registry;
   private final Counter pushSuccessCount;
   private final Counter pushFailedCount;
+  private final Counter creditsExhaustedCount;
+  private final Counter yieldedJobsCount;
 
   public JobStreamMetrics(final MeterRegistry registry) {
     this.registry = registry;
 
     pushSuccessCount = registerCounter(JobStreamMetricsDoc.PUSH_SUCCESS_COUNT);
     pushFailedCount = registerCounter(JobStreamMetricsDoc.PUSH_FAILED_COUNT);
+    creditsExhaustedCount = registerCounter(JobStreamMetricsDoc.CREDITS_EXHAUSTED_COUNT);
+    yieldedJobsCount = registerCounter(JobStreamMetricsDoc.YIELDED_JOBS_COUNT);
 
     final var streamCountDoc = JobStreamMetricsDoc.STREAM_COUNT;
     Gauge.builder(streamCountDoc.getName(), streamCount, Number::intValue)
@@ -73,4 +77,14 @@ public class JobStreamMetrics implements RemoteStreamMetrics {
         .computeIfAbsent(code, ignored -> registerCounter(meterDoc, Tag.of("code", code.name())))
         .increment();
   }
+
+  @Override
+  public void creditsExhausted() {
+    creditsExhaustedCount.increment();
+  }
+
+  /** Invoked whenever a job which could not be pushed is yielded back to the engine */
+  public void jobYielded() {
+    yieldedJobsCount.increment();
+  }
 }
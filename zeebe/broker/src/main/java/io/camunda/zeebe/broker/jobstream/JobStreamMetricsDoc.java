@@ -93,6 +93,42 @@ public enum JobStreamMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return PushTryFailedCodeKeyNames.values();
     }
+  },
+
+  /** Total number of jobs which were not pushed because no stream had credits left */
+  CREDITS_EXHAUSTED_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.broker.jobs.push.credits.exhausted.count";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total number of jobs which were not pushed because no stream had credits left";
+    }
+  },
+
+  /** Total number of jobs yielded back to the engine after they could not be pushed */
+  YIELDED_JOBS_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.broker.jobs.push.yielded.count";
+    }
+
+    @Override
+    public Meter.Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Total number of jobs yielded back to the engine after they could not be pushed";
+    }
   };
 
   /** Possible error codes for use with {@link #PUSH_TRY_FAILED_COUNT} */
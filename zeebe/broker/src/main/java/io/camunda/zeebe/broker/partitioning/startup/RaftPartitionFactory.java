@@ -11,6 +11,7 @@ import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
+import io.atomix.raft.storage.log.AdaptiveDelayedFlusher;
 import io.atomix.raft.storage.log.DelayedFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
@@ -77,7 +78,9 @@ public final class RaftPartitionFactory {
 
     storageConfig.setFlusherFactory(
         createFlusherFactory(
-            brokerCfg.getCluster().getRaft().getFlush(), brokerCfg.getExperimental()));
+            brokerCfg.getCluster().getRaft().getFlush(),
+            brokerCfg.getExperimental(),
+            partitionMeterRegistry));
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
@@ -107,23 +110,42 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getMinStepDownFailureCount());
     partitionConfig.setPreferSnapshotReplicationThreshold(
         brokerCfg.getExperimental().getRaft().getPreferSnapshotReplicationThreshold());
+    partitionConfig.setMaxSnapshotChunksInFlight(
+        brokerCfg.getExperimental().getRaft().getMaxSnapshotChunksInFlight());
+    partitionConfig.setAdaptiveAppendLimitEnabled(
+        brokerCfg.getExperimental().getRaft().isAdaptiveAppendLimitEnabled());
+    partitionConfig.setMaxAdaptiveAppendsPerFollower(
+        brokerCfg.getExperimental().getRaft().getMaxAdaptiveAppendsPerFollower());
+    partitionConfig.setMaxAdaptiveAppendBatchSize(
+        (int) brokerCfg.getExperimental().getRaft().getMaxAdaptiveAppendBatchSize().toBytes());
 
     return new RaftPartition(
         partitionMetadata, partitionConfig, partitionDirectory.toFile(), partitionMeterRegistry);
   }
 
   private RaftLogFlusher.Factory createFlusherFactory(
-      final FlushConfig config, final ExperimentalCfg experimental) {
+      final FlushConfig config,
+      final ExperimentalCfg experimental,
+      final MeterRegistry partitionMeterRegistry) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(
+          new FlushConfig(false, Duration.ZERO, Duration.ZERO), partitionMeterRegistry);
     }
 
-    return createFlusherFactory(config);
+    return createFlusherFactory(config, partitionMeterRegistry);
   }
 
-  private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
+  private RaftLogFlusher.Factory createFlusherFactory(
+      final FlushConfig config, final MeterRegistry partitionMeterRegistry) {
     if (config.enabled()) {
+      final Duration latencyTarget = config.latencyTarget();
+      if (!latencyTarget.isZero()) {
+        return threadFactory ->
+            new AdaptiveDelayedFlusher(
+                threadFactory.createContext(), latencyTarget, partitionMeterRegistry);
+      }
+
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
@@ -40,12 +40,13 @@ public class SnapshotStoreStep implements StartupStep<PartitionStartupContext> {
             context.partitionId(),
             context.partitionDirectory(),
             new ChecksumProviderRocksDBImpl(),
-            context.partitionMeterRegistry());
+            context.partitionMeterRegistry(),
+            true);
 
     var result =
         context
             .schedulingService()
-            .submitActor(snapshotStore, SchedulingHints.ioBound())
+            .submitActor(snapshotStore, SchedulingHints.virtualIoBound())
             .thenApply(v -> context.snapshotStore(snapshotStore), context.concurrencyControl());
 
     if (context.isInitializeFromSnapshot()) {
@@ -60,7 +61,7 @@ public class SnapshotStoreStep implements StartupStep<PartitionStartupContext> {
                             snapshotStore);
                     return context
                         .schedulingService()
-                        .submitActor(snapshotTransfer, SchedulingHints.IO_BOUND)
+                        .submitActor(snapshotTransfer, SchedulingHints.virtualIoBound())
                         .thenApply(
                             empty -> {
                               context.setSnapshotTransfer(snapshotTransfer);
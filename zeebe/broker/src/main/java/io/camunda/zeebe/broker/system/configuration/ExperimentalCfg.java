@@ -23,6 +23,7 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   public static final boolean DEFAULT_VERSION_CHECK_ENABLED = true;
+  public static final double DEFAULT_REQUEST_LATENCY_SAMPLING_RATE = 0;
 
   private boolean continuousBackups = false;
 
@@ -35,6 +36,13 @@ public class ExperimentalCfg implements ConfigurationEntry {
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+
+  /**
+   * The share of user commands, between 0 and 1, whose latency is traced along the hot path from
+   * the command API to the response. Disabled by default.
+   */
+  private double requestLatencySamplingRate = DEFAULT_REQUEST_LATENCY_SAMPLING_RATE;
+
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
@@ -105,6 +113,14 @@ public class ExperimentalCfg implements ConfigurationEntry {
     this.disableExplicitRaftFlush = disableExplicitRaftFlush;
   }
 
+  public double getRequestLatencySamplingRate() {
+    return requestLatencySamplingRate;
+  }
+
+  public void setRequestLatencySamplingRate(final double requestLatencySamplingRate) {
+    this.requestLatencySamplingRate = requestLatencySamplingRate;
+  }
+
   public RocksdbCfg getRocksdb() {
     return rocksdb;
   }
@@ -170,6 +186,8 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", requestLatencySamplingRate="
+        + requestLatencySamplingRate
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
@@ -24,6 +24,10 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private static final Duration DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT = Duration.ofSeconds(0);
   private static final int DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT = 3;
   private static final int DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD = 100;
+  private static final int DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT = 1;
+  private static final boolean DEFAULT_ADAPTIVE_APPEND_LIMIT_ENABLED = false;
+  private static final int DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER = 16;
+  private static final DataSize DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE = DataSize.ofMegabytes(1);
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
   private static final PreAllocationStrategy DEFAULT_PREALLOCATE_SEGMENT_STRATEGY =
       PreAllocationStrategy.POSIX_OR_FILL;
@@ -34,6 +38,10 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
   private Duration maxQuorumResponseTimeout = DEFAULT_MAX_QUORUM_RESPONSE_TIMEOUT;
   private int minStepDownFailureCount = DEFAULT_MIN_STEP_DOWN_FAILURE_COUNT;
   private int preferSnapshotReplicationThreshold = DEFAULT_PREFER_SNAPSHOT_REPLICATION_THRESHOLD;
+  private int maxSnapshotChunksInFlight = DEFAULT_MAX_SNAPSHOT_CHUNKS_IN_FLIGHT;
+  private boolean adaptiveAppendLimitEnabled = DEFAULT_ADAPTIVE_APPEND_LIMIT_ENABLED;
+  private int maxAdaptiveAppendsPerFollower = DEFAULT_MAX_ADAPTIVE_APPENDS_PER_FOLLOWER;
+  private DataSize maxAdaptiveAppendBatchSize = DEFAULT_MAX_ADAPTIVE_APPEND_BATCH_SIZE;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
 
   private PreAllocationStrategy segmentPreallocationStrategy = DEFAULT_PREALLOCATE_SEGMENT_STRATEGY;
@@ -94,6 +102,38 @@ public final class ExperimentalRaftCfg implements ConfigurationEntry {
     this.preferSnapshotReplicationThreshold = preferSnapshotReplicationThreshold;
   }
 
+  public int getMaxSnapshotChunksInFlight() {
+    return maxSnapshotChunksInFlight;
+  }
+
+  public void setMaxSnapshotChunksInFlight(final int maxSnapshotChunksInFlight) {
+    this.maxSnapshotChunksInFlight = maxSnapshotChunksInFlight;
+  }
+
+  public boolean isAdaptiveAppendLimitEnabled() {
+    return adaptiveAppendLimitEnabled;
+  }
+
+  public void setAdaptiveAppendLimitEnabled(final boolean adaptiveAppendLimitEnabled) {
+    this.adaptiveAppendLimitEnabled = adaptiveAppendLimitEnabled;
+  }
+
+  public int getMaxAdaptiveAppendsPerFollower() {
+    return maxAdaptiveAppendsPerFollower;
+  }
+
+  public void setMaxAdaptiveAppendsPerFollower(final int maxAdaptiveAppendsPerFollower) {
+    this.maxAdaptiveAppendsPerFollower = maxAdaptiveAppendsPerFollower;
+  }
+
+  public DataSize getMaxAdaptiveAppendBatchSize() {
+    return maxAdaptiveAppendBatchSize;
+  }
+
+  public void setMaxAdaptiveAppendBatchSize(final DataSize maxAdaptiveAppendBatchSize) {
+    this.maxAdaptiveAppendBatchSize = maxAdaptiveAppendBatchSize;
+  }
+
   public boolean isPreallocateSegmentFiles() {
     return preallocateSegmentFiles;
   }
@@ -21,6 +21,8 @@ public final class MembershipCfg implements ConfigurationEntry {
   private static final int DEFAULT_SUSPECT_PROBES = 3;
   private static final Duration DEFAULT_FAILURE_TIMEOUT = Duration.ofMillis(10_000);
   private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10_000);
+  private static final int DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER = 0;
+  private static final boolean DEFAULT_ADAPTIVE_FAILURE_TIMEOUT = false;
 
   private boolean broadcastUpdates = DEFAULT_BROADCAST_UPDATES;
   private boolean broadcastDisputes = DEFAULT_BROADCAST_DISPUTES;
@@ -32,6 +34,8 @@ public final class MembershipCfg implements ConfigurationEntry {
   private int suspectProbes = DEFAULT_SUSPECT_PROBES;
   private Duration failureTimeout = DEFAULT_FAILURE_TIMEOUT;
   private Duration syncInterval = DEFAULT_SYNC_INTERVAL;
+  private int gossipRetransmitMultiplier = DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER;
+  private boolean adaptiveFailureTimeout = DEFAULT_ADAPTIVE_FAILURE_TIMEOUT;
 
   public boolean isBroadcastUpdates() {
     return broadcastUpdates;
@@ -123,6 +127,24 @@ public final class MembershipCfg implements ConfigurationEntry {
     return this;
   }
 
+  public int getGossipRetransmitMultiplier() {
+    return gossipRetransmitMultiplier;
+  }
+
+  public MembershipCfg setGossipRetransmitMultiplier(final int gossipRetransmitMultiplier) {
+    this.gossipRetransmitMultiplier = gossipRetransmitMultiplier;
+    return this;
+  }
+
+  public boolean isAdaptiveFailureTimeout() {
+    return adaptiveFailureTimeout;
+  }
+
+  public MembershipCfg setAdaptiveFailureTimeout(final boolean adaptiveFailureTimeout) {
+    this.adaptiveFailureTimeout = adaptiveFailureTimeout;
+    return this;
+  }
+
   @Override
   public String toString() {
     return "MembershipCfg{"
@@ -146,6 +168,10 @@ public final class MembershipCfg implements ConfigurationEntry {
         + failureTimeout
         + ", syncInterval="
         + syncInterval
+        + ", gossipRetransmitMultiplier="
+        + gossipRetransmitMultiplier
+        + ", adaptiveFailureTimeout="
+        + adaptiveFailureTimeout
         + '}';
   }
 }
@@ -18,6 +18,7 @@ public final class NetworkCfg implements ConfigurationEntry {
   public static final int DEFAULT_COMMAND_API_PORT = 26501;
   public static final int DEFAULT_INTERNAL_API_PORT = 26502;
   public static final DataSize DEFAULT_MAX_MESSAGE_SIZE = DataSize.ofMegabytes(4);
+  public static final DataSize DEFAULT_MESSAGE_COALESCING_MAX_SIZE = DataSize.ofKilobytes(64);
   private static final String DEFAULT_HOST = "0.0.0.0";
   private static final String DEFAULT_ADVERTISED_HOST =
       Address.defaultAdvertisedHost().getHostAddress();
@@ -31,6 +32,9 @@ public final class NetworkCfg implements ConfigurationEntry {
   private DataSize socketReceiveBuffer = null;
   private Duration heartbeatTimeout = Duration.ofSeconds(15);
   private Duration heartbeatInterval = Duration.ofSeconds(5);
+  private Duration messageCoalescingWindow = Duration.ZERO;
+  private DataSize messageCoalescingMaxSize = DEFAULT_MESSAGE_COALESCING_MAX_SIZE;
+  private int connectionsPerAddress = 0;
 
   private final CommandApiCfg commandApi = new CommandApiCfg();
   private InternalApiCfg internalApi = new InternalApiCfg();
@@ -123,6 +127,30 @@ public final class NetworkCfg implements ConfigurationEntry {
     this.heartbeatInterval = heartbeatInterval;
   }
 
+  public Duration getMessageCoalescingWindow() {
+    return messageCoalescingWindow;
+  }
+
+  public void setMessageCoalescingWindow(final Duration messageCoalescingWindow) {
+    this.messageCoalescingWindow = messageCoalescingWindow;
+  }
+
+  public DataSize getMessageCoalescingMaxSize() {
+    return messageCoalescingMaxSize;
+  }
+
+  public void setMessageCoalescingMaxSize(final DataSize messageCoalescingMaxSize) {
+    this.messageCoalescingMaxSize = messageCoalescingMaxSize;
+  }
+
+  public int getConnectionsPerAddress() {
+    return connectionsPerAddress;
+  }
+
+  public void setConnectionsPerAddress(final int connectionsPerAddress) {
+    this.connectionsPerAddress = connectionsPerAddress;
+  }
+
   public CommandApiCfg getCommandApi() {
     return commandApi;
   }
@@ -162,6 +190,12 @@ public final class NetworkCfg implements ConfigurationEntry {
         + heartbeatTimeout
         + ", heartbeatInterval="
         + heartbeatInterval
+        + ", messageCoalescingWindow="
+        + messageCoalescingWindow
+        + ", messageCoalescingMaxSize="
+        + messageCoalescingMaxSize
+        + ", connectionsPerAddress="
+        + connectionsPerAddress
         + ", commandApi="
         + commandApi
         + ", internalApi="
@@ -11,7 +11,8 @@ import java.time.Duration;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, Duration.ZERO);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +44,19 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  /**
+   * @param enabled whether the Raft log is flushed explicitly
+   * @param delayTime if greater than zero, flushes are delayed by this fixed period
+   * @param latencyTarget if greater than zero, flushes are delayed such that data is flushed within
+   *     about this target, adapting to the flush duration; like the delay time, entries are
+   *     acknowledged before they are flushed. Takes precedence over the delay time
+   */
+  public record FlushConfig(boolean enabled, Duration delayTime, Duration latencyTarget) {
+    public FlushConfig(
+        final boolean enabled, final Duration delayTime, final Duration latencyTarget) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.latencyTarget = latencyTarget == null ? Duration.ZERO : latencyTarget;
     }
   }
 }
@@ -7,9 +7,16 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import java.time.Duration;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int virtualIoThreadCount = 0;
+  private boolean partitionAffinityEnabled = false;
+  private Duration partitionAffinityStealThreshold =
+      ActorSchedulerBuilder.DEFAULT_PARTITION_AFFINITY_STEAL_THRESHOLD;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +34,30 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public int getVirtualIoThreadCount() {
+    return virtualIoThreadCount;
+  }
+
+  public void setVirtualIoThreadCount(final int virtualIoThreadCount) {
+    this.virtualIoThreadCount = virtualIoThreadCount;
+  }
+
+  public boolean isPartitionAffinityEnabled() {
+    return partitionAffinityEnabled;
+  }
+
+  public void setPartitionAffinityEnabled(final boolean partitionAffinityEnabled) {
+    this.partitionAffinityEnabled = partitionAffinityEnabled;
+  }
+
+  public Duration getPartitionAffinityStealThreshold() {
+    return partitionAffinityStealThreshold;
+  }
+
+  public void setPartitionAffinityStealThreshold(final Duration partitionAffinityStealThreshold) {
+    this.partitionAffinityStealThreshold = partitionAffinityStealThreshold;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +65,12 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", virtualIoThreadCount="
+        + virtualIoThreadCount
+        + ", partitionAffinityEnabled="
+        + partitionAffinityEnabled
+        + ", partitionAffinityStealThreshold="
+        + partitionAffinityStealThreshold
         + '}';
   }
 }
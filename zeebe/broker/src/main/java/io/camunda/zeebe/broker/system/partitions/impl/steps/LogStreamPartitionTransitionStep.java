@@ -82,6 +82,8 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
                 : context.getBrokerCfg().getBackpressure().buildLimit())
         .withWriteRateLimit(
             flowControlCfg.getWrite() != null ? flowControlCfg.getWrite().buildLimit() : null)
+        .withRequestLatencySamplingRate(
+            context.getBrokerCfg().getExperimental().getRequestLatencySamplingRate())
         .withMeterRegistry(context.getPartitionTransitionMeterRegistry())
         .build();
   }
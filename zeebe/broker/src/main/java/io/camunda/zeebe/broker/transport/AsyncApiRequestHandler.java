@@ -89,18 +89,15 @@ public abstract class AsyncApiRequestHandler<R extends RequestReader, W extends
     responseWriter.reset();
     errorResponseWriter.reset();
 
-    try {
-      requestReader.wrap(buffer, offset, length);
-    } catch (final RequestReaderException.InvalidTemplateException e) {
-      errorResponseWriter
-          .invalidMessageTemplate(e.actualTemplate, e.expectedTemplate)
-          .tryWriteResponseOrLogFailure(serverOutput, partitionId, requestId);
-      return;
-    } catch (final Exception e) {
-      LOG.error("Failed to deserialize message", e);
-      errorResponseWriter
-          .malformedRequest(e)
-          .tryWriteResponseOrLogFailure(serverOutput, partitionId, requestId);
+    if (!readRequest(
+        requestReader,
+        errorResponseWriter,
+        serverOutput,
+        partitionId,
+        requestId,
+        buffer,
+        offset,
+        length)) {
       return;
     }
 
@@ -132,6 +129,38 @@ public abstract class AsyncApiRequestHandler<R extends RequestReader, W extends
     }
   }
 
+  /**
+   * Populates the {@param requestReader} with the given request. If the request can't be read, an
+   * error response is written instead.
+   *
+   * @return true if the request was read, false if it was already answered with an error
+   */
+  protected final boolean readRequest(
+      final R requestReader,
+      final ErrorResponseWriter errorResponseWriter,
+      final ServerOutput serverOutput,
+      final int partitionId,
+      final long requestId,
+      final DirectBuffer buffer,
+      final int offset,
+      final int length) {
+    try {
+      requestReader.wrap(buffer, offset, length);
+      return true;
+    } catch (final RequestReaderException.InvalidTemplateException e) {
+      errorResponseWriter
+          .invalidMessageTemplate(e.actualTemplate, e.expectedTemplate)
+          .tryWriteResponseOrLogFailure(serverOutput, partitionId, requestId);
+      return false;
+    } catch (final Exception e) {
+      LOG.error("Failed to deserialize message", e);
+      errorResponseWriter
+          .malformedRequest(e)
+          .tryWriteResponseOrLogFailure(serverOutput, partitionId, requestId);
+      return false;
+    }
+  }
+
   /**
    * Extension of {@link BufferWriter} that provides extra methods used by {@link
    * AsyncApiRequestHandler} implementations
@@ -10,11 +10,10 @@ package io.camunda.zeebe.broker.transport.commandapi;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.transport.AsyncApiRequestHandler;
 import io.camunda.zeebe.broker.transport.ErrorResponseWriter;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyTracer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.protocol.record.ExecuteCommandRequestDecoder;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -22,9 +21,14 @@ import io.camunda.zeebe.protocol.record.ValueTypes;
 import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.transport.ServerOutput;
 import io.camunda.zeebe.util.Either;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
+import org.agrona.DirectBuffer;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.slf4j.Logger;
 
@@ -35,6 +39,8 @@ final class CommandApiRequestHandler
       ValueTypes.userCommands().map(Enum::name).toArray(String[]::new);
 
   private final Int2ObjectHashMap<LogStreamWriter> leadingStreams = new Int2ObjectHashMap<>();
+  private final Int2ObjectHashMap<RequestLatencyTracer> requestLatencyTracers =
+      new Int2ObjectHashMap<>();
   private boolean isDiskSpaceAvailable = true;
   private final Map<Integer, Boolean> processingPaused = new HashMap<>();
 
@@ -81,6 +87,163 @@ final class CommandApiRequestHandler
       final CommandApiRequestReader reader,
       final CommandApiResponseWriter responseWriter,
       final ErrorResponseWriter errorWriter) {
+    final var requestLatencyTracer = getRequestLatencyTracer(partitionId);
+    final var receivedAt = requestLatencyTracer.sample();
+    final var appendEntry = prepareCommand(partitionId, requestId, reader, errorWriter);
+    if (appendEntry.isLeft()) {
+      return Either.left(appendEntry.getLeft());
+    }
+
+    try {
+      return writeCommands(
+              List.of(appendEntry.get()),
+              reader.metadata().getIntent(),
+              leadingStreams.get(partitionId),
+              partitionId)
+          .map(
+              position -> {
+                requestLatencyTracer.onAppended(position, receivedAt);
+                return responseWriter;
+              })
+          .mapLeft(failure -> failure.apply(errorWriter));
+
+    } catch (final Exception error) {
+      final String errorMessage =
+          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+      LOG.error(errorMessage);
+      return Either.left(errorWriter.internalError(errorMessage));
+    }
+  }
+
+  @Override
+  public void onRequestBatch(
+      final ServerOutput serverOutput,
+      final int partitionId,
+      final long[] requestIds,
+      final DirectBuffer[] requests) {
+    actor.submit(() -> handleRequestBatch(serverOutput, partitionId, requestIds, requests));
+  }
+
+  /**
+   * Writes the commands of a request batch to the log together. Consecutive commands with the same
+   * intent are appended as one log batch, so flow control still classifies them by their intent.
+   * Commands which can't be written are answered right away; all others are answered by the engine
+   * once processed, exactly like single requests.
+   */
+  private void handleRequestBatch(
+      final ServerOutput serverOutput,
+      final int partitionId,
+      final long[] requestIds,
+      final DirectBuffer[] requests) {
+    final var errorWriter = new ErrorResponseWriter();
+    final var requestLatencyTracer = getRequestLatencyTracer(partitionId);
+    final List<PendingCommand> pendingCommands = new ArrayList<>(requests.length);
+
+    for (int i = 0; i < requests.length; i++) {
+      final var requestId = requestIds[i];
+      final var request = requests[i];
+      final var receivedAt = requestLatencyTracer.sample();
+      // the writer is shared by all requests of the batch, so it must not leak an error from the
+      // previous request
+      errorWriter.reset();
+      // every command needs its own reader, as the append entries point into them until written
+      final var reader = new CommandApiRequestReader();
+      if (!readRequest(
+          reader,
+          errorWriter,
+          serverOutput,
+          partitionId,
+          requestId,
+          request,
+          0,
+          request.capacity())) {
+        continue;
+      }
+
+      try {
+        prepareCommand(partitionId, requestId, reader, errorWriter)
+            .ifRightOrLeft(
+                appendEntry ->
+                    pendingCommands.add(
+                        new PendingCommand(
+                            requestId, reader.metadata().getIntent(), appendEntry, receivedAt)),
+                error -> error.tryWriteResponse(serverOutput, partitionId, requestId));
+      } catch (final Exception e) {
+        LOG.error("Error handling request on partition {}", partitionId, e);
+        errorWriter
+            .internalError(
+                "Failed to handle request due to internal error; see the broker logs for more")
+            .tryWriteResponse(serverOutput, partitionId, requestId);
+      }
+    }
+
+    int start = 0;
+    while (start < pendingCommands.size()) {
+      final var intent = pendingCommands.get(start).intent();
+      int end = start + 1;
+      while (end < pendingCommands.size() && pendingCommands.get(end).intent() == intent) {
+        end++;
+      }
+
+      writeBatch(serverOutput, partitionId, intent, pendingCommands.subList(start, end));
+      start = end;
+    }
+  }
+
+  private void writeBatch(
+      final ServerOutput serverOutput,
+      final int partitionId,
+      final Intent intent,
+      final List<PendingCommand> commands) {
+    final var logStreamWriter = leadingStreams.get(partitionId);
+    final var appendEntries = commands.stream().map(PendingCommand::appendEntry).toList();
+    final var batchLength = appendEntries.stream().mapToInt(LogAppendEntry::getLength).sum();
+    if (commands.size() > 1 && !logStreamWriter.canWriteEvents(commands.size(), batchLength)) {
+      // the commands are too big to be written together, so write them one by one instead
+      for (final var command : commands) {
+        writeBatch(serverOutput, partitionId, intent, List.of(command));
+      }
+      return;
+    }
+
+    final var errorWriter = new ErrorResponseWriter();
+    try {
+      writeCommands(appendEntries, intent, logStreamWriter, partitionId)
+          .ifRightOrLeft(
+              highestPosition -> {
+                // the commands were appended in order, the last one at the highest position
+                final var requestLatencyTracer = getRequestLatencyTracer(partitionId);
+                final var lowestPosition = highestPosition - commands.size() + 1;
+                for (int i = 0; i < commands.size(); i++) {
+                  requestLatencyTracer.onAppended(lowestPosition + i, commands.get(i).receivedAt());
+                }
+              },
+              failure -> {
+                for (final var command : commands) {
+                  errorWriter.reset();
+                  failure
+                      .apply(errorWriter)
+                      .tryWriteResponse(serverOutput, partitionId, command.requestId());
+                }
+              });
+    } catch (final Exception error) {
+      final String errorMessage =
+          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
+      LOG.error(errorMessage);
+      for (final var command : commands) {
+        errorWriter.reset();
+        errorWriter
+            .internalError(errorMessage)
+            .tryWriteResponse(serverOutput, partitionId, command.requestId());
+      }
+    }
+  }
+
+  private Either<ErrorResponseWriter, LogAppendEntry> prepareCommand(
+      final int partitionId,
+      final long requestId,
+      final CommandApiRequestReader reader,
+      final ErrorResponseWriter errorWriter) {
 
     if (!isDiskSpaceAvailable) {
       return Either.left(errorWriter.outOfDiskSpace(partitionId));
@@ -118,52 +281,66 @@ final class CommandApiRequestHandler
       return Either.left(errorWriter);
     }
 
-    try {
-      return writeCommand(command.key(), metadata, value, logStreamWriter, errorWriter, partitionId)
-          .map(b -> responseWriter)
-          .mapLeft(failure -> errorWriter);
-
-    } catch (final Exception error) {
-      final String errorMessage =
-          "Failed to write client request to partition '%d', %s".formatted(partitionId, error);
-      LOG.error(errorMessage);
-      return Either.left(errorWriter.internalError(errorMessage));
+    final var key = command.key();
+    if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
+      return Either.right(LogAppendEntry.of(key, metadata, value));
+    } else {
+      return Either.right(LogAppendEntry.of(metadata, value));
     }
   }
 
-  private Either<ErrorResponseWriter, Boolean> writeCommand(
-      final long key,
-      final RecordMetadata metadata,
-      final UnifiedRecordValue value,
+  /**
+   * Writes the given entries as one log batch, returning the position of the last entry. On
+   * failure, returns a function which fills an error writer with the reason, so the caller can
+   * answer one or more requests with it.
+   */
+  private Either<UnaryOperator<ErrorResponseWriter>, Long> writeCommands(
+      final List<LogAppendEntry> appendEntries,
+      final Intent intent,
       final LogStreamWriter logStreamWriter,
-      final ErrorResponseWriter errorWriter,
       final int partitionId) {
-    final LogAppendEntry appendEntry;
-    if (key != ExecuteCommandRequestDecoder.keyNullValue()) {
-      appendEntry = LogAppendEntry.of(key, metadata, value);
-    } else {
-      appendEntry = LogAppendEntry.of(metadata, value);
-    }
-
-    if (logStreamWriter.canWriteEvents(1, appendEntry.getLength())) {
-      return logStreamWriter
-          .tryWrite(WriteContext.userCommand(metadata.getIntent()), appendEntry)
-          .map(ignore -> true)
-          .mapLeft(error -> errorWriter.mapWriteError(partitionId, error));
+    final var batchLength = appendEntries.stream().mapToInt(LogAppendEntry::getLength).sum();
+    if (logStreamWriter.canWriteEvents(appendEntries.size(), batchLength)) {
+      final var writeContext = WriteContext.userCommand(intent);
+      final var result =
+          appendEntries.size() == 1
+              ? logStreamWriter.tryWrite(writeContext, appendEntries.getFirst())
+              : logStreamWriter.tryWrite(writeContext, appendEntries);
+      return result.mapLeft(error -> errorWriter -> errorWriter.mapWriteError(partitionId, error));
     } else {
       return Either.left(
-          errorWriter
-              .errorCode(ErrorCode.MALFORMED_REQUEST)
-              .errorMessage("Request size is above configured maxMessageSize."));
+          errorWriter ->
+              errorWriter
+                  .errorCode(ErrorCode.MALFORMED_REQUEST)
+                  .errorMessage("Request size is above configured maxMessageSize."));
     }
   }
 
   void addPartition(final int partitionId, final LogStreamWriter logStreamWriter) {
-    actor.submit(() -> leadingStreams.put(partitionId, logStreamWriter));
+    addPartition(partitionId, logStreamWriter, RequestLatencyTracer.disabled());
+  }
+
+  void addPartition(
+      final int partitionId,
+      final LogStreamWriter logStreamWriter,
+      final RequestLatencyTracer requestLatencyTracer) {
+    actor.submit(
+        () -> {
+          leadingStreams.put(partitionId, logStreamWriter);
+          requestLatencyTracers.put(partitionId, requestLatencyTracer);
+        });
   }
 
   void removePartition(final int partitionId) {
-    actor.submit(() -> leadingStreams.remove(partitionId));
+    actor.submit(
+        () -> {
+          leadingStreams.remove(partitionId);
+          requestLatencyTracers.remove(partitionId);
+        });
+  }
+
+  private RequestLatencyTracer getRequestLatencyTracer(final int partitionId) {
+    return requestLatencyTracers.getOrDefault(partitionId, RequestLatencyTracer.disabled());
   }
 
   void onDiskSpaceNotAvailable() {
@@ -177,4 +354,7 @@ final class CommandApiRequestHandler
   void onDiskSpaceAvailable() {
     actor.submit(() -> isDiskSpaceAvailable = true);
   }
+
+  private record PendingCommand(
+      long requestId, Intent intent, LogAppendEntry appendEntry, long receivedAt) {}
 }
@@ -104,7 +104,8 @@ public final class CommandApiServiceImpl extends Actor
           leadPartitions.add(partitionId);
           queryHandler.addPartition(partitionId, queryService);
           serverTransport.subscribe(partitionId, RequestType.QUERY, queryHandler);
-          commandHandler.addPartition(partitionId, logStreamWriter);
+          commandHandler.addPartition(
+              partitionId, logStreamWriter, logStream.getRequestLatencyTracer());
           serverTransport.subscribe(partitionId, RequestType.COMMAND, commandHandler);
         });
   }
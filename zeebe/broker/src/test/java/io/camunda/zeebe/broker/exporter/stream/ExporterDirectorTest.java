@@ -457,6 +457,36 @@ public final class ExporterDirectorTest {
         .contains(deploymentEvent, jobEvent);
   }
 
+  @Test
+  public void shouldSkipRecordsWhichNoExporterAcceptsAsAWhole() {
+    // given - together, the exporters accept commands and events of deployments and jobs, but
+    // none of them accepts deployment events or job commands
+    exporters
+        .get(0)
+        .onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)));
+    exporters.get(1).onConfigure(withFilter(List.of(RecordType.EVENT), List.of(ValueType.JOB)));
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long deploymentCommand =
+        rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    rule.writeCommand(JobIntent.COMPLETE, new JobRecord());
+    final long jobEvent = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+
+    // then
+    Awaitility.await("director has read all records until now")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(exporters.get(1).getExportedRecords())
+                    .extracting(Record::getPosition)
+                    .containsExactly(jobEvent));
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(deploymentCommand);
+  }
+
   @Test
   public void shouldNotExportSkipRecordsFilter() {
     // given
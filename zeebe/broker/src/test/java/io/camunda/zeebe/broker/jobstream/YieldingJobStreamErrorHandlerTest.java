@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.jobstream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
@@ -18,12 +19,16 @@ import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 public class YieldingJobStreamErrorHandlerTest {
 
-  private final YieldingJobStreamErrorHandler errorHandler = new YieldingJobStreamErrorHandler();
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final YieldingJobStreamErrorHandler errorHandler =
+      new YieldingJobStreamErrorHandler(new JobStreamMetrics(meterRegistry));
   private final TaskResultBuilder mockTaskResultBuilder = mock(TaskResultBuilder.class);
 
   @BeforeEach
@@ -44,5 +49,8 @@ public class YieldingJobStreamErrorHandlerTest {
     // then
     verify(mockTaskResultBuilder)
         .appendCommandRecord(eq(1L), eq(JobIntent.YIELD), eq(activatedJob.jobRecord()));
+    assertThat(
+            meterRegistry.get(JobStreamMetricsDoc.YIELDED_JOBS_COUNT.getName()).counter().count())
+        .isEqualTo(1.0);
   }
 }
@@ -251,4 +251,27 @@ final class ExperimentalCfgTest {
     // then
     assertThat(experimental.isContinuousBackups()).isTrue();
   }
+
+  @Test
+  void shouldDisableRequestLatencyTracingByDefault() {
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.getRequestLatencySamplingRate()).isZero();
+  }
+
+  @Test
+  void shouldSetRequestLatencySamplingRateFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.requestLatencySamplingRate", "0.01");
+
+    // when
+    final var cfg = TestConfigReader.readConfig("empty", environment);
+    final var experimental = cfg.getExperimental();
+
+    // then
+    assertThat(experimental.getRequestLatencySamplingRate()).isEqualTo(0.01);
+  }
 }
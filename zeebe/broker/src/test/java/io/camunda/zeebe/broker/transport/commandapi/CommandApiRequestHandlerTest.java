@@ -10,11 +10,18 @@ package io.camunda.zeebe.broker.transport.commandapi;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyKeyNames;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyStage;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyTracer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter.WriteFailure;
@@ -30,8 +37,13 @@ import io.camunda.zeebe.transport.ServerOutput;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
@@ -251,6 +263,157 @@ public class CommandApiRequestHandlerTest {
             ErrorCode.MALFORMED_REQUEST, "Request size is above configured maxMessageSize.");
   }
 
+  @Test
+  public void shouldWriteBatchOfCommandsWithSameIntentTogether() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(1L));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    final var first =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    first.serializeValue();
+    final var second =
+        new BrokerPublishMessageRequest("test", "2").setMessageId("2").setTimeToLive(0);
+    second.serializeValue();
+
+    // when
+    final var responses = handleRequestBatch(first, second);
+
+    // then
+    verify(logWriter)
+        .tryWrite(
+            any(WriteContext.class),
+            argThat((List<LogAppendEntry> entries) -> entries.size() == 2));
+    assertThat(responses).isEmpty();
+  }
+
+  @Test
+  public void shouldRespondToEachFailedCommandOfBatch() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList()))
+        .thenReturn(Either.left(WriteFailure.WRITE_LIMIT_EXHAUSTED));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    final var first =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    first.serializeValue();
+    final var second =
+        new BrokerPublishMessageRequest("test", "2").setMessageId("2").setTimeToLive(0);
+    second.serializeValue();
+
+    // when
+    final var responses = handleRequestBatch(first, new ExecuteQueryRequest(), second);
+
+    // then
+    assertThat(responses)
+        .hasSize(3)
+        .hasEntrySatisfying(
+            0L,
+            response ->
+                assertThat(response.getLeft().getErrorCode())
+                    .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED))
+        .hasEntrySatisfying(
+            1L,
+            response ->
+                assertThat(response.getLeft().getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_MESSAGE_TEMPLATE))
+        .hasEntrySatisfying(
+            2L,
+            response ->
+                assertThat(response.getLeft().getErrorCode())
+                    .isEqualTo(ErrorCode.RESOURCE_EXHAUSTED));
+  }
+
+  @Test
+  public void shouldWriteBatchOneByOneIfTooLargeTogether() {
+    // given
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt()))
+        .thenAnswer(invocation -> invocation.getArgument(0, Integer.class) == 1);
+    when(logWriter.tryWrite(any(WriteContext.class), any(LogAppendEntry.class)))
+        .thenReturn(Either.right(1L));
+    handler.addPartition(0, logWriter);
+    scheduler.workUntilDone();
+
+    final var first =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    first.serializeValue();
+    final var second =
+        new BrokerPublishMessageRequest("test", "2").setMessageId("2").setTimeToLive(0);
+    second.serializeValue();
+
+    // when
+    final var responses = handleRequestBatch(first, second);
+
+    // then
+    verify(logWriter, times(2)).tryWrite(any(WriteContext.class), any(LogAppendEntry.class));
+    assertThat(responses).isEmpty();
+  }
+
+  @Test
+  public void shouldTraceSampledCommandsOnceAppended() {
+    // given
+    final var meterRegistry = new SimpleMeterRegistry();
+    final var tracer = new RequestLatencyTracer(1, meterRegistry);
+    final var logWriter = mock(LogStreamWriter.class);
+    when(logWriter.canWriteEvents(anyInt(), anyInt())).thenReturn(true);
+    when(logWriter.tryWrite(any(WriteContext.class), anyList())).thenReturn(Either.right(6L));
+    handler.addPartition(0, logWriter, tracer);
+    scheduler.workUntilDone();
+
+    final var first =
+        new BrokerPublishMessageRequest("test", "1").setMessageId("1").setTimeToLive(0);
+    first.serializeValue();
+    final var second =
+        new BrokerPublishMessageRequest("test", "2").setMessageId("2").setTimeToLive(0);
+    second.serializeValue();
+
+    // when
+    handleRequestBatch(first, second);
+    tracer.onProcessed(5);
+    tracer.onProcessed(6);
+
+    // then
+    assertThat(
+            meterRegistry
+                .get(RequestLatencyMetricsDoc.STAGE_LATENCY.getName())
+                .tag(
+                    RequestLatencyKeyNames.STAGE.asString(),
+                    RequestLatencyStage.APPEND.getValue())
+                .timer()
+                .count())
+        .isEqualTo(2);
+  }
+
+  private Map<Long, Either<ErrorResponse, ExecuteCommandResponse>> handleRequestBatch(
+      final BufferWriter... requests) {
+    final var responses =
+        new ConcurrentHashMap<Long, Either<ErrorResponse, ExecuteCommandResponse>>();
+    final var requestIds = new long[requests.length];
+    final var requestBuffers = new DirectBuffer[requests.length];
+    for (int i = 0; i < requests.length; i++) {
+      requestIds[i] = i;
+      requestBuffers[i] = new UnsafeBuffer(new byte[requests[i].getLength()]);
+      requests[i].write((UnsafeBuffer) requestBuffers[i], 0);
+    }
+
+    final ServerOutput serverOutput =
+        serverResponse -> {
+          final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
+          createServerOutput(future).sendResponse(serverResponse);
+          responses.put(serverResponse.getRequestId(), future.join());
+        };
+    handler.onRequestBatch(serverOutput, 0, requestIds, requestBuffers);
+    scheduler.workUntilDone();
+    return responses;
+  }
+
   private CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>> handleRequest(
       final BufferWriter request) {
     final var future = new CompletableFuture<Either<ErrorResponse, ExecuteCommandResponse>>();
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.withSettings;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyTracer;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -77,6 +78,7 @@ public class CommandApiServiceImplTest {
     // given
     when(transitionContext.getPartitionId()).thenReturn(1);
     when(logStream.newLogStreamWriter()).thenReturn(mock());
+    when(logStream.getRequestLatencyTracer()).thenReturn(RequestLatencyTracer.disabled());
     when(transitionContext.getLogStream()).thenReturn(logStream);
     when(transitionContext.getQueryService()).thenReturn(mock());
     final var transitionStep = new CommandApiServiceTransitionStep();
@@ -154,6 +156,7 @@ public class CommandApiServiceImplTest {
   public void shouldUnsubscribeOnActorClosing() {
     // given
     when(logStream.newLogStreamWriter()).thenReturn(mock());
+    when(logStream.getRequestLatencyTracer()).thenReturn(RequestLatencyTracer.disabled());
     when(transitionContext.getQueryService()).thenReturn(mock());
 
     commandApiService.registerHandlers(1, logStream, transitionContext.getQueryService());
@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.commandapi.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.AtomixCluster;
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.discovery.BootstrapDiscoveryProvider;
+import io.atomix.utils.net.Address;
+import io.camunda.zeebe.broker.client.api.BrokerClient;
+import io.camunda.zeebe.broker.client.api.BrokerClientRequestMetrics;
+import io.camunda.zeebe.broker.client.api.BrokerClientTopologyMetrics;
+import io.camunda.zeebe.broker.client.api.BrokerClusterState;
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.broker.client.impl.BrokerClientImpl;
+import io.camunda.zeebe.broker.client.impl.BrokerTopologyManagerImpl;
+import io.camunda.zeebe.broker.test.EmbeddedBrokerRule;
+import io.camunda.zeebe.dynamic.config.state.ClusterConfiguration;
+import io.camunda.zeebe.dynamic.config.state.MemberState;
+import io.camunda.zeebe.dynamic.config.state.PartitionState;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeployResourceRequest;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.test.util.socket.SocketUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.agrona.CloseHelper;
+import org.awaitility.Awaitility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+
+/**
+ * Compares sending commands one by one with sending them in batches, by creating process instances
+ * on an in-process broker from a broker client which joins the broker's cluster as a separate
+ * member, i.e. over the same network path a standalone gateway would use. The commands are sent
+ * concurrently by several threads, as batches are only formed when commands for the same partition
+ * queue up.
+ */
+@Warmup(iterations = 20, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class CommandBatchingPerformanceTest {
+  private static final int CONCURRENT_REQUESTS = 32;
+  private static final String PROCESS_ID = "process";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  @Param({"1", "32"})
+  private int requestBatchSize;
+
+  // the recording exporter would keep every record in memory, so run without any exporter
+  private final EmbeddedBrokerRule brokerRule =
+      new EmbeddedBrokerRule(cfg -> cfg.getExporters().clear());
+  private final ActorScheduler actorScheduler = ActorScheduler.newActorScheduler().build();
+  private AtomixCluster atomixCluster;
+  private BrokerTopologyManagerImpl topologyManager;
+  private BrokerClient client;
+
+  @Setup
+  public void setup() {
+    brokerRule.before();
+    final var brokerCfg = brokerRule.getBrokerCfg();
+    final var meterRegistry = new SimpleMeterRegistry();
+    final var internalApi = brokerCfg.getNetwork().getInternalApi();
+    final var brokerAddress =
+        Address.from(internalApi.getAdvertisedHost(), internalApi.getAdvertisedPort());
+    atomixCluster =
+        AtomixCluster.builder(meterRegistry)
+            .withPort(SocketUtil.getNextAddress().getPort())
+            .withMembershipProvider(
+                BootstrapDiscoveryProvider.builder().withNodes(brokerAddress).build())
+            .withClusterId(brokerCfg.getCluster().getClusterName())
+            .build();
+    atomixCluster.start().join();
+    actorScheduler.start();
+
+    topologyManager =
+        new BrokerTopologyManagerImpl(
+            () -> atomixCluster.getMembershipService().getMembers(),
+            new BrokerClientTopologyMetrics(meterRegistry));
+    actorScheduler.submitActor(topologyManager).join();
+    atomixCluster.getMembershipService().addListener(topologyManager);
+    final var partitions = new HashMap<Integer, PartitionState>();
+    for (int i = 1; i <= brokerCfg.getCluster().getPartitionsCount(); i++) {
+      partitions.put(i, PartitionState.active(1, null));
+    }
+    topologyManager.onClusterConfigurationUpdated(
+        ClusterConfiguration.init()
+            .addMember(
+                MemberId.from(String.valueOf(brokerCfg.getCluster().getNodeId())),
+                MemberState.initializeAsActive(Map.copyOf(partitions))));
+    Awaitility.await("until the client knows the partition leaders")
+        .untilAsserted(
+            () -> {
+              final var topology = topologyManager.getTopology();
+              assertThat(topology.getPartitions())
+                  .allSatisfy(
+                      partition ->
+                          assertThat(topology.getLeaderForPartition(partition))
+                              .isNotEqualTo(BrokerClusterState.NODE_ID_NULL));
+            });
+
+    client =
+        new BrokerClientImpl(
+            REQUEST_TIMEOUT,
+            requestBatchSize,
+            Duration.ZERO,
+            atomixCluster.getMessagingService(),
+            atomixCluster.getEventService(),
+            actorScheduler,
+            topologyManager,
+            new BrokerClientRequestMetrics(meterRegistry));
+    client.start().forEach(ActorFuture::join);
+
+    final var process = Bpmn.createExecutableProcess(PROCESS_ID).startEvent().endEvent().done();
+    client
+        .sendRequest(
+            new BrokerDeployResourceRequest()
+                .addResource(
+                    "process.bpmn", Bpmn.convertToString(process).getBytes(StandardCharsets.UTF_8))
+                .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .join();
+  }
+
+  @TearDown
+  public void tearDown() {
+    // the actors have to be closed before their scheduler, and the client before the broker
+    CloseHelper.quietCloseAll(client, topologyManager, atomixCluster, actorScheduler);
+    brokerRule.after();
+  }
+
+  @JMHTest("measureCreateProcessInstanceThroughput")
+  void shouldIncreaseThroughputWithBatching(final JMHTestCase testCase) {
+    // given
+    final var unbatchedScore = runUnbatched("measureCreateProcessInstanceThroughput");
+
+    // when
+    final var assertResult = testCase.withOptions(CommandBatchingPerformanceTest::batched).run();
+
+    // then
+    assertThat(assertResult.actual().getPrimaryResult().getScore())
+        .isGreaterThan(unbatchedScore * 1.2);
+  }
+
+  @JMHTest("measureCreateProcessInstanceLatency")
+  void shouldDecreaseLatencyWithBatching(final JMHTestCase testCase) {
+    // given
+    final var unbatchedScore = runUnbatched("measureCreateProcessInstanceLatency");
+
+    // when
+    final var assertResult = testCase.withOptions(CommandBatchingPerformanceTest::batched).run();
+
+    // then - the score is the average time per request, so lower is better
+    assertThat(assertResult.actual().getPrimaryResult().getScore()).isLessThan(unbatchedScore);
+  }
+
+  @Benchmark
+  @Threads(CONCURRENT_REQUESTS)
+  public BrokerResponse<ProcessInstanceCreationRecord> measureCreateProcessInstanceThroughput() {
+    return createProcessInstance();
+  }
+
+  @Benchmark
+  @Threads(CONCURRENT_REQUESTS)
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public BrokerResponse<ProcessInstanceCreationRecord> measureCreateProcessInstanceLatency() {
+    return createProcessInstance();
+  }
+
+  private BrokerResponse<ProcessInstanceCreationRecord> createProcessInstance() {
+    final var response =
+        client
+            .sendRequest(
+                new BrokerCreateProcessInstanceRequest()
+                    .setBpmnProcessId(PROCESS_ID)
+                    .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+            .join();
+    if (!response.isResponse()) {
+      throw new IllegalStateException(
+          "Expected to create a process instance, but got %s".formatted(response));
+    }
+
+    return response;
+  }
+
+  private static double runUnbatched(final String benchmark) {
+    return JMHTestCase.of(
+            CommandBatchingPerformanceTest.class, benchmark, o -> o.param("requestBatchSize", "1"))
+        .run()
+        .actual()
+        .getPrimaryResult()
+        .getScore();
+  }
+
+  private static void batched(final ChainedOptionsBuilder options) {
+    options.param("requestBatchSize", "32");
+  }
+}
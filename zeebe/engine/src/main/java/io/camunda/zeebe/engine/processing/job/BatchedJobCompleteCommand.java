@@ -0,0 +1,155 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.protocol.impl.encoding.AuthInfo;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.Map;
+
+/**
+ * A view of a single job of a {@link JobBatchRecord} complete command, as if it was a job complete
+ * command. Everything but the key and the value is taken from the batch command, so that the job is
+ * completed on behalf of the same user as the batch.
+ *
+ * <p>The instance is reused for every job of the batch; it is only valid until the next call to
+ * {@link #wrap(long, JobRecord)}.
+ */
+final class BatchedJobCompleteCommand implements TypedRecord<JobRecord> {
+
+  private final TypedRecord<JobBatchRecord> batchCommand;
+  private long jobKey;
+  private JobRecord job;
+
+  BatchedJobCompleteCommand(final TypedRecord<JobBatchRecord> batchCommand) {
+    this.batchCommand = batchCommand;
+  }
+
+  BatchedJobCompleteCommand wrap(final long jobKey, final JobRecord job) {
+    this.jobKey = jobKey;
+    this.job = job;
+    return this;
+  }
+
+  @Override
+  public long getKey() {
+    return jobKey;
+  }
+
+  @Override
+  public JobRecord getValue() {
+    return job;
+  }
+
+  @Override
+  public AuthInfo getAuthInfo() {
+    return batchCommand.getAuthInfo();
+  }
+
+  @Override
+  public int getRequestStreamId() {
+    return batchCommand.getRequestStreamId();
+  }
+
+  @Override
+  public long getRequestId() {
+    return batchCommand.getRequestId();
+  }
+
+  @Override
+  public int getLength() {
+    return job.getLength();
+  }
+
+  @Override
+  public long getPosition() {
+    return batchCommand.getPosition();
+  }
+
+  @Override
+  public long getSourceRecordPosition() {
+    return batchCommand.getSourceRecordPosition();
+  }
+
+  @Override
+  public long getTimestamp() {
+    return batchCommand.getTimestamp();
+  }
+
+  @Override
+  public Intent getIntent() {
+    return JobIntent.COMPLETE;
+  }
+
+  @Override
+  public int getPartitionId() {
+    return batchCommand.getPartitionId();
+  }
+
+  @Override
+  public RecordType getRecordType() {
+    return RecordType.COMMAND;
+  }
+
+  @Override
+  public RejectionType getRejectionType() {
+    return batchCommand.getRejectionType();
+  }
+
+  @Override
+  public String getRejectionReason() {
+    return batchCommand.getRejectionReason();
+  }
+
+  @Override
+  public String getBrokerVersion() {
+    return batchCommand.getBrokerVersion();
+  }
+
+  @Override
+  public Map<String, Object> getAuthorizations() {
+    return batchCommand.getAuthorizations();
+  }
+
+  @Override
+  public int getRecordVersion() {
+    return batchCommand.getRecordVersion();
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return ValueType.JOB;
+  }
+
+  @Override
+  public long getOperationReference() {
+    return batchCommand.getOperationReference();
+  }
+
+  @Override
+  public long getBatchOperationReference() {
+    return batchCommand.getBatchOperationReference();
+  }
+
+  @Override
+  public Record<JobRecord> copyOf() {
+    return new BatchedJobCompleteCommand(batchCommand).wrap(jobKey, job);
+  }
+
+  @Override
+  public String toJson() {
+    return job.toJson();
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.processing.Rejection;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRejection;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import java.util.Iterator;
+
+/**
+ * Completes many jobs with a single command. Each job of the batch is completed exactly as if it
+ * was completed on its own by {@link JobCompleteProcessor}, including the variable semantics. A job
+ * which can't be completed doesn't reject the whole batch; instead, its rejection is added to the
+ * {@link JobBatchRecord#rejectedJobs() rejected jobs} of the response, such that the outcome is
+ * reported for each job separately.
+ *
+ * <p>The follow-up records of all jobs have to fit into the result of the single command. Once the
+ * next job would exceed it, the remaining jobs are not completed, but rejected with {@link
+ * RejectionType#EXCEEDED_BATCH_RECORD_SIZE}, such that the client can retry them.
+ */
+public final class JobBatchCompleteProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private static final String EXCEEDED_BATCH_SIZE_REASON =
+      "Expected to complete job as part of the batch, but the batch already reached the maximum"
+          + " record batch size";
+  // the length a rejection for an exceeded batch size takes up in the completed batch
+  private static final int EXCEEDED_BATCH_SIZE_REJECTION_LENGTH =
+      new JobBatchRejection()
+          .setIndex(Integer.MAX_VALUE)
+          .setJobKey(Long.MAX_VALUE)
+          .setRejectionType(RejectionType.EXCEEDED_BATCH_RECORD_SIZE)
+          .setRejectionReason(EXCEEDED_BATCH_SIZE_REASON)
+          .getLength();
+
+  private final JobCompleteProcessor jobCompleteProcessor;
+  private final JobState jobState;
+  private final KeyGenerator keyGenerator;
+  private final StateWriter stateWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+
+  public JobBatchCompleteProcessor(
+      final JobCompleteProcessor jobCompleteProcessor,
+      final JobState jobState,
+      final KeyGenerator keyGenerator,
+      final Writers writers) {
+    this.jobCompleteProcessor = jobCompleteProcessor;
+    this.jobState = jobState;
+    this.keyGenerator = keyGenerator;
+    stateWriter = writers.state();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<JobBatchRecord> record) {
+    final JobBatchRecord value = record.getValue();
+    final int jobKeyCount = value.getJobKeys().size();
+    final int jobCount = (int) value.jobs().stream().count();
+
+    if (jobKeyCount == 0 || jobKeyCount != jobCount) {
+      final var reason =
+          "Expected to complete a batch of jobs with a job record for each job key, but got '%d' job keys and '%d' job records"
+              .formatted(jobKeyCount, jobCount);
+      rejectionWriter.appendRejection(record, RejectionType.INVALID_ARGUMENT, reason);
+      responseWriter.writeRejectionOnCommand(record, RejectionType.INVALID_ARGUMENT, reason);
+      return;
+    }
+
+    final var completed = new JobBatchRecord().setType(value.getTypeBuffer());
+    final var jobCommand = new BatchedJobCompleteCommand(record);
+    final Iterator<LongValue> jobKeys = value.jobKeys().iterator();
+    final Iterator<JobRecord> jobs = value.jobs().iterator();
+    // the completed batch will take up at most a rejection for each job, in addition to the
+    // rejections with a custom reason
+    int batchEventLength = jobKeyCount * EXCEEDED_BATCH_SIZE_REJECTION_LENGTH;
+    boolean exceededBatchSize = false;
+
+    for (int index = 0; jobKeys.hasNext() && jobs.hasNext(); index++) {
+      final long jobKey = jobKeys.next().getValue();
+      final JobRecord job = jobs.next();
+      completed.jobKeys().add().setValue(jobKey);
+
+      exceededBatchSize = exceededBatchSize || !canComplete(jobKey, job, batchEventLength);
+      if (exceededBatchSize) {
+        addRejection(
+            completed,
+            index,
+            jobKey,
+            new Rejection(RejectionType.EXCEEDED_BATCH_RECORD_SIZE, EXCEEDED_BATCH_SIZE_REASON));
+        continue;
+      }
+
+      final var result = jobCompleteProcessor.tryCompleteJob(jobCommand.wrap(jobKey, job));
+      if (result.isLeft()) {
+        batchEventLength += addRejection(completed, index, jobKey, result.getLeft());
+      }
+    }
+
+    final long jobBatchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.COMPLETED, completed);
+    responseWriter.writeEventOnCommand(jobBatchKey, JobBatchIntent.COMPLETED, completed, record);
+  }
+
+  /**
+   * Returns whether the follow-up records of completing the given job still fit into the result,
+   * together with the completed batch. Like in {@link JobBatchCollector}, the expected length is an
+   * estimate: the job as stored, which also contains its custom headers, the variables of the
+   * command, the length of the completed batch, and an 8 KB buffer for the other follow-up records.
+   */
+  private boolean canComplete(final long jobKey, final JobRecord job, final int batchEventLength) {
+    final JobRecord storedJob = jobState.getJob(jobKey);
+    final int storedJobLength = storedJob == null ? 0 : storedJob.getLength();
+    final int expectedLength =
+        storedJobLength
+            + job.getVariablesBuffer().capacity()
+            + batchEventLength
+            + EngineConfiguration.BATCH_SIZE_CALCULATION_BUFFER;
+    return stateWriter.canWriteEventOfLength(expectedLength);
+  }
+
+  /**
+   * @return the length the rejection takes up in the batch
+   */
+  private static int addRejection(
+      final JobBatchRecord batch, final int index, final long jobKey, final Rejection rejection) {
+    return batch
+        .rejectedJobs()
+        .add()
+        .setIndex(index)
+        .setJobKey(jobKey)
+        .setRejectionType(rejection.type())
+        .setRejectionReason(rejection.reason())
+        .getLength();
+  }
+}
@@ -168,30 +168,45 @@ public final class JobCompleteProcessor implements TypedRecordProcessor<JobRecor
 
   @Override
   public void processRecord(final TypedRecord<JobRecord> record) {
-    final long jobKey = record.getKey();
-    final JobState.State state = jobState.getState(jobKey);
-
-    preconditionChecker
-        .check(state, record)
-        .flatMap(job -> checkAuthorization(record, job))
+    tryCompleteJob(record)
         .ifRightOrLeft(
-            job -> completeJob(record, job),
+            job ->
+                responseWriter.writeEventOnCommand(
+                    record.getKey(), JobIntent.COMPLETED, job, record),
             rejection -> {
               rejectionWriter.appendRejection(record, rejection.type(), rejection.reason());
               responseWriter.writeRejectionOnCommand(record, rejection.type(), rejection.reason());
             });
   }
 
-  private void completeJob(final TypedRecord<JobRecord> command, final JobRecord job) {
+  /**
+   * Completes the job referenced by the given command, if it can be completed, without writing a
+   * response or a rejection. This allows completing many jobs as part of a single command, see
+   * {@link JobBatchCompleteProcessor}.
+   *
+   * @param command the complete command of a single job
+   * @return the completed job, or the reason why it could not be completed
+   */
+  Either<Rejection, JobRecord> tryCompleteJob(final TypedRecord<JobRecord> command) {
+    final long jobKey = command.getKey();
+    final JobState.State state = jobState.getState(jobKey);
+
+    return preconditionChecker
+        .check(state, command)
+        .flatMap(job -> checkAuthorization(command, job))
+        .map(job -> completeJob(command, job));
+  }
+
+  private JobRecord completeJob(final TypedRecord<JobRecord> command, final JobRecord job) {
     job.setVariables(command.getValue().getVariablesBuffer());
     job.setResult(command.getValue().getResult());
 
     stateWriter.appendFollowUpEvent(command.getKey(), JobIntent.COMPLETED, job);
-    responseWriter.writeEventOnCommand(command.getKey(), JobIntent.COMPLETED, job, command);
 
     jobMetrics.countJobEvent(JobAction.COMPLETED, job.getJobKind(), job.getType());
 
     postCompleteActions(job);
+    return job;
   }
 
   private void postCompleteActions(final JobRecord value) {
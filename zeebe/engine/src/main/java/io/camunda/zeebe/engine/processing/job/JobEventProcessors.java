@@ -48,17 +48,16 @@ public final class JobEventProcessors {
 
     final var jobBackoffChecker =
         new JobBackoffChecker(clock, scheduledTaskStateFactory.get().getJobState());
+    final var jobCompleteProcessor =
+        new JobCompleteProcessor(
+            processingState,
+            writers,
+            jobMetrics,
+            eventHandle,
+            authCheckBehavior,
+            bpmnBehaviors.variableBehavior());
     typedRecordProcessors
-        .onCommand(
-            ValueType.JOB,
-            JobIntent.COMPLETE,
-            new JobCompleteProcessor(
-                processingState,
-                writers,
-                jobMetrics,
-                eventHandle,
-                authCheckBehavior,
-                bpmnBehaviors.variableBehavior()))
+        .onCommand(ValueType.JOB, JobIntent.COMPLETE, jobCompleteProcessor)
         .onCommand(
             ValueType.JOB,
             JobIntent.FAIL,
@@ -119,6 +118,11 @@ public final class JobEventProcessors {
                 processingState.getKeyGenerator(),
                 jobMetrics,
                 authCheckBehavior))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCompleteProcessor(
+                jobCompleteProcessor, processingState.getJobState(), keyGenerator, writers))
         .withListener(
             new JobTimeoutCheckerScheduler(
                 scheduledTaskStateFactory.get().getJobState(),
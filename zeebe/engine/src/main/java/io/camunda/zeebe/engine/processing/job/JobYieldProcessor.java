@@ -14,6 +14,7 @@ import io.camunda.zeebe.engine.processing.identity.authorization.AuthorizationCh
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.State;
@@ -29,6 +30,7 @@ public final class JobYieldProcessor implements TypedRecordProcessor<JobRecord>
   private final BpmnJobActivationBehavior jobActivationBehavior;
   private final StateWriter stateWriter;
   private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
   private final JobCommandPreconditionChecker preconditionChecker;
   private final AuthorizationCheckBehavior authorizationCheckBehavior;
 
@@ -41,6 +43,7 @@ public final class JobYieldProcessor implements TypedRecordProcessor<JobRecord>
     jobActivationBehavior = bpmnBehaviors.jobActivationBehavior();
     stateWriter = writers.state();
     rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
     this.authorizationCheckBehavior = authorizationCheckBehavior;
     preconditionChecker =
         new JobCommandPreconditionChecker(
@@ -57,9 +60,12 @@ public final class JobYieldProcessor implements TypedRecordProcessor<JobRecord>
         .ifRightOrLeft(
             yieldedJob -> {
               stateWriter.appendFollowUpEvent(jobKey, JobIntent.YIELDED, yieldedJob);
+              responseWriter.writeEventOnCommand(jobKey, JobIntent.YIELDED, yieldedJob, record);
               jobActivationBehavior.notifyJobAvailableAsSideEffect(yieldedJob);
             },
-            rejection ->
-                rejectionWriter.appendRejection(record, rejection.type(), rejection.reason()));
+            rejection -> {
+              rejectionWriter.appendRejection(record, rejection.type(), rejection.reason());
+              responseWriter.writeRejectionOnCommand(record, rejection.type(), rejection.reason());
+            });
   }
 }
@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.engine.util.RecordToWrite;
+import io.camunda.zeebe.model.bpmn.Bpmn;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRejection;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.camunda.zeebe.util.ByteValue;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CompleteJobBatchTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+
+  private static final String PROCESS_ID = "process";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  private String jobType;
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteAllJobsOfBatch() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final List<Long> jobKeys =
+        ENGINE.jobs().withType(jobType).withMaxJobsToActivate(2).activate().getValue().getJobKeys();
+
+    // when
+    final var batch = new JobBatchRecord().setType("");
+    jobKeys.forEach(
+        jobKey -> {
+          batch.jobKeys().add().setValue(jobKey);
+          batch.jobs().add().setVariables(asMsgPack("jobKey", String.valueOf(jobKey)));
+        });
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.COMPLETE, batch));
+
+    // then
+    final Record<JobBatchRecordValue> completed =
+        RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED).getFirst();
+    assertThat(completed.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+    assertThat(((JobBatchRecord) completed.getValue()).rejectedJobs()).isEmpty();
+
+    assertThat(RecordingExporter.jobRecords(JobIntent.COMPLETED).withType(jobType).limit(2))
+        .extracting(Record::getKey, r -> r.getValue().getVariables())
+        .containsExactly(
+            tuple(jobKeys.get(0), Map.of("jobKey", String.valueOf(jobKeys.get(0)))),
+            tuple(jobKeys.get(1), Map.of("jobKey", String.valueOf(jobKeys.get(1)))));
+  }
+
+  @Test
+  public void shouldReportOutcomeOfEachJobSeparately() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final long jobKey = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys().get(0);
+    final long unknownJobKey = 123L;
+
+    // when
+    final var batch = new JobBatchRecord().setType("");
+    batch.jobKeys().add().setValue(unknownJobKey);
+    batch.jobs().add();
+    batch.jobKeys().add().setValue(jobKey);
+    batch.jobs().add().setVariables(asMsgPack("foo", "bar"));
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.COMPLETE, batch));
+
+    // then
+    final var completed =
+        (JobBatchRecord)
+            RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED).getFirst().getValue();
+    assertThat(completed.getJobKeys()).containsExactly(unknownJobKey, jobKey);
+    assertThat(completed.rejectedJobs())
+        .extracting(JobBatchRejection::getJobKey, JobBatchRejection::getRejectionType)
+        .containsExactly(tuple(unknownJobKey, RejectionType.NOT_FOUND));
+
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withRecordKey(jobKey)
+                .getFirst()
+                .getValue()
+                .getVariables())
+        .containsExactly(entry("foo", "bar"));
+  }
+
+  @Test
+  public void shouldRejectJobsWhichExceedTheMaxBatchSize() {
+    // given - jobs which are large because of their custom headers, such that only three of them
+    // can be completed in a single batch
+    final var processId = Strings.newRandomValidBpmnId();
+    final var largeHeader = "x".repeat((int) ByteValue.ofMegabytes(1));
+    ENGINE
+        .deployment()
+        .withXmlResource(
+            processId + ".bpmn",
+            Bpmn.createExecutableProcess(processId)
+                .startEvent()
+                .serviceTask(
+                    "task", t -> t.zeebeJobType(jobType).zeebeTaskHeader("large", largeHeader))
+                .endEvent()
+                .done())
+        .deploy();
+    final List<Long> jobKeys =
+        IntStream.range(0, 4)
+            .mapToObj(i -> ENGINE.processInstance().ofBpmnProcessId(processId).create())
+            .map(
+                processInstanceKey ->
+                    RecordingExporter.jobRecords(JobIntent.CREATED)
+                        .withProcessInstanceKey(processInstanceKey)
+                        .getFirst()
+                        .getKey())
+            .toList();
+
+    // when
+    ENGINE.writeRecords(
+        RecordToWrite.command().jobBatch(JobBatchIntent.COMPLETE, completeBatch(jobKeys)));
+
+    // then
+    final var completed =
+        (JobBatchRecord)
+            RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETED).getFirst().getValue();
+    assertThat(completed.getJobKeys()).containsExactlyElementsOf(jobKeys);
+    assertThat(completed.rejectedJobs())
+        .extracting(
+            JobBatchRejection::getIndex,
+            JobBatchRejection::getJobKey,
+            JobBatchRejection::getRejectionType)
+        .containsExactly(tuple(3, jobKeys.get(3), RejectionType.EXCEEDED_BATCH_RECORD_SIZE));
+    assertThat(RecordingExporter.jobRecords(JobIntent.COMPLETED).withType(jobType).limit(3))
+        .extracting(Record::getKey)
+        .containsExactlyElementsOf(jobKeys.subList(0, 3));
+
+    // when - the rejected job is completed again
+    ENGINE.writeRecords(
+        RecordToWrite.command()
+            .jobBatch(JobBatchIntent.COMPLETE, completeBatch(jobKeys.subList(3, 4))));
+
+    // then
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withRecordKey(jobKeys.get(3))
+                .exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldRejectBatchWithoutJobs() {
+    // when
+    ENGINE.writeRecords(
+        RecordToWrite.command()
+            .jobBatch(JobBatchIntent.COMPLETE, new JobBatchRecord().setType("")));
+
+    // then
+    assertThat(
+            RecordingExporter.jobBatchRecords(JobBatchIntent.COMPLETE)
+                .onlyCommandRejections()
+                .getFirst()
+                .getRejectionType())
+        .isEqualTo(RejectionType.INVALID_ARGUMENT);
+  }
+
+  private static JobBatchRecord completeBatch(final List<Long> jobKeys) {
+    final var batch = new JobBatchRecord().setType("");
+    jobKeys.forEach(
+        jobKey -> {
+          batch.jobKeys().add().setValue(jobKey);
+          batch.jobs().add();
+        });
+    return batch;
+  }
+}
@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.engine.processing.job;
 
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.timeout;
+
 import io.camunda.zeebe.engine.state.immutable.JobState.State;
 import io.camunda.zeebe.engine.util.EngineRule;
 import io.camunda.zeebe.protocol.record.Assertions;
@@ -22,6 +25,7 @@ import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 public final class YieldJobTest {
 
@@ -36,6 +40,7 @@ public final class YieldJobTest {
   @Before
   public void setup() {
     jobType = Strings.newRandomValidBpmnId();
+    clearInvocations(ENGINE.getCommandResponseWriter());
   }
 
   @Test
@@ -87,4 +92,48 @@ public final class YieldJobTest {
                 "Expected to yield job with key '%d', but it is in state '%s'",
                 jobKey, State.FAILED));
   }
+
+  @Test
+  public void shouldRespondToYield() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final Record<JobBatchRecordValue> batchRecord = ENGINE.jobs().withType(jobType).activate();
+    final long jobKey = batchRecord.getValue().getJobKeys().get(0);
+
+    // when
+    ENGINE.job().withKey(jobKey).withRequestStreamId(1).withRequestId(2L).yield();
+
+    // then
+    final var responseWriter = ENGINE.getCommandResponseWriter();
+    final var inOrder = Mockito.inOrder(responseWriter);
+    inOrder.verify(responseWriter, timeout(1000)).intent(JobIntent.YIELDED);
+    inOrder.verify(responseWriter, timeout(1000)).key(jobKey);
+    inOrder.verify(responseWriter, timeout(1000)).tryWriteResponse(1, 2L);
+  }
+
+  @Test
+  public void shouldRespondWithRejectionToYield() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final Record<JobBatchRecordValue> batchRecord = ENGINE.jobs().withType(jobType).activate();
+    final long jobKey = batchRecord.getValue().getJobKeys().get(0);
+    ENGINE.job().withKey(jobKey).fail();
+
+    // when
+    final Record<JobRecordValue> rejection =
+        ENGINE
+            .job()
+            .withKey(jobKey)
+            .withRequestStreamId(1)
+            .withRequestId(2L)
+            .expectRejection()
+            .yield();
+
+    // then - the rejection is both written to the log and sent to the gateway
+    Assertions.assertThat(rejection).hasRejectionType(RejectionType.INVALID_STATE);
+    final var responseWriter = ENGINE.getCommandResponseWriter();
+    final var inOrder = Mockito.inOrder(responseWriter);
+    inOrder.verify(responseWriter, timeout(1000)).rejectionType(RejectionType.INVALID_STATE);
+    inOrder.verify(responseWriter, timeout(1000)).tryWriteResponse(1, 2L);
+  }
 }
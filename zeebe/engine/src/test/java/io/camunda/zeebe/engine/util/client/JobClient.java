@@ -44,6 +44,8 @@ public final class JobClient {
   private long processInstanceKey;
   private long jobKey = DEFAULT_KEY;
   private List<String> authorizedTenantIds = List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  private long requestId = -1L;
+  private int requestStreamId = -1;
 
   private Function<Long, Record<JobRecordValue>> expectation = SUCCESS_SUPPLIER;
 
@@ -122,6 +124,16 @@ public final class JobClient {
     return this;
   }
 
+  public JobClient withRequestId(final long requestId) {
+    this.requestId = requestId;
+    return this;
+  }
+
+  public JobClient withRequestStreamId(final int requestStreamId) {
+    this.requestStreamId = requestStreamId;
+    return this;
+  }
+
   public JobClient withChangeset(final Set<String> changeset) {
     jobRecord.setChangedAttributes(changeset);
     return this;
@@ -191,7 +203,16 @@ public final class JobClient {
 
   public Record<JobRecordValue> yield() {
     final long jobKey = findJobKey();
-    final long position = writer.writeCommand(jobKey, JobIntent.YIELD, jobRecord);
+    final long position =
+        requestId != -1 && requestStreamId != -1
+            ? writer.writeCommand(
+                jobKey,
+                requestStreamId,
+                requestId,
+                JobIntent.YIELD,
+                jobRecord,
+                authorizedTenantIds.toArray(new String[0]))
+            : writer.writeCommand(jobKey, JobIntent.YIELD, jobRecord);
 
     return expectation.apply(position);
   }
@@ -23,6 +23,7 @@ import java.time.InstantSource;
 import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 public class CamundaExporterMetrics implements AutoCloseable {
@@ -72,11 +73,18 @@ public class CamundaExporterMetrics implements AutoCloseable {
   /** Count of document updated when incident updates were processed. */
   private final Counter incidentUpdatesDocumentsUpdated;
 
+  /** Number of incident updates processed per second, observed per processed batch. */
+  private final DistributionSummary incidentUpdatesThroughput;
+
   private final Timer archiverSearchTimer;
   private final Timer archiverDeleteTimer;
   private final Timer archiverReindexTimer;
   private Timer.Sample flushLatencyMeasurement;
   private final Timer archivingDuration;
+
+  /** Number of process instances archived per second, observed per archived batch. */
+  private final DistributionSummary processInstancesArchivingThroughput;
+
   private final DistributionSummary bulkSize;
   private final Timer flushDuration;
   private final Counter failedFlush;
@@ -84,6 +92,9 @@ public class CamundaExporterMetrics implements AutoCloseable {
 
   private final AtomicReference<Instant> lastFlushTime = new AtomicReference<>(Instant.now());
   private final AtomicInteger processInstancesAwaitingArchival = new AtomicInteger(0);
+  private final AtomicInteger processInstancesArchivingBatchSize = new AtomicInteger(0);
+  private final AtomicLong processInstancesArchivingLagMs = new AtomicLong(0);
+  private final AtomicLong incidentUpdatesPending = new AtomicLong(0);
 
   public CamundaExporterMetrics(final MeterRegistry meterRegistry) {
     this(meterRegistry, InstantSource.system());
@@ -183,6 +194,13 @@ public class CamundaExporterMetrics implements AutoCloseable {
                 "Duration of how long it takes from resolving to archiving entities, all in all together.")
             .publishPercentileHistogram()
             .register(meterRegistry);
+    processInstancesArchivingThroughput =
+        DistributionSummary.builder(meterName("archiver.process.instances.throughput"))
+            .description(
+                "Number of process instances archived per second, observed for each archived batch.")
+            .baseUnit("instances/s")
+            .serviceLevelObjectives(10, 100, 1_000, 10_000)
+            .register(meterRegistry);
     incidentUpdatesRetriesNeeded =
         Counter.builder(meterName("incident.updates"))
             .tag("action", "retry")
@@ -199,6 +217,13 @@ public class CamundaExporterMetrics implements AutoCloseable {
             .tag("action", "updated")
             .description("Count of documents that were updated when incidents were processed.")
             .register(meterRegistry);
+    incidentUpdatesThroughput =
+        DistributionSummary.builder(meterName("incident.updates.throughput"))
+            .description(
+                "Number of pending incident updates processed per second, observed for each processed batch.")
+            .baseUnit("incidents/s")
+            .serviceLevelObjectives(10, 100, 1_000, 10_000)
+            .register(meterRegistry);
     bulkSize =
         DistributionSummary.builder(meterName("bulk.size"))
             .description("How many items were exported in one bulk request")
@@ -232,6 +257,26 @@ public class CamundaExporterMetrics implements AutoCloseable {
             AtomicInteger::get)
         .description("Number of process instances awaiting archival (approximate)")
         .register(meterRegistry);
+
+    Gauge.builder(
+            meterName("archiver.process.instances.batch.size"),
+            processInstancesArchivingBatchSize,
+            AtomicInteger::get)
+        .description("Current size of the batches in which process instances are archived")
+        .register(meterRegistry);
+
+    TimeGauge.builder(
+            meterName("archiver.process.instances.lag"),
+            processInstancesArchivingLagMs,
+            TimeUnit.MILLISECONDS,
+            AtomicLong::get)
+        .description(
+            "Time since the oldest process instance of the last archived batch was finished")
+        .register(meterRegistry);
+
+    Gauge.builder(meterName("incident.updates.pending"), incidentUpdatesPending, AtomicLong::get)
+        .description("Number of incident updates waiting to be processed by the incident task")
+        .register(meterRegistry);
   }
 
   public CloseableSilently measureFlushDuration() {
@@ -312,6 +357,15 @@ public class CamundaExporterMetrics implements AutoCloseable {
     incidentUpdatesDocumentsUpdated.increment(count);
   }
 
+  public void setIncidentUpdatesPending(final long count) {
+    incidentUpdatesPending.set(count);
+  }
+
+  public void observeIncidentUpdatesThroughput(final int count, final Duration duration) {
+    final var seconds = Math.max(duration.toMillis(), 1) / 1000.0;
+    incidentUpdatesThroughput.record(count / seconds);
+  }
+
   public void recordFlushFailureType(final String failureType) {
     meterRegistry.counter(meterName("flush.failure.type"), "failure_type", failureType).increment();
   }
@@ -328,6 +382,26 @@ public class CamundaExporterMetrics implements AutoCloseable {
     processInstancesAwaitingArchival.set(count);
   }
 
+  public void setProcessInstancesArchivingBatchSize(final int batchSize) {
+    processInstancesArchivingBatchSize.set(batchSize);
+  }
+
+  /**
+   * Observes how far the process instance archiver is behind, i.e. how long ago the oldest process
+   * instance of the batch which is being archived was finished.
+   *
+   * @param oldestEndTime the end time of the oldest process instance of the batch
+   */
+  public void observeProcessInstancesArchivingLag(final Instant oldestEndTime) {
+    processInstancesArchivingLagMs.set(
+        Math.max(0, streamClock.millis() - oldestEndTime.toEpochMilli()));
+  }
+
+  public void observeProcessInstancesArchivingThroughput(final int count, final Duration duration) {
+    final var seconds = Math.max(duration.toMillis(), 1) / 1000.0;
+    processInstancesArchivingThroughput.record(count / seconds);
+  }
+
   /**
    * For each record write timestamp, observes the export latency by subtracting the timestamp from
    * the current stream clock.
@@ -369,6 +443,7 @@ public class CamundaExporterMetrics implements AutoCloseable {
     meterRegistry.remove(archiverDeleteTimer);
     meterRegistry.remove(archiverReindexTimer);
     meterRegistry.remove(archivingDuration);
+    meterRegistry.remove(processInstancesArchivingThroughput);
     meterRegistry.remove(bulkSize);
     meterRegistry.remove(flushDuration);
     meterRegistry.remove(failedFlush);
@@ -376,10 +451,14 @@ public class CamundaExporterMetrics implements AutoCloseable {
     meterRegistry.remove(incidentUpdatesRetriesNeeded);
     meterRegistry.remove(incidentUpdatesProcessed);
     meterRegistry.remove(incidentUpdatesDocumentsUpdated);
+    meterRegistry.remove(incidentUpdatesThroughput);
 
     // Remove custom gauges by their names if needed
     removeGaugeIfExists(meterName("since.last.flush.seconds"));
     removeGaugeIfExists(meterName("process.instances.awaiting.archival"));
+    removeGaugeIfExists(meterName("archiver.process.instances.batch.size"));
+    removeGaugeIfExists(meterName("archiver.process.instances.lag"));
+    removeGaugeIfExists(meterName("incident.updates.pending"));
   }
 
   private void removeGaugeIfExists(final String meterName) {
@@ -345,7 +345,8 @@ public final class BackgroundTaskManagerFactory {
             dependantTemplates,
             metrics,
             logger,
-            executor));
+            executor,
+            config.getHistory().getRolloverBatchSize()));
   }
 
   private ReschedulingTask buildBatchOperationArchiverJob() {
@@ -7,6 +7,17 @@
  */
 package io.camunda.exporter.tasks.archiver;
 
+import java.time.Instant;
 import java.util.List;
 
-public record ArchiveBatch(String finishDate, List<String> ids) {}
+/**
+ * @param finishDate the date suffix of the index to which the batch is archived
+ * @param ids the ids of the documents to archive
+ * @param oldestEndTime the end time of the oldest entity in the batch, or null if unknown
+ */
+public record ArchiveBatch(String finishDate, List<String> ids, Instant oldestEndTime) {
+
+  public ArchiveBatch(final String finishDate, final List<String> ids) {
+    this(finishDate, ids, null);
+  }
+}
@@ -29,6 +29,20 @@ public interface ArchiverRepository extends AutoCloseable {
 
   CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch();
 
+  /**
+   * Fetches the next batch of finished process instances, like {@link
+   * #getProcessInstancesNextBatch()}, but with the given maximum size and ignoring the given
+   * process instances, e.g. because they are still being archived.
+   *
+   * @param size the maximum number of process instances in the batch
+   * @param excludedIds the keys of process instances which should not be part of the batch
+   * @return a future completed with the next batch to be archived
+   */
+  default CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final int size, final List<String> excludedIds) {
+    return getProcessInstancesNextBatch();
+  }
+
   CompletableFuture<ArchiveBatch> getBatchOperationsNextBatch();
 
   CompletableFuture<ArchiveBatch> getUsageMetricTUNextBatch();
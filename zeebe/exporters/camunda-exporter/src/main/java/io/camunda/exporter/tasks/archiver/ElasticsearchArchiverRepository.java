@@ -47,6 +47,7 @@ import io.camunda.webapps.schema.descriptors.template.UsageMetricTUTemplate;
 import io.camunda.webapps.schema.descriptors.template.UsageMetricTemplate;
 import io.micrometer.core.instrument.Timer;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -122,7 +123,13 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
 
   @Override
   public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch() {
-    final var searchRequest = createFinishedInstancesSearchRequest();
+    return getProcessInstancesNextBatch(config.getRolloverBatchSize(), List.of());
+  }
+
+  @Override
+  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final int size, final List<String> excludedIds) {
+    final var searchRequest = createFinishedInstancesSearchRequest(size, excludedIds);
 
     final var timer = Timer.start();
     return client
@@ -343,11 +350,23 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
         .thenApplyAsync(response -> new ArrayList<>(response.result().keySet()), executor);
   }
 
-  private SearchRequest createFinishedInstancesSearchRequest() {
+  private SearchRequest createFinishedInstancesSearchRequest(
+      final int size, final List<String> excludedIds) {
+    final var finishedQ =
+        finishedProcessInstancesQuery(config.getArchivingTimePoint(), partitionId);
+    final var query =
+        excludedIds.isEmpty()
+            ? finishedQ
+            : QueryBuilders.bool(
+                q ->
+                    q.filter(finishedQ)
+                        .mustNot(
+                            m ->
+                                m.terms(
+                                    buildIdTermsQuery(
+                                        ListViewTemplate.PROCESS_INSTANCE_KEY, excludedIds))));
     return createSearchRequest(
-        listViewTemplateDescriptor.getFullQualifiedName(),
-        finishedProcessInstancesQuery(config.getArchivingTimePoint(), partitionId),
-        ListViewTemplate.END_DATE);
+        listViewTemplateDescriptor.getFullQualifiedName(), query, ListViewTemplate.END_DATE, size);
   }
 
   private CompletableFuture<PutIndicesSettingsResponse> applyPolicyToIndices(
@@ -384,6 +403,12 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
     }
 
     final String endDate = hits.getFirst().fields().get(field).toJson().asJsonArray().getString(0);
+    // the hits are sorted by the end date, so the first sort value is its epoch millis
+    final var sortValues = hits.getFirst().sort();
+    final Instant oldestEndTime =
+        !sortValues.isEmpty() && sortValues.getFirst().isLong()
+            ? Instant.ofEpochMilli(sortValues.getFirst().longValue())
+            : null;
 
     final CompletableFuture<String> dateFuture =
         (lastHistoricalArchiverDate == null)
@@ -410,7 +435,7 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
                   .map(Hit::id)
                   .toList();
 
-          return new ArchiveBatch(lastHistoricalArchiverDate, ids);
+          return new ArchiveBatch(lastHistoricalArchiverDate, ids, oldestEndTime);
         });
   }
 
@@ -485,6 +510,11 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
 
   private SearchRequest createSearchRequest(
       final String indexName, final Query filterQuery, final String sortField) {
+    return createSearchRequest(indexName, filterQuery, sortField, config.getRolloverBatchSize());
+  }
+
+  private SearchRequest createSearchRequest(
+      final String indexName, final Query filterQuery, final String sortField, final int size) {
     logger.trace(
         "Create search request against index '{}', with filter '{}' and sortField '{}'",
         indexName,
@@ -500,7 +530,7 @@ public final class ElasticsearchArchiverRepository extends ElasticsearchReposito
         .fields(fields -> fields.field(sortField).format(config.getElsRolloverDateFormat()))
         .query(query -> query.bool(q -> q.filter(filterQuery)))
         .sort(sort -> sort.field(field -> field.field(sortField).order(SortOrder.Asc)))
-        .size(config.getRolloverBatchSize())
+        .size(size)
         .build();
   }
 }
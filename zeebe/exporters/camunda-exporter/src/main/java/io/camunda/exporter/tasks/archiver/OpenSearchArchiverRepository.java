@@ -29,6 +29,7 @@ import io.camunda.zeebe.exporter.api.ExporterException;
 import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -127,7 +128,13 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
 
   @Override
   public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch() {
-    final var request = createFinishedProcessInstancesSearchRequest();
+    return getProcessInstancesNextBatch(config.getRolloverBatchSize(), List.of());
+  }
+
+  @Override
+  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final int size, final List<String> excludedIds) {
+    final var request = createFinishedProcessInstancesSearchRequest(size, excludedIds);
 
     final var timer = Timer.start();
     return sendRequestAsync(() -> client.search(request, Object.class))
@@ -420,11 +427,21 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
             executor);
   }
 
-  private SearchRequest createFinishedProcessInstancesSearchRequest() {
+  private SearchRequest createFinishedProcessInstancesSearchRequest(
+      final int size, final List<String> excludedIds) {
+    final var finishedQ =
+        finishedProcessInstancesQuery(config.getArchivingTimePoint(), partitionId);
+    final var query =
+        excludedIds.isEmpty()
+            ? finishedQ
+            : QueryBuilders.bool()
+                .filter(finishedQ)
+                .mustNot(
+                    buildIdTermsQuery(ListViewTemplate.PROCESS_INSTANCE_KEY, excludedIds).toQuery())
+                .build()
+                .toQuery();
     return createSearchRequest(
-        listViewTemplateDescriptor.getFullQualifiedName(),
-        finishedProcessInstancesQuery(config.getArchivingTimePoint(), partitionId),
-        ListViewTemplate.END_DATE);
+        listViewTemplateDescriptor.getFullQualifiedName(), query, ListViewTemplate.END_DATE, size);
   }
 
   private SearchRequest createFinishedBatchOperationsSearchRequest() {
@@ -490,6 +507,7 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
       return CompletableFuture.completedFuture(new ArchiveBatch(null, List.of()));
     }
     final var endDate = hits.getFirst().fields().get(field).toJson().asJsonArray().getString(0);
+    final var oldestEndTime = parseSortDate(hits.getFirst().sort());
 
     final CompletableFuture<String> dateFuture;
     try {
@@ -521,10 +539,26 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
                   .map(Hit::id)
                   .toList();
 
-          return new ArchiveBatch(lastHistoricalArchiverDate, ids);
+          return new ArchiveBatch(lastHistoricalArchiverDate, ids, oldestEndTime);
         });
   }
 
+  /**
+   * The hits are sorted by their end date, so the first sort value is its epoch millis. Returns
+   * null if it is missing or cannot be parsed.
+   */
+  private Instant parseSortDate(final List<String> sortValues) {
+    if (sortValues == null || sortValues.isEmpty()) {
+      return null;
+    }
+
+    try {
+      return Instant.ofEpochMilli(Long.parseLong(sortValues.getFirst()));
+    } catch (final NumberFormatException e) {
+      return null;
+    }
+  }
+
   private TermsQuery buildIdTermsQuery(final String idFieldName, final List<String> idValues) {
     return QueryBuilders.terms()
         .field(idFieldName)
@@ -544,6 +578,11 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
 
   private SearchRequest createSearchRequest(
       final String indexName, final Query filterQuery, final String sortField) {
+    return createSearchRequest(indexName, filterQuery, sortField, config.getRolloverBatchSize());
+  }
+
+  private SearchRequest createSearchRequest(
+      final String indexName, final Query filterQuery, final String sortField, final int size) {
     logger.trace(
         "Create search request against index '{}', with filter '{}' and sortField '{}'",
         indexName,
@@ -559,7 +598,7 @@ public final class OpenSearchArchiverRepository extends OpensearchRepository
         .fields(fields -> fields.field(sortField).format(config.getElsRolloverDateFormat()))
         .query(query -> query.bool(q -> q.filter(filterQuery)))
         .sort(sort -> sort.field(field -> field.field(sortField).order(SortOrder.Asc)))
-        .size(config.getRolloverBatchSize())
+        .size(size)
         .build();
   }
 
@@ -10,17 +10,39 @@ package io.camunda.exporter.tasks.archiver;
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
 import io.camunda.webapps.schema.descriptors.ProcessInstanceDependant;
 import io.camunda.webapps.schema.descriptors.template.ListViewTemplate;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 
+/**
+ * Archives finished process instances and their dependants in a pipeline: the documents of a batch
+ * are first copied to the dated indices, and only then deleted from the runtime indices. The
+ * deletion of a batch is not awaited by the job, but runs concurrently with the copying of the next
+ * batch, which excludes the process instances still being deleted.
+ *
+ * <p>The size of the batches is adapted to the observed duration of archiving a batch: it shrinks
+ * when archiving takes longer than {@link #TARGET_BATCH_DURATION}, and grows back up to the
+ * configured maximum batch size when archiving full batches is fast.
+ */
 public class ProcessInstanceArchiverJob extends ArchiverJob {
 
+  static final Duration TARGET_BATCH_DURATION = Duration.ofSeconds(5);
+
   private final ListViewTemplate processInstanceTemplate;
   private final List<ProcessInstanceDependant> processInstanceDependants;
+  private final CamundaExporterMetrics metrics;
+  private final Logger logger;
   private final Executor executor;
+  private final int maxBatchSize;
+
+  private volatile int batchSize;
+  private volatile PendingDeletion pendingDeletion =
+      new PendingDeletion(List.of(), CompletableFuture.completedFuture(null));
 
   public ProcessInstanceArchiverJob(
       final ArchiverRepository repository,
@@ -28,7 +50,8 @@ public class ProcessInstanceArchiverJob extends ArchiverJob {
       final List<ProcessInstanceDependant> processInstanceDependants,
       final CamundaExporterMetrics metrics,
       final Logger logger,
-      final Executor executor) {
+      final Executor executor,
+      final int maxBatchSize) {
     super(
         repository,
         metrics,
@@ -41,7 +64,12 @@ public class ProcessInstanceArchiverJob extends ArchiverJob {
         processInstanceDependants.stream()
             .sorted(Comparator.comparing(ProcessInstanceDependant::getFullQualifiedName))
             .toList(); // sort to ensure the execution order is stable
+    this.metrics = metrics;
+    this.logger = logger;
     this.executor = executor;
+    this.maxBatchSize = maxBatchSize;
+    batchSize = maxBatchSize;
+    metrics.setProcessInstancesArchivingBatchSize(batchSize);
   }
 
   @Override
@@ -51,7 +79,9 @@ public class ProcessInstanceArchiverJob extends ArchiverJob {
 
   @Override
   CompletableFuture<ArchiveBatch> getNextBatch() {
-    return getArchiverRepository().getProcessInstancesNextBatch();
+    final var deletion = pendingDeletion;
+    final var excludedIds = deletion.future().isDone() ? List.<String>of() : deletion.ids();
+    return getArchiverRepository().getProcessInstancesNextBatch(batchSize, excludedIds);
   }
 
   @Override
@@ -64,8 +94,19 @@ public class ProcessInstanceArchiverJob extends ArchiverJob {
     return ListViewTemplate.PROCESS_INSTANCE_KEY;
   }
 
+  @Override
+  protected CompletionStage<Integer> archiveBatch(final ArchiveBatch batch) {
+    if (batch != null && batch.oldestEndTime() != null) {
+      metrics.observeProcessInstancesArchivingLag(batch.oldestEndTime());
+    }
+
+    return super.archiveBatch(batch);
+  }
+
   /**
-   * Overridden to archive dependants first and then move the process instances themselves.
+   * Overridden to copy the process instances and their dependants to the dated indices, and to then
+   * delete them from the runtime indices once the deletion of the previous batch has completed. The
+   * returned future does not wait for the deletion.
    *
    * @param sourceIdx process instance index
    * @param finishDate move to the dated index
@@ -79,22 +120,92 @@ public class ProcessInstanceArchiverJob extends ArchiverJob {
       final String finishDate,
       final String idFieldName,
       final List<String> ids) {
-    return archiveProcessDependants(finishDate, ids)
-        .thenComposeAsync(v -> super.archive(sourceIdx, finishDate, idFieldName, ids), executor);
+    final var startTime = System.nanoTime();
+    return reindexDocuments(sourceIdx, finishDate, idFieldName, ids)
+        .thenComposeAsync(ok -> pendingDeletion.future(), executor)
+        .thenApplyAsync(
+            ok -> {
+              pendingDeletion =
+                  new PendingDeletion(ids, deleteDocuments(sourceIdx, idFieldName, ids));
+
+              final var duration = Duration.ofNanos(System.nanoTime() - startTime);
+              metrics.observeProcessInstancesArchivingThroughput(ids.size(), duration);
+              adjustBatchSize(ids.size(), duration);
+              return ids.size();
+            },
+            executor);
   }
 
-  private CompletableFuture<Void> archiveProcessDependants(
-      final String finishDate, final List<String> processInstanceKeys) {
-    final var moveDependentDocuments =
+  private CompletableFuture<Void> reindexDocuments(
+      final String sourceIdx,
+      final String finishDate,
+      final String idFieldName,
+      final List<String> ids) {
+    final var repository = getArchiverRepository();
+    final List<CompletableFuture<Void>> reindexRequests = new ArrayList<>();
+    for (final var dependant : processInstanceDependants) {
+      final var dependantSourceIdx = dependant.getFullQualifiedName();
+      final var dependantDestinationIdx = dependantSourceIdx + finishDate;
+      reindexRequests.add(
+          repository
+              .reindexDocuments(
+                  dependantSourceIdx,
+                  dependantDestinationIdx,
+                  dependant.getProcessInstanceDependantField(),
+                  ids)
+              .thenComposeAsync(
+                  ok -> repository.setIndexLifeCycle(dependantDestinationIdx), executor));
+    }
+
+    final var destinationIdx = sourceIdx + finishDate;
+    reindexRequests.add(
+        repository
+            .reindexDocuments(sourceIdx, destinationIdx, idFieldName, ids)
+            .thenComposeAsync(ok -> repository.setIndexLifeCycle(destinationIdx), executor));
+
+    return CompletableFuture.allOf(reindexRequests.toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Deletes the dependants first, and only then the process instances themselves, such that the
+   * process instances are found again if any deletion fails. A failure is only logged, since the
+   * batch is then archived again in one of the next runs.
+   */
+  private CompletableFuture<Void> deleteDocuments(
+      final String sourceIdx, final String idFieldName, final List<String> ids) {
+    final var repository = getArchiverRepository();
+    final var deleteDependants =
         processInstanceDependants.stream()
             .map(
-                dependant -> {
-                  final var dependentSourceIdx = dependant.getFullQualifiedName();
-                  final var dependentIdFieldName = dependant.getProcessInstanceDependantField();
-                  return super.archive(
-                      dependentSourceIdx, finishDate, dependentIdFieldName, processInstanceKeys);
-                })
+                dependant ->
+                    repository.deleteDocuments(
+                        dependant.getFullQualifiedName(),
+                        dependant.getProcessInstanceDependantField(),
+                        ids))
             .toArray(CompletableFuture[]::new);
-    return CompletableFuture.allOf(moveDependentDocuments);
+
+    return CompletableFuture.allOf(deleteDependants)
+        .thenComposeAsync(ok -> repository.deleteDocuments(sourceIdx, idFieldName, ids), executor)
+        .exceptionally(
+            error -> {
+              logger.warn(
+                  "Failed to delete {} archived process instances from the runtime indices, will retry",
+                  ids.size(),
+                  error);
+              return null;
+            });
   }
+
+  private void adjustBatchSize(final int archived, final Duration duration) {
+    if (duration.compareTo(TARGET_BATCH_DURATION) > 0) {
+      batchSize = Math.max(1, batchSize / 2);
+    } else if (archived >= batchSize
+        && duration.compareTo(TARGET_BATCH_DURATION.dividedBy(2)) < 0) {
+      batchSize = Math.min(maxBatchSize, batchSize * 2);
+    }
+
+    metrics.setProcessInstancesArchivingBatchSize(batchSize);
+  }
+
+  private record PendingDeletion(List<String> ids, CompletableFuture<Void> future) {}
 }
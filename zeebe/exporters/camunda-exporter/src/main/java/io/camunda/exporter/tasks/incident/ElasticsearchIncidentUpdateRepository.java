@@ -36,6 +36,7 @@ import io.camunda.webapps.schema.entities.post.PostImporterActionType;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -227,6 +228,31 @@ public final class ElasticsearchIncidentUpdateRepository extends ElasticsearchRe
             response -> response.tokens().stream().map(AnalyzeToken::token).toList(), executor);
   }
 
+  @Override
+  public CompletionStage<Set<String>> analyzeTreePaths(final Collection<String> treePaths) {
+    if (treePaths.isEmpty()) {
+      return CompletableFuture.completedFuture(Set.of());
+    }
+
+    // a single analyze request accepts multiple texts, so the whole batch is resolved at once
+    final var request =
+        new AnalyzeRequest.Builder()
+            .field(ListViewTemplate.TREE_PATH)
+            .index(listViewFullQualifiedName)
+            .text(List.copyOf(treePaths))
+            .build();
+
+    return client
+        .indices()
+        .analyze(request)
+        .thenApplyAsync(
+            response ->
+                response.tokens().stream()
+                    .map(AnalyzeToken::token)
+                    .collect(Collectors.toCollection(LinkedHashSet::new)),
+            executor);
+  }
+
   @Override
   public CompletionStage<Collection<ActiveIncident>> getActiveIncidentsByTreePaths(
       final Collection<String> treePathTerms) {
@@ -316,6 +342,7 @@ public final class ElasticsearchIncidentUpdateRepository extends ElasticsearchRe
         .allowNoIndices(true)
         .source(s -> s.filter(sourceFilter))
         .sort(s -> s.field(f -> f.field(PostImporterQueueTemplate.POSITION).order(SortOrder.Asc)))
+        .trackTotalHits(t -> t.enabled(true))
         .size(size)
         .build();
   }
@@ -361,7 +388,9 @@ public final class ElasticsearchIncidentUpdateRepository extends ElasticsearchRe
       incidents.put(entity.key(), newState);
     }
 
-    return new PendingIncidentUpdateBatch(highestPosition, incidents);
+    final var total = response.hits().total();
+    final long pendingUpdates = total != null ? total.value() : hits.size();
+    return new PendingIncidentUpdateBatch(highestPosition, incidents, pendingUpdates);
   }
 
   private record PendingIncidentUpdate(long key, long position, String intent) {}
@@ -9,14 +9,17 @@ package io.camunda.exporter.tasks.incident;
 
 import io.camunda.webapps.schema.entities.incident.IncidentEntity;
 import io.camunda.webapps.schema.entities.incident.IncidentState;
+import io.camunda.zeebe.util.concurrency.FuturesUtil;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -107,6 +110,24 @@ public interface IncidentUpdateRepository extends AutoCloseable {
    */
   CompletionStage<List<String>> analyzeTreePath(final String treePath);
 
+  /**
+   * Returns the distinct terms of all given tree paths, as tokenized by the underlying document
+   * store. Implementations should resolve all tree paths of a batch at once, instead of issuing one
+   * analyze request per tree path.
+   *
+   * @param treePaths the tree paths to analyze
+   * @return the distinct set of terms of all tree paths
+   */
+  default CompletionStage<Set<String>> analyzeTreePaths(final Collection<String> treePaths) {
+    return FuturesUtil.parTraverse(
+            treePaths, treePath -> analyzeTreePath(treePath).toCompletableFuture())
+        .thenApply(
+            terms ->
+                terms.stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toCollection(LinkedHashSet::new)));
+  }
+
   /**
    * Returns the list of active incidents from the incident indices which contain any of the terms
    * given in their own tree path.
@@ -232,8 +253,15 @@ public interface IncidentUpdateRepository extends AutoCloseable {
   /**
    * A batch of pending incident updates fetched from the post importer queue. The {@code
    * highestPosition} returns the greatest position of the updates fetched, and the states are keyed
-   * by incident key.
+   * by incident key. The {@code pendingUpdates} is the total number of pending updates from the
+   * requested position on, including the ones which did not fit in this batch.
    */
   record PendingIncidentUpdateBatch(
-      long highestPosition, Map<Long, IncidentState> newIncidentStates) {}
+      long highestPosition, Map<Long, IncidentState> newIncidentStates, long pendingUpdates) {
+
+    public PendingIncidentUpdateBatch(
+        final long highestPosition, final Map<Long, IncidentState> newIncidentStates) {
+      this(highestPosition, newIncidentStates, newIncidentStates.size());
+    }
+  }
 }
@@ -126,7 +126,8 @@ public final class IncidentUpdateTask implements BackgroundTask {
    *       </ul>
    *   <li>BATCH: processIncidents
    *       <ul>
-   *         <li>PARALLEL: mapActiveIncidentsToAffectedInstances (modifies state w/ computeIfAbsent)
+   *         <li>BATCH: mapActiveIncidentsToAffectedInstances (modifies state w/ computeIfAbsent)
+   *         <li>BATCH: prefetchAffectedInstances (modifies state adding indices)
    *         <li>PARALLEL: processIncident
    *             <ul>
    *               <li>PARALLEL: createProcessInstanceUpdates
@@ -136,8 +137,10 @@ public final class IncidentUpdateTask implements BackgroundTask {
    * </ul>
    */
   private CompletableFuture<Integer> processNextBatch() {
+    final long startNanos = System.nanoTime();
     final var data = new AdditionalData();
     final var batch = getPendingIncidentsBatch(data);
+    metrics.setIncidentUpdatesPending(batch.pendingUpdates());
     if (batch.newIncidentStates().isEmpty()) {
       return CompletableFuture.completedFuture(0);
     }
@@ -175,6 +178,8 @@ public final class IncidentUpdateTask implements BackgroundTask {
 
               metrics.recordIncidentUpdatesProcessed(incidentCount);
               metrics.recordIncidentUpdatesDocumentsUpdated(documentsUpdated);
+              metrics.observeIncidentUpdatesThroughput(
+                  incidentCount, Duration.ofNanos(System.nanoTime() - startNanos));
               return CompletableFuture.completedFuture(documentsUpdated);
             },
             executor);
@@ -298,6 +303,7 @@ public final class IncidentUpdateTask implements BackgroundTask {
       final AdditionalData data, final IncidentUpdateRepository.PendingIncidentUpdateBatch batch) {
     final var bulkUpdate = new IncidentBulkUpdate();
     return mapActiveIncidentsToAffectedInstances(data)
+        .thenComposeAsync(ignored -> prefetchAffectedInstances(data), executor)
         .thenComposeAsync(
             ignored ->
                 // processIncident one at a time, stopping if an error is raised
@@ -313,6 +319,78 @@ public final class IncidentUpdateTask implements BackgroundTask {
         .join();
   }
 
+  /**
+   * Fetches the documents of all process instances and flow node instances affected by the
+   * incidents of the batch, with a single request per kind of document. During an incident storm,
+   * many incidents share the same process instance tree, so this avoids fetching the same documents
+   * again and again for each incident. Anything which is still missing afterwards is fetched (and
+   * reported) per incident, as before.
+   */
+  private CompletableFuture<Void> prefetchAffectedInstances(final AdditionalData data) {
+    final Set<String> piIds = new HashSet<>();
+    final Set<String> fniIds = new HashSet<>();
+    for (final var incident : data.incidents().values()) {
+      if (data.processInstanceTreePaths()
+          .containsKey(incident.incident().getProcessInstanceKey())) {
+        final var treePath = new TreePath(data.incidentTreePaths().get(incident.id()));
+        piIds.addAll(treePath.extractProcessInstanceIds());
+        fniIds.addAll(treePath.extractFlowNodeInstanceIds());
+      }
+    }
+
+    final var missingPiIds = missingIds(piIds, data.processInstanceIndices().keySet());
+    final var missingFniIds = missingIds(fniIds, data.flowNodeInstanceIndices().keySet());
+    final var missingFniInListViewIds =
+        missingIds(fniIds, data.flowNodeInstanceInListViewIndices().keySet());
+    final CompletableFuture<?>[] futures = {
+      CompletableFuture.completedFuture(null),
+      CompletableFuture.completedFuture(null),
+      CompletableFuture.completedFuture(null)
+    };
+
+    if (!missingPiIds.isEmpty()) {
+      futures[0] =
+          repository
+              .getProcessInstances(missingPiIds)
+              .toCompletableFuture()
+              .thenAccept(
+                  processInstances ->
+                      processInstances.forEach(
+                          processInstance ->
+                              data.processInstanceIndices()
+                                  .put(processInstance.id(), processInstance.index())));
+    }
+
+    if (!missingFniIds.isEmpty()) {
+      futures[1] =
+          repository
+              .getFlowNodeInstances(missingFniIds)
+              .toCompletableFuture()
+              .thenAccept(
+                  documents ->
+                      documents.forEach(
+                          document -> data.addFlowNodeInstance(document.id(), document.index())));
+    }
+
+    if (!missingFniInListViewIds.isEmpty()) {
+      futures[2] =
+          repository
+              .getFlowNodesInListView(missingFniInListViewIds)
+              .toCompletableFuture()
+              .thenAccept(
+                  documents ->
+                      documents.forEach(
+                          document ->
+                              data.addFlowNodeInstanceInListView(document.id(), document.index())));
+    }
+
+    return CompletableFuture.allOf(futures);
+  }
+
+  private List<String> missingIds(final Set<String> ids, final Set<String> knownIds) {
+    return ids.stream().filter(id -> !knownIds.contains(id)).toList();
+  }
+
   private CompletableFuture<Void> processIncidentInBatch(
       final AdditionalData data,
       final IncidentDocument incident,
@@ -592,13 +670,12 @@ public final class IncidentUpdateTask implements BackgroundTask {
   }
 
   private CompletableFuture<Void> mapActiveIncidentsToAffectedInstances(final AdditionalData data) {
-    final CompletableFuture<List<String>> treePathTermsFutures =
-        FuturesUtil.parTraverse(
-                data.incidentTreePaths().values(),
-                treePath -> repository.analyzeTreePath(treePath).toCompletableFuture())
-            .thenApply(lists -> lists.stream().flatMap(List::stream).collect(Collectors.toList()));
+    // resolve all distinct tree paths of the batch at once, instead of one request per incident
+    final Set<String> treePaths = new HashSet<>(data.incidentTreePaths().values());
 
-    return treePathTermsFutures
+    return repository
+        .analyzeTreePaths(treePaths)
+        .toCompletableFuture()
         .thenComposeAsync(
             treePathTerms ->
                 repository.getActiveIncidentsByTreePaths(treePathTerms).toCompletableFuture(),
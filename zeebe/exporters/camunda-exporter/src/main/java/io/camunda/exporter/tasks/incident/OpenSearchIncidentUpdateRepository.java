@@ -22,6 +22,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -251,6 +252,35 @@ public final class OpenSearchIncidentUpdateRepository extends OpensearchReposito
     }
   }
 
+  @Override
+  public CompletionStage<Set<String>> analyzeTreePaths(final Collection<String> treePaths) {
+    if (treePaths.isEmpty()) {
+      return CompletableFuture.completedFuture(Set.of());
+    }
+
+    // a single analyze request accepts multiple texts, so the whole batch is resolved at once
+    final var request =
+        new AnalyzeRequest.Builder()
+            .field(ListViewTemplate.TREE_PATH)
+            .index(listViewFullQualifiedName)
+            .text(List.copyOf(treePaths))
+            .build();
+
+    try {
+      return client
+          .indices()
+          .analyze(request)
+          .thenApplyAsync(
+              response ->
+                  response.tokens().stream()
+                      .map(AnalyzeToken::token)
+                      .collect(Collectors.toCollection(LinkedHashSet::new)),
+              executor);
+    } catch (final IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
   @Override
   public CompletionStage<Collection<ActiveIncident>> getActiveIncidentsByTreePaths(
       final Collection<String> treePathTerms) {
@@ -361,6 +391,7 @@ public final class OpenSearchIncidentUpdateRepository extends OpensearchReposito
         .allowNoIndices(true)
         .source(s -> s.filter(sourceFilter))
         .sort(s -> s.field(f -> f.field(PostImporterQueueTemplate.POSITION).order(SortOrder.Asc)))
+        .trackTotalHits(t -> t.enabled(true))
         .size(size)
         .build();
   }
@@ -412,7 +443,9 @@ public final class OpenSearchIncidentUpdateRepository extends OpensearchReposito
       incidents.put(entity.key(), newState);
     }
 
-    return new PendingIncidentUpdateBatch(highestPosition, incidents);
+    final var total = response.hits().total();
+    final long pendingUpdates = total != null ? total.value() : hits.size();
+    return new PendingIncidentUpdateBatch(highestPosition, incidents, pendingUpdates);
   }
 
   private record PendingIncidentUpdate(long key, long position, String intent) {}
@@ -10,7 +10,8 @@ package io.camunda.exporter.tasks.archiver;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.exporter.metrics.CamundaExporterMetrics;
-import io.camunda.exporter.tasks.archiver.TestRepository.DocumentMove;
+import io.camunda.exporter.tasks.archiver.TestRepository.DocumentDeletion;
+import io.camunda.exporter.tasks.archiver.TestRepository.DocumentReindex;
 import io.camunda.webapps.schema.descriptors.ProcessInstanceDependant;
 import io.camunda.webapps.schema.descriptors.template.AuditLogTemplate;
 import io.camunda.webapps.schema.descriptors.template.DecisionInstanceTemplate;
@@ -18,6 +19,7 @@ import io.camunda.webapps.schema.descriptors.template.ListViewTemplate;
 import io.camunda.webapps.schema.descriptors.template.SequenceFlowTemplate;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +31,8 @@ final class ProcessInstanceArchiverJobTest extends ArchiverJobRecordingMetricsAb
   private static final Logger LOGGER =
       LoggerFactory.getLogger(ProcessInstanceArchiverJobTest.class);
 
+  private static final int MAX_BATCH_SIZE = 100;
+
   private final Executor executor = Runnable::run;
 
   private final TestRepository repository = new TestRepository();
@@ -48,7 +52,8 @@ final class ProcessInstanceArchiverJobTest extends ArchiverJobRecordingMetricsAb
           List.of(decisionInstanceTemplate, sequenceFlowTemplate, auditLogTemplate),
           metrics,
           LOGGER,
-          executor);
+          executor,
+          MAX_BATCH_SIZE);
 
   @BeforeEach
   void setUp() {
@@ -81,7 +86,13 @@ final class ProcessInstanceArchiverJobTest extends ArchiverJobRecordingMetricsAb
     // given
     final ProcessInstanceArchiverJob processInstanceJob =
         new ProcessInstanceArchiverJob(
-            repository, processInstanceTemplate, List.of(), metrics, LOGGER, executor);
+            repository,
+            processInstanceTemplate,
+            List.of(),
+            metrics,
+            LOGGER,
+            executor,
+            MAX_BATCH_SIZE);
 
     // when
     final int count = processInstanceJob.execute().toCompletableFuture().join();
@@ -92,14 +103,19 @@ final class ProcessInstanceArchiverJobTest extends ArchiverJobRecordingMetricsAb
     assertArchiverTimer(1);
 
     // then should move
-    assertThat(repository.moves)
+    assertThat(repository.reindexes)
         .containsExactly(
-            new DocumentMove(
+            new DocumentReindex(
                 processInstanceTemplate.getFullQualifiedName(),
                 processInstanceTemplate.getFullQualifiedName() + "2024-01-01",
                 ListViewTemplate.PROCESS_INSTANCE_KEY,
-                List.of("1", "2", "3"),
-                executor));
+                List.of("1", "2", "3")));
+    assertThat(repository.deletions)
+        .containsExactly(
+            new DocumentDeletion(
+                processInstanceTemplate.getFullQualifiedName(),
+                ListViewTemplate.PROCESS_INSTANCE_KEY,
+                List.of("1", "2", "3")));
   }
 
   @Test
@@ -113,36 +129,50 @@ final class ProcessInstanceArchiverJobTest extends ArchiverJobRecordingMetricsAb
     assertArchiverTimer(1);
 
     // then should move
-    assertThat(repository.moves)
+    assertThat(repository.reindexes)
         .containsExactly(
-            new DocumentMove(
+            new DocumentReindex(
                 auditLogTemplate.getFullQualifiedName(),
                 auditLogTemplate.getFullQualifiedName() + "2024-01-01",
                 auditLogTemplate.getProcessInstanceDependantField(),
-                List.of("1", "2", "3"),
-                executor),
-            new DocumentMove(
+                List.of("1", "2", "3")),
+            new DocumentReindex(
                 decisionInstanceTemplate.getFullQualifiedName(),
                 decisionInstanceTemplate.getFullQualifiedName() + "2024-01-01",
                 decisionInstanceTemplate.getProcessInstanceDependantField(),
-                List.of("1", "2", "3"),
-                executor),
-            new DocumentMove(
+                List.of("1", "2", "3")),
+            new DocumentReindex(
                 sequenceFlowTemplate.getFullQualifiedName(),
                 sequenceFlowTemplate.getFullQualifiedName() + "2024-01-01",
                 sequenceFlowTemplate.getProcessInstanceDependantField(),
-                List.of("1", "2", "3"),
-                executor),
-            new DocumentMove(
+                List.of("1", "2", "3")),
+            new DocumentReindex(
                 processInstanceTemplate.getFullQualifiedName(),
                 processInstanceTemplate.getFullQualifiedName() + "2024-01-01",
                 ListViewTemplate.PROCESS_INSTANCE_KEY,
-                List.of("1", "2", "3"),
-                executor));
+                List.of("1", "2", "3")));
+    assertThat(repository.deletions)
+        .containsExactly(
+            new DocumentDeletion(
+                auditLogTemplate.getFullQualifiedName(),
+                auditLogTemplate.getProcessInstanceDependantField(),
+                List.of("1", "2", "3")),
+            new DocumentDeletion(
+                decisionInstanceTemplate.getFullQualifiedName(),
+                decisionInstanceTemplate.getProcessInstanceDependantField(),
+                List.of("1", "2", "3")),
+            new DocumentDeletion(
+                sequenceFlowTemplate.getFullQualifiedName(),
+                sequenceFlowTemplate.getProcessInstanceDependantField(),
+                List.of("1", "2", "3")),
+            new DocumentDeletion(
+                processInstanceTemplate.getFullQualifiedName(),
+                ListViewTemplate.PROCESS_INSTANCE_KEY,
+                List.of("1", "2", "3")));
   }
 
   @Test
-  void shouldMoveDependantsBeforeProcessInstances() {
+  void shouldDeleteDependantsBeforeProcessInstances() {
     // when
     final int count = job.execute().toCompletableFuture().join();
 
@@ -151,9 +181,9 @@ final class ProcessInstanceArchiverJobTest extends ArchiverJobRecordingMetricsAb
     assertArchivingCounts(count); // asserted as 3 above
     assertArchiverTimer(1);
 
-    // then should move in correct order
-    assertThat(repository.moves)
-        .map(DocumentMove::sourceIndexName)
+    // then should delete in correct order
+    assertThat(repository.deletions)
+        .map(DocumentDeletion::sourceIndexName)
         .containsExactly(
             auditLogTemplate.getFullQualifiedName(),
             decisionInstanceTemplate.getFullQualifiedName(),
@@ -167,7 +197,13 @@ final class ProcessInstanceArchiverJobTest extends ArchiverJobRecordingMetricsAb
     final var dependant = new WeirdlyNamedDependant();
     final var job =
         new ProcessInstanceArchiverJob(
-            repository, processInstanceTemplate, List.of(dependant), metrics, LOGGER, executor);
+            repository,
+            processInstanceTemplate,
+            List.of(dependant),
+            metrics,
+            LOGGER,
+            executor,
+            MAX_BATCH_SIZE);
     repository.batch = new ArchiveBatch("2024-01-01", List.of("1", "2"));
 
     // when
@@ -177,9 +213,68 @@ final class ProcessInstanceArchiverJobTest extends ArchiverJobRecordingMetricsAb
     assertThat(count).isEqualTo(2); // batch has 2 ids
     assertArchivingCounts(count); // asserted as 2 above
     assertArchiverTimer(1);
-    assertThat(repository.moves)
-        .contains(
-            new DocumentMove("foo_", "foo_" + "2024-01-01", "bar", List.of("1", "2"), executor));
+    assertThat(repository.reindexes)
+        .contains(new DocumentReindex("foo_", "foo_" + "2024-01-01", "bar", List.of("1", "2")));
+    assertThat(repository.deletions)
+        .contains(new DocumentDeletion("foo_", "bar", List.of("1", "2")));
+  }
+
+  @Test
+  void shouldRequestBatchesOfMaximumSize() {
+    // when
+    job.execute().toCompletableFuture().join();
+
+    // then
+    assertThat(repository.batchRequests)
+        .containsExactly(new TestRepository.BatchRequest(MAX_BATCH_SIZE, List.of()));
+    assertThat(
+            meterRegistry
+                .get("zeebe.camunda.exporter.archiver.process.instances.batch.size")
+                .gauge()
+                .value())
+        .isEqualTo(MAX_BATCH_SIZE);
+  }
+
+  @Test
+  void shouldNotWaitForDeletionOfArchivedBatch() {
+    // given
+    repository.deletionResult = new CompletableFuture<>();
+
+    // when
+    final var count = job.execute().toCompletableFuture().join();
+
+    // then
+    assertThat(count).isEqualTo(3);
+    assertThat(repository.reindexes).hasSize(4);
+    assertThat(repository.deletions)
+        .map(DocumentDeletion::sourceIndexName)
+        .doesNotContain(processInstanceTemplate.getFullQualifiedName());
+  }
+
+  @Test
+  void shouldExcludeProcessInstancesWhichAreStillDeleted() {
+    // given
+    repository.deletionResult = new CompletableFuture<>();
+    job.execute().toCompletableFuture().join();
+    repository.batch = new ArchiveBatch("2024-01-01", List.of("4", "5"));
+
+    // when
+    final var secondRun = job.execute().toCompletableFuture();
+
+    // then - the next batch is copied already, but is only deleted after the previous one
+    assertThat(repository.batchRequests)
+        .last()
+        .isEqualTo(new TestRepository.BatchRequest(MAX_BATCH_SIZE, List.of("1", "2", "3")));
+    assertThat(repository.reindexes).hasSize(8);
+    assertThat(secondRun).isNotDone();
+    assertThat(repository.deletions).noneMatch(deletion -> deletion.ids().contains("4"));
+
+    // when
+    repository.deletionResult.complete(null);
+
+    // then
+    assertThat(secondRun.join()).isEqualTo(2);
+    assertThat(repository.deletions).anyMatch(deletion -> deletion.ids().equals(List.of("4", "5")));
   }
 
   private static final class WeirdlyNamedDependant implements ProcessInstanceDependant {
@@ -15,7 +15,11 @@ import java.util.concurrent.Executor;
 
 final class TestRepository extends NoopArchiverRepository {
   final List<DocumentMove> moves = new ArrayList<>();
+  final List<DocumentReindex> reindexes = new ArrayList<>();
+  final List<DocumentDeletion> deletions = new ArrayList<>();
+  final List<BatchRequest> batchRequests = new ArrayList<>();
   ArchiveBatch batch;
+  CompletableFuture<Void> deletionResult = CompletableFuture.completedFuture(null);
 
   public CompletableFuture<ArchiveBatch> getNextBatch() {
     return CompletableFuture.completedFuture(batch);
@@ -26,6 +30,13 @@ final class TestRepository extends NoopArchiverRepository {
     return CompletableFuture.completedFuture(batch);
   }
 
+  @Override
+  public CompletableFuture<ArchiveBatch> getProcessInstancesNextBatch(
+      final int size, final List<String> excludedIds) {
+    batchRequests.add(new BatchRequest(size, excludedIds));
+    return CompletableFuture.completedFuture(batch);
+  }
+
   @Override
   public CompletableFuture<ArchiveBatch> getBatchOperationsNextBatch() {
     return CompletableFuture.completedFuture(batch);
@@ -57,6 +68,34 @@ final class TestRepository extends NoopArchiverRepository {
     return CompletableFuture.completedFuture(null);
   }
 
+  @Override
+  public CompletableFuture<Void> reindexDocuments(
+      final String sourceIndexName,
+      final String destinationIndexName,
+      final String idFieldName,
+      final List<String> processInstanceKeys) {
+    reindexes.add(
+        new DocumentReindex(
+            sourceIndexName, destinationIndexName, idFieldName, processInstanceKeys));
+    return CompletableFuture.completedFuture(null);
+  }
+
+  @Override
+  public CompletableFuture<Void> deleteDocuments(
+      final String sourceIndexName,
+      final String idFieldName,
+      final List<String> processInstanceKeys) {
+    deletions.add(new DocumentDeletion(sourceIndexName, idFieldName, processInstanceKeys));
+    return deletionResult;
+  }
+
+  record DocumentReindex(
+      String sourceIndexName, String destinationIndexName, String idFieldName, List<String> ids) {}
+
+  record DocumentDeletion(String sourceIndexName, String idFieldName, List<String> ids) {}
+
+  record BatchRequest(int size, List<String> excludedIds) {}
+
   record DocumentMove(
       String sourceIndexName,
       String destinationIndexName,
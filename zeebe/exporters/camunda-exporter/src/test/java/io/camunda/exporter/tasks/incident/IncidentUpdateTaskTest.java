@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -707,5 +708,94 @@ final class IncidentUpdateTaskTest {
       verify(metrics).recordIncidentUpdatesProcessed(1);
       verify(metrics).recordIncidentUpdatesDocumentsUpdated(0);
     }
+
+    @Test
+    void shouldFetchAffectedInstancesOncePerBatch() {
+      // given
+      final var task =
+          new IncidentUpdateTask(
+              metadata,
+              repository,
+              false,
+              10,
+              EXECUTOR,
+              incidentNotifier,
+              metrics,
+              LOGGER,
+              Duration.ZERO);
+      final var otherIncident =
+          new IncidentDocument(
+              "6",
+              "incidents",
+              new IncidentEntity()
+                  .setKey(6L)
+                  .setId("6")
+                  .setState(IncidentState.PENDING)
+                  .setProcessInstanceKey(3L)
+                  .setFlowNodeInstanceKey(7L)
+                  .setTreePath(
+                      new TreePath()
+                          .startTreePath(1)
+                          .appendFlowNodeInstance(2)
+                          .appendProcessInstance(3)
+                          .appendFlowNodeInstance(7)
+                          .toString()));
+      repository.batch =
+          CompletableFuture.completedFuture(
+              new PendingIncidentUpdateBatch(
+                  highestPosition, Map.of(5L, IncidentState.ACTIVE, 6L, IncidentState.ACTIVE)));
+      repository.incidents =
+          CompletableFuture.completedFuture(
+              Map.of(incident.id(), incident, otherIncident.id(), otherIncident));
+      repository.flowNodesInListView =
+          CompletableFuture.completedFuture(
+              List.of(
+                  callActivityFlowNodeInListView,
+                  taskFlowNodeInListView,
+                  new Document("7", "list-view")));
+      repository.flowNodeInstances =
+          CompletableFuture.completedFuture(
+              List.of(callActivityFlowNode, taskFlowNode, new Document("7", "flow-nodes")));
+
+      // when
+      final var result = task.execute();
+
+      // then
+      assertThat(result).succeedsWithin(TIMEOUT);
+      assertThat(repository.updated.flowNodeInstanceRequests()).containsOnlyKeys("2", "4", "7");
+      assertThat(repository.updated.incidentRequests()).containsOnlyKeys("5", "6");
+      verify(repository, times(1)).analyzeTreePaths(any());
+      verify(repository, times(1)).getProcessInstances(any());
+      verify(repository, times(1)).getFlowNodeInstances(any());
+      verify(repository, times(1)).getFlowNodesInListView(any());
+    }
+
+    @Test
+    void shouldRecordPendingUpdatesAndThroughput() {
+      // given
+      final var task =
+          new IncidentUpdateTask(
+              metadata,
+              repository,
+              false,
+              10,
+              EXECUTOR,
+              incidentNotifier,
+              metrics,
+              LOGGER,
+              Duration.ZERO);
+      repository.batch =
+          CompletableFuture.completedFuture(
+              new PendingIncidentUpdateBatch(
+                  highestPosition, Map.of(incident.incident().getKey(), IncidentState.ACTIVE), 25));
+
+      // when
+      final var result = task.execute();
+
+      // then
+      assertThat(result).succeedsWithin(TIMEOUT);
+      verify(metrics).setIncidentUpdatesPending(25);
+      verify(metrics).observeIncidentUpdatesThroughput(eq(1), any());
+    }
   }
 }
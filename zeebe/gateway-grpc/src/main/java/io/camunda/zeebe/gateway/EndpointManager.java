@@ -18,6 +18,7 @@ import io.camunda.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
 import io.camunda.zeebe.gateway.grpc.ServerStreamObserver;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.interceptors.impl.AuthenticationHandler;
@@ -32,6 +33,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -79,6 +83,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 
 public final class EndpointManager {
@@ -217,6 +223,57 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    final Map<Integer, BrokerCompleteJobsRequest> brokerRequests;
+    try {
+      brokerRequests = RequestMapper.toCompleteJobsRequests(request);
+      final Map<String, Object> claims = getClaims();
+      brokerRequests.values().forEach(brokerRequest -> brokerRequest.setAuthorization(claims));
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    // one command per partition; a failing partition only fails the completion of its own jobs
+    final Map<Integer, CompletableFuture<List<CompleteJobsResult>>> pendingResults =
+        new HashMap<>();
+    brokerRequests.forEach(
+        (partitionId, brokerRequest) ->
+            pendingResults.put(
+                partitionId,
+                brokerClient
+                    .sendRequestWithRetry(brokerRequest)
+                    .handle(
+                        (response, error) ->
+                            error == null
+                                ? ResponseMapper.toCompleteJobsResults(response.getResponse())
+                                : ResponseMapper.toCompleteJobsResults(brokerRequest, error))));
+
+    CompletableFuture.allOf(pendingResults.values().toArray(CompletableFuture[]::new))
+        .thenApply(
+            ignored -> {
+              final Map<Integer, List<CompleteJobsResult>> results = new HashMap<>();
+              pendingResults.forEach(
+                  (partitionId, result) -> results.put(partitionId, result.join()));
+              return ResponseMapper.toCompleteJobsResponse(request, results);
+            })
+        .whenComplete(
+            (response, error) -> {
+              // the outcomes of the partitions are already mapped to results, so this only fails
+              // if the results can't be mapped
+              if (error != null) {
+                responseObserver.onError(
+                    error instanceof CompletionException ? error.getCause() : error);
+                return;
+              }
+
+              responseObserver.onNext(response);
+              responseObserver.onCompleted();
+            });
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
@@ -20,6 +20,7 @@ import io.camunda.zeebe.gateway.impl.configuration.NetworkCfg;
 import io.camunda.zeebe.gateway.impl.configuration.SecurityCfg;
 import io.camunda.zeebe.gateway.impl.configuration.ThreadsCfg;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
+import io.camunda.zeebe.gateway.impl.job.JobActivationBuffer;
 import io.camunda.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.job.RoundRobinActivateJobsHandler;
 import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
@@ -28,6 +29,7 @@ import io.camunda.zeebe.gateway.interceptors.impl.AuthenticationInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.ContextInjectingInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.DecoratedInterceptor;
 import io.camunda.zeebe.gateway.interceptors.impl.InterceptorRepository;
+import io.camunda.zeebe.gateway.metrics.JobActivationBufferMetrics;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetrics;
 import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
@@ -94,6 +96,7 @@ public final class Gateway implements CloseableSilently {
 
   private Server server;
   private ExecutorService grpcExecutor;
+  private Actor activateJobsActor;
   private final BrokerClient brokerClient;
   private final UserServices userServices;
   private final PasswordEncoder passwordEncoder;
@@ -349,6 +352,13 @@ public final class Gateway implements CloseableSilently {
         grpcExecutor = null;
       }
     }
+
+    // closed only once the server is shut down, so no more requests can be served from the buffer
+    // while its jobs are yielded back to the brokers
+    if (activateJobsActor != null) {
+      activateJobsActor.close();
+      activateJobsActor = null;
+    }
   }
 
   private CompletableFuture<ActivateJobsHandler<ActivateJobsResponse>>
@@ -360,12 +370,13 @@ public final class Gateway implements CloseableSilently {
   private CompletableFuture<ActivateJobsHandler<ActivateJobsResponse>> submitActorToActivateJobs(
       final ActivateJobsHandler<ActivateJobsResponse> handler) {
     final var future = new CompletableFuture<ActivateJobsHandler<ActivateJobsResponse>>();
-    final var actor =
+    activateJobsActor =
         Actor.newActor()
             .name("ActivateJobsHandler")
             .actorStartedHandler(handler.andThen(t -> future.complete(handler)))
+            .actorClosingHandler(handler::onActorClosing)
             .build();
-    actorSchedulingService.submitActor(actor);
+    actorSchedulingService.submitActor(activateJobsActor);
     return future;
   }
 
@@ -378,10 +389,19 @@ public final class Gateway implements CloseableSilently {
           brokerClient,
           gatewayCfg.getNetwork().getMaxMessageSize().toBytes(),
           ResponseMapper::toActivateJobsResponse,
-          REQUEST_CANCELED_EXCEPTION_PROVIDER);
+          REQUEST_CANCELED_EXCEPTION_PROVIDER,
+          buildActivationBuffer());
     }
   }
 
+  private JobActivationBuffer buildActivationBuffer() {
+    final var longPolling = gatewayCfg.getLongPolling();
+    return new JobActivationBuffer(
+        longPolling.getActivationBufferSize(),
+        Duration.ofMillis(longPolling.getActivationBufferTtl()),
+        new JobActivationBufferMetrics(meterRegistry, LongPollingMetricsDoc.GatewayProtocol.GRPC));
+  }
+
   private LongPollingActivateJobsHandler<ActivateJobsResponse> buildLongPollingHandler(
       final BrokerClient brokerClient) {
     return LongPollingActivateJobsHandler.<ActivateJobsResponse>newBuilder()
@@ -395,6 +415,7 @@ public final class Gateway implements CloseableSilently {
         .setRequestCanceledExceptionProvider(REQUEST_CANCELED_EXCEPTION_PROVIDER)
         .setMetrics(
             new LongPollingMetrics(meterRegistry, LongPollingMetricsDoc.GatewayProtocol.GRPC))
+        .setActivationBuffer(buildActivationBuffer())
         .build();
   }
 
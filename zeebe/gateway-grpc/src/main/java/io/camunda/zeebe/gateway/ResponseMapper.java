@@ -13,6 +13,8 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.util.EnumUtil;
+import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResponse;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass;
@@ -21,6 +23,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -54,6 +59,8 @@ import io.camunda.zeebe.protocol.impl.record.value.conditional.ConditionalEvalua
 import io.camunda.zeebe.protocol.impl.record.value.decision.DecisionEvaluationRecord;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRejection;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.protocol.impl.record.value.message.MessageRecord;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceCreationRecord;
@@ -66,9 +73,11 @@ import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -189,6 +198,81 @@ public final class ResponseMapper {
     return CompleteJobResponse.getDefaultInstance();
   }
 
+  /**
+   * Maps the outcome of completing the jobs of a single partition, in the order in which they were
+   * requested.
+   */
+  public static List<CompleteJobsResult> toCompleteJobsResults(
+      final JobBatchRecord brokerResponse) {
+    final List<CompleteJobsResult> results = new ArrayList<>();
+    final Iterator<JobBatchRejection> rejections = brokerResponse.rejectedJobs().iterator();
+    JobBatchRejection rejection = rejections.hasNext() ? rejections.next() : null;
+
+    int index = 0;
+    for (final LongValue jobKey : brokerResponse.jobKeys()) {
+      final var result = CompleteJobsResult.newBuilder().setJobKey(jobKey.getValue());
+      // the rejections are ordered like the jobs; they are matched by index, not by key, as a
+      // job may be requested more than once
+      if (rejection != null && rejection.getIndex() == index) {
+        result
+            .setCompleted(false)
+            .setRejectionType(rejection.getRejectionType().name())
+            .setRejectionReason(rejection.getRejectionReason());
+        rejection = rejections.hasNext() ? rejections.next() : null;
+      } else {
+        result.setCompleted(true);
+      }
+      results.add(result.build());
+      index++;
+    }
+
+    return results;
+  }
+
+  /**
+   * Maps the failure to complete the jobs of a single partition, e.g. because the partition was not
+   * reachable, to an outcome for each of the requested jobs.
+   */
+  public static List<CompleteJobsResult> toCompleteJobsResults(
+      final BrokerCompleteJobsRequest brokerRequest, final Throwable error) {
+    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+    final String rejectionType =
+        cause instanceof final BrokerRejectionException rejection
+            ? rejection.getRejection().type().name()
+            : "";
+
+    return brokerRequest.getRequestWriter().getJobKeys().stream()
+        .map(
+            jobKey ->
+                CompleteJobsResult.newBuilder()
+                    .setJobKey(jobKey)
+                    .setCompleted(false)
+                    .setRejectionType(rejectionType)
+                    .setRejectionReason(String.valueOf(cause.getMessage()))
+                    .build())
+        .toList();
+  }
+
+  /**
+   * Joins the outcomes of all partitions into a single response, which reports the outcome of each
+   * job in the order of the request.
+   */
+  public static CompleteJobsResponse toCompleteJobsResponse(
+      final CompleteJobsRequest request,
+      final Map<Integer, List<CompleteJobsResult>> resultsPerPartition) {
+    final Map<Integer, Iterator<CompleteJobsResult>> results = new HashMap<>();
+    resultsPerPartition.forEach((partitionId, list) -> results.put(partitionId, list.iterator()));
+
+    final var response = CompleteJobsResponse.newBuilder();
+    request
+        .getJobsList()
+        .forEach(
+            job ->
+                response.addResults(
+                    results.get(Protocol.decodePartitionId(job.getJobKey())).next()));
+    return response.build();
+  }
+
   public static CreateProcessInstanceResponse toCreateProcessInstanceResponse(
       final long key, final ProcessInstanceCreationRecord brokerResponse) {
     return CreateProcessInstanceResponse.newBuilder()
@@ -29,6 +29,7 @@ final class JobClientStreamMetrics implements ClientStreamMetrics {
   private final DistributionSummary aggregatedClients;
   private final Counter pushSuccessCount;
   private final Counter pushFailureCount;
+  private final Counter creditsExhaustedCount;
 
   JobClientStreamMetrics(final MeterRegistry registry) {
     aggregatedClients =
@@ -39,6 +40,11 @@ final class JobClientStreamMetrics implements ClientStreamMetrics {
     pushSuccessCount =
         registerPushCounter(JobClientStreamMetricsDoc.PUSHES, PushResultTag.SUCCESS, registry);
 
+    creditsExhaustedCount =
+        Counter.builder(JobClientStreamMetricsDoc.CREDITS_EXHAUSTED.getName())
+            .description(JobClientStreamMetricsDoc.CREDITS_EXHAUSTED.getDescription())
+            .register(registry);
+
     serverCount = registerGauge(JobClientStreamMetricsDoc.SERVERS, registry);
     clientCount = registerGauge(JobClientStreamMetricsDoc.CLIENTS, registry);
     aggregatedStreamCount = registerGauge(JobClientStreamMetricsDoc.AGGREGATED_STREAMS, registry);
@@ -84,6 +90,11 @@ final class JobClientStreamMetrics implements ClientStreamMetrics {
     pushAttempts.get(code).increment();
   }
 
+  @Override
+  public void creditsExhausted() {
+    creditsExhaustedCount.increment();
+  }
+
   private StatefulGauge registerGauge(
       final JobClientStreamMetricsDoc doc, final MeterRegistry registry) {
     return StatefulGauge.builder(doc.getName())
@@ -140,6 +140,24 @@ public enum JobClientStreamMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {PushKeyNames.CODE};
     }
+  },
+
+  /** Number of times brokers were told that an aggregated stream has no credits left */
+  CREDITS_EXHAUSTED {
+    @Override
+    public String getDescription() {
+      return "Number of times brokers were told that an aggregated stream has no credits left";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.gateway.job.stream.credits.exhausted";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
   };
 
   public enum PushKeyNames implements KeyName {
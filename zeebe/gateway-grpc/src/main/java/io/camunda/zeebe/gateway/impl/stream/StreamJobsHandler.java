@@ -27,6 +27,7 @@ import io.grpc.StatusRuntimeException;
 import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -116,8 +117,17 @@ public class StreamJobsHandler extends Actor {
 
   @VisibleForTesting("Allow unit testing behavior")
   static final class JobStreamConsumer implements ClientStreamConsumer {
+    /**
+     * How many jobs may be pushed to a single call before they are written to it. gRPC's flow
+     * control only tells whether the call is ready, not how many more jobs the client will take, so
+     * this is what bounds how far ahead of the client the brokers can push.
+     */
+    @VisibleForTesting("Allow unit testing behavior")
+    static final int MAX_PENDING_JOBS = 32;
+
     private final ServerCallStreamObserver<ActivatedJob> responseObserver;
     private final ConcurrencyControl executor;
+    private final AtomicInteger pendingJobs = new AtomicInteger();
 
     @VisibleForTesting("Allow unit testing behavior")
     JobStreamConsumer(
@@ -130,11 +140,20 @@ public class StreamJobsHandler extends Actor {
     @Override
     public ActorFuture<Void> push(final DirectBuffer payload) {
       final var result = new CompletableActorFuture<Void>();
+      pendingJobs.incrementAndGet();
       try {
-        executor.run(() -> handlePushedJob(payload, result));
+        executor.run(
+            () -> {
+              try {
+                handlePushedJob(payload, result);
+              } finally {
+                pendingJobs.decrementAndGet();
+              }
+            });
       } catch (final Exception e) {
         // only possible failure here is that the actor is not running, so close the stream
         // preemptively
+        pendingJobs.decrementAndGet();
         responseObserver.onError(e);
         result.completeExceptionally(e);
       }
@@ -142,6 +161,16 @@ public class StreamJobsHandler extends Actor {
       return result;
     }
 
+    /**
+     * Returns how many more jobs can be pushed to this call right now: none if the call is not
+     * ready, since pushing more would only fail, and otherwise whatever is left of {@link
+     * #MAX_PENDING_JOBS} once the jobs which were pushed but not yet written are accounted for.
+     */
+    @Override
+    public int availableCredits() {
+      return responseObserver.isReady() ? Math.max(0, MAX_PENDING_JOBS - pendingJobs.get()) : 0;
+    }
+
     private void handlePushedJob(
         final DirectBuffer payload, final CompletableActorFuture<Void> result) {
       final var deserializedJob = new ActivatedJobImpl();
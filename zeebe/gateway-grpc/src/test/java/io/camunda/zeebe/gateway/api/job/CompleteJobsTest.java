@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient.RequestStub;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResult;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.test.util.MsgPackUtil;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import java.util.List;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  private static final long REJECTED_JOB_KEY = Protocol.encodePartitionId(2, 2);
+  private static final long DUPLICATE_JOB_KEY = Protocol.encodePartitionId(1, 3);
+
+  @Test
+  public void shouldSendOneRequestPerPartition() {
+    // given
+    new CompleteJobsStub().registerWith(brokerClient);
+    final long firstJobKey = Protocol.encodePartitionId(1, 1);
+    final long secondJobKey = Protocol.encodePartitionId(2, 1);
+    final long thirdJobKey = Protocol.encodePartitionId(1, 2);
+
+    // when
+    client.completeJobs(
+        CompleteJobsRequest.newBuilder()
+            .addJobs(job(firstJobKey, "{\"a\":1}"))
+            .addJobs(job(secondJobKey, "{\"b\":2}"))
+            .addJobs(job(thirdJobKey, ""))
+            .build());
+
+    // then
+    final List<BrokerCompleteJobsRequest> brokerRequests =
+        brokerClient.getBrokerRequests().stream()
+            .map(BrokerCompleteJobsRequest.class::cast)
+            .toList();
+    assertThat(brokerRequests)
+        .extracting(
+            BrokerCompleteJobsRequest::getPartitionId,
+            BrokerCompleteJobsRequest::getIntent,
+            request -> request.getRequestWriter().getJobKeys())
+        .containsExactlyInAnyOrder(
+            tuple(1, JobBatchIntent.COMPLETE, List.of(firstJobKey, thirdJobKey)),
+            tuple(2, JobBatchIntent.COMPLETE, List.of(secondJobKey)));
+
+    final JobBatchRecord firstPartition =
+        brokerRequests.stream()
+            .filter(request -> request.getPartitionId() == 1)
+            .findFirst()
+            .orElseThrow()
+            .getRequestWriter();
+    MsgPackUtil.assertEqualityExcluding(
+        firstPartition.jobs().iterator().next().getVariablesBuffer(), "{\"a\":1}");
+  }
+
+  @Test
+  public void shouldReportOutcomeOfEachJobInRequestOrder() {
+    // given
+    new CompleteJobsStub().registerWith(brokerClient);
+    final long completedJobKey = Protocol.encodePartitionId(1, 1);
+
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(
+            CompleteJobsRequest.newBuilder()
+                .addJobs(job(REJECTED_JOB_KEY, ""))
+                .addJobs(job(completedJobKey, ""))
+                .build());
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(
+            CompleteJobsResult::getJobKey,
+            CompleteJobsResult::getCompleted,
+            CompleteJobsResult::getRejectionType)
+        .containsExactly(
+            tuple(REJECTED_JOB_KEY, false, RejectionType.NOT_FOUND.name()),
+            tuple(completedJobKey, true, ""));
+  }
+
+  @Test
+  public void shouldReportOutcomeOfEachOccurrenceOfTheSameJob() {
+    // given - the broker completes the first occurrence of the job, and rejects the second one
+    new CompleteJobsStub().registerWith(brokerClient);
+
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(
+            CompleteJobsRequest.newBuilder()
+                .addJobs(job(DUPLICATE_JOB_KEY, ""))
+                .addJobs(job(DUPLICATE_JOB_KEY, ""))
+                .build());
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(
+            CompleteJobsResult::getJobKey,
+            CompleteJobsResult::getCompleted,
+            CompleteJobsResult::getRejectionType)
+        .containsExactly(
+            tuple(DUPLICATE_JOB_KEY, true, ""),
+            tuple(DUPLICATE_JOB_KEY, false, RejectionType.INVALID_STATE.name()));
+  }
+
+  @Test
+  public void shouldFailRequestIfResultsCannotBeMapped() {
+    // given - a response which is missing the outcome of the requested job
+    brokerClient.registerHandler(
+        BrokerCompleteJobsRequest.class,
+        request ->
+            new BrokerResponse<>(new JobBatchRecord().setType(""), request.getPartitionId(), 1));
+
+    // when
+    final var request =
+        CompleteJobsRequest.newBuilder().addJobs(job(Protocol.encodePartitionId(1, 1), "")).build();
+
+    // then
+    assertThatThrownBy(() -> client.completeJobs(request))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(error -> ((StatusRuntimeException) error).getStatus().getCode())
+        .isEqualTo(Status.Code.INTERNAL);
+  }
+
+  private static CompleteJobRequest job(final long jobKey, final String variables) {
+    return CompleteJobRequest.newBuilder().setJobKey(jobKey).setVariables(variables).build();
+  }
+
+  private static final class CompleteJobsStub
+      implements RequestStub<BrokerCompleteJobsRequest, BrokerResponse<JobBatchRecord>> {
+
+    @Override
+    public BrokerResponse<JobBatchRecord> handle(final BrokerCompleteJobsRequest request) {
+      final JobBatchRecord response = new JobBatchRecord().setType("");
+      final List<Long> jobKeys = request.getRequestWriter().getJobKeys();
+      for (int index = 0; index < jobKeys.size(); index++) {
+        final long jobKey = jobKeys.get(index);
+        response.jobKeys().add().setValue(jobKey);
+        if (jobKey == REJECTED_JOB_KEY) {
+          response
+              .rejectedJobs()
+              .add()
+              .setIndex(index)
+              .setJobKey(jobKey)
+              .setRejectionType(RejectionType.NOT_FOUND)
+              .setRejectionReason("not found");
+        } else if (jobKey == DUPLICATE_JOB_KEY && jobKeys.subList(0, index).contains(jobKey)) {
+          response
+              .rejectedJobs()
+              .add()
+              .setIndex(index)
+              .setJobKey(jobKey)
+              .setRejectionType(RejectionType.INVALID_STATE)
+              .setRejectionReason("already completed");
+        }
+      }
+      return new BrokerResponse<>(response, request.getPartitionId(), 1);
+    }
+
+    @Override
+    public void registerWith(final StubbedBrokerClient gateway) {
+      gateway.registerHandler(BrokerCompleteJobsRequest.class, this);
+    }
+  }
+}
@@ -100,6 +100,52 @@ final class JobStreamConsumerTest {
     assertThat(clientObserver.pushed).extracting(ActivatedJob::getKey).containsExactly(1L);
   }
 
+  @Test
+  void shouldLimitCreditsByPendingJobs() {
+    // given - jobs are only written once the executor runs
+    final var deferredExecutor = new DeferredConcurrencyControl();
+    final var clientObserver = new TestStreamObserver();
+    final var consumer = new JobStreamConsumer(clientObserver, deferredExecutor);
+
+    // when
+    for (int i = 0; i < JobStreamConsumer.MAX_PENDING_JOBS; i++) {
+      consumer.push(BufferUtil.createCopy(new ActivatedJobImpl().setJobKey(i)));
+    }
+
+    // then
+    assertThat(consumer.availableCredits()).isZero();
+    deferredExecutor.runDeferred();
+    assertThat(clientObserver.pushed).hasSize(JobStreamConsumer.MAX_PENDING_JOBS);
+    assertThat(consumer.availableCredits()).isEqualTo(JobStreamConsumer.MAX_PENDING_JOBS);
+  }
+
+  @Test
+  void shouldHaveNoCreditsIfClientStreamNotReady() {
+    // given
+    final var clientObserver = new TestStreamObserver();
+    final var consumer = new JobStreamConsumer(clientObserver, executor);
+
+    // when
+    clientObserver.isReady = false;
+
+    // then
+    assertThat(consumer.availableCredits()).isZero();
+  }
+
+  private static final class DeferredConcurrencyControl extends TestConcurrencyControl {
+    private final List<Runnable> deferred = new ArrayList<>();
+
+    @Override
+    public void run(final Runnable action) {
+      deferred.add(action);
+    }
+
+    private void runDeferred() {
+      deferred.forEach(Runnable::run);
+      deferred.clear();
+    }
+  }
+
   private static final class TestStreamObserver extends ServerCallStreamObserver<ActivatedJob>
       implements StreamObserver<ActivatedJob> {
     private final List<ActivatedJob> pushed = new ArrayList<>();
@@ -11,6 +11,7 @@ public class GatewayRestConfiguration {
 
   private final ProcessCacheConfiguration processCache = new ProcessCacheConfiguration();
   private final ApiExecutorConfiguration apiExecutor = new ApiExecutorConfiguration();
+  private final SearchStreamingConfiguration searchStreaming = new SearchStreamingConfiguration();
 
   public ProcessCacheConfiguration getProcessCache() {
     return processCache;
@@ -20,6 +21,10 @@ public class GatewayRestConfiguration {
     return apiExecutor;
   }
 
+  public SearchStreamingConfiguration getSearchStreaming() {
+    return searchStreaming;
+  }
+
   public static class ProcessCacheConfiguration {
     private static final int DEFAULT_CACHE_SIZE = 100;
 
@@ -167,4 +172,51 @@ public class GatewayRestConfiguration {
       this.queueCapacity = queueCapacity;
     }
   }
+
+  /**
+   * Configuration for streaming search responses.
+   *
+   * <p>When enabled, search endpoints which support it do not load the whole requested page in
+   * memory. Instead, the page is fetched from the secondary storage in chunks of at most {@code
+   * chunkSize} items, each continuing after the end cursor of the previous one, and every item is
+   * written to the response as soon as it is mapped. The memory used per request is then bounded by
+   * the chunk size, no matter how large the requested page is. The response body is the same as
+   * without streaming.
+   *
+   * <p>As the response may already be committed when a later chunk fails to load, such a failure
+   * aborts the response instead of resulting in a problem detail.
+   */
+  public static class SearchStreamingConfiguration {
+
+    private static final boolean DEFAULT_ENABLED = false;
+    private static final int DEFAULT_CHUNK_SIZE = 100;
+
+    /** Whether search responses are streamed. Default value: {@link #DEFAULT_ENABLED}. */
+    private boolean enabled = DEFAULT_ENABLED;
+
+    /**
+     * Maximum number of items fetched from the secondary storage at once. Pages which are not
+     * larger than this are fetched in one go. Default value: {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(final boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getChunkSize() {
+      return chunkSize;
+    }
+
+    public void setChunkSize(final int chunkSize) {
+      if (chunkSize <= 0) {
+        throw new IllegalArgumentException("chunkSize must be > 0 (was " + chunkSize + ")");
+      }
+      this.chunkSize = chunkSize;
+    }
+  }
 }
@@ -26,7 +26,6 @@ import io.camunda.gateway.protocol.model.ProcessInstanceMigrationInstruction;
 import io.camunda.gateway.protocol.model.ProcessInstanceModificationBatchOperationRequest;
 import io.camunda.gateway.protocol.model.ProcessInstanceModificationInstruction;
 import io.camunda.gateway.protocol.model.ProcessInstanceSearchQuery;
-import io.camunda.gateway.protocol.model.ProcessInstanceSearchQueryResult;
 import io.camunda.search.query.IncidentQuery;
 import io.camunda.search.query.ProcessInstanceQuery;
 import io.camunda.security.auth.CamundaAuthenticationProvider;
@@ -41,8 +40,11 @@ import io.camunda.service.ProcessInstanceServices.ProcessInstanceModifyRequest;
 import io.camunda.zeebe.gateway.rest.annotation.CamundaGetMapping;
 import io.camunda.zeebe.gateway.rest.annotation.CamundaPostMapping;
 import io.camunda.zeebe.gateway.rest.annotation.RequiresSecondaryStorage;
+import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration;
+import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration.SearchStreamingConfiguration;
 import io.camunda.zeebe.gateway.rest.mapper.RequestExecutor;
 import io.camunda.zeebe.gateway.rest.mapper.RestErrorMapper;
+import io.camunda.zeebe.gateway.rest.mapper.StreamingSearchQueryResponse;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import org.springframework.http.HttpStatus;
@@ -58,14 +60,17 @@ public class ProcessInstanceController {
   private final ProcessInstanceServices processInstanceServices;
   private final MultiTenancyConfiguration multiTenancyCfg;
   private final CamundaAuthenticationProvider authenticationProvider;
+  private final SearchStreamingConfiguration searchStreamingCfg;
 
   public ProcessInstanceController(
       final ProcessInstanceServices processInstanceServices,
       final MultiTenancyConfiguration multiTenancyCfg,
-      final CamundaAuthenticationProvider authenticationProvider) {
+      final CamundaAuthenticationProvider authenticationProvider,
+      final GatewayRestConfiguration gatewayRestCfg) {
     this.processInstanceServices = processInstanceServices;
     this.multiTenancyCfg = multiTenancyCfg;
     this.authenticationProvider = authenticationProvider;
+    searchStreamingCfg = gatewayRestCfg.getSearchStreaming();
   }
 
   @CamundaPostMapping
@@ -114,7 +119,7 @@ public class ProcessInstanceController {
 
   @RequiresSecondaryStorage
   @CamundaPostMapping(path = "/search")
-  public ResponseEntity<ProcessInstanceSearchQueryResult> searchProcessInstances(
+  public ResponseEntity<Object> searchProcessInstances(
       @RequestBody(required = false) final ProcessInstanceSearchQuery query) {
     return SearchQueryRequestMapper.toProcessInstanceQuery(query)
         .fold(RestErrorMapper::mapProblemToResponse, this::search);
@@ -253,13 +258,24 @@ public class ProcessInstanceController {
             incidentQuery -> searchIncidents(processInstanceKey, incidentQuery));
   }
 
-  private ResponseEntity<ProcessInstanceSearchQueryResult> search(
-      final ProcessInstanceQuery query) {
+  private ResponseEntity<Object> search(final ProcessInstanceQuery query) {
     try {
-      final var result =
-          processInstanceServices
-              .withAuthentication(authenticationProvider.getCamundaAuthentication())
-              .search(query);
+      final var services =
+          processInstanceServices.withAuthentication(
+              authenticationProvider.getCamundaAuthentication());
+      if (StreamingSearchQueryResponse.isApplicable(searchStreamingCfg, query.page())) {
+        return ResponseEntity.ok(
+            StreamingSearchQueryResponse.fetch(
+                query.page(),
+                searchStreamingCfg.getChunkSize(),
+                page ->
+                    services.search(
+                        new ProcessInstanceQuery(
+                            query.filter(), query.sort(), page, query.resultConfig())),
+                SearchQueryResponseMapper::toProcessInstance));
+      }
+
+      final var result = services.search(query);
       return ResponseEntity.ok(
           SearchQueryResponseMapper.toProcessInstanceSearchQueryResponse(result));
     } catch (final Exception e) {
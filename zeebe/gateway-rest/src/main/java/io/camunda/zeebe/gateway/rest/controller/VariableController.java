@@ -18,7 +18,10 @@ import io.camunda.service.VariableServices;
 import io.camunda.zeebe.gateway.rest.annotation.CamundaGetMapping;
 import io.camunda.zeebe.gateway.rest.annotation.CamundaPostMapping;
 import io.camunda.zeebe.gateway.rest.annotation.RequiresSecondaryStorage;
+import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration;
+import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration.SearchStreamingConfiguration;
 import io.camunda.zeebe.gateway.rest.mapper.RestErrorMapper;
+import io.camunda.zeebe.gateway.rest.mapper.StreamingSearchQueryResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -32,12 +35,15 @@ public class VariableController {
 
   private final VariableServices variableServices;
   private final CamundaAuthenticationProvider authenticationProvider;
+  private final SearchStreamingConfiguration searchStreamingCfg;
 
   public VariableController(
       final VariableServices variableServices,
-      final CamundaAuthenticationProvider authenticationProvider) {
+      final CamundaAuthenticationProvider authenticationProvider,
+      final GatewayRestConfiguration gatewayRestCfg) {
     this.variableServices = variableServices;
     this.authenticationProvider = authenticationProvider;
+    searchStreamingCfg = gatewayRestCfg.getSearchStreaming();
   }
 
   @CamundaPostMapping(path = "/search")
@@ -51,10 +57,18 @@ public class VariableController {
 
   private ResponseEntity<Object> search(final VariableQuery query, final boolean truncateValues) {
     try {
-      final var result =
-          variableServices
-              .withAuthentication(authenticationProvider.getCamundaAuthentication())
-              .search(query);
+      final var services =
+          variableServices.withAuthentication(authenticationProvider.getCamundaAuthentication());
+      if (StreamingSearchQueryResponse.isApplicable(searchStreamingCfg, query.page())) {
+        return ResponseEntity.ok(
+            StreamingSearchQueryResponse.fetch(
+                query.page(),
+                searchStreamingCfg.getChunkSize(),
+                page -> services.search(new VariableQuery(query.filter(), query.sort(), page)),
+                entity -> SearchQueryResponseMapper.toVariable(entity, truncateValues)));
+      }
+
+      final var result = services.search(query);
       return ResponseEntity.ok(
           SearchQueryResponseMapper.toVariableSearchQueryResponse(result, truncateValues));
     } catch (final Exception e) {
@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.rest.mapper;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.camunda.gateway.model.mapper.search.SearchQueryResponseMapper;
+import io.camunda.search.page.SearchQueryPage;
+import io.camunda.search.query.SearchQueryResult;
+import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration.SearchStreamingConfiguration;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A search query response which is fetched from the search client in chunks, continuing after the
+ * end cursor of the previous chunk, and whose items are written to the response one by one as they
+ * are mapped. Only a single chunk is held in memory at any time, and what was written so far is
+ * flushed to the client before the next chunk is fetched.
+ *
+ * <p>The first chunk is fetched eagerly when creating the response, so that the usual error
+ * handling applies to invalid queries or missing permissions. Any later chunk is fetched while
+ * serializing the response, at which point the response may already be committed; failing to fetch
+ * it aborts the response.
+ *
+ * <p>The serialized response has the same shape as the one of a regular search query, i.e. {@code
+ * items} followed by {@code page}, where the page is taken from the first chunk except for the end
+ * cursor, which is the one of the last chunk.
+ *
+ * @param <T> the type of the entities returned by the search client
+ */
+@JsonSerialize(using = StreamingSearchQueryResponse.Serializer.class)
+public final class StreamingSearchQueryResponse<T> {
+
+  private final Function<SearchQueryPage, SearchQueryResult<T>> searchFunction;
+  private final Function<T, ?> itemMapper;
+  private final int chunkSize;
+  private final int size;
+  private final SearchQueryResult<T> firstChunk;
+
+  private StreamingSearchQueryResponse(
+      final Function<SearchQueryPage, SearchQueryResult<T>> searchFunction,
+      final Function<T, ?> itemMapper,
+      final int chunkSize,
+      final int size,
+      final SearchQueryResult<T> firstChunk) {
+    this.searchFunction = searchFunction;
+    this.itemMapper = itemMapper;
+    this.chunkSize = chunkSize;
+    this.size = size;
+    this.firstChunk = firstChunk;
+  }
+
+  /**
+   * Returns true if a search for the given page should be streamed, i.e. if streaming is enabled
+   * and the page is a forward page larger than a single chunk.
+   */
+  public static boolean isApplicable(
+      final SearchStreamingConfiguration configuration, final SearchQueryPage page) {
+    return configuration.isEnabled()
+        && page != null
+        && !page.isPreviousPage()
+        && page.size() > configuration.getChunkSize();
+  }
+
+  /**
+   * Fetches the first chunk of the given page, and returns a response which fetches the remaining
+   * chunks while being serialized.
+   *
+   * @param page the page requested by the client
+   * @param chunkSize the maximum number of items to fetch at once
+   * @param searchFunction executes the original query for the given page
+   * @param itemMapper maps an entity to its REST representation
+   */
+  public static <T> StreamingSearchQueryResponse<T> fetch(
+      final SearchQueryPage page,
+      final int chunkSize,
+      final Function<SearchQueryPage, SearchQueryResult<T>> searchFunction,
+      final Function<T, ?> itemMapper) {
+    final var firstChunk =
+        searchFunction.apply(
+            SearchQueryPage.of(
+                b ->
+                    b.from(page.from())
+                        .size(Math.min(chunkSize, page.size()))
+                        .after(page.after())));
+    return new StreamingSearchQueryResponse<>(
+        searchFunction, itemMapper, chunkSize, page.size(), firstChunk);
+  }
+
+  private void writeTo(final JsonGenerator generator, final SerializerProvider provider)
+      throws IOException {
+    generator.writeStartObject();
+    generator.writeArrayFieldStart("items");
+
+    var chunk = firstChunk;
+    var requested = Math.min(chunkSize, size);
+    var remaining = size;
+    var endCursor = firstChunk.endCursor();
+
+    while (true) {
+      final var items = Objects.requireNonNullElse(chunk.items(), Collections.<T>emptyList());
+      writeItems(items, generator, provider);
+      remaining -= items.size();
+      if (chunk.endCursor() != null) {
+        endCursor = chunk.endCursor();
+      }
+
+      if (remaining <= 0 || items.size() < requested || chunk.endCursor() == null) {
+        break;
+      }
+
+      // hand what we have so far to the client before waiting for the next chunk
+      generator.flush();
+      requested = Math.min(chunkSize, remaining);
+      chunk = fetchNextChunk(chunk.endCursor(), requested);
+    }
+
+    generator.writeEndArray();
+    provider.defaultSerializeField(
+        "page",
+        SearchQueryResponseMapper.toSearchQueryPageResponse(
+            new SearchQueryResult<>(
+                firstChunk.total(),
+                firstChunk.hasMoreTotalItems(),
+                List.of(),
+                firstChunk.startCursor(),
+                endCursor)),
+        generator);
+    generator.writeEndObject();
+  }
+
+  private SearchQueryResult<T> fetchNextChunk(final String cursor, final int chunkSize) {
+    return searchFunction.apply(SearchQueryPage.of(b -> b.size(chunkSize).after(cursor)));
+  }
+
+  private void writeItems(
+      final List<T> items, final JsonGenerator generator, final SerializerProvider provider)
+      throws IOException {
+    for (final T item : items) {
+      provider.defaultSerializeValue(itemMapper.apply(item), generator);
+    }
+  }
+
+  public static final class Serializer extends JsonSerializer<StreamingSearchQueryResponse<?>> {
+
+    @Override
+    public void serialize(
+        final StreamingSearchQueryResponse<?> value,
+        final JsonGenerator generator,
+        final SerializerProvider provider)
+        throws IOException {
+      value.writeTo(generator, provider);
+    }
+  }
+}
@@ -13,6 +13,7 @@ import static org.mockito.Mockito.when;
 import io.camunda.search.filter.Operation;
 import io.camunda.search.filter.Operator;
 import io.camunda.security.auth.CamundaAuthentication;
+import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration;
 import io.camunda.zeebe.gateway.rest.config.JacksonConfig;
 import io.camunda.zeebe.gateway.rest.interceptor.SecondaryStorageInterceptor;
 import java.time.OffsetDateTime;
@@ -33,7 +34,7 @@ import org.springframework.test.web.reactive.server.WebTestClient;
     properties = {
       "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration"
     })
-@Import(JacksonConfig.class)
+@Import({JacksonConfig.class, GatewayRestConfiguration.class})
 public abstract class RestControllerTest {
   public static final List<List<Operation<Long>>> LONG_OPERATIONS =
       List.of(
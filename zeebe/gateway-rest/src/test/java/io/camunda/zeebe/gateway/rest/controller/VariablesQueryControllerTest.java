@@ -7,8 +7,10 @@
  */
 package io.camunda.zeebe.gateway.rest.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -16,6 +18,7 @@ import static org.springframework.http.MediaType.APPLICATION_JSON;
 import io.camunda.search.entities.VariableEntity;
 import io.camunda.search.exception.CamundaSearchException;
 import io.camunda.search.filter.VariableFilter;
+import io.camunda.search.page.SearchQueryPage;
 import io.camunda.search.query.SearchQueryResult;
 import io.camunda.search.query.SearchQueryResult.Builder;
 import io.camunda.search.query.VariableQuery;
@@ -25,6 +28,7 @@ import io.camunda.security.auth.CamundaAuthenticationProvider;
 import io.camunda.service.VariableServices;
 import io.camunda.service.exception.ErrorMapper;
 import io.camunda.zeebe.gateway.rest.RestControllerTest;
+import io.camunda.zeebe.gateway.rest.config.GatewayRestConfiguration;
 import java.util.List;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +38,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -142,6 +147,7 @@ public class VariablesQueryControllerTest extends RestControllerTest {
   @MockitoBean VariableServices variableServices;
   @MockitoBean CamundaAuthenticationProvider authenticationProvider;
   @Captor ArgumentCaptor<VariableQuery> variableQueryCaptor;
+  @Autowired GatewayRestConfiguration gatewayRestConfiguration;
 
   @BeforeEach
   void setupServices() {
@@ -259,6 +265,55 @@ public class VariablesQueryControllerTest extends RestControllerTest {
                 .build());
   }
 
+  @Test
+  void shouldStreamSearchResultsInChunks() {
+    // given
+    final var searchStreaming = gatewayRestConfiguration.getSearchStreaming();
+    searchStreaming.setEnabled(true);
+    searchStreaming.setChunkSize(1);
+    when(variableServices.search(any(VariableQuery.class)))
+        .thenReturn(
+            new Builder<VariableEntity>()
+                .total(2L)
+                .items(SEARCH_QUERY_RESULT.items().subList(0, 1))
+                .startCursor("0")
+                .endCursor("0")
+                .build())
+        .thenReturn(
+            new Builder<VariableEntity>()
+                .total(2L)
+                .items(SEARCH_QUERY_RESULT.items().subList(1, 2))
+                .startCursor("1")
+                .endCursor("1")
+                .build());
+
+    try {
+      // when / then
+      webClient
+          .post()
+          .uri(VARIABLE_TASKS_SEARCH_URL)
+          .accept(APPLICATION_JSON)
+          .contentType(APPLICATION_JSON)
+          .bodyValue("{\"page\": {\"limit\": 2}}")
+          .exchange()
+          .expectStatus()
+          .isOk()
+          .expectHeader()
+          .contentType(APPLICATION_JSON)
+          .expectBody()
+          .json(EXPECTED_SEARCH_RESPONSE, JsonCompareMode.STRICT);
+
+      verify(variableServices, times(2)).search(variableQueryCaptor.capture());
+      assertThat(variableQueryCaptor.getAllValues())
+          .extracting(VariableQuery::page)
+          .containsExactly(
+              SearchQueryPage.of(b -> b.size(1)), SearchQueryPage.of(b -> b.size(1).after("0")));
+    } finally {
+      searchStreaming.setEnabled(false);
+      searchStreaming.setChunkSize(100);
+    }
+  }
+
   @Test
   void shouldInvalidateVariableSearchQueryWithBadSortOrder() {
     // given
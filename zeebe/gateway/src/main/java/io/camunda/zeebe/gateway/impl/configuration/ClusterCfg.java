@@ -13,6 +13,9 @@ import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_PORT;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_HOST;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_PORT;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_BATCH_SIZE;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_BATCH_WINDOW;
+import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_LATENCY_SAMPLING_RATE;
 import static io.camunda.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_TIMEOUT;
 import static io.camunda.zeebe.util.StringUtil.LIST_SANITIZER;
 
@@ -32,6 +35,9 @@ public final class ClusterCfg {
   private List<String> initialContactPoints =
       Collections.singletonList(DEFAULT_CONTACT_POINT_HOST + ":" + DEFAULT_CONTACT_POINT_PORT);
   private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+  private int requestBatchSize = DEFAULT_REQUEST_BATCH_SIZE;
+  private Duration requestBatchWindow = DEFAULT_REQUEST_BATCH_WINDOW;
+  private double requestLatencySamplingRate = DEFAULT_REQUEST_LATENCY_SAMPLING_RATE;
   private String clusterName = DEFAULT_CLUSTER_NAME;
   private String memberId = DEFAULT_CLUSTER_MEMBER_ID;
   // leave host and advertised host to null, so we can distinguish if they are set explicitly or not
@@ -45,6 +51,9 @@ public final class ClusterCfg {
   private ConfigManagerCfg configManager = ConfigManagerCfg.defaultConfig();
   private DataSize socketSendBuffer = null;
   private DataSize socketReceiveBuffer = null;
+  private Duration messageCoalescingWindow = Duration.ZERO;
+  private DataSize messageCoalescingMaxSize = DataSize.ofKilobytes(64);
+  private int connectionsPerAddress = 0;
 
   public String getMemberId() {
     return memberId;
@@ -108,6 +117,33 @@ public final class ClusterCfg {
     return this;
   }
 
+  public int getRequestBatchSize() {
+    return requestBatchSize;
+  }
+
+  public ClusterCfg setRequestBatchSize(final int requestBatchSize) {
+    this.requestBatchSize = requestBatchSize;
+    return this;
+  }
+
+  public Duration getRequestBatchWindow() {
+    return requestBatchWindow;
+  }
+
+  public ClusterCfg setRequestBatchWindow(final Duration requestBatchWindow) {
+    this.requestBatchWindow = requestBatchWindow;
+    return this;
+  }
+
+  public double getRequestLatencySamplingRate() {
+    return requestLatencySamplingRate;
+  }
+
+  public ClusterCfg setRequestLatencySamplingRate(final double requestLatencySamplingRate) {
+    this.requestLatencySamplingRate = requestLatencySamplingRate;
+    return this;
+  }
+
   public String getClusterName() {
     return clusterName;
   }
@@ -178,11 +214,41 @@ public final class ClusterCfg {
     return this;
   }
 
+  public Duration getMessageCoalescingWindow() {
+    return messageCoalescingWindow;
+  }
+
+  public ClusterCfg setMessageCoalescingWindow(final Duration messageCoalescingWindow) {
+    this.messageCoalescingWindow = messageCoalescingWindow;
+    return this;
+  }
+
+  public DataSize getMessageCoalescingMaxSize() {
+    return messageCoalescingMaxSize;
+  }
+
+  public ClusterCfg setMessageCoalescingMaxSize(final DataSize messageCoalescingMaxSize) {
+    this.messageCoalescingMaxSize = messageCoalescingMaxSize;
+    return this;
+  }
+
+  public int getConnectionsPerAddress() {
+    return connectionsPerAddress;
+  }
+
+  public ClusterCfg setConnectionsPerAddress(final int connectionsPerAddress) {
+    this.connectionsPerAddress = connectionsPerAddress;
+    return this;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
         initialContactPoints,
         requestTimeout,
+        requestBatchSize,
+        requestBatchWindow,
+        requestLatencySamplingRate,
         clusterName,
         memberId,
         host,
@@ -192,7 +258,10 @@ public final class ClusterCfg {
         messageCompression,
         configManager,
         socketSendBuffer,
-        socketReceiveBuffer);
+        socketReceiveBuffer,
+        messageCoalescingWindow,
+        messageCoalescingMaxSize,
+        connectionsPerAddress);
   }
 
   @Override
@@ -205,8 +274,12 @@ public final class ClusterCfg {
     }
     final ClusterCfg that = (ClusterCfg) o;
     return port == that.port
+        && connectionsPerAddress == that.connectionsPerAddress
+        && requestBatchSize == that.requestBatchSize
         && Objects.equals(initialContactPoints, that.initialContactPoints)
         && Objects.equals(requestTimeout, that.requestTimeout)
+        && Objects.equals(requestBatchWindow, that.requestBatchWindow)
+        && Double.compare(requestLatencySamplingRate, that.requestLatencySamplingRate) == 0
         && Objects.equals(clusterName, that.clusterName)
         && Objects.equals(memberId, that.memberId)
         && Objects.equals(host, that.host)
@@ -215,7 +288,9 @@ public final class ClusterCfg {
         && Objects.equals(messageCompression, that.messageCompression)
         && Objects.equals(configManager, that.configManager)
         && Objects.equals(socketSendBuffer, that.socketSendBuffer)
-        && Objects.equals(socketReceiveBuffer, that.socketReceiveBuffer);
+        && Objects.equals(socketReceiveBuffer, that.socketReceiveBuffer)
+        && Objects.equals(messageCoalescingWindow, that.messageCoalescingWindow)
+        && Objects.equals(messageCoalescingMaxSize, that.messageCoalescingMaxSize);
   }
 
   @Override
@@ -225,6 +300,12 @@ public final class ClusterCfg {
         + initialContactPoints
         + ", requestTimeout="
         + requestTimeout
+        + ", requestBatchSize="
+        + requestBatchSize
+        + ", requestBatchWindow="
+        + requestBatchWindow
+        + ", requestLatencySamplingRate="
+        + requestLatencySamplingRate
         + ", clusterName='"
         + clusterName
         + '\''
@@ -248,6 +329,12 @@ public final class ClusterCfg {
         + socketSendBuffer
         + ", socketReceiveBuffer="
         + socketReceiveBuffer
+        + ", messageCoalescingWindow="
+        + messageCoalescingWindow
+        + ", messageCoalescingMaxSize="
+        + messageCoalescingMaxSize
+        + ", connectionsPerAddress="
+        + connectionsPerAddress
         + '}';
   }
 }
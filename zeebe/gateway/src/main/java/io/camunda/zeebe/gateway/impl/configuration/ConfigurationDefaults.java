@@ -20,9 +20,14 @@ public final class ConfigurationDefaults {
   public static final String DEFAULT_MAX_MESSAGE_SIZE = "4M";
   public static final int DEFAULT_MAX_MESSAGE_COUNT = 16;
   public static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(15);
+  public static final int DEFAULT_REQUEST_BATCH_SIZE = 1;
+  public static final Duration DEFAULT_REQUEST_BATCH_WINDOW = Duration.ZERO;
+  public static final double DEFAULT_REQUEST_LATENCY_SAMPLING_RATE = 0;
   public static final boolean DEFAULT_LONG_POLLING_ENABLED = true;
   public static final long DEFAULT_LONG_POLLING_TIMEOUT = 10_000;
   public static final int DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD = 3;
+  public static final int DEFAULT_JOB_ACTIVATION_BUFFER_SIZE = 0;
+  public static final long DEFAULT_JOB_ACTIVATION_BUFFER_TTL = 1_000;
   public static final boolean DEFAULT_TLS_ENABLED = false;
   public static final long DEFAULT_PROBE_TIMEOUT = 10_000; // 10 seconds
 
@@ -16,6 +16,8 @@ public final class LongPollingCfg {
   private long probeTimeout = ConfigurationDefaults.DEFAULT_PROBE_TIMEOUT;
   private int minEmptyResponses =
       ConfigurationDefaults.DEFAULT_LONG_POLLING_EMPTY_RESPONSE_THRESHOLD;
+  private int activationBufferSize = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_BUFFER_SIZE;
+  private long activationBufferTtl = ConfigurationDefaults.DEFAULT_JOB_ACTIVATION_BUFFER_TTL;
 
   public long getTimeout() {
     return timeout;
@@ -41,6 +43,22 @@ public final class LongPollingCfg {
     this.minEmptyResponses = minEmptyResponses;
   }
 
+  public int getActivationBufferSize() {
+    return activationBufferSize;
+  }
+
+  public void setActivationBufferSize(final int activationBufferSize) {
+    this.activationBufferSize = activationBufferSize;
+  }
+
+  public long getActivationBufferTtl() {
+    return activationBufferTtl;
+  }
+
+  public void setActivationBufferTtl(final long activationBufferTtl) {
+    this.activationBufferTtl = activationBufferTtl;
+  }
+
   public boolean isEnabled() {
     return enabled;
   }
@@ -52,7 +70,13 @@ public final class LongPollingCfg {
 
   @Override
   public int hashCode() {
-    return Objects.hash(enabled, timeout, probeTimeout, minEmptyResponses);
+    return Objects.hash(
+        enabled,
+        timeout,
+        probeTimeout,
+        minEmptyResponses,
+        activationBufferSize,
+        activationBufferTtl);
   }
 
   @Override
@@ -67,7 +91,9 @@ public final class LongPollingCfg {
     return enabled == that.enabled
         && timeout == that.timeout
         && probeTimeout == that.probeTimeout
-        && minEmptyResponses == that.minEmptyResponses;
+        && minEmptyResponses == that.minEmptyResponses
+        && activationBufferSize == that.activationBufferSize
+        && activationBufferTtl == that.activationBufferTtl;
   }
 
   @Override
@@ -81,6 +107,10 @@ public final class LongPollingCfg {
         + probeTimeout
         + ", minEmptyResponses="
         + minEmptyResponses
+        + ", activationBufferSize="
+        + activationBufferSize
+        + ", activationBufferTtl="
+        + activationBufferTtl
         + '}';
   }
 }
@@ -21,6 +21,8 @@ public final class MembershipCfg {
   private static final int DEFAULT_SUSPECT_PROBES = 3;
   private static final Duration DEFAULT_FAILURE_TIMEOUT = Duration.ofMillis(10_000);
   private static final Duration DEFAULT_SYNC_INTERVAL = Duration.ofMillis(10_000);
+  private static final int DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER = 0;
+  private static final boolean DEFAULT_ADAPTIVE_FAILURE_TIMEOUT = false;
 
   private boolean broadcastUpdates = DEFAULT_BROADCAST_UPDATES;
   private boolean broadcastDisputes = DEFAULT_BROADCAST_DISPUTES;
@@ -32,6 +34,8 @@ public final class MembershipCfg {
   private int suspectProbes = DEFAULT_SUSPECT_PROBES;
   private Duration failureTimeout = DEFAULT_FAILURE_TIMEOUT;
   private Duration syncInterval = DEFAULT_SYNC_INTERVAL;
+  private int gossipRetransmitMultiplier = DEFAULT_GOSSIP_RETRANSMIT_MULTIPLIER;
+  private boolean adaptiveFailureTimeout = DEFAULT_ADAPTIVE_FAILURE_TIMEOUT;
 
   public boolean isBroadcastUpdates() {
     return broadcastUpdates;
@@ -123,6 +127,24 @@ public final class MembershipCfg {
     return this;
   }
 
+  public int getGossipRetransmitMultiplier() {
+    return gossipRetransmitMultiplier;
+  }
+
+  public MembershipCfg setGossipRetransmitMultiplier(final int gossipRetransmitMultiplier) {
+    this.gossipRetransmitMultiplier = gossipRetransmitMultiplier;
+    return this;
+  }
+
+  public boolean isAdaptiveFailureTimeout() {
+    return adaptiveFailureTimeout;
+  }
+
+  public MembershipCfg setAdaptiveFailureTimeout(final boolean adaptiveFailureTimeout) {
+    this.adaptiveFailureTimeout = adaptiveFailureTimeout;
+    return this;
+  }
+
   @Override
   public int hashCode() {
     int result = (broadcastUpdates ? 1 : 0);
@@ -135,6 +157,8 @@ public final class MembershipCfg {
     result = 31 * result + suspectProbes;
     result = 31 * result + (failureTimeout != null ? failureTimeout.hashCode() : 0);
     result = 31 * result + (syncInterval != null ? syncInterval.hashCode() : 0);
+    result = 31 * result + gossipRetransmitMultiplier;
+    result = 31 * result + (adaptiveFailureTimeout ? 1 : 0);
     return result;
   }
 
@@ -164,6 +188,12 @@ public final class MembershipCfg {
     if (suspectProbes != that.suspectProbes) {
       return false;
     }
+    if (gossipRetransmitMultiplier != that.gossipRetransmitMultiplier) {
+      return false;
+    }
+    if (adaptiveFailureTimeout != that.adaptiveFailureTimeout) {
+      return false;
+    }
     if (gossipInterval != null
         ? !gossipInterval.equals(that.gossipInterval)
         : that.gossipInterval != null) {
@@ -212,6 +242,10 @@ public final class MembershipCfg {
         + failureTimeout
         + ", syncInterval="
         + syncInterval
+        + ", gossipRetransmitMultiplier="
+        + gossipRetransmitMultiplier
+        + ", adaptiveFailureTimeout="
+        + adaptiveFailureTimeout
         + '}';
   }
 }
@@ -27,4 +27,10 @@ public interface ActivateJobsHandler<T> extends Consumer<ActorControl> {
       final ResponseObserver<T> responseObserver,
       final Consumer<Runnable> setCancelHandler,
       final long requestTimeout);
+
+  /**
+   * Invoked on the handler's actor when it is closing, to give back whatever the handler still
+   * holds, e.g. jobs which were activated but not yet handed out.
+   */
+  default void onActorClosing() {}
 }
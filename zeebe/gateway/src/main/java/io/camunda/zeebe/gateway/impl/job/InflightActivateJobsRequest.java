@@ -26,6 +26,7 @@ public class InflightActivateJobsRequest<T> {
   private final int maxJobsToActivate;
   private final Duration longPollingTimeout;
 
+  private JobActivationBuffer.Key bufferKey;
   private ScheduledTimer scheduledTimer;
   private boolean isTimedOut;
   private boolean isCompleted;
@@ -149,6 +150,14 @@ public class InflightActivateJobsRequest<T> {
     return maxJobsToActivate;
   }
 
+  /** Returns the key of the buffered jobs this request may be served from. */
+  public JobActivationBuffer.Key getBufferKey() {
+    if (bufferKey == null) {
+      bufferKey = JobActivationBuffer.Key.of(request);
+    }
+    return bufferKey;
+  }
+
   public void setScheduledTimer(final ScheduledTimer scheduledTimer) {
     this.scheduledTimer = scheduledTimer;
   }
@@ -0,0 +1,249 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.metrics.JobActivationBufferMetrics;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+import org.agrona.DirectBuffer;
+
+/**
+ * A bounded, short-lived buffer of jobs which were activated in excess of what a request asked for.
+ * Subsequent requests with the same activation properties are served from the buffer without a
+ * round trip to the brokers.
+ *
+ * <p>Buffered jobs are already activated, so their job timeout is ticking. Each job is therefore
+ * only kept for the configured time to live, and at most for half of its job timeout; once expired,
+ * it is released so it can be yielded back to the broker.
+ *
+ * <p>This class is not thread safe, and is expected to be accessed only from the actor of the
+ * owning {@link ActivateJobsHandler}.
+ */
+public final class JobActivationBuffer {
+
+  private final int capacity;
+  private final long timeToLiveMillis;
+  private final JobActivationBufferMetrics metrics;
+  private final Map<Key, ArrayDeque<BufferedJob>> buffers = new HashMap<>();
+
+  /**
+   * @param capacity the maximum number of jobs buffered per {@link Key}; zero disables buffering
+   * @param timeToLive how long a job may be buffered at most
+   * @param metrics the metrics to report buffer hits and wasted activations to
+   */
+  public JobActivationBuffer(
+      final int capacity, final Duration timeToLive, final JobActivationBufferMetrics metrics) {
+    this.capacity = capacity;
+    timeToLiveMillis = timeToLive.toMillis();
+    this.metrics = metrics;
+  }
+
+  /** Returns a buffer which never buffers any jobs. */
+  public static JobActivationBuffer disabled() {
+    return new JobActivationBuffer(0, Duration.ZERO, JobActivationBufferMetrics.noop());
+  }
+
+  public boolean isEnabled() {
+    return capacity > 0 && timeToLiveMillis > 0;
+  }
+
+  public Duration getTimeToLive() {
+    return Duration.ofMillis(timeToLiveMillis);
+  }
+
+  /** Returns how many jobs may be activated in excess for requests with the given key. */
+  public int getFreeCapacity(final Key key) {
+    if (!isEnabled() || timeToLiveFor(key) <= 0) {
+      return 0;
+    }
+
+    final var jobs = buffers.get(key);
+    return jobs == null ? capacity : Math.max(0, capacity - jobs.size());
+  }
+
+  /**
+   * Removes up to {@code maxJobsToActivate} buffered jobs for the given key.
+   *
+   * @return the jobs as an activation response, or null if no jobs are buffered for the key
+   */
+  public JobActivationResponse poll(
+      final Key key, final int maxJobsToActivate, final long maxResponseSize, final long now) {
+    final var jobs = buffers.get(key);
+    if (jobs == null) {
+      return null;
+    }
+
+    final var batch = new JobBatchRecord();
+    long batchKey = -1;
+    int count = 0;
+    while (count < maxJobsToActivate && !jobs.isEmpty() && jobs.peekFirst().deadline() > now) {
+      final var job = jobs.pollFirst();
+      batch.jobKeys().add().setValue(job.key());
+      batch.jobs().add().wrap(job.record());
+      batchKey = count == 0 ? job.batchKey() : batchKey;
+      count++;
+    }
+
+    if (jobs.isEmpty()) {
+      buffers.remove(key);
+    }
+
+    if (count == 0) {
+      return null;
+    }
+
+    metrics.bufferHits(count);
+    return new JobActivationResponse(batchKey, batch, maxResponseSize);
+  }
+
+  /**
+   * Splits the activated jobs of a broker response: the first {@code requestedAmount} jobs are
+   * returned for the request, the remaining ones are buffered. Jobs which do not fit into the
+   * buffer are passed to {@code release} right away.
+   *
+   * @return the jobs to hand out to the request; this is the given batch itself if there are no
+   *     excess jobs
+   */
+  public JobBatchRecord offer(
+      final Key key,
+      final long batchKey,
+      final JobBatchRecord activated,
+      final int requestedAmount,
+      final long now,
+      final ObjLongConsumer<Key> release) {
+    if (activated.getJobKeys().size() <= requestedAmount) {
+      return activated;
+    }
+
+    final var forRequest = new JobBatchRecord();
+    forRequest.setTruncated(activated.getTruncated());
+    final var deadline = now + timeToLiveFor(key);
+    final var jobs = buffers.computeIfAbsent(key, k -> new ArrayDeque<>());
+    final Iterator<LongValue> jobKeys = activated.jobKeys().iterator();
+    final Iterator<JobRecord> records = activated.jobs().iterator();
+
+    int index = 0;
+    int buffered = 0;
+    int released = 0;
+    while (jobKeys.hasNext() && records.hasNext()) {
+      final long jobKey = jobKeys.next().getValue();
+      final JobRecord record = records.next();
+
+      if (index < requestedAmount) {
+        forRequest.jobKeys().add().setValue(jobKey);
+        forRequest.jobs().add().wrap(record);
+      } else if (jobs.size() < capacity) {
+        jobs.addLast(new BufferedJob(jobKey, batchKey, BufferUtil.createCopy(record), deadline));
+        buffered++;
+      } else {
+        release.accept(key, jobKey);
+        released++;
+      }
+      index++;
+    }
+
+    if (jobs.isEmpty()) {
+      buffers.remove(key);
+    }
+    metrics.jobsBuffered(buffered);
+    if (released > 0) {
+      metrics.jobsWasted(released);
+    }
+    return forRequest;
+  }
+
+  /** Removes all expired jobs from the buffer and passes them to {@code release}. */
+  public void expire(final long now, final ObjLongConsumer<Key> release) {
+    final var iterator = buffers.entrySet().iterator();
+    int expired = 0;
+
+    while (iterator.hasNext()) {
+      final var entry = iterator.next();
+      final var jobs = entry.getValue();
+      // jobs are appended with the same time to live per key, so the oldest is always first
+      while (!jobs.isEmpty() && jobs.peekFirst().deadline() <= now) {
+        release.accept(entry.getKey(), jobs.pollFirst().key());
+        expired++;
+      }
+
+      if (jobs.isEmpty()) {
+        iterator.remove();
+      }
+    }
+
+    if (expired > 0) {
+      metrics.jobsWasted(expired);
+    }
+  }
+
+  /** Removes all jobs from the buffer, expired or not, and passes them to {@code release}. */
+  public void clear(final ObjLongConsumer<Key> release) {
+    int cleared = 0;
+    for (final var entry : buffers.entrySet()) {
+      for (final var job : entry.getValue()) {
+        release.accept(entry.getKey(), job.key());
+        cleared++;
+      }
+    }
+
+    buffers.clear();
+    if (cleared > 0) {
+      metrics.jobsWasted(cleared);
+    }
+  }
+
+  private long timeToLiveFor(final Key key) {
+    return Math.min(timeToLiveMillis, key.timeout() / 2);
+  }
+
+  /**
+   * Identifies which activation requests can share buffered jobs. Jobs are activated for a specific
+   * worker, job timeout, set of variables, tenants and authorization, so only requests which agree
+   * on all of these may be served the same jobs.
+   */
+  public record Key(
+      String type,
+      String worker,
+      long timeout,
+      List<String> fetchVariables,
+      List<String> tenantIds,
+      Map<String, Object> claims) {
+
+    public static Key of(final BrokerActivateJobsRequest request) {
+      final var record = request.getRequestWriter();
+      final var fetchVariables = new ArrayList<String>();
+      for (final StringValue variable : record.variables()) {
+        fetchVariables.add(bufferAsString(variable.getValue()));
+      }
+
+      return new Key(
+          record.getType(),
+          record.getWorker(),
+          record.getTimeout(),
+          fetchVariables,
+          record.getTenantIds(),
+          request.getAuthorization().getClaims());
+    }
+  }
+
+  private record BufferedJob(long key, long batchKey, DirectBuffer record, long deadline) {}
+}
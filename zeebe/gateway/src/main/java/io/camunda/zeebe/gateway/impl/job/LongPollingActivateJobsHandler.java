@@ -63,11 +63,16 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Exception> resourceExhaustedExceptionProvider,
       final Function<String, Throwable> requestCanceledExceptionProvider,
-      final LongPollingMetrics metrics) {
+      final LongPollingMetrics metrics,
+      final JobActivationBuffer activationBuffer) {
     this.brokerClient = brokerClient;
     activateJobsHandler =
         new RoundRobinActivateJobsHandler<>(
-            brokerClient, maxMessageSize, activationResultMapper, requestCanceledExceptionProvider);
+            brokerClient,
+            maxMessageSize,
+            activationResultMapper,
+            requestCanceledExceptionProvider,
+            activationBuffer);
     this.resourceExhaustedExceptionProvider = resourceExhaustedExceptionProvider;
     this.longPollingTimeout = Duration.ofMillis(longPollingTimeout);
     this.probeTimeoutMillis = probeTimeoutMillis;
@@ -82,6 +87,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     onActorStarted();
   }
 
+  @Override
+  public void onActorClosing() {
+    activateJobsHandler.onActorClosing();
+  }
+
   void onActorStarted() {
     actor.run(
         () -> {
@@ -385,6 +395,7 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
     private Function<String, Exception> resourceExhaustedExceptionProvider;
     private Function<String, Throwable> requestCanceledExceptionProvider;
     private LongPollingMetrics metrics;
+    private JobActivationBuffer activationBuffer = JobActivationBuffer.disabled();
 
     public Builder<T> setBrokerClient(final BrokerClient brokerClient) {
       this.brokerClient = brokerClient;
@@ -434,6 +445,11 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
       return this;
     }
 
+    public Builder<T> setActivationBuffer(final JobActivationBuffer activationBuffer) {
+      this.activationBuffer = activationBuffer;
+      return this;
+    }
+
     public LongPollingActivateJobsHandler<T> build() {
       Objects.requireNonNull(brokerClient, "brokerClient");
       return new LongPollingActivateJobsHandler<>(
@@ -445,7 +461,8 @@ public final class LongPollingActivateJobsHandler<T> implements ActivateJobsHand
           activationResultMapper,
           resourceExhaustedExceptionProvider,
           requestCanceledExceptionProvider,
-          metrics);
+          metrics,
+          activationBuffer);
     }
   }
 }
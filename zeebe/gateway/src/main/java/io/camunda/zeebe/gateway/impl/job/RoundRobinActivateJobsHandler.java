@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.gateway.impl.job;
 
+import static io.camunda.zeebe.scheduler.clock.ActorClock.currentTimeMillis;
+
 import io.camunda.zeebe.broker.client.api.BrokerClient;
 import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.BrokerRejectionException;
@@ -17,11 +19,13 @@ import io.camunda.zeebe.broker.client.impl.RoundRobinDispatchStrategy;
 import io.camunda.zeebe.gateway.Loggers;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerFailJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerYieldJobRequest;
 import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.util.Either;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -32,6 +36,9 @@ import java.util.function.Function;
 /**
  * Iterates in round-robin fashion over partitions to activate jobs. Uses a map from job type to
  * partition-IDs to determine the next partition to use.
+ *
+ * <p>If a {@link JobActivationBuffer} is enabled, more jobs than requested are activated, and the
+ * excess is buffered to serve subsequent requests without contacting the brokers.
  */
 public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandler<T> {
 
@@ -47,6 +54,7 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
   private final BrokerTopologyManager topologyManager;
   private final long maxMessageSize;
   private final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper;
+  private final JobActivationBuffer buffer;
 
   private ActorControl actor;
   private final Function<String, Throwable> requestCanceledExceptionProvider;
@@ -56,16 +64,41 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
       final long maxMessageSize,
       final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
       final Function<String, Throwable> requestCanceledExceptionProvider) {
+    this(
+        brokerClient,
+        maxMessageSize,
+        activationResultMapper,
+        requestCanceledExceptionProvider,
+        JobActivationBuffer.disabled());
+  }
+
+  public RoundRobinActivateJobsHandler(
+      final BrokerClient brokerClient,
+      final long maxMessageSize,
+      final Function<JobActivationResponse, JobActivationResult<T>> activationResultMapper,
+      final Function<String, Throwable> requestCanceledExceptionProvider,
+      final JobActivationBuffer buffer) {
     this.brokerClient = brokerClient;
     topologyManager = brokerClient.getTopologyManager();
     this.maxMessageSize = maxMessageSize;
     this.activationResultMapper = activationResultMapper;
     this.requestCanceledExceptionProvider = requestCanceledExceptionProvider;
+    this.buffer = buffer;
   }
 
   @Override
   public void accept(final ActorControl actor) {
     this.actor = actor;
+    if (buffer.isEnabled()) {
+      final var expiryInterval = Math.max(1, buffer.getTimeToLive().toMillis() / 2);
+      actor.runAtFixedRate(Duration.ofMillis(expiryInterval), this::yieldExpiredJobs);
+    }
+  }
+
+  /** Yields all buffered jobs back to the brokers, so they can be activated by other gateways. */
+  @Override
+  public void onActorClosing() {
+    buffer.clear(this::yieldJob);
   }
 
   @Override
@@ -103,7 +136,44 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         new InflightActivateJobsRequestState(partitionIterator, maxJobsToActivate);
     final var delegate = new ResponseObserverDelegate(onError, onCompleted);
 
-    activateJobs(request, requestState, delegate);
+    if (buffer.isEnabled()) {
+      actor.run(
+          () -> {
+            if (!activateBufferedJobs(request, delegate)) {
+              activateJobs(request, requestState, delegate);
+            }
+          });
+    } else {
+      activateJobs(request, requestState, delegate);
+    }
+  }
+
+  /**
+   * Serves the request from the buffer, if there are any buffered jobs for it.
+   *
+   * @return true if the request was handled, false if it should be sent to the brokers
+   */
+  private boolean activateBufferedJobs(
+      final InflightActivateJobsRequest<T> request, final ResponseObserverDelegate delegate) {
+    if (!request.isOpen()) {
+      return true;
+    }
+
+    final var activationResponse =
+        buffer.poll(
+            request.getBufferKey(),
+            request.getMaxJobsToActivate(),
+            maxMessageSize,
+            currentTimeMillis());
+    if (activationResponse == null) {
+      return false;
+    }
+
+    final var jobsCount = sendActivatedJobs(request, delegate, activationResponse);
+    if (jobsCount >= 0) {
+      delegate.onCompleted(request.getMaxJobsToActivate() - jobsCount, false);
+    }
+    return true;
   }
 
   private void activateJobs(
@@ -120,10 +190,12 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
             final var brokerRequest = request.getRequest();
             final var partitionId = requestState.getNextPartition();
             final var remainingAmount = requestState.getRemainingAmount();
+            final var excessAmount =
+                buffer.isEnabled() ? buffer.getFreeCapacity(request.getBufferKey()) : 0;
 
             // partitions to check and jobs to activate left
             brokerRequest.setPartitionId(partitionId);
-            brokerRequest.setMaxJobsToActivate(remainingAmount);
+            brokerRequest.setMaxJobsToActivate(remainingAmount + excessAmount);
 
             brokerClient
                 .sendRequest(brokerRequest)
@@ -159,38 +231,25 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
     actor.run(
         () -> {
           final var response = brokerResponse.getResponse();
-          final JobActivationResult<T> jobActivationResult =
-              activationResultMapper.apply(
-                  new JobActivationResponse(brokerResponse.getKey(), response, maxMessageSize));
-
-          final List<ActivatedJob> jobsToDefer = jobActivationResult.getJobsToDefer();
-          if (!jobsToDefer.isEmpty()) {
-            final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
-            final var jobType = request.getType();
-            final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
-
-            logResponseNotSent(jobType, jobKeys, reason);
-            reactivateJobs(jobsToDefer, reason);
-          }
-
-          final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
-          final var jobsCount = jobActivationResult.getJobsCount();
-          final var jobsActivated = jobsCount > 0;
-          if (jobsActivated) {
-            final var result = request.tryToSendActivatedJobs(activateJobsResponse);
-            final var responseWasSent = result.getOrElse(false);
-
-            if (!responseWasSent) {
-              final var activatedJobsToReactivate = jobActivationResult.getJobs();
-              final var jobKeys = response.getJobKeys();
-              final var jobType = request.getType();
-              final var reason = createReasonMessage(result);
-
-              logResponseNotSent(jobType, jobKeys, reason);
-              reactivateJobs(activatedJobsToReactivate, reason);
-              cancelActivateJobsRequest(reason, delegate);
-              return;
-            }
+          final var jobsForRequest =
+              buffer.isEnabled()
+                  ? buffer.offer(
+                      request.getBufferKey(),
+                      brokerResponse.getKey(),
+                      response,
+                      requestState.getRemainingAmount(),
+                      currentTimeMillis(),
+                      this::yieldJob)
+                  : response;
+
+          final var jobsCount =
+              sendActivatedJobs(
+                  request,
+                  delegate,
+                  new JobActivationResponse(
+                      brokerResponse.getKey(), jobsForRequest, maxMessageSize));
+          if (jobsCount < 0) {
+            return;
           }
 
           final var remainingJobsToActivate = requestState.getRemainingAmount() - jobsCount;
@@ -202,6 +261,52 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
         });
   }
 
+  /**
+   * Sends the activated jobs to the client. Jobs which exceed the maximum message size, or which
+   * cannot be sent at all, are reactivated.
+   *
+   * @return the number of jobs sent to the client, or -1 if the request was canceled
+   */
+  private int sendActivatedJobs(
+      final InflightActivateJobsRequest<T> request,
+      final ResponseObserverDelegate delegate,
+      final JobActivationResponse activationResponse) {
+    final JobActivationResult<T> jobActivationResult =
+        activationResultMapper.apply(activationResponse);
+
+    final List<ActivatedJob> jobsToDefer = jobActivationResult.getJobsToDefer();
+    if (!jobsToDefer.isEmpty()) {
+      final var jobKeys = jobsToDefer.stream().map(ActivatedJob::key).toList();
+      final var jobType = request.getType();
+      final var reason = String.format(MAX_MESSAGE_SIZE_EXCEEDED_MSG, maxMessageSize);
+
+      logResponseNotSent(jobType, jobKeys, reason);
+      reactivateJobs(jobsToDefer, reason);
+    }
+
+    final T activateJobsResponse = jobActivationResult.getActivateJobsResponse();
+    final var jobsCount = jobActivationResult.getJobsCount();
+    final var jobsActivated = jobsCount > 0;
+    if (jobsActivated) {
+      final var result = request.tryToSendActivatedJobs(activateJobsResponse);
+      final var responseWasSent = result.getOrElse(false);
+
+      if (!responseWasSent) {
+        final var activatedJobsToReactivate = jobActivationResult.getJobs();
+        final var jobKeys = activationResponse.brokerResponse().getJobKeys();
+        final var jobType = request.getType();
+        final var reason = createReasonMessage(result);
+
+        logResponseNotSent(jobType, jobKeys, reason);
+        reactivateJobs(activatedJobsToReactivate, reason);
+        cancelActivateJobsRequest(reason, delegate);
+        return -1;
+      }
+    }
+
+    return jobsCount;
+  }
+
   private String createReasonMessage(final Either<Exception, Boolean> resultValue) {
     final String errorMessage;
     if (resultValue.isLeft()) {
@@ -232,6 +337,24 @@ public final class RoundRobinActivateJobsHandler<T> implements ActivateJobsHandl
             });
   }
 
+  private void yieldExpiredJobs() {
+    buffer.expire(currentTimeMillis(), this::yieldJob);
+  }
+
+  private void yieldJob(final JobActivationBuffer.Key bufferKey, final long jobKey) {
+    final var request = new BrokerYieldJobRequest(jobKey);
+    request.setAuthorization(bufferKey.claims());
+    brokerClient
+        .sendRequestWithRetry(request)
+        .whenComplete(
+            (response, error) -> {
+              if (error != null) {
+                Loggers.GATEWAY_LOGGER.info(
+                    "Failed to yield buffered job {} due to {}", jobKey, error.getMessage());
+              }
+            });
+  }
+
   private BrokerFailJobRequest toFailJobRequest(final ActivatedJob job, final String errorMessage) {
     return new BrokerFailJobRequest(job.key(), job.retries(), 0).setErrorMessage(errorMessage);
   }
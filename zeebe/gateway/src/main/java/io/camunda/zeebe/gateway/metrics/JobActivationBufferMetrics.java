@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.GatewayKeyNames;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.GatewayProtocol;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/** Metrics to monitor how effective the buffer of over-activated jobs is. */
+public sealed class JobActivationBufferMetrics {
+
+  private final Counter buffered;
+  private final Counter hits;
+  private final Counter wasted;
+
+  public JobActivationBufferMetrics(
+      final MeterRegistry registry, final GatewayProtocol gatewayProtocol) {
+    buffered = counter(registry, gatewayProtocol, JobActivationBufferMetricsDoc.BUFFERED);
+    hits = counter(registry, gatewayProtocol, JobActivationBufferMetricsDoc.HITS);
+    wasted = counter(registry, gatewayProtocol, JobActivationBufferMetricsDoc.WASTED);
+  }
+
+  private JobActivationBufferMetrics() {
+    buffered = null;
+    hits = null;
+    wasted = null;
+  }
+
+  /**
+   * Returns an instance of {@link JobActivationBufferMetrics} which does nothing. Mostly useful for
+   * testing.
+   */
+  public static JobActivationBufferMetrics noop() {
+    return new Noop();
+  }
+
+  /** Counts jobs which were activated in excess and added to the buffer */
+  public void jobsBuffered(final int count) {
+    buffered.increment(count);
+  }
+
+  /** Counts buffered jobs which were handed out to a request */
+  public void bufferHits(final int count) {
+    hits.increment(count);
+  }
+
+  /** Counts buffered jobs which expired before any request picked them up */
+  public void jobsWasted(final int count) {
+    wasted.increment(count);
+  }
+
+  private static Counter counter(
+      final MeterRegistry registry,
+      final GatewayProtocol gatewayProtocol,
+      final JobActivationBufferMetricsDoc doc) {
+    return Counter.builder(doc.getName())
+        .description(doc.getDescription())
+        .tag(GatewayKeyNames.GATEWAY_PROTOCOL.asString(), gatewayProtocol.value())
+        .register(registry);
+  }
+
+  private static final class Noop extends JobActivationBufferMetrics {
+
+    @Override
+    public void jobsBuffered(final int count) {}
+
+    @Override
+    public void bufferHits(final int count) {}
+
+    @Override
+    public void jobsWasted(final int count) {}
+  }
+}
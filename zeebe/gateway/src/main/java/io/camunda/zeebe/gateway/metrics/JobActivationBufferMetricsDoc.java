@@ -0,0 +1,86 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.metrics;
+
+import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.GatewayKeyNames;
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+
+/** Metrics to tune the gateway side buffer of over-activated jobs */
+@SuppressWarnings("NullableProblems")
+public enum JobActivationBufferMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of jobs activated in excess of a request and kept in the buffer */
+  BUFFERED {
+    @Override
+    public String getDescription() {
+      return "Number of jobs activated in excess of a request and kept in the buffer";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.gateway.job.activation.buffer.buffered";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return GatewayKeyNames.values();
+    }
+  },
+
+  /** Number of buffered jobs handed out to activation requests */
+  HITS {
+    @Override
+    public String getDescription() {
+      return "Number of buffered jobs handed out to activation requests";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.gateway.job.activation.buffer.hits";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return GatewayKeyNames.values();
+    }
+  },
+
+  /** Number of buffered jobs which expired and were yielded back to the broker */
+  WASTED {
+    @Override
+    public String getDescription() {
+      return "Number of buffered jobs which expired and were yielded back to the broker";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.gateway.job.activation.buffer.wasted";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return GatewayKeyNames.values();
+    }
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.metrics.JobActivationBufferMetrics;
+import io.camunda.zeebe.gateway.metrics.JobActivationBufferMetricsDoc;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.GatewayProtocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.Test;
+
+final class JobActivationBufferTest {
+
+  private static final long JOB_TIMEOUT = 10_000;
+  private static final long TIME_TO_LIVE = 1_000;
+  private static final long MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final JobActivationBuffer buffer =
+      new JobActivationBuffer(
+          3,
+          Duration.ofMillis(TIME_TO_LIVE),
+          new JobActivationBufferMetrics(registry, GatewayProtocol.GRPC));
+  private final JobActivationBuffer.Key key = keyOf("foo", JOB_TIMEOUT);
+  private final List<Long> released = new ArrayList<>();
+
+  @Test
+  void shouldHandOutBatchAsIsWithoutExcessJobs() {
+    // given
+    final var activated = activatedJobs(1, 2);
+
+    // when
+    final var forRequest = buffer.offer(key, 1, activated, 2, 0, this::release);
+
+    // then
+    assertThat(forRequest).isSameAs(activated);
+    assertThat(buffer.poll(key, 10, MAX_MESSAGE_SIZE, 0)).isNull();
+  }
+
+  @Test
+  void shouldBufferExcessJobs() {
+    // given
+    final var forRequest = buffer.offer(key, 1, activatedJobs(1, 2, 3), 1, 0, this::release);
+
+    // when
+    final var fromBuffer = buffer.poll(key, 10, MAX_MESSAGE_SIZE, 10);
+
+    // then
+    assertThat(forRequest.getJobKeys()).containsExactly(1L);
+    assertThat(fromBuffer).isNotNull();
+    assertThat(fromBuffer.brokerResponse().getJobKeys()).containsExactly(2L, 3L);
+    assertThat(buffer.poll(key, 10, MAX_MESSAGE_SIZE, 10)).isNull();
+    assertThat(counter(JobActivationBufferMetricsDoc.BUFFERED)).isEqualTo(2);
+    assertThat(counter(JobActivationBufferMetricsDoc.HITS)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldHandOutAtMostTheRequestedAmount() {
+    // given
+    buffer.offer(key, 1, activatedJobs(1, 2, 3), 1, 0, this::release);
+
+    // when
+    final var fromBuffer = buffer.poll(key, 1, MAX_MESSAGE_SIZE, 10);
+
+    // then
+    assertThat(fromBuffer.brokerResponse().getJobKeys()).containsExactly(2L);
+    assertThat(buffer.getFreeCapacity(key)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotServeRequestsWithOtherProperties() {
+    // given
+    buffer.offer(key, 1, activatedJobs(1, 2), 1, 0, this::release);
+
+    // when
+    final var otherType = buffer.poll(keyOf("bar", JOB_TIMEOUT), 10, MAX_MESSAGE_SIZE, 10);
+    final var otherTimeout = buffer.poll(keyOf("foo", 2 * JOB_TIMEOUT), 10, MAX_MESSAGE_SIZE, 10);
+
+    // then
+    assertThat(otherType).isNull();
+    assertThat(otherTimeout).isNull();
+  }
+
+  @Test
+  void shouldReleaseJobsExceedingCapacity() {
+    // when
+    buffer.offer(key, 1, activatedJobs(1, 2, 3, 4, 5), 1, 0, this::release);
+
+    // then
+    assertThat(released).containsExactly(5L);
+    assertThat(buffer.getFreeCapacity(key)).isZero();
+    assertThat(counter(JobActivationBufferMetricsDoc.WASTED)).isEqualTo(1);
+  }
+
+  @Test
+  void shouldReleaseExpiredJobs() {
+    // given
+    buffer.offer(key, 1, activatedJobs(1, 2, 3), 1, 0, this::release);
+
+    // when
+    buffer.expire(TIME_TO_LIVE, this::release);
+
+    // then
+    assertThat(released).containsExactly(2L, 3L);
+    assertThat(buffer.poll(key, 10, MAX_MESSAGE_SIZE, TIME_TO_LIVE)).isNull();
+    assertThat(buffer.getFreeCapacity(key)).isEqualTo(3);
+    assertThat(counter(JobActivationBufferMetricsDoc.WASTED)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotHandOutExpiredJobs() {
+    // given
+    buffer.offer(key, 1, activatedJobs(1, 2), 1, 0, this::release);
+
+    // when
+    final var fromBuffer = buffer.poll(key, 10, MAX_MESSAGE_SIZE, TIME_TO_LIVE);
+
+    // then
+    assertThat(fromBuffer).isNull();
+  }
+
+  @Test
+  void shouldBufferJobsForAtMostHalfOfTheJobTimeout() {
+    // given
+    final var shortTimeoutKey = keyOf("foo", 100);
+    buffer.offer(shortTimeoutKey, 1, activatedJobs(1, 2), 1, 0, this::release);
+
+    // when
+    buffer.expire(50, this::release);
+
+    // then
+    assertThat(released).containsExactly(2L);
+  }
+
+  @Test
+  void shouldNotActivateExcessJobsWhenDisabled() {
+    // given
+    final var disabled = JobActivationBuffer.disabled();
+
+    // then
+    assertThat(disabled.isEnabled()).isFalse();
+    assertThat(disabled.getFreeCapacity(key)).isZero();
+  }
+
+  private void release(final JobActivationBuffer.Key bufferKey, final long jobKey) {
+    released.add(jobKey);
+  }
+
+  private double counter(final JobActivationBufferMetricsDoc meter) {
+    return registry.get(meter.getName()).counter().count();
+  }
+
+  private static JobActivationBuffer.Key keyOf(final String type, final long timeout) {
+    final var request =
+        new BrokerActivateJobsRequest(type)
+            .setWorker("worker")
+            .setTimeout(timeout)
+            .setVariables(List.of("a"))
+            .setTenantIds(List.of("<default>"));
+    return JobActivationBuffer.Key.of(request);
+  }
+
+  private static JobBatchRecord activatedJobs(final long... jobKeys) {
+    final var batch = new JobBatchRecord().setType("foo").setWorker("worker");
+    LongStream.of(jobKeys)
+        .forEach(
+            jobKey -> {
+              batch.jobKeys().add().setValue(jobKey);
+              batch.jobs().add().setType("foo").setWorker("worker").setRetries(3);
+            });
+    return batch;
+  }
+}
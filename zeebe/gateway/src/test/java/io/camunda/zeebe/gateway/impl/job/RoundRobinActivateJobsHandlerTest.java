@@ -0,0 +1,221 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.gateway.impl.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.gateway.api.job.ActivateJobsStub;
+import io.camunda.zeebe.gateway.api.util.StubbedBrokerClient;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerYieldJobRequest;
+import io.camunda.zeebe.gateway.impl.job.JobActivationResult.ActivatedJob;
+import io.camunda.zeebe.gateway.metrics.JobActivationBufferMetrics;
+import io.camunda.zeebe.gateway.metrics.LongPollingMetricsDoc.GatewayProtocol;
+import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.testing.ControlledActorSchedulerExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+final class RoundRobinActivateJobsHandlerTest {
+
+  private static final String JOB_TYPE = "foo";
+  private static final int BUFFER_SIZE = 3;
+  private static final Duration TIME_TO_LIVE = Duration.ofSeconds(1);
+  private static final long JOB_TIMEOUT = 10_000;
+  private static final long MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+  @RegisterExtension
+  private final ControlledActorSchedulerExtension actorScheduler =
+      new ControlledActorSchedulerExtension();
+
+  private final StubbedBrokerClient brokerClient = new StubbedBrokerClient();
+  private final ActivateJobsStub activateJobsStub = new ActivateJobsStub();
+  private final RoundRobinActivateJobsHandler<List<Long>> handler =
+      new RoundRobinActivateJobsHandler<>(
+          brokerClient,
+          MAX_MESSAGE_SIZE,
+          RoundRobinActivateJobsHandlerTest::toJobKeys,
+          RuntimeException::new,
+          new JobActivationBuffer(
+              BUFFER_SIZE,
+              TIME_TO_LIVE,
+              new JobActivationBufferMetrics(new SimpleMeterRegistry(), GatewayProtocol.GRPC)));
+  private final Actor actor =
+      Actor.newActor()
+          .actorStartedHandler(handler)
+          .actorClosingHandler(handler::onActorClosing)
+          .build();
+
+  @BeforeEach
+  void setup() {
+    activateJobsStub.registerWith(brokerClient);
+    brokerClient.registerHandler(
+        BrokerYieldJobRequest.class,
+        (BrokerYieldJobRequest request) ->
+            new BrokerResponse<>(
+                new JobRecord(), Protocol.decodePartitionId(request.getKey()), request.getKey()));
+    actorScheduler.submitActor(actor);
+    actorScheduler.workUntilDone();
+  }
+
+  @Test
+  void shouldActivateExcessJobsForTheBuffer() {
+    // given
+    activateJobsStub.addAvailableJobs(JOB_TYPE, 10);
+
+    // when
+    final var observer = activateJobs(2);
+
+    // then - the request is served the jobs it asked for, and the buffer is filled up
+    assertThat(activateJobsRequests())
+        .singleElement()
+        .satisfies(
+            request ->
+                assertThat(request.getRequestWriter().getMaxJobsToActivate())
+                    .isEqualTo(2 + BUFFER_SIZE));
+    assertThat(observer.jobKeys()).hasSize(2);
+    assertThat(observer.isCompleted).isTrue();
+  }
+
+  @Test
+  void shouldServeRequestFromBuffer() {
+    // given
+    activateJobsStub.addAvailableJobs(JOB_TYPE, 10);
+    final var firstJobKeys = activateJobs(2).jobKeys();
+
+    // when
+    final var observer = activateJobs(2);
+
+    // then - the buffered jobs are handed out without another round trip to the brokers
+    assertThat(activateJobsRequests()).hasSize(1);
+    assertThat(observer.jobKeys()).hasSize(2).doesNotContainAnyElementsOf(firstJobKeys);
+    assertThat(observer.isCompleted).isTrue();
+  }
+
+  @Test
+  void shouldYieldExpiredJobs() {
+    // given
+    activateJobsStub.addAvailableJobs(JOB_TYPE, 10);
+    final var handedOut = activateJobs(2).jobKeys();
+
+    // when
+    actorScheduler.updateClock(TIME_TO_LIVE.multipliedBy(2));
+    actorScheduler.workUntilDone();
+
+    // then - the buffered jobs are given back, and no longer handed out
+    assertThat(yieldedJobKeys()).hasSize(BUFFER_SIZE).doesNotContainAnyElementsOf(handedOut);
+    activateJobsStub.addAvailableJobs(JOB_TYPE, 0);
+    assertThat(activateJobs(2).jobKeys()).isEmpty();
+  }
+
+  @Test
+  void shouldYieldBufferedJobsOnClose() {
+    // given
+    activateJobsStub.addAvailableJobs(JOB_TYPE, 10);
+    final var handedOut = activateJobs(2).jobKeys();
+
+    // when
+    actor.closeAsync();
+    actorScheduler.workUntilDone();
+
+    // then
+    assertThat(yieldedJobKeys()).hasSize(BUFFER_SIZE).doesNotContainAnyElementsOf(handedOut);
+  }
+
+  private TestResponseObserver activateJobs(final int maxJobsToActivate) {
+    final var observer = new TestResponseObserver();
+    final var request =
+        new BrokerActivateJobsRequest(JOB_TYPE)
+            .setWorker("worker")
+            .setTimeout(JOB_TIMEOUT)
+            .setMaxJobsToActivate(maxJobsToActivate);
+
+    handler.activateJobs(request, observer, cancelHandler -> {}, JOB_TIMEOUT);
+    actorScheduler.workUntilDone();
+    return observer;
+  }
+
+  private List<BrokerActivateJobsRequest> activateJobsRequests() {
+    return brokerClient.getBrokerRequests().stream()
+        .filter(BrokerActivateJobsRequest.class::isInstance)
+        .map(BrokerActivateJobsRequest.class::cast)
+        .toList();
+  }
+
+  private List<Long> yieldedJobKeys() {
+    return brokerClient.getBrokerRequests().stream()
+        .filter(BrokerYieldJobRequest.class::isInstance)
+        .map(BrokerYieldJobRequest.class::cast)
+        .map(BrokerYieldJobRequest::getKey)
+        .toList();
+  }
+
+  private static JobActivationResult<List<Long>> toJobKeys(final JobActivationResponse response) {
+    final List<Long> jobKeys = new ArrayList<>(response.brokerResponse().getJobKeys());
+    return new JobActivationResult<>() {
+      @Override
+      public int getJobsCount() {
+        return jobKeys.size();
+      }
+
+      @Override
+      public List<ActivatedJob> getJobs() {
+        return jobKeys.stream()
+            .map(key -> new ActivatedJob(key, ActivateJobsStub.RETRIES))
+            .toList();
+      }
+
+      @Override
+      public List<Long> getActivateJobsResponse() {
+        return jobKeys;
+      }
+
+      @Override
+      public List<ActivatedJob> getJobsToDefer() {
+        return List.of();
+      }
+    };
+  }
+
+  private static final class TestResponseObserver implements ResponseObserver<List<Long>> {
+    private final List<List<Long>> responses = new ArrayList<>();
+    private boolean isCompleted;
+
+    @Override
+    public void onCompleted() {
+      isCompleted = true;
+    }
+
+    @Override
+    public void onNext(final List<Long> element) {
+      responses.add(element);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+      throw new AssertionError("Expected to activate jobs, but failed", throwable);
+    }
+
+    private List<Long> jobKeys() {
+      return responses.stream().flatMap(List::stream).toList();
+    }
+  }
+}
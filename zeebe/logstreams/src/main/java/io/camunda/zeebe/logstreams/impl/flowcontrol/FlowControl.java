@@ -22,6 +22,7 @@ import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
@@ -128,7 +129,7 @@ public final class FlowControl implements AppendListener {
 
   private Either<Rejection, InFlightEntry> tryAcquireInternal(
       final WriteContext context, final List<LogAppendEntryMetadata> batchMetadata) {
-    Listener requestListener = null;
+    List<Listener> requestListeners = List.of();
     var alwaysAllowed = false;
     switch (context) {
       case final Internal ignored -> {
@@ -137,9 +138,15 @@ public final class FlowControl implements AppendListener {
       }
       case UserCommand(final var intent) -> {
         alwaysAllowed = WhiteListedCommands.isWhitelisted(intent);
-        requestListener = processingLimiter.acquire(intent).orElse(null);
-        if (requestListener == null) {
-          return Either.left(Rejection.RequestLimitExhausted);
+        // every command of a batch is a request on its own, so each one needs its own slot
+        requestListeners = new ArrayList<>(batchMetadata.size());
+        for (int i = 0; i < batchMetadata.size(); i++) {
+          final var requestListener = processingLimiter.acquire(intent).orElse(null);
+          if (requestListener == null) {
+            requestListeners.forEach(Listener::onIgnore);
+            return Either.left(Rejection.RequestLimitExhausted);
+          }
+          requestListeners.add(requestListener);
         }
       }
       default -> {}
@@ -147,13 +154,11 @@ public final class FlowControl implements AppendListener {
 
     if (writeRateLimiter != null
         && (!writeRateLimiter.tryAcquire(batchMetadata.size()) && !alwaysAllowed)) {
-      if (requestListener != null) {
-        requestListener.onIgnore();
-      }
+      requestListeners.forEach(Listener::onIgnore);
       return Either.left(Rejection.WriteRateLimitExhausted);
     }
 
-    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListener));
+    return Either.right(new InFlightEntry(metrics, batchMetadata, requestListeners));
   }
 
   public void onAppend(final InFlightEntry entry, final long highestPosition) {
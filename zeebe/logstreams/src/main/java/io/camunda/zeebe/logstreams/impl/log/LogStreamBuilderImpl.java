@@ -25,6 +25,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private InstantSource clock;
   private Limit requestLimit;
   private RateLimit writeRateLimit;
+  private double requestLatencySamplingRate;
   private MeterRegistry meterRegistry;
 
   @Override
@@ -69,6 +70,12 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withRequestLatencySamplingRate(final double samplingRate) {
+    requestLatencySamplingRate = samplingRate;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withMeterRegistry(final MeterRegistry meterRegistry) {
     this.meterRegistry = meterRegistry;
@@ -87,6 +94,7 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
         clock,
         requestLimit,
         writeRateLimit,
+        requestLatencySamplingRate,
         meterRegistry);
   }
 
@@ -101,5 +109,11 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
               "Expected fragment size to be at least '%d', but was '%d'",
               MINIMUM_FRAGMENT_SIZE, maxFragmentSize));
     }
+
+    if (requestLatencySamplingRate < 0 || requestLatencySamplingRate > 1) {
+      throw new IllegalArgumentException(
+          "Expected request latency sampling rate to be between 0 and 1, but was '%s'"
+              .formatted(requestLatencySamplingRate));
+    }
   }
 }
@@ -12,6 +12,7 @@ import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.Loggers;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyTracer;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
@@ -35,6 +36,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
   private final int partitionId;
   private final LogStorage logStorage;
   private final FlowControl flowControl;
+  private final RequestLatencyTracer requestLatencyTracer;
   private final Sequencer sequencer;
   private volatile boolean closed;
 
@@ -46,6 +48,7 @@ public final class LogStreamImpl implements LogStream, CommitListener {
       final InstantSource clock,
       final Limit requestLimit,
       final RateLimit writeRateLimit,
+      final double requestLatencySamplingRate,
       final MeterRegistry meterRegistry) {
     this.logName = logName;
 
@@ -53,6 +56,10 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     this.logStorage = logStorage;
     flowControl =
         new FlowControl(new LogStreamMetrics(meterRegistry), requestLimit, writeRateLimit);
+    requestLatencyTracer =
+        requestLatencySamplingRate > 0
+            ? new RequestLatencyTracer(requestLatencySamplingRate, meterRegistry)
+            : RequestLatencyTracer.disabled();
     sequencer =
         new Sequencer(
             logStorage,
@@ -60,7 +67,8 @@ public final class LogStreamImpl implements LogStream, CommitListener {
             maxFragmentSize,
             clock,
             new SequencerMetrics(meterRegistry),
-            flowControl);
+            flowControl,
+            requestLatencyTracer);
     logStorage.addCommitListener(this);
   }
 
@@ -99,6 +107,11 @@ public final class LogStreamImpl implements LogStream, CommitListener {
     return flowControl;
   }
 
+  @Override
+  public RequestLatencyTracer getRequestLatencyTracer() {
+    return requestLatencyTracer;
+  }
+
   @Override
   public void registerRecordAvailableListener(final LogRecordAwaiter recordAwaiter) {
     ensureOpen();
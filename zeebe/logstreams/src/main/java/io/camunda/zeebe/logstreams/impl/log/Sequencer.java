@@ -15,10 +15,12 @@ import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.InFlightEntry;
 import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyTracer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.logstreams.log.WriteContext;
 import io.camunda.zeebe.logstreams.storage.LogStorage;
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
 import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
 import java.time.InstantSource;
@@ -44,6 +46,7 @@ final class Sequencer implements LogStreamWriter, Closeable {
   private final InstantSource clock;
   private final SequencerMetrics sequencerMetrics;
   private final FlowControl flowControl;
+  private final AppendListener appendListener;
 
   Sequencer(
       final LogStorage logStorage,
@@ -52,6 +55,24 @@ final class Sequencer implements LogStreamWriter, Closeable {
       final InstantSource clock,
       final SequencerMetrics sequencerMetrics,
       final FlowControl flowControl) {
+    this(
+        logStorage,
+        initialPosition,
+        maxFragmentSize,
+        clock,
+        sequencerMetrics,
+        flowControl,
+        RequestLatencyTracer.disabled());
+  }
+
+  Sequencer(
+      final LogStorage logStorage,
+      final long initialPosition,
+      final int maxFragmentSize,
+      final InstantSource clock,
+      final SequencerMetrics sequencerMetrics,
+      final FlowControl flowControl,
+      final RequestLatencyTracer requestLatencyTracer) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     this.logStorage = logStorage;
     this.clock = Objects.requireNonNull(clock);
@@ -60,6 +81,7 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.sequencerMetrics =
         Objects.requireNonNull(sequencerMetrics, "must specify sequencer metrics");
     this.flowControl = flowControl;
+    appendListener = requestLatencyTracer.wrap(flowControl);
   }
 
   /** {@inheritDoc} */
@@ -115,7 +137,7 @@ final class Sequencer implements LogStreamWriter, Closeable {
           new SequencedBatch(
               clock.millis(), currentPosition, sourcePosition, appendEntries, batchLength);
       flowControl.onAppend(inFlightEntry, highestPosition);
-      logStorage.append(currentPosition, highestPosition, sequencedBatch, flowControl);
+      logStorage.append(currentPosition, highestPosition, sequencedBatch, appendListener);
       position = currentPosition + batchSize;
       return Either.right(highestPosition);
     } finally {
@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.tracing;
+
+import static io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.STAGE_LATENCY;
+
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyKeyNames;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyStage;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+final class RequestLatencyMetrics {
+  private final Map<RequestLatencyStage, Timer> stageLatencies =
+      new EnumMap<>(RequestLatencyStage.class);
+
+  RequestLatencyMetrics(final MeterRegistry registry) {
+    for (final var stage : RequestLatencyStage.values()) {
+      stageLatencies.put(
+          stage,
+          MicrometerUtil.buildTimer(STAGE_LATENCY)
+              .tag(RequestLatencyKeyNames.STAGE.asString(), stage.getValue())
+              .register(registry));
+    }
+  }
+
+  /**
+   * Records the time between the given monotonic timestamps for the stage, unless one of them was
+   * never observed.
+   */
+  void observe(final RequestLatencyStage stage, final long start, final long end) {
+    if (start == RequestLatencyTracer.UNSET || end == RequestLatencyTracer.UNSET) {
+      return;
+    }
+    stageLatencies.get(stage).record(Math.max(0, end - start), TimeUnit.NANOSECONDS);
+  }
+}
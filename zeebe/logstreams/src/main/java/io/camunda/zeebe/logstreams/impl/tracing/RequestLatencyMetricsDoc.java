@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.tracing;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+
+/** Metrics of the sampled request latency tracing; see {@link RequestLatencyTracer}. */
+@SuppressWarnings("NullableProblems")
+public enum RequestLatencyMetricsDoc implements ExtendedMeterDocumentation {
+  /** Time a sampled user command spent in each stage of the hot path, organized by stage */
+  STAGE_LATENCY {
+    private static final Duration[] BUCKETS = {
+      Duration.ofNanos(50_000),
+      Duration.ofNanos(100_000),
+      Duration.ofNanos(250_000),
+      Duration.ofNanos(500_000),
+      Duration.ofMillis(1),
+      Duration.ofNanos(2_500_000),
+      Duration.ofMillis(5),
+      Duration.ofMillis(10),
+      Duration.ofMillis(25),
+      Duration.ofMillis(50),
+      Duration.ofMillis(100),
+      Duration.ofMillis(250),
+      Duration.ofMillis(500),
+      Duration.ofSeconds(1),
+      Duration.ofMillis(2500),
+      Duration.ofSeconds(5)
+    };
+
+    @Override
+    public String getDescription() {
+      return "Time a sampled user command spent in each stage of the hot path, organized by stage";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.request.stage.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return RequestLatencyKeyNames.values();
+    }
+
+    @Override
+    public KeyName[] getAdditionalKeyNames() {
+      return PartitionKeyNames.values();
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return BUCKETS;
+    }
+  };
+
+  /** Tags/labels associated with the {@link #STAGE_LATENCY} metric. */
+  public enum RequestLatencyKeyNames implements KeyName {
+    /** The stage of the hot path; see {@link RequestLatencyStage} for possible values */
+    STAGE {
+      @Override
+      public String asString() {
+        return "stage";
+      }
+    }
+  }
+
+  /** The stages of the hot path, each spanning the time between two consecutive steps. */
+  public enum RequestLatencyStage {
+    /** From the command API receiving the request until the sequencer appended the command */
+    APPEND("append"),
+    /** From the sequencer appending the command until raft committed it */
+    COMMIT("commit"),
+    /** From raft committing the command until the stream processor started processing it */
+    PROCESSING_WAIT("processingWait"),
+    /** From the stream processor starting to process the command until it is processed */
+    PROCESSING("processing"),
+    /** From the command being processed until the response was sent */
+    RESPONSE("response"),
+    /** From the command API receiving the request until the response was sent */
+    TOTAL("total");
+
+    private final String value;
+
+    RequestLatencyStage(final String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+}
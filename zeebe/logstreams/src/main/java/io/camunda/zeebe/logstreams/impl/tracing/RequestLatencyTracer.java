@@ -0,0 +1,230 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.tracing;
+
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyStage;
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Traces a sample of user commands along the hot path of a partition: the command API receiving the
+ * request, the sequencer appending the command, raft committing it, the stream processor processing
+ * it, and finally the response being sent. Every step is timestamped with the monotonic clock of
+ * the meter registry, and once the command is processed, the time between consecutive steps is
+ * recorded per {@link RequestLatencyStage stage}.
+ *
+ * <p>Traces are kept in a side channel keyed by the position of the command, so nothing is added to
+ * the records themselves. A trace starts once the command is appended, and is removed once the
+ * command (or any later one) is processed. When tracing is disabled, all methods return right away.
+ *
+ * <h3>Thread safety</h3>
+ *
+ * Access patterns:
+ *
+ * <ol>
+ *   <li>Calls to {@link #sample()} and {@link #onAppended(long, long)} from the command API,
+ *       serialized through its actor.
+ *   <li>Calls to {@link #onCommit(long)} from the log storage, serialized through the single raft
+ *       thread.
+ *   <li>Calls to {@link #onProcessingStarted(long)}, {@link #onProcessingCompleted(long)}, {@link
+ *       #onResponseSent(long)} and {@link #onProcessed(long)} from the stream processor, serialized
+ *       through its actor.
+ * </ol>
+ *
+ * A command may be committed before the command API registered its trace, which is why {@link
+ * #onAppended(long, long)} also checks the last committed position.
+ */
+public final class RequestLatencyTracer {
+  /** Returned by {@link #sample()} when the request should not be traced. */
+  public static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  /** Marks a step of a trace which was not observed (yet). */
+  static final long UNSET = Long.MIN_VALUE;
+
+  private static final RequestLatencyTracer DISABLED = new RequestLatencyTracer();
+
+  private final double samplingRate;
+  private final Clock clock;
+  private final RequestLatencyMetrics metrics;
+  private final ConcurrentNavigableMap<Long, Trace> traces = new ConcurrentSkipListMap<>();
+  private volatile long lastCommittedPosition = -1;
+
+  /**
+   * @param samplingRate the share of user commands to trace, between 0 (disabled) and 1 (all)
+   * @param meterRegistry the registry to record the stage latencies in, and whose clock is used
+   */
+  public RequestLatencyTracer(final double samplingRate, final MeterRegistry meterRegistry) {
+    if (samplingRate < 0 || samplingRate > 1) {
+      throw new IllegalArgumentException(
+          "Expected sampling rate to be between 0 and 1, but was '%s'".formatted(samplingRate));
+    }
+
+    this.samplingRate = samplingRate;
+    clock = meterRegistry.config().clock();
+    metrics = samplingRate > 0 ? new RequestLatencyMetrics(meterRegistry) : null;
+  }
+
+  private RequestLatencyTracer() {
+    samplingRate = 0;
+    clock = null;
+    metrics = null;
+  }
+
+  /** Returns a tracer which never samples any request. */
+  public static RequestLatencyTracer disabled() {
+    return DISABLED;
+  }
+
+  public boolean isEnabled() {
+    return metrics != null;
+  }
+
+  /**
+   * Decides whether a request that was just received should be traced.
+   *
+   * @return the monotonic time at which the request was received, or {@link #NOT_SAMPLED}
+   */
+  public long sample() {
+    if (!isEnabled() || ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+      return NOT_SAMPLED;
+    }
+    return clock.monotonicTime();
+  }
+
+  /**
+   * Starts tracing a sampled command, once the sequencer appended it.
+   *
+   * @param position the position of the appended command
+   * @param receivedAt the time returned by {@link #sample()} when the request was received
+   */
+  public void onAppended(final long position, final long receivedAt) {
+    if (receivedAt == NOT_SAMPLED || !isEnabled()) {
+      return;
+    }
+
+    final var trace = new Trace(receivedAt, clock.monotonicTime());
+    traces.put(position, trace);
+    if (position <= lastCommittedPosition) {
+      trace.committedAt = trace.appendedAt;
+    }
+  }
+
+  /**
+   * Wraps the given listener, so commits of traced commands are timestamped as well. Returns the
+   * listener as is if tracing is disabled.
+   */
+  public AppendListener wrap(final AppendListener listener) {
+    if (!isEnabled()) {
+      return listener;
+    }
+
+    return new AppendListener() {
+      @Override
+      public void onWrite(final long index, final long highestPosition) {
+        listener.onWrite(index, highestPosition);
+      }
+
+      @Override
+      public void onCommit(final long index, final long highestPosition) {
+        listener.onCommit(index, highestPosition);
+        RequestLatencyTracer.this.onCommit(highestPosition);
+      }
+    };
+  }
+
+  /** Called when all entries up to the given position were committed. */
+  public void onCommit(final long highestPosition) {
+    if (!isEnabled()) {
+      return;
+    }
+
+    lastCommittedPosition = highestPosition;
+    if (traces.isEmpty()) {
+      return;
+    }
+
+    final var now = clock.monotonicTime();
+    for (final var trace : traces.headMap(highestPosition, true).values()) {
+      if (trace.committedAt == UNSET) {
+        trace.committedAt = now;
+      }
+    }
+  }
+
+  public void onProcessingStarted(final long position) {
+    final var trace = getTrace(position);
+    if (trace != null) {
+      trace.processingStartedAt = clock.monotonicTime();
+    }
+  }
+
+  public void onProcessingCompleted(final long position) {
+    final var trace = getTrace(position);
+    if (trace != null) {
+      trace.processingCompletedAt = clock.monotonicTime();
+    }
+  }
+
+  public void onResponseSent(final long position) {
+    final var trace = getTrace(position);
+    if (trace != null) {
+      trace.respondedAt = clock.monotonicTime();
+    }
+  }
+
+  /**
+   * Completes the trace of the given command, if any, and records its stage latencies. Traces of
+   * earlier positions are discarded, as these commands were already processed.
+   */
+  public void onProcessed(final long position) {
+    if (!isEnabled() || traces.isEmpty()) {
+      return;
+    }
+
+    final var trace = traces.remove(position);
+    if (trace != null) {
+      trace.record(metrics);
+    }
+    traces.headMap(position).clear();
+  }
+
+  private Trace getTrace(final long position) {
+    if (!isEnabled() || traces.isEmpty()) {
+      return null;
+    }
+    return traces.get(position);
+  }
+
+  private static final class Trace {
+    private final long receivedAt;
+    private final long appendedAt;
+    private volatile long committedAt = UNSET;
+    private long processingStartedAt = UNSET;
+    private long processingCompletedAt = UNSET;
+    private long respondedAt = UNSET;
+
+    private Trace(final long receivedAt, final long appendedAt) {
+      this.receivedAt = receivedAt;
+      this.appendedAt = appendedAt;
+    }
+
+    /** Records the latency of every stage whose start and end were both observed. */
+    private void record(final RequestLatencyMetrics metrics) {
+      metrics.observe(RequestLatencyStage.APPEND, receivedAt, appendedAt);
+      metrics.observe(RequestLatencyStage.COMMIT, appendedAt, committedAt);
+      metrics.observe(RequestLatencyStage.PROCESSING_WAIT, committedAt, processingStartedAt);
+      metrics.observe(RequestLatencyStage.PROCESSING, processingStartedAt, processingCompletedAt);
+      metrics.observe(RequestLatencyStage.RESPONSE, processingCompletedAt, respondedAt);
+      metrics.observe(RequestLatencyStage.TOTAL, receivedAt, respondedAt);
+    }
+  }
+}
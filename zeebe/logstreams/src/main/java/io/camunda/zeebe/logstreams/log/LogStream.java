@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.log;
 
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
 import io.camunda.zeebe.logstreams.impl.log.LogStreamBuilderImpl;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyTracer;
 
 /**
  * Represents a stream of events. New events are append to the end of the log. With {@link
@@ -57,6 +58,12 @@ public interface LogStream extends AutoCloseable {
    */
   FlowControl getFlowControl();
 
+  /**
+   * @return the tracer of sampled user commands along the hot path of this log stream; disabled
+   *     unless a sampling rate was configured.
+   */
+  RequestLatencyTracer getRequestLatencyTracer();
+
   /**
    * Registers a listener that will be notified when new records are available to read from the
    * logstream.
@@ -57,6 +57,15 @@ public interface LogStreamBuilder {
 
   LogStreamBuilder withWriteRateLimit(RateLimit writeRateLimit);
 
+  /**
+   * Sets the share of user commands whose latency is traced along the hot path, between 0 (the
+   * default, disabled) and 1 (all commands).
+   *
+   * @param samplingRate the sampling rate of the request latency tracing
+   * @return this builder
+   */
+  LogStreamBuilder withRequestLatencySamplingRate(double samplingRate);
+
   /**
    * Sets the meter registry to collect metrics on.
    *
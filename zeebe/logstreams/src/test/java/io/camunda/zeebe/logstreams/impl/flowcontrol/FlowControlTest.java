@@ -9,6 +9,7 @@ package io.camunda.zeebe.logstreams.impl.flowcontrol;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.netflix.concurrency.limits.limit.FixedLimit;
 import io.camunda.zeebe.logstreams.impl.LogStreamMetrics;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl.Rejection;
 import io.camunda.zeebe.logstreams.impl.flowcontrol.RateLimit.Throttling;
@@ -18,6 +19,7 @@ import io.camunda.zeebe.logstreams.log.WriteContext.UserCommand;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceCreationIntent;
 import io.camunda.zeebe.test.util.asserts.EitherAssert;
 import io.camunda.zeebe.util.Either;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -29,6 +31,7 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -94,6 +97,54 @@ public class FlowControlTest {
         .allSatisfy(permit -> EitherAssert.assertThat(permit).isRight());
   }
 
+  @Test
+  public void shouldAcquireOneRequestSlotPerCommandOfBatch() {
+    // given
+    final var logStreamMetrics = new LogStreamMetrics(meterRegistry);
+    flowControl = new FlowControl(logStreamMetrics, FixedLimit.of(2), RateLimit.disabled());
+    final var writeContext = new UserCommand(ProcessInstanceCreationIntent.CREATE);
+
+    // when
+    final var tooLargeBatch = flowControl.tryAcquire(writeContext, batchMetadata(3));
+    final var batch = flowControl.tryAcquire(writeContext, batchMetadata(2));
+    final var single = flowControl.tryAcquire(writeContext, batchMetadata(1));
+
+    // then
+    EitherAssert.assertThat(tooLargeBatch)
+        .isLeft()
+        .left()
+        .isEqualTo(Rejection.RequestLimitExhausted);
+    EitherAssert.assertThat(batch).isRight();
+    EitherAssert.assertThat(single).isLeft().left().isEqualTo(Rejection.RequestLimitExhausted);
+  }
+
+  @Test
+  public void shouldReleaseAllRequestSlotsOfBatchWhenProcessed() {
+    // given
+    final var logStreamMetrics = new LogStreamMetrics(meterRegistry);
+    flowControl = new FlowControl(logStreamMetrics, FixedLimit.of(2), RateLimit.disabled());
+    final var writeContext = new UserCommand(ProcessInstanceCreationIntent.CREATE);
+    final var batch = flowControl.tryAcquire(writeContext, batchMetadata(2)).get();
+    flowControl.onAppend(batch, 2);
+
+    // when
+    flowControl.onProcessed(2);
+
+    // then
+    EitherAssert.assertThat(flowControl.tryAcquire(writeContext, batchMetadata(2))).isRight();
+  }
+
+  private List<LogAppendEntryMetadata> batchMetadata(final int size) {
+    return IntStream.range(0, size)
+        .mapToObj(
+            i ->
+                new LogAppendEntryMetadata(
+                    RecordType.COMMAND,
+                    ValueType.PROCESS_INSTANCE_CREATION,
+                    ProcessInstanceCreationIntent.CREATE))
+        .toList();
+  }
+
   private List<Either<FlowControl.Rejection, InFlightEntry>> acquireMultiplePermits(
       final WriteContext writeContext,
       final Intent intent,
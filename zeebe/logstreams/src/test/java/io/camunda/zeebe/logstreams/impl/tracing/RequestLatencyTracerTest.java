@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.logstreams.impl.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyKeyNames;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyStage;
+import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AutoClose;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RequestLatencyTracerTest {
+
+  private final MockClock clock = new MockClock();
+  @AutoClose private MeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setup() {
+    meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+  }
+
+  @Test
+  void shouldRecordLatencyOfEachStage() {
+    // given
+    final var tracer = new RequestLatencyTracer(1, meterRegistry);
+    final var receivedAt = tracer.sample();
+
+    // when
+    advance(1);
+    tracer.onAppended(10, receivedAt);
+    advance(2);
+    tracer.onCommit(10);
+    advance(3);
+    tracer.onProcessingStarted(10);
+    advance(4);
+    tracer.onProcessingCompleted(10);
+    advance(5);
+    tracer.onResponseSent(10);
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(latency(RequestLatencyStage.APPEND)).isEqualTo(1);
+    assertThat(latency(RequestLatencyStage.COMMIT)).isEqualTo(2);
+    assertThat(latency(RequestLatencyStage.PROCESSING_WAIT)).isEqualTo(3);
+    assertThat(latency(RequestLatencyStage.PROCESSING)).isEqualTo(4);
+    assertThat(latency(RequestLatencyStage.RESPONSE)).isEqualTo(5);
+    assertThat(latency(RequestLatencyStage.TOTAL)).isEqualTo(15);
+  }
+
+  @Test
+  void shouldTimestampCommitOfAllTracedCommandsUpToPosition() {
+    // given
+    final var tracer = new RequestLatencyTracer(1, meterRegistry);
+    final AppendListener listener = tracer.wrap(new AppendListener() {});
+    tracer.onAppended(10, tracer.sample());
+    tracer.onAppended(11, tracer.sample());
+
+    // when
+    advance(2);
+    listener.onCommit(1, 11);
+    tracer.onProcessed(10);
+    tracer.onProcessed(11);
+
+    // then
+    final var commitLatency = timer(RequestLatencyStage.COMMIT);
+    assertThat(commitLatency.count()).isEqualTo(2);
+    assertThat(commitLatency.max(TimeUnit.MILLISECONDS)).isEqualTo(2);
+  }
+
+  @Test
+  void shouldTreatCommandAsCommittedIfAppendedAfterCommit() {
+    // given
+    final var tracer = new RequestLatencyTracer(1, meterRegistry);
+    final var receivedAt = tracer.sample();
+    tracer.onCommit(10);
+
+    // when
+    advance(1);
+    tracer.onAppended(10, receivedAt);
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(timer(RequestLatencyStage.COMMIT).count()).isOne();
+    assertThat(latency(RequestLatencyStage.COMMIT)).isZero();
+  }
+
+  @Test
+  void shouldOnlyRecordObservedStages() {
+    // given - a command which is never answered, e.g. awaiting a process instance result
+    final var tracer = new RequestLatencyTracer(1, meterRegistry);
+    tracer.onAppended(10, tracer.sample());
+    tracer.onCommit(10);
+    tracer.onProcessingStarted(10);
+    tracer.onProcessingCompleted(10);
+
+    // when
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(timer(RequestLatencyStage.PROCESSING).count()).isOne();
+    assertThat(timer(RequestLatencyStage.RESPONSE).count()).isZero();
+    assertThat(timer(RequestLatencyStage.TOTAL).count()).isZero();
+  }
+
+  @Test
+  void shouldDiscardTracesOfAlreadyProcessedPositions() {
+    // given - a command which was skipped by the stream processor
+    final var tracer = new RequestLatencyTracer(1, meterRegistry);
+    tracer.onAppended(10, tracer.sample());
+
+    // when
+    tracer.onProcessed(11);
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(timer(RequestLatencyStage.APPEND).count()).isZero();
+  }
+
+  @Test
+  void shouldNotSampleIfDisabled() {
+    // given
+    final var tracer = RequestLatencyTracer.disabled();
+    final var listener = new AppendListener() {};
+
+    // when
+    final var receivedAt = tracer.sample();
+    tracer.onAppended(10, receivedAt);
+    tracer.onProcessed(10);
+
+    // then
+    assertThat(receivedAt).isEqualTo(RequestLatencyTracer.NOT_SAMPLED);
+    assertThat(tracer.isEnabled()).isFalse();
+    assertThat(tracer.wrap(listener)).isSameAs(listener);
+  }
+
+  @Test
+  void shouldNotRegisterMetricsIfSamplingRateIsZero() {
+    // when
+    final var tracer = new RequestLatencyTracer(0, meterRegistry);
+
+    // then
+    assertThat(tracer.isEnabled()).isFalse();
+    assertThat(meterRegistry.getMeters()).isEmpty();
+  }
+
+  @Test
+  void shouldRejectInvalidSamplingRate() {
+    assertThatThrownBy(() -> new RequestLatencyTracer(1.5, meterRegistry))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void advance(final long millis) {
+    clock.add(Duration.ofMillis(millis));
+  }
+
+  private Timer timer(final RequestLatencyStage stage) {
+    return meterRegistry
+        .get(RequestLatencyMetricsDoc.STAGE_LATENCY.getName())
+        .tag(RequestLatencyKeyNames.STAGE.asString(), stage.getValue())
+        .timer();
+  }
+
+  private double latency(final RequestLatencyStage stage) {
+    return timer(stage).totalTime(TimeUnit.MILLISECONDS);
+  }
+}
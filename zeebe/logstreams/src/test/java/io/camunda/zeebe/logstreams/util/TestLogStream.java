@@ -8,6 +8,7 @@
 package io.camunda.zeebe.logstreams.util;
 
 import io.camunda.zeebe.logstreams.impl.flowcontrol.FlowControl;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyTracer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
 import io.camunda.zeebe.logstreams.log.LogStream;
@@ -108,6 +109,11 @@ public class TestLogStream implements LogStream {
     return logStream.getFlowControl();
   }
 
+  @Override
+  public RequestLatencyTracer getRequestLatencyTracer() {
+    return logStream.getRequestLatencyTracer();
+  }
+
   @Override
   public void registerRecordAvailableListener(final LogRecordAwaiter recordAwaiter) {
     logStream.registerRecordAvailableListener(recordAwaiter);
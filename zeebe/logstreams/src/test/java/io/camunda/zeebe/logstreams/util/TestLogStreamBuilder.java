@@ -68,6 +68,12 @@ public final class TestLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public TestLogStreamBuilder withRequestLatencySamplingRate(final double samplingRate) {
+    delegate.withRequestLatencySamplingRate(samplingRate);
+    return this;
+  }
+
   @Override
   public TestLogStreamBuilder withMeterRegistry(final MeterRegistry meterRegistry) {
     delegate.withMeterRegistry(meterRegistry);
@@ -38,6 +38,7 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
   private static final StringValue TENANT_IDS_KEY = new StringValue("tenantIds");
   private static final StringValue VARIABLES_KEY = new StringValue("variables");
   private static final StringValue TRUNCATED_KEY = new StringValue("truncated");
+  private static final StringValue REJECTED_JOBS_KEY = new StringValue("rejectedJobs");
 
   private final StringProperty typeProp = new StringProperty(TYPE_KEY);
   private final StringProperty workerProp = new StringProperty(WORKER_KEY, "");
@@ -52,9 +53,11 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
   private final ArrayProperty<StringValue> variablesProp =
       new ArrayProperty<>(VARIABLES_KEY, StringValue::new);
   private final BooleanProperty truncatedProp = new BooleanProperty(TRUNCATED_KEY, false);
+  private final ArrayProperty<JobBatchRejection> rejectedJobsProp =
+      new ArrayProperty<>(REJECTED_JOBS_KEY, JobBatchRejection::new);
 
   public JobBatchRecord() {
-    super(9);
+    super(10);
     declareProperty(typeProp)
         .declareProperty(workerProp)
         .declareProperty(timeoutProp)
@@ -63,7 +66,8 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
         .declareProperty(jobsProp)
         .declareProperty(variablesProp)
         .declareProperty(truncatedProp)
-        .declareProperty(tenantIdsProp);
+        .declareProperty(tenantIdsProp)
+        .declareProperty(rejectedJobsProp);
   }
 
   public JobBatchRecord setType(final DirectBuffer buf, final int offset, final int length) {
@@ -88,6 +92,14 @@ public final class JobBatchRecord extends UnifiedRecordValue implements JobBatch
     return variablesProp;
   }
 
+  /**
+   * Only set when completing a batch of jobs: the jobs of {@link #jobKeys()} which could not be
+   * completed, together with the reason why.
+   */
+  public ValueArray<JobBatchRejection> rejectedJobs() {
+    return rejectedJobsProp;
+  }
+
   public boolean getTruncated() {
     return truncatedProp.getValue();
   }
@@ -0,0 +1,89 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.record.value.job;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.EnumProperty;
+import io.camunda.zeebe.msgpack.property.IntegerProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.protocol.record.RejectionType;
+
+/**
+ * The outcome of a job which could not be completed as part of a {@link JobBatchRecord}. Jobs of
+ * the batch that are not referenced by such an entry were completed. As the same job key may occur
+ * more than once in a batch, the job is identified by its index in the {@link
+ * JobBatchRecord#jobKeys() job keys} of the batch.
+ */
+@JsonIgnoreProperties({
+  /* These fields are inherited from ObjectValue; there have no purpose in exported JSON records*/
+  "empty",
+  "encodedLength",
+  "length"
+})
+public final class JobBatchRejection extends UnpackedObject {
+
+  private static final StringValue INDEX_KEY = new StringValue("index");
+  private static final StringValue JOB_KEY_KEY = new StringValue("jobKey");
+  private static final StringValue REJECTION_TYPE_KEY = new StringValue("rejectionType");
+  private static final StringValue REJECTION_REASON_KEY = new StringValue("rejectionReason");
+
+  private final IntegerProperty indexProp = new IntegerProperty(INDEX_KEY, -1);
+  private final LongProperty jobKeyProp = new LongProperty(JOB_KEY_KEY, -1L);
+  private final EnumProperty<RejectionType> rejectionTypeProp =
+      new EnumProperty<>(REJECTION_TYPE_KEY, RejectionType.class, RejectionType.NULL_VAL);
+  private final StringProperty rejectionReasonProp = new StringProperty(REJECTION_REASON_KEY, "");
+
+  public JobBatchRejection() {
+    super(4);
+    declareProperty(indexProp)
+        .declareProperty(jobKeyProp)
+        .declareProperty(rejectionTypeProp)
+        .declareProperty(rejectionReasonProp);
+  }
+
+  public int getIndex() {
+    return indexProp.getValue();
+  }
+
+  public JobBatchRejection setIndex(final int index) {
+    indexProp.setValue(index);
+    return this;
+  }
+
+  public long getJobKey() {
+    return jobKeyProp.getValue();
+  }
+
+  public JobBatchRejection setJobKey(final long jobKey) {
+    jobKeyProp.setValue(jobKey);
+    return this;
+  }
+
+  public RejectionType getRejectionType() {
+    return rejectionTypeProp.getValue();
+  }
+
+  public JobBatchRejection setRejectionType(final RejectionType rejectionType) {
+    rejectionTypeProp.setValue(rejectionType);
+    return this;
+  }
+
+  public String getRejectionReason() {
+    return bufferAsString(rejectionReasonProp.getValue());
+  }
+
+  public JobBatchRejection setRejectionReason(final String rejectionReason) {
+    rejectionReasonProp.setValue(rejectionReason);
+    return this;
+  }
+}
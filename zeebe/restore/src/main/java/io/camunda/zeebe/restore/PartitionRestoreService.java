@@ -29,16 +29,31 @@ import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Restores a backup from the given {@link io.camunda.zeebe.backup.api.BackupStore}. */
+/**
+ * Restores a backup from the given {@link io.camunda.zeebe.backup.api.BackupStore}.
+ *
+ * <p>When restoring from multiple backups, the next backups are downloaded while the current one is
+ * restored, bounded by {@link #MAX_CONCURRENT_DOWNLOADS} as every downloaded backup occupies disk
+ * space until it is restored.
+ */
 public class PartitionRestoreService {
   private static final Logger LOG = LoggerFactory.getLogger(PartitionRestoreService.class);
+  private static final int MAX_CONCURRENT_DOWNLOADS = 2;
   final BackupStore backupStore;
   final int partitionId;
 
@@ -88,29 +103,68 @@ public class PartitionRestoreService {
     }
     validateAndSortBackupIds(backupIds);
 
-    try (final var restoredJournal =
-        SegmentedJournal.builder(partition.getMeterRegistry())
-            .withDirectory(rootDirectory.toFile())
-            .withName(partition.name())
-            .withMetaStore(new InMemory())
-            .build()) {
-      Backup previousBackup = null;
-      for (final var backupId : backupIds) {
-        final var restoreTarget =
-            rootDirectory.resolve("restoring-partition" + partitionId + "-backup-" + backupId);
-        FileUtil.ensureDirectoryExists(restoreTarget);
-        final var backup = download(backupId, restoreTarget, validator);
-        if (previousBackup == null) {
+    final var metrics = new RestoreMetrics(meterRegistry);
+    metrics.startRestoring(backupIds.length);
+    final var startTime = System.nanoTime();
+    long restoredBytes = 0;
+
+    final var executor =
+        Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("zeebe-restore-partition-" + partitionId + "-", 0).factory());
+    try (executor) {
+      try (final var restoredJournal =
+          SegmentedJournal.builder(partition.getMeterRegistry())
+              .withDirectory(rootDirectory.toFile())
+              .withName(partition.name())
+              .withMetaStore(new InMemory())
+              .build()) {
+        final var downloads = new ArrayDeque<PendingDownload>(MAX_CONCURRENT_DOWNLOADS);
+        var nextBackup = 0;
+        Backup previousBackup = null;
+        while (nextBackup < backupIds.length || !downloads.isEmpty()) {
+          // download the next backups while the current one is restored
+          while (nextBackup < backupIds.length && downloads.size() < MAX_CONCURRENT_DOWNLOADS) {
+            downloads.add(startDownload(executor, backupIds[nextBackup++], validator, metrics));
+          }
+
+          final var download = downloads.remove();
+          final var backup = await(download.backup());
+          final var backupBytes = sizeOf(backup);
+
           // Only take the first snapshot, all others are redundant because we have the full log.
-          moveSnapshotFiles(backup);
+          // The snapshot is verified and installed while the journal is restored.
+          final var snapshotRestored =
+              previousBackup == null
+                  ? executor.submit(() -> moveSnapshotFiles(backup))
+                  : CompletableFuture.completedFuture(null);
+          copyBetweenCheckpoints(previousBackup, backup, download.directory(), restoredJournal);
+          await(snapshotRestored);
+
+          previousBackup = backup;
+          FileUtil.deleteFolder(download.directory());
+          restoredBytes += backupBytes;
+          metrics.backupRestored(backupBytes);
         }
-        copyBetweenCheckpoints(previousBackup, backup, restoreTarget, restoredJournal);
-        previousBackup = backup;
-        FileUtil.deleteFolder(restoreTarget);
+        restoredJournal.flush();
+      } catch (final Exception e) {
+        // don't wait for downloads which are not needed anymore
+        executor.shutdownNow();
+        throw e;
       }
-      restoredJournal.flush();
     }
 
+    final var duration = Duration.ofNanos(System.nanoTime() - startTime);
+    final var throughput = RestoreMetrics.throughputPerSecond(restoredBytes, duration);
+    metrics.restoreCompleted(throughput);
+    LOG.atInfo()
+        .addKeyValue("partition", partitionId)
+        .addKeyValue("backups", backupIds.length)
+        .addKeyValue("bytes", restoredBytes)
+        .addKeyValue("duration", duration)
+        .addKeyValue("throughput", throughput + " bytes/s")
+        .setMessage("Restored partition from backups")
+        .log();
+
     // TODO: As an additional consistency check:
     // - Validate journal.firstIndex <= snapshotIndex + 1
     // - Verify journal.lastEntry.asqn == checkpointPosition
@@ -235,6 +289,26 @@ public class PartitionRestoreService {
     }
   }
 
+  private PendingDownload startDownload(
+      final ExecutorService executor,
+      final long backupId,
+      final BackupValidator validator,
+      final RestoreMetrics metrics)
+      throws IOException {
+    final var restoreTarget =
+        rootDirectory.resolve("restoring-partition" + partitionId + "-backup-" + backupId);
+    FileUtil.ensureDirectoryExists(restoreTarget);
+    final var backup =
+        executor.submit(
+            () -> {
+              final var download = metrics.startDownload();
+              final var downloaded = download(backupId, restoreTarget, validator);
+              metrics.downloaded(download);
+              return downloaded;
+            });
+    return new PendingDownload(restoreTarget, backup);
+  }
+
   private Backup download(
       final long checkpointId, final Path tempRestoringDirectory, final BackupValidator validator) {
     final var validBackup = findValidBackup(checkpointId, validator);
@@ -242,6 +316,37 @@ public class PartitionRestoreService {
     return backupStore.restore(validBackup, tempRestoringDirectory).join();
   }
 
+  private static long sizeOf(final Backup backup) throws IOException {
+    long size = 0;
+    for (final var file : backup.snapshot().files()) {
+      size += Files.size(file);
+    }
+    for (final var file : backup.segments().files()) {
+      size += Files.size(file);
+    }
+    return size;
+  }
+
+  /**
+   * Waits for a task of the restore, and rethrows its failure as if the task had run on the calling
+   * thread.
+   */
+  private static <T> T await(final Future<T> task) throws IOException {
+    try {
+      return task.get();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while restoring from backup", e);
+    } catch (final ExecutionException e) {
+      switch (e.getCause()) {
+        case final IOException cause -> throw cause;
+        case final RuntimeException cause -> throw cause;
+        case final Error cause -> throw cause;
+        default -> throw new IllegalStateException(e.getCause());
+      }
+    }
+  }
+
   private BackupIdentifier findValidBackup(
       final long checkpointId, final BackupValidator validator) {
     final var searchPattern =
@@ -261,6 +366,8 @@ public class PartitionRestoreService {
     return validStatus.id();
   }
 
+  private record PendingDownload(Path directory, Future<Backup> backup) {}
+
   @FunctionalInterface
   public interface BackupValidator {
     BackupStatus validateStatus(BackupStatus status) throws BackupNotValidException;
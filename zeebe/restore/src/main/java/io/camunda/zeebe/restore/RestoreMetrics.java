@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.BACKUPS_REMAINING;
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.DOWNLOAD_LATENCY;
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.RESTORED_BYTES;
+import static io.camunda.zeebe.restore.RestoreMetricsDoc.THROUGHPUT;
+
+import io.camunda.zeebe.util.micrometer.MicrometerUtil;
+import io.camunda.zeebe.util.micrometer.StatefulGauge;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+
+/** Reports the progress of restoring a partition from its backups. */
+final class RestoreMetrics {
+
+  private final MeterRegistry registry;
+  private final StatefulGauge backupsRemaining;
+  private final Counter restoredBytes;
+  private final Timer downloadLatency;
+  private final StatefulGauge throughput;
+
+  RestoreMetrics(final MeterRegistry registry) {
+    this.registry = registry;
+    backupsRemaining =
+        StatefulGauge.builder(BACKUPS_REMAINING.getName())
+            .description(BACKUPS_REMAINING.getDescription())
+            .register(registry);
+    restoredBytes =
+        Counter.builder(RESTORED_BYTES.getName())
+            .description(RESTORED_BYTES.getDescription())
+            .baseUnit(RESTORED_BYTES.getBaseUnit())
+            .register(registry);
+    downloadLatency = MicrometerUtil.buildTimer(DOWNLOAD_LATENCY).register(registry);
+    throughput =
+        StatefulGauge.builder(THROUGHPUT.getName())
+            .description(THROUGHPUT.getDescription())
+            .baseUnit(THROUGHPUT.getBaseUnit())
+            .register(registry);
+  }
+
+  void startRestoring(final int backups) {
+    backupsRemaining.set(backups);
+  }
+
+  Timer.Sample startDownload() {
+    return Timer.start(registry);
+  }
+
+  void downloaded(final Timer.Sample download) {
+    download.stop(downloadLatency);
+  }
+
+  void backupRestored(final long bytes) {
+    backupsRemaining.decrement();
+    restoredBytes.increment(bytes);
+  }
+
+  void restoreCompleted(final long bytesPerSecond) {
+    throughput.set(bytesPerSecond);
+  }
+
+  static long throughputPerSecond(final long bytes, final Duration duration) {
+    final var millis = Math.max(1, duration.toMillis());
+    return bytes * 1000 / millis;
+  }
+}
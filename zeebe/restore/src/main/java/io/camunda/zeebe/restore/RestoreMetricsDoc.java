@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.restore;
+
+import io.camunda.zeebe.util.micrometer.ExtendedMeterDocumentation;
+import io.camunda.zeebe.util.micrometer.MicrometerUtil.PartitionKeyNames;
+import io.micrometer.common.docs.KeyName;
+import io.micrometer.core.instrument.Meter.Type;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+@SuppressWarnings("NullableProblems")
+public enum RestoreMetricsDoc implements ExtendedMeterDocumentation {
+  /** Number of backups which still have to be restored for the partition */
+  BACKUPS_REMAINING {
+    @Override
+    public String getDescription() {
+      return "Number of backups which still have to be restored for the partition";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.backups.remaining";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Number of bytes downloaded from the backup store and restored */
+  RESTORED_BYTES {
+    @Override
+    public String getDescription() {
+      return "Number of bytes downloaded from the backup store and restored";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.bytes";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  },
+
+  /** Time it takes to download a single backup from the backup store */
+  DOWNLOAD_LATENCY {
+    @Override
+    public String getDescription() {
+      return "Time it takes to download a single backup from the backup store";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.download.latency";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "seconds";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return Stream.of(1, 10, 60, 5 * 60, 15 * 60, 60 * 60)
+          .map(Duration::ofSeconds)
+          .toArray(Duration[]::new);
+    }
+  },
+
+  /** Throughput of the completed restore of the partition in bytes per second */
+  THROUGHPUT {
+    @Override
+    public String getDescription() {
+      return "Throughput of the completed restore of the partition in bytes per second";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.restore.throughput";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.GAUGE;
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes/s";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION};
+    }
+  }
+}
@@ -176,6 +176,28 @@ class PartitionRestoreServiceTest {
         .containsExactlyInAnyOrderElementsOf(expectedSnapshotFiles);
   }
 
+  @Test
+  void shouldReportRestoreProgress() throws IOException, FlushException {
+    // given
+    appendRecord(1, "data");
+    appendRecord(2, "data");
+    appendRecord(3, "checkpoint");
+    takeSnapshot(1, 2);
+    final long backupId = 3;
+    takeBackup(backupId, 3);
+
+    // when
+    restoreService.restore(backupId, BackupValidator.none());
+
+    // then
+    assertThat(meterRegistry.get(RestoreMetricsDoc.BACKUPS_REMAINING.getName()).gauge().value())
+        .isZero();
+    assertThat(meterRegistry.get(RestoreMetricsDoc.RESTORED_BYTES.getName()).counter().count())
+        .isPositive();
+    assertThat(meterRegistry.get(RestoreMetricsDoc.DOWNLOAD_LATENCY.getName()).timer().count())
+        .isOne();
+  }
+
   @Test
   void shouldFailToRestoreWhenCheckpointPositionNotFound() {
     // given
@@ -155,6 +155,7 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
 
     private String name;
     private Consumer<ActorControl> actorStartedHandler;
+    private Runnable actorClosingHandler;
 
     public ActorBuilder name(final String name) {
       this.name = name;
@@ -166,6 +167,15 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
       return this;
     }
 
+    /**
+     * @param actorClosingHandler invoked on the actor when it is closing, i.e. it may still run on
+     *     the actor to tear down
+     */
+    public ActorBuilder actorClosingHandler(final Runnable actorClosingHandler) {
+      this.actorClosingHandler = actorClosingHandler;
+      return this;
+    }
+
     public Actor build() {
       final var wrapper =
           new Consumer<ActorControl>() {
@@ -189,7 +199,27 @@ public abstract class Actor implements AutoCloseable, AsyncClosable, Concurrency
             }
           };
 
-      return wrap(wrapper);
+      if (actorClosingHandler == null) {
+        return wrap(wrapper);
+      }
+
+      final var closingHandler = actorClosingHandler;
+      return new Actor() {
+        @Override
+        public String getName() {
+          return wrapper.toString();
+        }
+
+        @Override
+        protected void onActorStarted() {
+          wrapper.accept(actor);
+        }
+
+        @Override
+        protected void onActorClosing() {
+          closingHandler.run();
+        }
+      };
     }
   }
 }
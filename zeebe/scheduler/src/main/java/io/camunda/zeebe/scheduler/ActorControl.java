@@ -12,7 +12,6 @@ import static io.camunda.zeebe.scheduler.ActorThread.ensureCalledFromActorThread
 import io.camunda.zeebe.scheduler.ActorTask.ActorLifecyclePhase;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.AllCompletedFutureConsumer;
-import io.camunda.zeebe.scheduler.future.FutureContinuationRunnable;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.concurrent.Callable;
@@ -117,7 +116,7 @@ public class ActorControl implements ConcurrencyControl {
 
   private TimerSubscription scheduleTimerSubscription(
       final Runnable runnable, final Function<ActorJob, TimerSubscription> subscriptionFactory) {
-    final ActorJob job = new ActorJob();
+    final ActorJob job = ActorThread.current().newJob();
     job.setRunnable(runnable);
     job.onJobAddedToTask(task);
 
@@ -149,10 +148,7 @@ public class ActorControl implements ConcurrencyControl {
     final ActorLifecyclePhase lifecyclePhase = task.getLifecyclePhase();
     if (lifecyclePhase != ActorLifecyclePhase.CLOSE_REQUESTED
         && lifecyclePhase != ActorLifecyclePhase.CLOSED) {
-      submitContinuationJob(
-          future,
-          callback,
-          (job) -> new ActorFutureSubscription(future, job, lifecyclePhase.getValue()));
+      submitContinuationJob(future, callback, lifecyclePhase.getValue());
     }
   }
 
@@ -212,7 +208,7 @@ public class ActorControl implements ConcurrencyControl {
           "Incorrect usage of actor.call(...) cannot be called from current actor.");
     }
 
-    final ActorJob job = new ActorJob();
+    final ActorJob job = newJob(runner);
     final ActorFuture<T> future = job.setCallable(callable);
     job.onJobAddedToTask(task);
     task.submit(job);
@@ -249,14 +245,7 @@ public class ActorControl implements ConcurrencyControl {
   public void submit(final Runnable action) {
     final ActorThread currentThread = ActorThread.current();
     final ActorTask currentTask = currentThread == null ? null : currentThread.getCurrentTask();
-    final ActorJob job;
-
-    if (currentThread != null && currentTask == task) {
-      job = currentThread.newJob();
-    } else {
-      job = new ActorJob();
-    }
-
+    final ActorJob job = newJob(currentThread);
     job.setRunnable(action);
     job.onJobAddedToTask(task);
     task.submit(job);
@@ -287,24 +276,19 @@ public class ActorControl implements ConcurrencyControl {
       submitContinuationJob(
           future,
           callback,
-          (job) ->
-              new ActorFutureSubscription(
-                  future,
-                  job,
-                  (task.getLifecyclePhase().getValue()
-                      | ActorLifecyclePhase.CLOSE_REQUESTED.getValue())));
+          lifecyclePhase.getValue() | ActorLifecyclePhase.CLOSE_REQUESTED.getValue());
     }
   }
 
   private <T> void submitContinuationJob(
-      final ActorFuture<T> future,
-      final BiConsumer<T, Throwable> callback,
-      final Function<ActorJob, ActorFutureSubscription> futureSubscriptionSupplier) {
-    final ActorJob continuationJob = new ActorJob();
-    continuationJob.setRunnable(new FutureContinuationRunnable<>(future, callback));
+      final ActorFuture<T> future, final BiConsumer<T, Throwable> callback, final int phaseMask) {
+    // the job and its subscription are recycled by the actor thread once the job ran
+    final ActorThread currentThread = ActorThread.current();
+    final ActorJob continuationJob = currentThread.newJob();
+    final ActorFutureSubscription subscription =
+        currentThread.newFutureSubscription().wrap(future, continuationJob, phaseMask);
+    continuationJob.setRunnable(subscription.continuation(future, callback));
     continuationJob.onJobAddedToTask(task);
-
-    final ActorFutureSubscription subscription = futureSubscriptionSupplier.apply(continuationJob);
     continuationJob.setSubscription(subscription);
 
     future.block(task);
@@ -336,13 +320,22 @@ public class ActorControl implements ConcurrencyControl {
       newJob.onJobAddedToTask(task);
       task.insertJob(newJob);
     } else {
-      final ActorJob job = new ActorJob();
+      final ActorJob job = newJob(currentActorThread);
       job.setRunnable(runnable);
       job.onJobAddedToTask(task);
       task.submit(job);
     }
   }
 
+  /**
+   * Returns a job from the pool of the given actor thread, or a new job if not called from an actor
+   * thread. Jobs are recycled by the thread which executed them, so jobs submitted to actors
+   * running on other threads end up in those threads' pools.
+   */
+  private static ActorJob newJob(final ActorThread actorThread) {
+    return actorThread != null ? actorThread.newJob() : new ActorJob();
+  }
+
   public boolean isClosing() {
     ensureCalledFromWithinActor("isClosing()");
     return task.isClosing();
@@ -19,10 +19,12 @@ import java.util.concurrent.CompletableFuture;
 public final class ActorExecutor {
   private final ActorThreadGroup cpuBoundThreads;
   private final ActorThreadGroup ioBoundThreads;
+  private final ActorThreadGroup virtualIoBoundThreads;
 
   public ActorExecutor(final ActorSchedulerBuilder builder) {
     ioBoundThreads = builder.getIoBoundActorThreads();
     cpuBoundThreads = builder.getCpuBoundActorThreads();
+    virtualIoBoundThreads = builder.getVirtualIoBoundActorThreads();
   }
 
   /**
@@ -38,6 +40,16 @@ public final class ActorExecutor {
     return submitTask(task, ioBoundThreads);
   }
 
+  /**
+   * Submits an actor which performs long blocking I/O to the virtual I/O threads, or to the I/O
+   * threads if there are no virtual I/O threads.
+   *
+   * @param task the task to submit
+   */
+  public ActorFuture<Void> submitVirtualIoBoundTask(final ActorTask task) {
+    return submitTask(task, virtualIoBoundThreads != null ? virtualIoBoundThreads : ioBoundThreads);
+  }
+
   private ActorFuture<Void> submitTask(final ActorTask task, final ActorThreadGroup threadGroup) {
     if (task.getLifecyclePhase() != ActorLifecyclePhase.CLOSED) {
       throw new IllegalStateException("ActorTask was already submitted!");
@@ -51,9 +63,19 @@ public final class ActorExecutor {
   public void start() {
     cpuBoundThreads.start();
     ioBoundThreads.start();
+    if (virtualIoBoundThreads != null) {
+      virtualIoBoundThreads.start();
+    }
   }
 
   public CompletableFuture<Void> closeAsync() {
+    if (virtualIoBoundThreads != null) {
+      return CompletableFuture.allOf(
+          virtualIoBoundThreads.closeAsync(),
+          ioBoundThreads.closeAsync(),
+          cpuBoundThreads.closeAsync());
+    }
+
     return CompletableFuture.allOf(ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync());
   }
 
@@ -64,4 +86,8 @@ public final class ActorExecutor {
   public ActorThreadGroup getIoBoundThreads() {
     return ioBoundThreads;
   }
+
+  public ActorThreadGroup getVirtualIoBoundThreads() {
+    return virtualIoBoundThreads;
+  }
 }
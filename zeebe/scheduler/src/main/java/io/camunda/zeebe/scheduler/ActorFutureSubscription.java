@@ -9,17 +9,52 @@ package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorTask.ActorLifecyclePhase;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.FutureContinuationRunnable;
+import java.util.function.BiConsumer;
 
 public final class ActorFutureSubscription implements ActorSubscription {
-  private final ActorJob callbackJob;
-  private final int phaseMask;
-  private final ActorFuture<?> future;
+  private final FutureContinuationRunnable<?> continuation = new FutureContinuationRunnable<>();
+  private ActorJob callbackJob;
+  private int phaseMask;
+  private ActorFuture<?> future;
+
+  /**
+   * Creates an empty subscription, which is set up via {@link #wrap(ActorFuture, ActorJob, int)}
+   */
+  ActorFutureSubscription() {}
 
   public ActorFutureSubscription(
       final ActorFuture<?> future, final ActorJob callbackJob, final int phaseMask) {
+    wrap(future, callbackJob, phaseMask);
+  }
+
+  /**
+   * Sets up this subscription to trigger the given job once the future is completed. Used to reuse
+   * subscriptions which were {@link #reset()} after their job ran.
+   */
+  ActorFutureSubscription wrap(
+      final ActorFuture<?> future, final ActorJob callbackJob, final int phaseMask) {
     this.future = future;
     this.callbackJob = callbackJob;
     this.phaseMask = phaseMask;
+    return this;
+  }
+
+  /**
+   * Returns a runnable which passes the result of the future to the given callback. The runnable is
+   * owned by this subscription, and is reused together with it.
+   */
+  @SuppressWarnings("unchecked")
+  <T> Runnable continuation(final ActorFuture<T> future, final BiConsumer<T, Throwable> callback) {
+    return ((FutureContinuationRunnable<T>) continuation).wrap(future, callback);
+  }
+
+  /** used to recycle the subscription object */
+  void reset() {
+    future = null;
+    callbackJob = null;
+    phaseMask = 0;
+    continuation.reset();
   }
 
   @Override
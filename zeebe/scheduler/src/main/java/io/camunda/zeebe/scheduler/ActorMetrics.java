@@ -16,8 +16,14 @@ public interface ActorMetrics {
 
   ActorMetricsScoped scoped(final String actorName);
 
+  ActorThreadMetrics threadScoped(final String threadName);
+
   void observeJobSchedulingLatency(final long waitTimeNs, final SubscriptionType subscriptionType);
 
+  void observeVirtualIoQueueTime(final long queueTimeNs);
+
+  void observeVirtualThreadPinned(final long pinnedTimeNs);
+
   static ActorMetrics ofNullable(final MeterRegistry registry) {
     if (registry == null) {
       return disabled();
@@ -38,9 +44,20 @@ public interface ActorMetrics {
         return ActorMetricsScoped.noop();
       }
 
+      @Override
+      public ActorThreadMetrics threadScoped(final String threadName) {
+        return ActorThreadMetrics.noop();
+      }
+
       @Override
       public void observeJobSchedulingLatency(
           final long waitTimeNs, final SubscriptionType subscriptionType) {}
+
+      @Override
+      public void observeVirtualIoQueueTime(final long queueTimeNs) {}
+
+      @Override
+      public void observeVirtualThreadPinned(final long pinnedTimeNs) {}
     };
   }
 
@@ -82,6 +99,35 @@ public interface ActorMetrics {
     boolean isEnabled();
   }
 
+  interface ActorThreadMetrics extends CloseableSilently {
+    ActorThreadMetrics NOOP =
+        new ActorThreadMetrics() {
+          @Override
+          public void close() {}
+
+          @Override
+          public void observeBusyTime(final long busyTimeNs) {}
+
+          @Override
+          public void countSteal() {}
+
+          @Override
+          public boolean isEnabled() {
+            return false;
+          }
+        };
+
+    void observeBusyTime(final long busyTimeNs);
+
+    void countSteal();
+
+    static ActorThreadMetrics noop() {
+      return NOOP;
+    }
+
+    boolean isEnabled();
+  }
+
   enum SubscriptionType {
     FUTURE("Future"),
     TIMER("Timer"),
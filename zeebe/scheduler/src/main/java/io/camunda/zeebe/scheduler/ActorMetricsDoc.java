@@ -119,6 +119,106 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getKeyNames() {
       return new KeyName[] {ActorMetricsKeyName.ACTOR_NAME};
     }
+  },
+  /** Time an actor waited for a virtual I/O thread after being submitted to the group */
+  VIRTUAL_IO_QUEUE_TIME {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(10, 4, 10, ChronoUnit.MICROS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.virtual.io.queue.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time an actor waited for a virtual I/O thread after being submitted to the group";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
+  /** Time a virtual I/O thread was pinned to its carrier thread while blocking */
+  VIRTUAL_THREAD_PINNED {
+    private static final Duration[] TIMER_SLOS =
+        MicrometerUtil.exponentialBucketDuration(20, 2, 8, ChronoUnit.MILLIS);
+
+    @Override
+    public String getName() {
+      return "zeebe.actor.virtual.thread.pinned";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time a virtual I/O thread was pinned to its carrier thread while blocking; only"
+          + " pinning longer than 20ms is observed";
+    }
+
+    @Override
+    public Duration[] getTimerSLOs() {
+      return TIMER_SLOS;
+    }
+  },
+  /** Time an actor thread spent executing tasks; its rate is the utilization of the thread */
+  THREAD_BUSY_TIME {
+    @Override
+    public String getName() {
+      return "zeebe.actor.thread.busy.time";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Time an actor thread spent executing tasks; its rate is the utilization of the thread";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "seconds";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_NAME};
+    }
+  },
+  /** Number of tasks an actor thread stole from the queues of other threads */
+  THREAD_STEAL_COUNT {
+    @Override
+    public String getName() {
+      return "zeebe.actor.thread.steal.count";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Number of tasks an actor thread stole from the queues of other threads";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {ActorMetricsKeyName.THREAD_NAME};
+    }
   };
 
   public enum ActorMetricsKeyName implements KeyName {
@@ -135,6 +235,13 @@ public enum ActorMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "actorName";
       }
+    },
+    /** The name of the actor thread */
+    THREAD_NAME {
+      @Override
+      public String asString() {
+        return "threadName";
+      }
     }
   }
 }
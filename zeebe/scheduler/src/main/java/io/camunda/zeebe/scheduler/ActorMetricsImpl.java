@@ -25,12 +25,25 @@ final class ActorMetricsImpl implements ActorMetrics {
   private final Map<SubscriptionType, Timer> schedulingLatency =
       new EnumMap<>(SubscriptionType.class);
   private final MeterRegistry registry;
+  private final Timer virtualIoQueueTime;
+  private final Timer virtualThreadPinned;
 
   public ActorMetricsImpl(final MeterRegistry registry) {
     this.registry = Objects.requireNonNull(registry, "registry cannot be null");
     for (final SubscriptionType type : SubscriptionType.values()) {
       schedulingLatency.put(type, createSchedulingTimer(type));
     }
+
+    virtualIoQueueTime =
+        Timer.builder(VIRTUAL_IO_QUEUE_TIME.getName())
+            .description(VIRTUAL_IO_QUEUE_TIME.getDescription())
+            .serviceLevelObjectives(VIRTUAL_IO_QUEUE_TIME.getTimerSLOs())
+            .register(registry);
+    virtualThreadPinned =
+        Timer.builder(VIRTUAL_THREAD_PINNED.getName())
+            .description(VIRTUAL_THREAD_PINNED.getDescription())
+            .serviceLevelObjectives(VIRTUAL_THREAD_PINNED.getTimerSLOs())
+            .register(registry);
   }
 
   private Timer createSchedulingTimer(final SubscriptionType subscriptionType) {
@@ -63,6 +76,21 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Counter createThreadBusyTime(final String threadName) {
+    return Counter.builder(THREAD_BUSY_TIME.getName())
+        .description(THREAD_BUSY_TIME.getDescription())
+        .baseUnit(THREAD_BUSY_TIME.getBaseUnit())
+        .tag(ActorMetricsKeyName.THREAD_NAME.asString(), threadName)
+        .register(registry);
+  }
+
+  private Counter createThreadStealCount(final String threadName) {
+    return Counter.builder(THREAD_STEAL_COUNT.getName())
+        .description(THREAD_STEAL_COUNT.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_NAME.asString(), threadName)
+        .register(registry);
+  }
+
   @Override
   public boolean isEnabled() {
     return true;
@@ -79,12 +107,28 @@ final class ActorMetricsImpl implements ActorMetrics {
         createExecutionCount(actorName));
   }
 
+  @Override
+  public ActorThreadMetrics threadScoped(final String threadName) {
+    return new ActorThreadMetricsEnabled(
+        registry, createThreadBusyTime(threadName), createThreadStealCount(threadName));
+  }
+
   @Override
   public void observeJobSchedulingLatency(
       final long waitTimeNs, final SubscriptionType subscriptionType) {
     schedulingLatency.get(subscriptionType).record(waitTimeNs, TimeUnit.NANOSECONDS);
   }
 
+  @Override
+  public void observeVirtualIoQueueTime(final long queueTimeNs) {
+    virtualIoQueueTime.record(queueTimeNs, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void observeVirtualThreadPinned(final long pinnedTimeNs) {
+    virtualThreadPinned.record(pinnedTimeNs, TimeUnit.NANOSECONDS);
+  }
+
   record ActorMetricsScopedEnabled(
       MeterRegistry registry,
       Timer executionLatency,
@@ -121,4 +165,29 @@ final class ActorMetricsImpl implements ActorMetrics {
       return true;
     }
   }
+
+  record ActorThreadMetricsEnabled(MeterRegistry registry, Counter busyTime, Counter stealCount)
+      implements ActorThreadMetrics {
+
+    @Override
+    public void close() {
+      registry.remove(busyTime);
+      registry.remove(stealCount);
+    }
+
+    @Override
+    public void observeBusyTime(final long busyTimeNs) {
+      busyTime.increment(busyTimeNs / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Override
+    public void countSteal() {
+      stealCount.increment();
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return true;
+    }
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.scheduler;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -49,6 +50,9 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
    *   <li>I/O-bound actors: actors where the runtime is dominated by performing <strong>blocking
    *       I/O</strong> (usually filesystem writes). It is possible to specify the I/O device used
    *       by the actor.
+   *   <li>Virtual I/O-bound actors: actors which block for a long time, e.g. on file copies or
+   *       remote calls. Each of them runs on a virtual thread, such that it does not hold up other
+   *       I/O-bound actors.
    * </ul>
    *
    * Scheduling hints can be created using the {@link SchedulingHints} class.
@@ -66,6 +70,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     return switch (schedulingHints) {
       case CPU_BOUND -> actorTaskExecutor.submitCpuBound(task);
       case IO_BOUND -> actorTaskExecutor.submitIoBoundTask(task);
+      case VIRTUAL_IO_BOUND -> actorTaskExecutor.submitVirtualIoBoundTask(task);
     };
   }
 
@@ -125,12 +130,16 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     /** 20 ms instead of {@link BackoffIdleStrategy#DEFAULT_MAX_PARK_PERIOD_NS}. */
     public static final long DEFAULT_MAX_PARK_PERIOD_NS = 20_000_000;
 
+    public static final Duration DEFAULT_PARTITION_AFFINITY_STEAL_THRESHOLD = Duration.ofMillis(1);
+
     private String schedulerName = "";
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
     private ActorThreadGroup ioBoundActorGroup;
+    private int virtualIoBoundThreadsCount = 0;
+    private ActorThreadGroup virtualIoBoundActorGroup;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
     private ActorTimerQueue actorTimerQueue;
@@ -138,6 +147,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
     private ActorMetrics actorMetrics = ActorMetrics.disabled();
+    private boolean partitionAffinityEnabled = false;
+    private Duration partitionAffinityStealThreshold = DEFAULT_PARTITION_AFFINITY_STEAL_THRESHOLD;
 
     public static IdleStrategy defaultIdleStrategySupplier() {
       return new BackoffIdleStrategy(
@@ -202,6 +213,48 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isPartitionAffinityEnabled() {
+      return partitionAffinityEnabled;
+    }
+
+    /**
+     * If enabled, CPU-bound actors which are tagged with a partition id (see {@link
+     * Actor#ACTOR_PROP_PARTITION_ID}) are pinned to a home thread, such that all actors of a
+     * partition run on the same thread and keep their data in its caches. Other threads only steal
+     * a pinned actor after it waited in its home thread's queue for longer than the {@link
+     * #setPartitionAffinityStealThreshold(Duration) steal threshold}.
+     */
+    public ActorSchedulerBuilder setPartitionAffinityEnabled(
+        final boolean partitionAffinityEnabled) {
+      this.partitionAffinityEnabled = partitionAffinityEnabled;
+      return this;
+    }
+
+    public Duration getPartitionAffinityStealThreshold() {
+      return partitionAffinityStealThreshold;
+    }
+
+    public ActorSchedulerBuilder setPartitionAffinityStealThreshold(
+        final Duration partitionAffinityStealThreshold) {
+      this.partitionAffinityStealThreshold =
+          Objects.requireNonNull(partitionAffinityStealThreshold);
+      return this;
+    }
+
+    public int getVirtualIoBoundActorThreadCount() {
+      return virtualIoBoundThreadsCount;
+    }
+
+    /**
+     * Sets how many virtual I/O-bound actors can run, and thus block, at the same time. If zero, no
+     * virtual I/O threads are created and virtual I/O-bound actors run on the I/O threads.
+     */
+    public ActorSchedulerBuilder setVirtualIoBoundActorThreadCount(
+        final int virtualIoBoundThreadsCount) {
+      this.virtualIoBoundThreadsCount = virtualIoBoundThreadsCount;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -224,6 +277,10 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return ioBoundActorGroup;
     }
 
+    public ActorThreadGroup getVirtualIoBoundActorThreads() {
+      return virtualIoBoundActorGroup;
+    }
+
     ActorMetrics getActorMetrics() {
       return actorMetrics;
     }
@@ -245,6 +302,12 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       }
     }
 
+    private void initVirtualIoBoundActorThreadGroup() {
+      if (virtualIoBoundActorGroup == null && virtualIoBoundThreadsCount > 0) {
+        virtualIoBoundActorGroup = new VirtualIoThreadGroup(this);
+      }
+    }
+
     private void initCpuBoundActorThreadGroup() {
       if (cpuBoundActorGroup == null) {
         cpuBoundActorGroup = new CpuThreadGroup(this);
@@ -261,6 +324,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       initActorThreadFactory();
       initCpuBoundActorThreadGroup();
       initIoBoundActorThreadGroup();
+      initVirtualIoBoundActorThreadGroup();
       initActorExecutor();
       return new ActorScheduler(this);
     }
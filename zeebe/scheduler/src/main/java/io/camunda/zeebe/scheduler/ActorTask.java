@@ -44,12 +44,23 @@ public class ActorTask {
   final Actor actor;
   ActorJob currentJob;
   boolean shouldYield;
+
+  /** when the task was last submitted to its thread group; only tracked if metrics are enabled */
+  long queuedAtNs;
+
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
   private ActorThreadGroup actorThreadGroup;
+
+  /**
+   * the id of the thread this task is pinned to, or -1 if the task is not pinned and may run on any
+   * thread of its group
+   */
+  private int homeThreadId = -1;
+
   private Deque<ActorJob> fastLaneJobs = new ClosedQueue();
   private volatile ActorLifecyclePhase lifecyclePhase = ActorLifecyclePhase.CLOSED;
   private List<ActorSubscription> subscriptions = new ArrayList<>();
@@ -69,6 +80,7 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    homeThreadId = actorThreadGroup.homeThreadOf(actor);
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -137,6 +149,10 @@ public class ActorTask {
             }
 
             subscription.onJobCompleted();
+
+            if (!subscription.isRecurring()) {
+              recycleSubscriptionJob(runner, terminatedJob, subscription);
+            }
           } else {
             runner.recycleJob(terminatedJob);
           }
@@ -168,6 +184,20 @@ public class ActorTask {
     return resubmit;
   }
 
+  /**
+   * Recycles the job of a one-off subscription once it ran. Future subscriptions are never handed
+   * out to callers, so they can be recycled as well; timer subscriptions are not, since the caller
+   * may still hold on to them to cancel the timer.
+   */
+  private void recycleSubscriptionJob(
+      final ActorThread runner, final ActorJob job, final ActorSubscription subscription) {
+    if (subscription instanceof final ActorFutureSubscription futureSubscription) {
+      runner.recycleFutureSubscription(futureSubscription);
+    }
+
+    runner.recycleJob(job);
+  }
+
   private boolean onAllJobsDone() {
     boolean resubmit = false;
 
@@ -461,6 +491,14 @@ public class ActorTask {
     shouldYield = true;
   }
 
+  int getHomeThreadId() {
+    return homeThreadId;
+  }
+
+  boolean isPinned() {
+    return homeThreadId >= 0;
+  }
+
   public long getStateCount() {
     return stateCount.get();
   }
@@ -30,6 +30,9 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
     final ActorTaskQueueNode tail = new ActorTaskQueueNode();
     tail.task = task;
     tail.stateCount = task.getStateCount();
+    if (task.isPinned()) {
+      tail.queuedAtNs = System.nanoTime();
+    }
     final ActorTaskQueueNode previousTail = swapTail(tail);
     previousTail.nextOrdered(tail);
     tail.prevOrdered(previousTail);
@@ -42,11 +45,33 @@ public final class ActorTaskQueue extends ActorTaskQueueHead {
    * @return the actor which was stolen or null in case no actor is available
    */
   public ActorTask trySteal() {
+    return trySteal(0);
+  }
+
+  /**
+   * Attempts to steal a task from this list, like {@link #trySteal()}, but skips tasks which are
+   * pinned to the thread owning this list, unless they have been waiting for longer than the given
+   * threshold.
+   *
+   * @param pinnedStealThresholdNs how long a pinned task must have been queued before it can be
+   *     stolen
+   * @return the actor which was stolen or null in case no actor is available
+   */
+  public ActorTask trySteal(final long pinnedStealThresholdNs) {
     ActorTaskQueueNode node = tail;
+    long now = 0;
 
     while (node != null && node != empty) {
       final ActorTask task = node.task;
-      if (task.claim(node.stateCount)) {
+      boolean stealable = true;
+      if (pinnedStealThresholdNs > 0 && task.isPinned()) {
+        if (now == 0) {
+          now = System.nanoTime();
+        }
+        stealable = now - node.queuedAtNs >= pinnedStealThresholdNs;
+      }
+
+      if (stealable && task.claim(node.stateCount)) {
         return task;
       }
 
@@ -146,6 +171,7 @@ class ActorTaskQueueNode {
   volatile ActorTaskQueueNode prev;
 
   long stateCount;
+  long queuedAtNs;
   ActorTask task;
 
   void nextOrdered(final ActorTaskQueueNode t) {
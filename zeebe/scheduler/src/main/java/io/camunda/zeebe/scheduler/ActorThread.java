@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.scheduler;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ActorThreadMetrics;
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
@@ -36,17 +37,23 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  /** The actor thread whose loop is run by the current virtual thread, if any. */
+  protected static final ThreadLocal<ActorThread> VIRTUAL_ACTOR_THREAD = new ThreadLocal<>();
+
   public final ManyToManyConcurrentArrayQueue<Runnable> submittedCallbacks =
       new ManyToManyConcurrentArrayQueue<>(1024 * 24);
   protected final ActorTimerQueue timerJobQueue;
   protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
   private final ActorMetrics actorMetrics;
+  private final ActorThreadMetrics threadMetrics;
   private final CompletableFuture<Void> terminationFuture = new CompletableFuture<>();
   private final ActorClock clock;
   private final int threadId;
   private final TaskScheduler taskScheduler;
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
+  private final BoundedArrayQueue<ActorFutureSubscription> futureSubscriptions =
+      new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
 
@@ -79,6 +86,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       final ActorMetrics actorMetrics,
       final IdleStrategy idleStrategy) {
     this.actorMetrics = actorMetrics;
+    threadMetrics = actorMetrics.threadScoped(name);
     setName(name);
     state = ActorThreadState.NEW;
     threadId = id;
@@ -100,6 +108,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
     if (currentTask != null) {
       final var metrics = currentTask.getActorMetrics();
+      final long executionStart = threadMetrics.isEnabled() ? System.nanoTime() : 0;
       try (final var timer = metrics.startExecutionTimer()) {
         executeCurrentTask();
       } finally {
@@ -107,6 +116,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
           metrics.updateJobQueueLength(currentTask.estimateQueueLength());
           metrics.countExecution();
         }
+        if (threadMetrics.isEnabled()) {
+          threadMetrics.observeBusyTime(System.nanoTime() - executionStart);
+        }
       }
     } else {
       idleStrategy.onIdle();
@@ -165,9 +177,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread thread = Thread.currentThread();
+    if (thread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    // actor threads of a virtual thread group are not threads themselves, but run on one
+    return thread.isVirtual() ? VIRTUAL_ACTOR_THREAD.get() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -201,6 +217,21 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     jobs.offer(j);
   }
 
+  ActorFutureSubscription newFutureSubscription() {
+    ActorFutureSubscription subscription = futureSubscriptions.poll();
+
+    if (subscription == null) {
+      subscription = new ActorFutureSubscription();
+    }
+
+    return subscription;
+  }
+
+  void recycleFutureSubscription(final ActorFutureSubscription subscription) {
+    subscription.reset();
+    futureSubscriptions.offer(subscription);
+  }
+
   public int getRunnerId() {
     return threadId;
   }
@@ -208,12 +239,27 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
-      super.start();
+      startRunner();
     } else {
       throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
     }
   }
 
+  /**
+   * Starts the thread which runs the loop of this actor thread. By default, this is the actor
+   * thread itself.
+   */
+  protected void startRunner() {
+    super.start();
+  }
+
+  /**
+   * @return the thread which runs the loop of this actor thread, or null if it was not started yet
+   */
+  protected Thread getRunnerThread() {
+    return this;
+  }
+
   @Override
   public void run() {
     idleStrategy.init();
@@ -228,6 +274,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     state = ActorThreadState.TERMINATED;
+    threadMetrics.close();
 
     terminationFuture.complete(null);
   }
@@ -271,6 +318,10 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     return actorMetrics;
   }
 
+  ActorThreadMetrics getThreadMetrics() {
+    return threadMetrics;
+  }
+
   public enum ActorThreadState {
     NEW,
     RUNNING,
@@ -291,7 +342,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      LockSupport.unpark(getRunnerThread());
     }
 
     protected void onIdle() {
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorThreadFactory;
 import io.camunda.zeebe.util.Loggers;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
@@ -22,34 +23,69 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final boolean partitionAffinity;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, false);
+  }
+
+  /**
+   * @param partitionAffinity if true, actors which are tagged with a partition id (see {@link
+   *     Actor#ACTOR_PROP_PARTITION_ID}) are pinned to a home thread of this group, such that all
+   *     actors of the same partition share the thread and its caches. Other threads only steal a
+   *     pinned actor after it waited longer than {@link
+   *     ActorSchedulerBuilder#getPartitionAffinityStealThreshold()} in its home thread's queue.
+   */
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final boolean partitionAffinity) {
+    this(
+        groupName,
+        numOfThreads,
+        builder,
+        schedulerName,
+        partitionAffinity,
+        builder.getActorThreadFactory());
+  }
+
+  protected ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final boolean partitionAffinity,
+      final ActorThreadFactory threadFactory) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    this.partitionAffinity = partitionAffinity;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks =
+        partitionAffinity
+            ? new WorkStealingGroup(numOfThreads, builder.getPartitionAffinityStealThreshold())
+            : new WorkStealingGroup(numOfThreads);
 
     threads = new ActorThread[numOfThreads];
 
     for (int t = 0; t < numOfThreads; t++) {
       final String threadName = String.format("%s-%d", groupName, t);
       final ActorThread thread =
-          builder
-              .getActorThreadFactory()
-              .newThread(
-                  threadName,
-                  t,
-                  this,
-                  tasks,
-                  builder.getActorClock(),
-                  builder.getActorTimerQueue(),
-                  builder.getActorMetrics(),
-                  builder.getIdleStrategySupplier().get());
+          threadFactory.newThread(
+              threadName,
+              t,
+              this,
+              tasks,
+              builder.getActorClock(),
+              builder.getActorTimerQueue(),
+              builder.getActorMetrics(),
+              builder.getIdleStrategySupplier().get());
 
       threads[t] = thread;
     }
@@ -57,7 +93,13 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int homeThreadId = actorTask.getHomeThreadId();
+    if (homeThreadId >= 0) {
+      tasks.submit(actorTask, homeThreadId);
+      if (current != threads[homeThreadId]) {
+        threads[homeThreadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -66,6 +108,28 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  /**
+   * Returns the id of the thread the given actor is pinned to, or -1 if it is not pinned. Actors
+   * are only pinned if partition affinity is enabled for this group and the actor is tagged with a
+   * partition id; partitions are then assigned to the threads in a round-robin fashion.
+   */
+  int homeThreadOf(final Actor actor) {
+    if (!partitionAffinity) {
+      return -1;
+    }
+
+    final String partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return -1;
+    }
+
+    try {
+      return Math.floorMod(Integer.parseInt(partitionId) - 1, numOfThreads);
+    } catch (final NumberFormatException e) {
+      return -1;
+    }
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -9,7 +9,12 @@ package io.camunda.zeebe.scheduler;
 
 public enum SchedulingHints {
   CPU_BOUND,
-  IO_BOUND;
+  IO_BOUND,
+  /**
+   * For actors performing long blocking I/O, which should not hold up other I/O-bound actors. Falls
+   * back to {@link #IO_BOUND} if the scheduler has no virtual I/O threads.
+   */
+  VIRTUAL_IO_BOUND;
 
   public static SchedulingHints cpuBound() {
     return SchedulingHints.CPU_BOUND;
@@ -18,4 +23,8 @@ public enum SchedulingHints {
   public static SchedulingHints ioBound() {
     return SchedulingHints.IO_BOUND;
   }
+
+  public static SchedulingHints virtualIoBound() {
+    return SchedulingHints.VIRTUAL_IO_BOUND;
+  }
 }
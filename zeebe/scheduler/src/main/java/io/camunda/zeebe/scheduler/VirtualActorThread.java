@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import org.agrona.concurrent.IdleStrategy;
+
+/**
+ * An actor thread whose loop does not run on the (platform) thread itself, but on a virtual thread.
+ * Blocking calls made by an actor then only block the virtual thread, and release the underlying
+ * carrier thread for other work unless the virtual thread is pinned to it.
+ *
+ * <p>The actor thread is only a handle for the state of the loop (e.g. its timers and queues); it
+ * is never started as a platform thread. {@link ActorThread#current()} resolves it through a thread
+ * local of the virtual thread.
+ */
+final class VirtualActorThread extends ActorThread {
+  private volatile Thread runner;
+
+  VirtualActorThread(
+      final String name,
+      final int id,
+      final ActorThreadGroup threadGroup,
+      final TaskScheduler taskScheduler,
+      final ActorClock clock,
+      final ActorTimerQueue timerQueue,
+      final ActorMetrics actorMetrics,
+      final IdleStrategy idleStrategy) {
+    super(name, id, threadGroup, taskScheduler, clock, timerQueue, actorMetrics, idleStrategy);
+  }
+
+  @Override
+  protected void startRunner() {
+    runner = Thread.ofVirtual().name(getName()).unstarted(this::runOnVirtualThread);
+    runner.start();
+  }
+
+  @Override
+  protected Thread getRunnerThread() {
+    return runner;
+  }
+
+  private void runOnVirtualThread() {
+    VIRTUAL_ACTOR_THREAD.set(this);
+    try {
+      run();
+    } finally {
+      VIRTUAL_ACTOR_THREAD.remove();
+    }
+  }
+}
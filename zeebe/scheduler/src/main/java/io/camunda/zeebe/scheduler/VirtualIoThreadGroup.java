@@ -0,0 +1,83 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Thread group for actors which perform long blocking I/O, e.g. copying files or calling remote
+ * services. Every thread of the group runs its loop on a virtual thread, so an actor blocked on I/O
+ * does not hold on to a platform thread. The number of threads bounds how many actors of this group
+ * can block at the same time.
+ *
+ * <p>Actors keep their single-threaded semantics: like in any other group, an actor is only ever
+ * executed by one thread of the group at a time.
+ */
+public final class VirtualIoThreadGroup extends ActorThreadGroup {
+  private final ActorMetrics metrics;
+  private final VirtualThreadPinningMonitor pinningMonitor;
+
+  public VirtualIoThreadGroup(final ActorSchedulerBuilder builder) {
+    super(
+        "zb-virtual-io",
+        builder.getVirtualIoBoundActorThreadCount(),
+        builder,
+        builder.getSchedulerName(),
+        false,
+        (name, id, group, taskScheduler, clock, timerQueue, actorMetrics, idleStrategy) ->
+            new VirtualActorThread(
+                name,
+                id,
+                group,
+                new QueueTimeRecordingTaskScheduler(taskScheduler, actorMetrics),
+                clock,
+                timerQueue,
+                actorMetrics,
+                idleStrategy));
+    metrics = builder.getActorMetrics();
+    pinningMonitor = new VirtualThreadPinningMonitor(groupName, metrics);
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    if (metrics.isEnabled()) {
+      actorTask.queuedAtNs = System.nanoTime();
+    }
+
+    super.submit(actorTask);
+  }
+
+  @Override
+  public void start() {
+    if (metrics.isEnabled()) {
+      pinningMonitor.start();
+    }
+
+    super.start();
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return super.closeAsync().whenComplete((ok, error) -> pinningMonitor.close());
+  }
+
+  private record QueueTimeRecordingTaskScheduler(TaskScheduler delegate, ActorMetrics metrics)
+      implements TaskScheduler {
+
+    @Override
+    public ActorTask getNextTask() {
+      final ActorTask task = delegate.getNextTask();
+      if (task != null && metrics.isEnabled()) {
+        metrics.observeVirtualIoQueueTime(System.nanoTime() - task.queuedAtNs);
+      }
+
+      return task;
+    }
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.util.Loggers;
+import java.time.Duration;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Observes, via JFR, how long the virtual threads of a thread group were pinned to their carrier
+ * thread while blocking. A pinned virtual thread blocks its carrier, so frequent or long pinning
+ * means that the group behaves like a pool of platform threads again.
+ */
+final class VirtualThreadPinningMonitor implements AutoCloseable {
+  private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  /** The JDK's default threshold for the pinned event. */
+  private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+  private final String threadNamePrefix;
+  private final ActorMetrics metrics;
+  private RecordingStream stream;
+
+  VirtualThreadPinningMonitor(final String threadNamePrefix, final ActorMetrics metrics) {
+    this.threadNamePrefix = threadNamePrefix;
+    this.metrics = metrics;
+  }
+
+  synchronized void start() {
+    if (stream != null) {
+      return;
+    }
+
+    try {
+      stream = new RecordingStream();
+      stream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD);
+      stream.onEvent(PINNED_EVENT, this::onPinned);
+      stream.startAsync();
+    } catch (final RuntimeException e) {
+      Loggers.ACTOR_LOGGER.warn(
+          "Failed to observe pinning of virtual actor threads '{}', no pinning metrics will be"
+              + " recorded",
+          threadNamePrefix,
+          e);
+      close();
+    }
+  }
+
+  @Override
+  public synchronized void close() {
+    if (stream != null) {
+      stream.close();
+      stream = null;
+    }
+  }
+
+  private void onPinned(final RecordedEvent event) {
+    final RecordedThread thread = event.getThread();
+    if (thread != null
+        && thread.getJavaName() != null
+        && thread.getJavaName().startsWith(threadNamePrefix)) {
+      metrics.observeVirtualThreadPinned(event.getDuration().toNanos());
+    }
+  }
+}
@@ -9,15 +9,27 @@ package io.camunda.zeebe.scheduler;
 
 import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
+import java.time.Duration;
 import java.util.concurrent.ThreadLocalRandom;
 
 /** Workstealing group maintains a queue per thread. */
 public final class WorkStealingGroup implements TaskScheduler {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private final long pinnedStealThresholdNs;
 
   public WorkStealingGroup(final int numOfThreads) {
+    this(numOfThreads, Duration.ZERO);
+  }
+
+  /**
+   * @param numOfThreads the number of threads, each of which gets its own queue
+   * @param pinnedStealThreshold how long a task pinned to a thread must wait in that thread's queue
+   *     before another thread may steal it
+   */
+  public WorkStealingGroup(final int numOfThreads, final Duration pinnedStealThreshold) {
     this.numOfThreads = numOfThreads;
+    pinnedStealThresholdNs = pinnedStealThreshold.toNanos();
     taskQueues = new ActorTaskQueue[numOfThreads];
     for (int i = 0; i < numOfThreads; i++) {
       taskQueues[i] = new ActorTaskQueue();
@@ -47,6 +59,10 @@ public final class WorkStealingGroup implements TaskScheduler {
 
     if (nextTask == null) {
       nextTask = trySteal(currentThread);
+
+      if (nextTask != null) {
+        currentThread.getThreadMetrics().countSteal();
+      }
     }
 
     return nextTask;
@@ -81,7 +97,7 @@ public final class WorkStealingGroup implements TaskScheduler {
       final int runnerId = i % numOfThreads;
 
       if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+        final ActorTask stolenActor = taskQueues[runnerId].trySteal(pinnedStealThresholdNs);
 
         if (stolenActor != null) {
           return stolenActor;
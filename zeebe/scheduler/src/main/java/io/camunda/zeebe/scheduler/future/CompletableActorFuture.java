@@ -238,7 +238,11 @@ public final class CompletableActorFuture<V> implements ActorFuture<V> {
 
   @Override
   public void block(final ActorTask onCompletion) {
-    blockedCallbacks.add((resIgnore, errorIgnore) -> onCompletion.tryWakeup());
+    // a completed future does not need to wake up the task: the task is still running, as only the
+    // actor itself can block on a future, and it polls its subscriptions before it waits
+    if (!isDone()) {
+      blockedCallbacks.add((resIgnore, errorIgnore) -> onCompletion.tryWakeup());
+    }
   }
 
   @Override
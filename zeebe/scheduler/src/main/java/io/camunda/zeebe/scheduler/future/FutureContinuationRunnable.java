@@ -11,13 +11,33 @@ import java.util.function.BiConsumer;
 import org.agrona.LangUtil;
 
 public final class FutureContinuationRunnable<T> implements Runnable {
-  private final ActorFuture<T> future;
-  private final BiConsumer<T, Throwable> consumer;
+  private ActorFuture<T> future;
+  private BiConsumer<T, Throwable> consumer;
+
+  /** Creates an empty runnable, which is set up via {@link #wrap(ActorFuture, BiConsumer)} */
+  public FutureContinuationRunnable() {}
 
   public FutureContinuationRunnable(
       final ActorFuture<T> future, final BiConsumer<T, Throwable> consumer) {
+    wrap(future, consumer);
+  }
+
+  /**
+   * Sets the future and the consumer of its result; allows reusing the runnable once it ran.
+   *
+   * @return this runnable
+   */
+  public FutureContinuationRunnable<T> wrap(
+      final ActorFuture<T> future, final BiConsumer<T, Throwable> consumer) {
     this.future = future;
     this.consumer = consumer;
+    return this;
+  }
+
+  /** Clears the references to the future and its consumer, such that the runnable can be reused */
+  public void reset() {
+    future = null;
+    consumer = null;
   }
 
   @Override
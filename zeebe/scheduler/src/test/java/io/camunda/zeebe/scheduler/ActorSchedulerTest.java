@@ -11,7 +11,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.Test;
 
@@ -83,5 +88,108 @@ final class ActorSchedulerTest {
         .isInstanceOf(IllegalStateException.class);
   }
 
+  @Test
+  void shouldRunPartitionActorsOnTheirHomeThread() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(3)
+            .setPartitionAffinityEnabled(true)
+            .setPartitionAffinityStealThreshold(Duration.ofMinutes(1))
+            .build();
+    scheduler.start();
+    final var partitionOne = new PartitionActor(1);
+    final var partitionTwo = new PartitionActor(2);
+    final var otherPartitionOne = new PartitionActor(4);
+    scheduler.submitActor(partitionOne).join();
+    scheduler.submitActor(partitionTwo).join();
+    scheduler.submitActor(otherPartitionOne).join();
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      partitionOne.recordThread();
+      partitionTwo.recordThread();
+      otherPartitionOne.recordThread();
+    }
+
+    // then
+    assertThat(partitionOne.recordThread().join()).containsOnly("zb-actors-0");
+    assertThat(partitionTwo.recordThread().join()).containsOnly("zb-actors-1");
+    assertThat(otherPartitionOne.recordThread().join()).containsOnly("zb-actors-0");
+    scheduler.close();
+  }
+
+  @Test
+  void shouldStealPinnedActorWhenHomeThreadIsBusy() throws Exception {
+    // given
+    final var registry = new SimpleMeterRegistry();
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setPartitionAffinityEnabled(true)
+            .setPartitionAffinityStealThreshold(Duration.ofMillis(10))
+            .setMeterRegistry(registry)
+            .build();
+    scheduler.start();
+    final var blockingActor = new PartitionActor(1);
+    final var waitingActor = new PartitionActor(1);
+    scheduler.submitActor(blockingActor).join();
+    scheduler.submitActor(waitingActor).join();
+    final var latch = new CountDownLatch(1);
+
+    // when - the home thread of partition 1 is blocked
+    blockingActor.run(
+        () -> {
+          try {
+            latch.await();
+          } catch (final InterruptedException e) {
+            throw new RuntimeException(e);
+          }
+        });
+    final var threads = waitingActor.recordThread();
+
+    // then - the other thread eventually steals the waiting actor
+    assertThat(threads).succeedsWithin(Duration.ofSeconds(5));
+    latch.countDown();
+    assertThat(threads.join()).containsOnly("zb-actors-1");
+    assertThat(
+            registry
+                .get("zeebe.actor.thread.steal.count")
+                .tag("threadName", "zb-actors-1")
+                .counter()
+                .count())
+        .isPositive();
+    scheduler.close();
+  }
+
   private static final class TestActor extends Actor {}
+
+  private static final class PartitionActor extends Actor {
+    private final int partitionId;
+    private final Set<String> threads = new HashSet<>();
+
+    private PartitionActor(final int partitionId) {
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, String.valueOf(partitionId));
+      return context;
+    }
+
+    @Override
+    public String getName() {
+      return buildActorName("PartitionActor", partitionId);
+    }
+
+    private ActorFuture<Set<String>> recordThread() {
+      return actor.call(
+          () -> {
+            threads.add(Thread.currentThread().getName());
+            return Set.copyOf(threads);
+          });
+    }
+  }
 }
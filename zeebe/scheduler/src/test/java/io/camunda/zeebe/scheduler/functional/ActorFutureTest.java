@@ -152,6 +152,39 @@ final class ActorFutureTest {
     assertThat(results).contains("foo", "bar");
   }
 
+  @Test
+  void shouldInvokeEachCallbackOnceWhenChainingContinuations() {
+    // given - every continuation registers the next one, reusing the job of the previous one
+    final int continuations = 100;
+    final List<Integer> results = new ArrayList<>();
+
+    final Actor waitingActor =
+        new Actor() {
+          @Override
+          protected void onActorStarted() {
+            awaitNext(0);
+          }
+
+          private void awaitNext(final int value) {
+            if (value < continuations) {
+              actor.runOnCompletion(
+                  CompletableActorFuture.completed(value),
+                  (result, error) -> {
+                    results.add(result);
+                    awaitNext(result + 1);
+                  });
+            }
+          }
+        };
+
+    // when
+    schedulerRule.submitActor(waitingActor);
+    schedulerRule.workUntilDone();
+
+    // then
+    assertThat(results).hasSize(continuations).isSorted().doesNotHaveDuplicates();
+  }
+
   @Test
   void shouldInvokeCallbackOnEmptyFutureList() {
     // given
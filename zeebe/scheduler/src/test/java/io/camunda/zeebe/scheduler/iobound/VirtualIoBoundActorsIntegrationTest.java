@@ -0,0 +1,131 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.iobound;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorThread;
+import io.camunda.zeebe.scheduler.ActorThreadGroup;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.VirtualIoThreadGroup;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoBoundActorsIntegrationTest {
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private ActorSchedulerBuilder builder;
+  private ActorScheduler scheduler;
+
+  @AfterEach
+  void tearDown() throws Exception {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  void shouldRunVirtualIoBoundActorOnVirtualThread() {
+    // given
+    startScheduler(2);
+    final var actor = new BlockingActor();
+    scheduler.submitActor(actor, SchedulingHints.virtualIoBound()).join();
+
+    // when
+    final var threadGroup = actor.threadGroupAfterDelay();
+
+    // then
+    assertThat(threadGroup.join()).isInstanceOf(VirtualIoThreadGroup.class);
+    assertThat(actor.isVirtual().join()).isTrue();
+    assertThat(registry.get("zeebe.actor.virtual.io.queue.time").timer().count()).isPositive();
+  }
+
+  @Test
+  void shouldNotHoldUpOtherActorsWhileBlocking() {
+    // given
+    startScheduler(4);
+    final var latch = new CountDownLatch(1);
+    for (int i = 0; i < 3; i++) {
+      final var blocked = new BlockingActor();
+      scheduler.submitActor(blocked, SchedulingHints.virtualIoBound()).join();
+      blocked.block(latch);
+    }
+    final var actor = new BlockingActor();
+    scheduler.submitActor(actor, SchedulingHints.virtualIoBound()).join();
+
+    // when
+    final var threadGroup = actor.threadGroupAfterDelay();
+
+    // then
+    assertThat(threadGroup).succeedsWithin(Duration.ofSeconds(5));
+    latch.countDown();
+  }
+
+  @Test
+  void shouldFallBackToIoThreadsWithoutVirtualIoThreads() {
+    // given
+    startScheduler(0);
+    final var actor = new BlockingActor();
+    scheduler.submitActor(actor, SchedulingHints.virtualIoBound()).join();
+
+    // when
+    final var threadGroup = actor.threadGroupAfterDelay();
+
+    // then
+    assertThat(threadGroup.join())
+        .isSameAs(builder.getIoBoundActorThreads())
+        .isNotInstanceOf(VirtualIoThreadGroup.class);
+    assertThat(actor.isVirtual().join()).isFalse();
+  }
+
+  private void startScheduler(final int virtualIoThreadCount) {
+    builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setVirtualIoBoundActorThreadCount(virtualIoThreadCount)
+            .setMeterRegistry(registry);
+    scheduler = builder.build();
+    scheduler.start();
+  }
+
+  private static final class BlockingActor extends Actor {
+
+    private void block(final CountDownLatch latch) {
+      actor.run(
+          () -> {
+            try {
+              latch.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+
+    private ActorFuture<ActorThreadGroup> threadGroupAfterDelay() {
+      final var result = new CompletableActorFuture<ActorThreadGroup>();
+      actor.run(
+          () ->
+              actor.schedule(
+                  Duration.ofMillis(1),
+                  () -> result.complete(ActorThread.current().getActorThreadGroup())));
+      return result;
+    }
+
+    private ActorFuture<Boolean> isVirtual() {
+      return actor.call(() -> Thread.currentThread().isVirtual());
+    }
+  }
+}
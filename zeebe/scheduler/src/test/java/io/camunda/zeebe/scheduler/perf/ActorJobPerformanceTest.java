@@ -0,0 +1,179 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler.perf;
+
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the common ways of scheduling work on actors: submitting jobs to another actor, timers,
+ * and future continuations. Each operation schedules a batch of jobs and waits until all of them
+ * ran, so the score is the inverse of the latency of a batch. The tests run with the GC profiler,
+ * which reports the allocation rate per operation next to the score.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx1g", "-Xms1g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ActorJobPerformanceTest {
+  private static final int BATCH_SIZE = 1_000;
+
+  private ActorScheduler scheduler;
+  private BenchmarkActor producer;
+  private BenchmarkActor consumer;
+
+  @Setup
+  public void setup() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(2)
+            .setIoBoundActorThreadCount(1)
+            .build();
+    scheduler.start();
+
+    producer = new BenchmarkActor("producer");
+    consumer = new BenchmarkActor("consumer");
+    scheduler.submitActor(producer).join();
+    scheduler.submitActor(consumer).join();
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    producer.closeAsync().join();
+    consumer.closeAsync().join();
+    scheduler.close();
+  }
+
+  @JMHTest("measureSubmit")
+  void shouldSubmitJobsWithinDeviation(final JMHTestCase testCase) {
+    // when
+    final var assertResult = profileAllocations(testCase).run();
+
+    // then
+    assertResult.isAtLeast(7_000, 0.5);
+  }
+
+  @JMHTest("measureTimers")
+  void shouldRunTimersWithinDeviation(final JMHTestCase testCase) {
+    // when
+    final var assertResult = profileAllocations(testCase).run();
+
+    // then
+    assertResult.isAtLeast(4, 0.5);
+  }
+
+  @JMHTest("measureFutureContinuations")
+  void shouldRunFutureContinuationsWithinDeviation(final JMHTestCase testCase) {
+    // when
+    final var assertResult = profileAllocations(testCase).run();
+
+    // then
+    assertResult.isAtLeast(3_500, 0.5);
+  }
+
+  @Benchmark
+  public Void measureSubmit() {
+    return producer.submitJobs(consumer, BATCH_SIZE).join();
+  }
+
+  @Benchmark
+  public Void measureTimers() {
+    return producer.scheduleTimers(BATCH_SIZE).join();
+  }
+
+  @Benchmark
+  public Void measureFutureContinuations() {
+    return producer.awaitFutures(BATCH_SIZE).join();
+  }
+
+  private JMHTestCase profileAllocations(final JMHTestCase testCase) {
+    return testCase.withOptions(options -> options.addProfiler(GCProfiler.class));
+  }
+
+  private static final class BenchmarkActor extends Actor {
+    private final String name;
+    private int executed;
+
+    private BenchmarkActor(final String name) {
+      this.name = name;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    private ActorFuture<Void> submitJobs(final BenchmarkActor target, final int count) {
+      final CompletableActorFuture<Void> done = new CompletableActorFuture<>();
+      actor.run(
+          () -> {
+            for (int i = 0; i < count - 1; i++) {
+              target.run(target::onJobExecuted);
+            }
+            target.run(() -> done.complete(null));
+          });
+      return done;
+    }
+
+    private ActorFuture<Void> scheduleTimers(final int count) {
+      final CompletableActorFuture<Void> done = new CompletableActorFuture<>();
+      actor.run(
+          () -> {
+            executed = 0;
+            for (int i = 0; i < count; i++) {
+              actor.schedule(Duration.ZERO, () -> completeOnLastJob(done, count));
+            }
+          });
+      return done;
+    }
+
+    private ActorFuture<Void> awaitFutures(final int count) {
+      final CompletableActorFuture<Void> done = new CompletableActorFuture<>();
+      actor.run(
+          () -> {
+            executed = 0;
+            for (int i = 0; i < count; i++) {
+              actor.runOnCompletion(
+                  CompletableActorFuture.completed(i), (r, e) -> completeOnLastJob(done, count));
+            }
+          });
+      return done;
+    }
+
+    private void onJobExecuted() {
+      executed++;
+    }
+
+    private void completeOnLastJob(final CompletableActorFuture<Void> done, final int count) {
+      if (++executed == count) {
+        done.complete(null);
+      }
+    }
+  }
+}
@@ -8,6 +8,8 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.util.Collection;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +32,29 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Chunks may be applied in any order, so receiving the chunk marked as last does not imply that
+   * all chunks were received. Only reliable after the futures of all applied chunks completed.
+   *
+   * @return true if all chunks of the snapshot were applied, false otherwise
+   */
+  default boolean isComplete() {
+    return true;
+  }
+
+  /**
+   * Takes the given files from an existing snapshot instead of receiving them, as they are
+   * identical in both snapshots. In case of failure, the future will be completed with a
+   * SnapshotWriteException.
+   *
+   * @param source the snapshot which holds the files
+   * @param fileNames the names of the files to take from the source snapshot
+   */
+  default ActorFuture<Void> reuseFiles(
+      final PersistedSnapshot source, final Collection<String> fileNames) {
+    return CompletableActorFuture.completedExceptionally(
+        new UnsupportedOperationException(
+            "Reusing files of an existing snapshot is not supported"));
+  }
 }
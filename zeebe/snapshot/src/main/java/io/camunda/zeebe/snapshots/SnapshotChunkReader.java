@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,17 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Excludes the given files from the chunks returned by this reader, e.g. because the receiver
+   * already holds them. Files which were already partially or completely read cannot be excluded
+   * anymore, and at least one file is always kept, such that there is a last chunk to send. The
+   * total count of the returned chunks is not affected.
+   *
+   * @param fileNames the names of the files to exclude
+   * @return the names of the files which were excluded
+   */
+  default Set<String> excludeFiles(final Set<String> fileNames) {
+    return Set.of();
+  }
 }
@@ -20,13 +20,24 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A snapshot which is received chunk by chunk. Chunks are written at their position in the
+ * respective file, so they may be applied in any order; the snapshot is complete once every byte of
+ * every file was received. Files which are identical in an existing snapshot can be taken from it
+ * instead, see {@link #reuseFiles(PersistedSnapshot, Collection)}.
+ */
 public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
@@ -40,8 +51,10 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
-  private long writtenMetadataBytes;
   private SfvChecksumImpl checksumCollection;
+  private final Map<String, ReceivedFile> receivedFiles = new HashMap<>();
+  private int completedFiles;
+  private volatile boolean complete;
 
   FileBasedReceivedSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -53,7 +66,6 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     this.directory = directory;
     this.actor = actor;
     expectedTotalCount = Integer.MIN_VALUE;
-    writtenMetadataBytes = 0;
   }
 
   @Override
@@ -61,6 +73,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return snapshotId.getIndex();
   }
 
+  @Override
+  public boolean isComplete() {
+    return complete;
+  }
+
   @Override
   public ActorFuture<Void> apply(final SnapshotChunk snapshotChunk) {
     return actor.call(
@@ -84,6 +101,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
           "Ignore snapshot snapshotChunk {}, because snapshot {} already exists.",
           chunkName,
           snapshotId);
+      complete = true;
       return;
     }
 
@@ -102,32 +120,144 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
+    final boolean isMetadata =
+        snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+    if (isMetadata) {
+      collectMetadata(snapshotChunk);
+    }
+
+    final var receivedFile =
+        receivedFiles.computeIfAbsent(
+            chunkName, name -> new ReceivedFile(snapshotChunk.getTotalFileSize()));
+    if (receivedFile.isComplete()) {
+      // the chunk was sent again, e.g. after the sender timed out waiting for an acknowledgement
+      return;
+    }
+
+    receivedFile.add(snapshotChunk.getFileBlockPosition(), snapshotChunk.getContent().length);
+    if (receivedFile.isComplete()) {
+      onFileReceived(snapshotChunk, snapshotFile, isMetadata);
+    }
+  }
+
+  @Override
+  public ActorFuture<Void> reuseFiles(
+      final PersistedSnapshot source, final Collection<String> fileNames) {
+    return actor.call(
+        () -> {
+          reuseFilesInternal(source, fileNames);
+          return null;
+        });
+  }
+
+  private void reuseFilesInternal(
+      final PersistedSnapshot source, final Collection<String> fileNames)
+      throws SnapshotWriteException {
+    if (snapshotStore.hasSnapshotId(snapshotId.getSnapshotIdAsString())) {
+      complete = true;
+      return;
+    }
+
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    final var sourceChecksums = source.getChecksums().getChecksums();
+    for (final var fileName : fileNames) {
+      final var receivedFile = receivedFiles.get(fileName);
+      if (receivedFile != null && receivedFile.isComplete()) {
+        continue;
+      }
+
+      final var checksum = sourceChecksums.get(fileName);
+      if (checksum == null) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse file %s of snapshot %s, but it is not part of it",
+                fileName, source.getId()));
+      }
+
+      final var snapshotFile = directory.resolve(fileName);
+      final long fileSize;
+      try {
+        linkOrCopy(source.getPath().resolve(fileName), snapshotFile);
+        fileSize = Files.size(snapshotFile);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to reuse file %s of snapshot %s", fileName, source.getId()), e);
+      }
+
+      final var reusedFile = new ReceivedFile(fileSize);
+      reusedFile.add(0, fileSize);
+      receivedFiles.put(fileName, reusedFile);
+
+      if (checksumCollection == null) {
+        checksumCollection = new SfvChecksumImpl();
+      }
+      checksumCollection.updateFromChecksum(snapshotFile, checksum);
+      completedFiles++;
+    }
+
+    LOGGER.debug("Reused {} files of snapshot {}", fileNames.size(), source.getId());
+    complete = completedFiles == expectedTotalCount;
+  }
+
+  /**
+   * Snapshot files are immutable, so a hard link is sufficient to share them between snapshots.
+   * Falls back to copying the file, e.g. if both are not on the same file system.
+   */
+  private void linkOrCopy(final Path source, final Path target) throws IOException {
+    Files.deleteIfExists(target);
+    try {
+      Files.createLink(target, source);
+    } catch (final IOException | UnsupportedOperationException e) {
+      LOGGER.trace("Failed to link {} to {}, copying it instead", target, source, e);
+      Files.copy(source, target);
+    }
+  }
+
+  private void onFileReceived(
+      final SnapshotChunk snapshotChunk, final Path snapshotFile, final boolean isMetadata)
+      throws SnapshotWriteException {
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
 
-    if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+    if (snapshotChunk.getFileBlockPosition() == 0
+        && snapshotChunk.getContent().length == snapshotChunk.getTotalFileSize()) {
+      // the whole file was received in a single chunk, so there is no need to read it back
+      checksumCollection.updateFromBytes(
+          snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    } else {
+      try {
+        checksumCollection.updateFromFile(snapshotFile);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to compute checksum of received file %s", snapshotFile), e);
+      }
+    }
+
+    if (isMetadata) {
       try {
-        collectMetadata(snapshotChunk);
+        metadata = FileBasedSnapshotMetadata.decode(metadataBuffer.array());
       } catch (final IOException e) {
         throw new SnapshotWriteException("Cannot decode snapshot metadata");
       }
     }
+
+    completedFiles++;
+    complete = completedFiles == expectedTotalCount;
   }
 
-  private void collectMetadata(final SnapshotChunk chunk) throws IOException {
+  private void collectMetadata(final SnapshotChunk chunk) {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
     }
 
     metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
-    writtenMetadataBytes += chunk.getContent().length;
-
-    if (writtenMetadataBytes == chunk.getTotalFileSize()) {
-      metadata = FileBasedSnapshotMetadata.decode(metadataBuffer.array());
-    }
   }
 
   private void checkChunkChecksumIsValid(
@@ -294,4 +424,42 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
         + snapshotId
         + '}';
   }
+
+  /** Keeps track of the byte ranges of a single file which were received so far. */
+  private static final class ReceivedFile {
+
+    private final long totalSize;
+    // start offset (inclusive) to end offset (exclusive) of disjoint, non-adjacent ranges
+    private final TreeMap<Long, Long> ranges = new TreeMap<>();
+
+    private ReceivedFile(final long totalSize) {
+      this.totalSize = totalSize;
+    }
+
+    private void add(final long position, final long length) {
+      long start = position;
+      long end = position + length;
+
+      final var previous = ranges.floorEntry(start);
+      if (previous != null && previous.getValue() >= start) {
+        start = previous.getKey();
+        end = Math.max(end, previous.getValue());
+      }
+
+      var next = ranges.ceilingEntry(start);
+      while (next != null && next.getKey() <= end) {
+        end = Math.max(end, next.getValue());
+        ranges.remove(next.getKey());
+        next = ranges.ceilingEntry(start);
+      }
+
+      ranges.put(start, end);
+    }
+
+    private boolean isComplete() {
+      return ranges.size() == 1
+          && ranges.firstKey() == 0
+          && ranges.firstEntry().getValue() >= totalSize;
+    }
+  }
 }
@@ -15,7 +15,9 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
@@ -89,6 +91,20 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public Set<String> excludeFiles(final Set<String> fileNames) {
+    final var excluded = new HashSet<String>();
+    for (final var fileName : new TreeSet<>(fileNames)) {
+      final var partiallyRead = offset > 0 && fileName.contentEquals(chunksView.first());
+      if (!partiallyRead && chunksView.size() > 1 && chunksView.contains(fileName)) {
+        chunks.remove(fileName);
+        chunksView.remove(fileName);
+        excluded.add(fileName);
+      }
+    }
+    return excluded;
+  }
+
   @Override
   public void close() {
     chunks.clear();
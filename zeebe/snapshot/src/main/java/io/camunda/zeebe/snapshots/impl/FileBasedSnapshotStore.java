@@ -26,6 +26,8 @@ import java.nio.file.Path;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
 
 public final class FileBasedSnapshotStore extends Actor
@@ -37,6 +39,8 @@ public final class FileBasedSnapshotStore extends Actor
   private final String actorName;
   private final int partitionId;
   private final FileBasedSnapshotStoreImpl snapshotStore;
+  // calculates snapshot checksums in the background, or null if they are calculated on the actor
+  private final ExecutorService checksumExecutor;
 
   public FileBasedSnapshotStore(
       final int brokerId,
@@ -44,11 +48,38 @@ public final class FileBasedSnapshotStore extends Actor
       final Path root,
       final CRC32CChecksumProvider checksumProvider,
       final MeterRegistry meterRegistry) {
+    this(brokerId, partitionId, root, checksumProvider, meterRegistry, false);
+  }
+
+  /**
+   * @param calculateChecksumsInBackground if true, the checksums of a new snapshot are calculated
+   *     on dedicated virtual threads instead of the actor thread, such that taking a snapshot does
+   *     not block the actor while the snapshot files are read
+   */
+  public FileBasedSnapshotStore(
+      final int brokerId,
+      final int partitionId,
+      final Path root,
+      final CRC32CChecksumProvider checksumProvider,
+      final MeterRegistry meterRegistry,
+      final boolean calculateChecksumsInBackground) {
     actorName = buildActorName("SnapshotStore", partitionId);
     this.partitionId = partitionId;
+    checksumExecutor =
+        calculateChecksumsInBackground
+            ? Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual()
+                    .name("zeebe-snapshot-checksum-" + partitionId + "-", 0)
+                    .factory())
+            : null;
     snapshotStore =
         new FileBasedSnapshotStoreImpl(
-            brokerId, root, checksumProvider, actor, new SnapshotMetrics(meterRegistry));
+            brokerId,
+            root,
+            checksumProvider,
+            actor,
+            new SnapshotMetrics(meterRegistry),
+            checksumExecutor != null ? checksumExecutor : Runnable::run);
   }
 
   @Override
@@ -71,6 +102,9 @@ public final class FileBasedSnapshotStore extends Actor
   @Override
   protected void onActorClosing() {
     snapshotStore.close();
+    if (checksumExecutor != null) {
+      checksumExecutor.shutdown();
+    }
   }
 
   @Override
@@ -41,6 +41,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -64,6 +65,7 @@ public final class FileBasedSnapshotStoreImpl {
   private final Set<PersistedSnapshotListener> listeners = new CopyOnWriteArraySet<>();
   private final SnapshotMetrics metrics;
   private final CRC32CChecksumProvider checksumProvider;
+  private final SnapshotChecksumCalculator checksumCalculator;
   private final ConcurrencyControl actor;
 
   // Use AtomicReference so that getting latest snapshot doesn't have to go through the actor
@@ -79,10 +81,26 @@ public final class FileBasedSnapshotStoreImpl {
       final CRC32CChecksumProvider checksumProvider,
       final ConcurrencyControl actor,
       final SnapshotMetrics metrics) {
+    this(brokerId, root, checksumProvider, actor, metrics, Runnable::run);
+  }
+
+  /**
+   * @param checksumExecutor executes the calculation of snapshot checksums, such that taking a
+   *     snapshot does not block the actor while the snapshot files are read
+   */
+  public FileBasedSnapshotStoreImpl(
+      final int brokerId,
+      final Path root,
+      final CRC32CChecksumProvider checksumProvider,
+      final ConcurrencyControl actor,
+      final SnapshotMetrics metrics,
+      final Executor checksumExecutor) {
     this.brokerId = brokerId;
     this.actor = Objects.requireNonNull(actor);
     this.metrics = Objects.requireNonNull(metrics);
     this.checksumProvider = Objects.requireNonNull(checksumProvider);
+    checksumCalculator =
+        new SnapshotChecksumCalculator(Objects.requireNonNull(checksumExecutor), metrics);
 
     snapshotsDirectory = root.resolve(SNAPSHOTS_DIRECTORY);
     bootstrapSnapshotsDirectory = root.resolve(SNAPSHOTS_BOOTSTRAP_DIRECTORY);
@@ -379,7 +397,14 @@ public final class FileBasedSnapshotStoreImpl {
     } while (Files.exists(directory));
     final var newPendingSnapshot =
         new FileBasedTransientSnapshot(
-            newSnapshotId, directory, this, actor, checksumProvider, false);
+            newSnapshotId,
+            directory,
+            this,
+            actor,
+            checksumProvider,
+            checksumCalculator,
+            currentSnapshot,
+            false);
     addPendingSnapshot(newPendingSnapshot);
     return Either.right(newPendingSnapshot);
   }
@@ -691,7 +716,14 @@ public final class FileBasedSnapshotStoreImpl {
               ignored -> {
                 final var transientSnapshot =
                     new FileBasedTransientSnapshot(
-                        zeroedSnapshotId, destinationFolder, this, actor, checksumProvider, true);
+                        zeroedSnapshotId,
+                        destinationFolder,
+                        this,
+                        actor,
+                        checksumProvider,
+                        checksumCalculator,
+                        null,
+                        true);
                 return transientSnapshot
                     .take(toPath -> copySnapshot.accept(snapshotPath, toPath))
                     .andThen(ignore -> transientSnapshot.persistInternal(), actor);
@@ -18,6 +18,8 @@ import io.camunda.zeebe.snapshots.SnapshotException.SnapshotAlreadyExistsExcepti
 import io.camunda.zeebe.snapshots.SnapshotException.SnapshotNotFoundException;
 import io.camunda.zeebe.snapshots.SnapshotId;
 import io.camunda.zeebe.snapshots.TransientSnapshot;
+import io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SnapshotPhase;
+import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.channels.Channels;
@@ -27,6 +29,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -34,6 +37,10 @@ import org.slf4j.LoggerFactory;
 /**
  * Represents a pending snapshot, that is a snapshot in the process of being written and has not yet
  * been committed to the store.
+ *
+ * <p>Taking the snapshot only blocks the actor while the state is written to the snapshot
+ * directory; the checksums of the written files are calculated in the background by the {@link
+ * SnapshotChecksumCalculator}, and the snapshot is only considered taken once they are known.
  */
 public final class FileBasedTransientSnapshot implements TransientSnapshot {
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedTransientSnapshot.class);
@@ -47,8 +54,11 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
   private PersistedSnapshot snapshot;
   private MutableChecksumsSFV checksum;
   private final CRC32CChecksumProvider checksumProvider;
+  private final SnapshotChecksumCalculator checksumCalculator;
+  private final FileBasedSnapshot previousSnapshot;
   private long lastFollowupEventPosition = Long.MAX_VALUE;
   private final boolean isBootstrap;
+  private boolean isAborted = false;
 
   FileBasedTransientSnapshot(
       final FileBasedSnapshotId snapshotId,
@@ -56,12 +66,16 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
       final FileBasedSnapshotStoreImpl snapshotStore,
       final ConcurrencyControl actor,
       final CRC32CChecksumProvider checksumProvider,
+      final SnapshotChecksumCalculator checksumCalculator,
+      final FileBasedSnapshot previousSnapshot,
       final boolean isBootstrap) {
     this.snapshotId = snapshotId;
     this.snapshotStore = snapshotStore;
     this.directory = directory;
     this.actor = actor;
     this.checksumProvider = checksumProvider;
+    this.checksumCalculator = checksumCalculator;
+    this.previousSnapshot = previousSnapshot;
     this.isBootstrap = isBootstrap;
   }
 
@@ -79,32 +93,64 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
 
   private void takeInternal(final Consumer<Path> takeSnapshot) {
     final var snapshotMetrics = snapshotStore.getMetrics();
+    final var timer = snapshotMetrics.startTimer(isBootstrap);
 
-    try (final var ignored = snapshotMetrics.startTimer(isBootstrap)) {
-      try {
+    try {
+      try (final var ignored = snapshotMetrics.startPhaseTimer(SnapshotPhase.CREATE, isBootstrap)) {
         takeSnapshot.accept(getPath());
-        if (FileUtil.isEmpty(directory)) {
-          // If no snapshot files are created, snapshot is not valid
-          abortInternal();
-          takenFuture.completeExceptionally(
-              new IllegalStateException(
-                  String.format(
-                      "Expected to find transient snapshot in directory %s, but the directory is empty or does not exists",
-                      directory)));
-
-        } else {
-          checksum = SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
-
-          snapshot = null;
-          isValid = true;
-          takenFuture.complete(null);
-        }
+      }
 
-      } catch (final Exception exception) {
-        LOGGER.warn("Unexpected exception on taking snapshot ({})", snapshotId, exception);
+      if (FileUtil.isEmpty(directory)) {
+        // If no snapshot files are created, snapshot is not valid
+        timer.close();
         abortInternal();
-        takenFuture.completeExceptionally(exception);
+        takenFuture.completeExceptionally(
+            new IllegalStateException(
+                String.format(
+                    "Expected to find transient snapshot in directory %s, but the directory is empty or does not exists",
+                    directory)));
+        return;
       }
+
+      checksumCalculator
+          .calculate(
+              directory,
+              checksumProvider.getSnapshotChecksums(directory),
+              previousSnapshot,
+              isBootstrap)
+          .whenComplete(
+              (calculated, error) ->
+                  actor.run(() -> onChecksumCalculated(calculated, error, timer)));
+
+    } catch (final Exception exception) {
+      LOGGER.warn("Unexpected exception on taking snapshot ({})", snapshotId, exception);
+      timer.close();
+      abortInternal();
+      takenFuture.completeExceptionally(exception);
+    }
+  }
+
+  private void onChecksumCalculated(
+      final MutableChecksumsSFV calculated, final Throwable error, final CloseableSilently timer) {
+    timer.close();
+
+    if (isAborted) {
+      takenFuture.completeExceptionally(
+          new SnapshotNotFoundException(
+              "Snapshot %s was aborted while its checksum was calculated".formatted(snapshotId)));
+    } else if (error != null) {
+      final var cause =
+          error instanceof CompletionException && error.getCause() != null
+              ? error.getCause()
+              : error;
+      LOGGER.warn("Unexpected exception on taking snapshot ({})", snapshotId, cause);
+      abortInternal();
+      takenFuture.completeExceptionally(cause);
+    } else {
+      checksum = calculated;
+      snapshot = null;
+      isValid = true;
+      takenFuture.complete(null);
     }
   }
 
@@ -152,7 +198,13 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
       return;
     }
 
-    if (!takenFuture.isDone() || takenFuture.isCompletedExceptionally()) {
+    if (!takenFuture.isDone()) {
+      // the checksum is still calculated in the background
+      actor.runOnCompletion(takenFuture, (ignored, error) -> persistInternal(future));
+      return;
+    }
+
+    if (takenFuture.isCompletedExceptionally()) {
       future.completeExceptionally(new IllegalStateException("Snapshot is not taken"));
       return;
     }
@@ -163,7 +215,8 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
       return;
     }
 
-    try {
+    try (final var persistTimer =
+        snapshotStore.getMetrics().startPhaseTimer(SnapshotPhase.PERSIST, isBootstrap)) {
       final var metadata =
           isBootstrap
               ? FileBasedSnapshotMetadata.forBootstrap(FileBasedSnapshotStoreImpl.VERSION)
@@ -238,6 +291,7 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
 
   private void abortInternal() {
     try {
+      isAborted = true;
       isValid = false;
       snapshot = null;
       LOGGER.debug("Aborting transient snapshot {}", this);
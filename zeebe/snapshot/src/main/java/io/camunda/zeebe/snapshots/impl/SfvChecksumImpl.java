@@ -107,8 +107,11 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
 
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
-    final String fileName = filePath.getFileName().toString();
+    checksums.put(filePath.getFileName().toString(), checksumOf(filePath));
+  }
 
+  /** Computes the CRC32C checksum of the given file by streaming its content. */
+  static long checksumOf(final Path filePath) throws IOException {
     final Checksum checksum = new CRC32C();
     final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
@@ -119,7 +122,7 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
         readBuffer.clear();
       }
     }
-    checksums.put(fileName, checksum.getValue());
+    return checksum.getValue();
   }
 
   @Override
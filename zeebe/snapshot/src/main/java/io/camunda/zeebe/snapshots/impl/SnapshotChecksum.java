@@ -68,7 +68,7 @@ final class SnapshotChecksum {
     }
   }
 
-  private static boolean isNotMetadataFile(final Path file) {
+  static boolean isNotMetadataFile(final Path file) {
     return !file.getFileName().toString().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
   }
 
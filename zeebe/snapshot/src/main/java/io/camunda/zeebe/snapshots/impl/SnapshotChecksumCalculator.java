@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.snapshots.impl;
+
+import io.camunda.zeebe.snapshots.MutableChecksumsSFV;
+import io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.ChecksumSource;
+import io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SnapshotPhase;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * Calculates the checksums of a snapshot's files off the actor thread, so that taking a snapshot
+ * does not block processing while its files are read.
+ *
+ * <p>A file's checksum is taken from the first of these sources which knows it:
+ *
+ * <ol>
+ *   <li>the checksums provided by the state, e.g. from RocksDB's live file metadata
+ *   <li>the previous snapshot, for SST files with the same name and size; SST files are immutable
+ *       and their names are never reused, so an unchanged SST file has the same checksum
+ *   <li>reading the file, where up to {@link #MAX_CONCURRENT_FILES} files are read concurrently
+ * </ol>
+ */
+final class SnapshotChecksumCalculator {
+
+  private static final int MAX_CONCURRENT_FILES = 4;
+  private static final String SST_FILE_EXTENSION = ".sst";
+
+  private final Executor executor;
+  private final SnapshotMetrics metrics;
+
+  SnapshotChecksumCalculator(final Executor executor, final SnapshotMetrics metrics) {
+    this.executor = executor;
+    this.metrics = metrics;
+  }
+
+  /**
+   * Calculates the checksums of all files in the given snapshot directory, except the metadata file
+   * which is only written when the snapshot is persisted.
+   *
+   * @param directory the directory of the snapshot
+   * @param providedChecksums checksums of files which are known upfront, by file name
+   * @param previousSnapshot the latest persisted snapshot, whose checksums may be reused, or null
+   * @param isBootstrap whether the snapshot is taken for bootstrapping a partition
+   * @return a future which is completed with the checksums on the calculator's executor
+   */
+  CompletableFuture<MutableChecksumsSFV> calculate(
+      final Path directory,
+      final Map<String, Long> providedChecksums,
+      final FileBasedSnapshot previousSnapshot,
+      final boolean isBootstrap) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          try (final var ignored = metrics.startPhaseTimer(SnapshotPhase.CHECKSUM, isBootstrap)) {
+            return calculateInternal(directory, providedChecksums, previousSnapshot, isBootstrap);
+          } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        },
+        executor);
+  }
+
+  private MutableChecksumsSFV calculateInternal(
+      final Path directory,
+      final Map<String, Long> providedChecksums,
+      final FileBasedSnapshot previousSnapshot,
+      final boolean isBootstrap)
+      throws IOException {
+    final var checksums = new SfvChecksumImpl();
+    final List<Path> filesToRead = new ArrayList<>();
+    var providedFiles = 0;
+    var reusedFiles = 0;
+
+    try (final Stream<Path> files =
+        Files.list(directory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
+      for (final var file : files.toList()) {
+        final var fileName = file.getFileName().toString();
+        final var providedChecksum = providedChecksums.get(fileName);
+        final var reusedChecksum =
+            providedChecksum == null ? reusableChecksum(file, previousSnapshot) : null;
+
+        if (providedChecksum != null) {
+          checksums.updateFromChecksum(file, providedChecksum);
+          providedFiles++;
+        } else if (reusedChecksum != null) {
+          checksums.updateFromChecksum(file, reusedChecksum);
+          reusedFiles++;
+        } else {
+          filesToRead.add(file);
+        }
+      }
+    }
+
+    readChecksums(filesToRead).forEach(checksums::updateFromChecksum);
+
+    metrics.countChecksumFiles(ChecksumSource.PROVIDED, providedFiles, isBootstrap);
+    metrics.countChecksumFiles(ChecksumSource.REUSED, reusedFiles, isBootstrap);
+    metrics.countChecksumFiles(ChecksumSource.COMPUTED, filesToRead.size(), isBootstrap);
+    return checksums;
+  }
+
+  private Map<Path, Long> readChecksums(final List<Path> files) {
+    final var semaphore = new Semaphore(MAX_CONCURRENT_FILES);
+    final var futures = new ArrayList<CompletableFuture<Long>>(files.size());
+    try {
+      for (final var file : files) {
+        semaphore.acquire();
+        futures.add(
+            CompletableFuture.supplyAsync(() -> readChecksum(file), executor)
+                .whenComplete((ignored, error) -> semaphore.release()));
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      futures.forEach(future -> future.cancel(true));
+      throw new CompletionException(e);
+    }
+
+    final var result = new HashMap<Path, Long>(files.size());
+    for (int i = 0; i < files.size(); i++) {
+      result.put(files.get(i), futures.get(i).join());
+    }
+    return result;
+  }
+
+  private long readChecksum(final Path file) {
+    try {
+      return SfvChecksumImpl.checksumOf(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException("Failed to calculate checksum of " + file, e);
+    }
+  }
+
+  private Long reusableChecksum(final Path file, final FileBasedSnapshot previousSnapshot) {
+    final var fileName = file.getFileName().toString();
+    if (previousSnapshot == null || !fileName.endsWith(SST_FILE_EXTENSION)) {
+      return null;
+    }
+
+    final var previousChecksum = previousSnapshot.getChecksums().getChecksums().get(fileName);
+    if (previousChecksum == null) {
+      return null;
+    }
+
+    try {
+      final var previousFile = previousSnapshot.getPath().resolve(fileName);
+      return Files.size(previousFile) == Files.size(file) ? previousChecksum : null;
+    } catch (final IOException e) {
+      // the previous snapshot may have been deleted in the meantime, so read the file instead
+      return null;
+    }
+  }
+}
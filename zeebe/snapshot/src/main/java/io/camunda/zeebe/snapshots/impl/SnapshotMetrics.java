@@ -7,14 +7,20 @@
  */
 package io.camunda.zeebe.snapshots.impl;
 
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_CHECKSUM_FILES;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_CHUNK_COUNT;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_COUNT;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_DURATION;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_FILE_SIZE;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_PERSIST_DURATION;
+import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_PHASE_DURATION;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_SIZE;
 import static io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SNAPSHOT_TRANSFER_DURATION;
 
+import io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.ChecksumSource;
+import io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.ChecksumSourceKeyNames;
+import io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.PhaseKeyNames;
+import io.camunda.zeebe.snapshots.impl.SnapshotMetricsDoc.SnapshotPhase;
 import io.camunda.zeebe.util.CloseableSilently;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.camunda.zeebe.util.collection.MArray;
@@ -40,6 +46,10 @@ public final class SnapshotMetrics {
   private final MArray<Timer> snapshotDuration = MArray.of(Timer[]::new, 2);
   private final MArray<Counter> snapshotCount = MArray.of(Counter[]::new, 2);
   private final MArray<Timer> snapshotTransferDuration = MArray.of(Timer[]::new, 2);
+  private final MArray<Timer> snapshotPhaseDuration =
+      MArray.of(Timer[]::new, 2, SnapshotPhase.values().length);
+  private final MArray<Counter> checksumFiles =
+      MArray.of(Counter[]::new, 2, ChecksumSource.values().length);
 
   public SnapshotMetrics(final MeterRegistry registry) {
     clock = registry.config().clock();
@@ -72,6 +82,26 @@ public final class SnapshotMetrics {
               .register(registry),
           index);
 
+      for (final var phase : SnapshotPhase.values()) {
+        snapshotPhaseDuration.put(
+            MicrometerUtil.buildTimer(SNAPSHOT_PHASE_DURATION)
+                .tags(SnapshotMetricsDoc.BootstrapKeyNames.tags(isBootstrap))
+                .tag(PhaseKeyNames.PHASE.asString(), phase.getValue())
+                .register(registry),
+            index,
+            phase.ordinal());
+      }
+      for (final var source : ChecksumSource.values()) {
+        checksumFiles.put(
+            Counter.builder(SNAPSHOT_CHECKSUM_FILES.getName())
+                .description(SNAPSHOT_CHECKSUM_FILES.getDescription())
+                .tags(SnapshotMetricsDoc.BootstrapKeyNames.tags(isBootstrap))
+                .tag(ChecksumSourceKeyNames.SOURCE.asString(), source.getValue())
+                .register(registry),
+            index,
+            source.ordinal());
+      }
+
       snapshotCount.put(
           Counter.builder(SNAPSHOT_COUNT.getName())
               .description(SNAPSHOT_COUNT.getDescription())
@@ -118,6 +148,16 @@ public final class SnapshotMetrics {
         snapshotPersistDuration.get(encodeBoolean(isBootstrap)), Timer.start(clock));
   }
 
+  CloseableSilently startPhaseTimer(final SnapshotPhase phase, final boolean isBootstrap) {
+    return MicrometerUtil.timer(
+        snapshotPhaseDuration.get(encodeBoolean(isBootstrap), phase.ordinal()), Timer.start(clock));
+  }
+
+  void countChecksumFiles(
+      final ChecksumSource source, final long count, final boolean isBootstrap) {
+    checksumFiles.get(encodeBoolean(isBootstrap), source.ordinal()).increment(count);
+  }
+
   public CloseableSilently startTransferTimer(final boolean isBootstrap) {
     return MicrometerUtil.timer(
         snapshotTransferDuration.get(encodeBoolean(isBootstrap)), Timer.start(clock));
@@ -203,6 +203,50 @@ public enum SnapshotMetricsDoc implements ExtendedMeterDocumentation {
     public double[] getDistributionSLOs() {
       return BUCKETS;
     }
+  },
+  /** Duration of the individual phases of taking a snapshot */
+  SNAPSHOT_PHASE_DURATION {
+    @Override
+    public String getDescription() {
+      return "Duration of the individual phases of taking a snapshot";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.phase.duration";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.TIMER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KeyName.merge(getPartitionBootstrapKeyNames(), PhaseKeyNames.values());
+    }
+  },
+  /** Number of snapshot files whose checksum was provided, reused or computed */
+  SNAPSHOT_CHECKSUM_FILES {
+    @Override
+    public String getDescription() {
+      return "Number of snapshot files whose checksum was provided by the state, reused from the previous snapshot, or computed";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.snapshot.checksum.files";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KeyName.merge(getPartitionBootstrapKeyNames(), ChecksumSourceKeyNames.values());
+    }
   };
 
   private static KeyName[] getPartitionBootstrapKeyNames() {
@@ -223,4 +267,64 @@ public enum SnapshotMetricsDoc implements ExtendedMeterDocumentation {
       return Tags.of(BOOTSTRAP.asString(), String.valueOf(bootstrap));
     }
   }
+
+  @SuppressWarnings("NullableProblems")
+  public enum PhaseKeyNames implements KeyName {
+    /** The phase of taking a snapshot */
+    PHASE {
+      @Override
+      public String asString() {
+        return "phase";
+      }
+    }
+  }
+
+  @SuppressWarnings("NullableProblems")
+  public enum ChecksumSourceKeyNames implements KeyName {
+    /** Where the checksum of a snapshot file came from */
+    SOURCE {
+      @Override
+      public String asString() {
+        return "source";
+      }
+    }
+  }
+
+  public enum SnapshotPhase {
+    /** The state is written to the snapshot directory, e.g. as a RocksDB checkpoint */
+    CREATE("create"),
+    /** The checksums of all snapshot files are calculated */
+    CHECKSUM("checksum"),
+    /** The metadata is written and the snapshot is moved to its final location */
+    PERSIST("persist");
+
+    private final String value;
+
+    SnapshotPhase(final String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
+
+  public enum ChecksumSource {
+    /** The checksum was provided by the state, e.g. RocksDB's live file metadata */
+    PROVIDED("provided"),
+    /** The file is unchanged since the previous snapshot, whose checksum was reused */
+    REUSED("reused"),
+    /** The checksum was computed by reading the file */
+    COMPUTED("computed");
+
+    private final String value;
+
+    ChecksumSource(final String value) {
+      this.value = value;
+    }
+
+    public String getValue() {
+      return value;
+    }
+  }
 }
@@ -27,7 +27,10 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -347,6 +350,80 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReceiveSnapshotWhenChunksAreAppliedOutOfOrder() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+    final var chunks = new ArrayList<SnapshotChunk>();
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(3);
+      snapshotChunkReader.forEachRemaining(chunks::add);
+    }
+    Collections.reverse(chunks);
+
+    // when
+    for (final var chunk : chunks.subList(0, chunks.size() - 1)) {
+      receivedSnapshot.apply(chunk).join();
+      // applying a chunk twice must not break the snapshot
+      receivedSnapshot.apply(chunk).join();
+    }
+    final var completeBeforeLastChunk = receivedSnapshot.isComplete();
+    receivedSnapshot.apply(chunks.getLast()).join();
+    final var snapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(completeBeforeLastChunk).isFalse();
+    assertThat(receivedSnapshot.isComplete()).isTrue();
+    assertThat(snapshot.getChecksums().sameChecksums(persistedSnapshot.getChecksums())).isTrue();
+    assertThat(snapshot.getMetadata()).isEqualTo(persistedSnapshot.getMetadata());
+  }
+
+  @Test
+  public void shouldReuseFilesOfExistingSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    previousSnapshot.reserve().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    final Set<String> reusedFiles;
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      reusedFiles = snapshotChunkReader.excludeFiles(Set.of("file2"));
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    receivedSnapshot.reuseFiles(previousSnapshot, reusedFiles).join();
+    final var snapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(reusedFiles).containsExactly("file2");
+    assertThat(snapshot.getChecksums().sameChecksums(persistedSnapshot.getChecksums())).isTrue();
+    assertThat(
+            Files.isSameFile(
+                snapshot.getPath().resolve("file2"), previousSnapshot.getPath().resolve("file2")))
+        .describedAs("Expected file to be hard linked to the previous snapshot")
+        .isTrue();
+  }
+
+  @Test
+  public void shouldFailToReuseFileWhichIsNotPartOfExistingSnapshot() {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var persistedSnapshot = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when - then
+    assertThatThrownBy(() -> receivedSnapshot.reuseFiles(previousSnapshot, Set.of("file3")).join())
+        .hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -26,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import org.junit.Rule;
@@ -332,6 +334,37 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldExcludeFilesWhichWereNotReadYet() throws IOException {
+    // given
+    final var reader = newReader(2);
+    reader.next(); // first half of file1
+
+    // when
+    final var excluded = reader.excludeFiles(Set.of("file1", "file2", "file3"));
+
+    // then
+    assertThat(excluded).containsExactlyInAnyOrder("file2", "file3");
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::getTotalCount)
+        .containsExactly(tuple("file1", 3));
+  }
+
+  @Test
+  public void shouldKeepLastFileWhenExcludingAllFiles() throws IOException {
+    // given
+    final var reader = newReader();
+
+    // when
+    final var excluded = reader.excludeFiles(Set.of("file1", "file2", "file3"));
+
+    // then
+    assertThat(excluded).containsExactlyInAnyOrder("file1", "file2");
+    assertThat(getAllChunks(reader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file3");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -38,14 +38,16 @@ public class FileBasedTransientSnapshotTest {
   @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
   @Rule public ActorSchedulerRule scheduler = new ActorSchedulerRule();
 
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
   private FileBasedSnapshotStore snapshotStore;
+  private Path root;
   private Path snapshotsDir;
 
   @Before
   public void beforeEach() throws IOException {
-    final var root = temporaryFolder.getRoot().toPath();
+    root = temporaryFolder.getRoot().toPath();
     snapshotsDir = root.resolve(SNAPSHOT_DIRECTORY);
-    snapshotStore = createStore(root);
+    snapshotStore = createStore(root, false);
   }
 
   @Test
@@ -292,11 +294,70 @@ public class FileBasedTransientSnapshotTest {
                     .equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldPersistSnapshotWhenChecksumsAreCalculatedInBackground() throws IOException {
+    // given
+    snapshotStore.closeAsync().join();
+    snapshotStore = createStore(root, true);
+    final var transientSnapshot = snapshotStore.newTransientSnapshot(1L, 2L, 3, 4, false).get();
+
+    // when - persist is requested before the checksums are known
+    transientSnapshot.take(this::writeSnapshot);
+    final var persistedSnapshot = transientSnapshot.persist().join();
+
+    // then
+    assertThat(
+            persistedSnapshot
+                .getChecksums()
+                .sameChecksums(SnapshotChecksum.calculate(persistedSnapshot.getPath())))
+        .isTrue();
+  }
+
+  @Test
+  public void shouldReuseChecksumsOfUnchangedSstFiles() throws IOException {
+    // given
+    final var firstSnapshot = snapshotStore.newTransientSnapshot(1L, 0L, 1L, 0L, false).get();
+    firstSnapshot.take(path -> writeFiles(path, Map.of("000001.sst", "unchanged"))).join();
+    firstSnapshot.persist().join();
+
+    // when
+    final var secondSnapshot = snapshotStore.newTransientSnapshot(2L, 0L, 2L, 0L, false).get();
+    secondSnapshot
+        .take(
+            path ->
+                writeFiles(
+                    path, Map.of("000001.sst", "unchanged", "000002.sst", "new", "CURRENT", "new")))
+        .join();
+    final var persistedSnapshot = secondSnapshot.persist().join();
+
+    // then
+    assertThat(
+            persistedSnapshot
+                .getChecksums()
+                .sameChecksums(SnapshotChecksum.calculate(persistedSnapshot.getPath())))
+        .isTrue();
+    assertThat(checksumFiles("reused")).isEqualTo(1);
+    assertThat(checksumFiles("computed")).isEqualTo(3);
+  }
+
+  private double checksumFiles(final String source) {
+    return meterRegistry
+        .get(SnapshotMetricsDoc.SNAPSHOT_CHECKSUM_FILES.getName())
+        .tag("source", source)
+        .tag("bootstrap", "false")
+        .counter()
+        .count();
+  }
+
   private boolean writeSnapshot(final Path path) {
+    return writeFiles(path, SNAPSHOT_FILE_CONTENTS);
+  }
+
+  private boolean writeFiles(final Path path, final Map<String, String> files) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : files.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
@@ -307,9 +368,11 @@ public class FileBasedTransientSnapshotTest {
     return true;
   }
 
-  private FileBasedSnapshotStore createStore(final Path root) throws IOException {
+  private FileBasedSnapshotStore createStore(
+      final Path root, final boolean calculateChecksumsInBackground) {
     final var store =
-        new FileBasedSnapshotStore(0, 1, root, snapshotPath -> Map.of(), new SimpleMeterRegistry());
+        new FileBasedSnapshotStore(
+            0, 1, root, snapshotPath -> Map.of(), meterRegistry, calculateChecksumsInBackground);
     scheduler.submitActor(store);
     return store;
   }
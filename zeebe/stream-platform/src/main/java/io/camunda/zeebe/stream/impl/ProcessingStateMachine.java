@@ -10,6 +10,7 @@ package io.camunda.zeebe.stream.impl;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.logstreams.impl.Loggers;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyTracer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
@@ -139,6 +140,7 @@ public final class ProcessingStateMachine {
   private final RecordValues recordValues;
   private final TypedRecordImpl typedCommand;
   private final StreamProcessorListener streamProcessorListener;
+  private final RequestLatencyTracer requestLatencyTracer;
   // current iteration
   private LoggedEvent currentRecord;
   private ZeebeDbTransaction zeebeDbTransaction;
@@ -191,6 +193,7 @@ public final class ProcessingStateMachine {
     typedCommand = new TypedRecordImpl(partitionId);
 
     streamProcessorListener = context.getStreamProcessorListener();
+    requestLatencyTracer = context.getLogStream().getRequestLatencyTracer();
     processingMetrics = new ProcessingMetrics(context.getMeterRegistry());
     processingFilter =
         new MetadataEventFilter(
@@ -271,6 +274,7 @@ public final class ProcessingStateMachine {
     currentStateDescription = String.format("processing '%s %s'", currentRecord, metadata);
 
     try {
+      requestLatencyTracer.onProcessingStarted(loggedEvent.getPosition());
       // Here we need to get the current time, since we want to calculate
       // how long it took between writing to the dispatcher and processing.
       // In all other cases we should prefer to use the Prometheus Timer API.
@@ -287,6 +291,7 @@ public final class ProcessingStateMachine {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
       }
+      requestLatencyTracer.onProcessingCompleted(typedCommand.getPosition());
 
       finalizeCommandProcessing();
       writeRecords();
@@ -719,6 +724,9 @@ public final class ProcessingStateMachine {
                     .tryWriteResponse(
                         processingResponse.requestStreamId(), processingResponse.requestId());
               }
+              if (!pendingResponses.isEmpty()) {
+                requestLatencyTracer.onResponseSent(typedCommand.getPosition());
+              }
               return executePostCommitTasks();
             },
             abortCondition);
@@ -732,6 +740,7 @@ public final class ProcessingStateMachine {
           }
 
           notifyProcessedListener(typedCommand);
+          requestLatencyTracer.onProcessed(typedCommand.getPosition());
 
           // observe the processing duration
           processingTimer.close();
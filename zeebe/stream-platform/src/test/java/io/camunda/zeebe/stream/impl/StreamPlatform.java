@@ -156,6 +156,17 @@ public final class StreamPlatform {
    * @return the create log context
    */
   public LogContext createLogContext(final ListLogStorage logStorage, final int partitionId) {
+    return createLogContext(logStorage, partitionId, 0);
+  }
+
+  /**
+   * Creates a LogContext like {@link #createLogContext(ListLogStorage, int)}, tracing the latency
+   * of the given share of user commands.
+   */
+  public LogContext createLogContext(
+      final ListLogStorage logStorage,
+      final int partitionId,
+      final double requestLatencySamplingRate) {
     final var meterRegistry = new SimpleMeterRegistry();
     final var logStream =
         TestLogStream.builder()
@@ -163,6 +174,7 @@ public final class StreamPlatform {
             .withLogStorage(logStorage)
             .withClock(clock)
             .withPartitionId(partitionId)
+            .withRequestLatencySamplingRate(requestLatencySamplingRate)
             .withMeterRegistry(meterRegistry)
             .build();
 
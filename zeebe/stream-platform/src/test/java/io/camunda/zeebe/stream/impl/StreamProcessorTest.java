@@ -30,7 +30,11 @@ import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyKeyNames;
+import io.camunda.zeebe.logstreams.impl.tracing.RequestLatencyMetricsDoc.RequestLatencyStage;
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.logstreams.util.ListLogStorage;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.RejectionType;
@@ -165,6 +169,37 @@ public final class StreamProcessorTest {
     verify(mockProcessorLifecycleAware, TIMEOUT).onFailed();
   }
 
+  @Test
+  public void shouldTraceLatencyOfSampledCommand() {
+    // given
+    final var logContext = streamPlatform.createLogContext(new ListLogStorage(), 1, 1);
+    streamPlatform.setLogContext(logContext);
+    final var tracer = logContext.logStream().getRequestLatencyTracer();
+    final var receivedAt = tracer.sample();
+    final var position =
+        streamPlatform.writeBatch(
+            RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)));
+    tracer.onAppended(position, receivedAt);
+
+    // when
+    streamPlatform.startStreamProcessor();
+
+    // then
+    Awaitility.await("until the processing latency of the sampled command is recorded")
+        .untilAsserted(
+            () ->
+                Assertions.assertThat(
+                        logContext
+                            .meterRegistry()
+                            .get(RequestLatencyMetricsDoc.STAGE_LATENCY.getName())
+                            .tag(
+                                RequestLatencyKeyNames.STAGE.asString(),
+                                RequestLatencyStage.PROCESSING.getValue())
+                            .timer()
+                            .count())
+                    .isOne());
+  }
+
   @Test
   public void shouldCallRecordProcessorLifecycle() {
     // given
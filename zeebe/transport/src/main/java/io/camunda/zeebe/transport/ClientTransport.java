@@ -9,6 +9,7 @@ package io.camunda.zeebe.transport;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import java.time.Duration;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
@@ -98,4 +99,34 @@ public interface ClientTransport extends AutoCloseable {
    */
   ActorFuture<DirectBuffer> sendRequest(
       Supplier<String> nodeAddressSupplier, ClientRequest clientRequest, Duration timeout);
+
+  /**
+   * Sends several requests for the same partition and of the same request type to a node in a
+   * single message. The receiving node handles and answers each request on its own, and every
+   * response is sent back as soon as it is available; each request completes and times out
+   * independently of the others in the batch.
+   *
+   * <p>Guarantees:
+   *
+   * <ul>
+   *   <li>Not garbage-free
+   *   <li>1 intermediary copy of all requests, and one copy on the send buffer per try
+   *
+   * @param nodeAddressSupplier supplier for the node address the batch is sent to. The supplier may
+   *     resolve to <code>null</code> to signal that a node address can not be determined.
+   * @param clientRequests the requests which should be sent; must not be empty, and must all target
+   *     the same partition with the same request type
+   * @param shouldRetry whether to retry sending the batch if there is no connection to the node or
+   *     the node has no handler for it (yet), in respect of the timeouts
+   * @param timeouts the timeout of each request, in the same order as the requests, until its
+   *     future fails if no response is received
+   * @return one future per request, in the same order as the requests, carrying its response. Each
+   *     can complete exceptionally in failure cases such as timeout, or if the batch could not be
+   *     sent at all.
+   */
+  List<ActorFuture<DirectBuffer>> sendRequestBatch(
+      Supplier<String> nodeAddressSupplier,
+      List<? extends ClientRequest> clientRequests,
+      boolean shouldRetry,
+      List<Duration> timeouts);
 }
@@ -29,4 +29,28 @@ public interface RequestHandler {
       DirectBuffer buffer,
       int offset,
       int length);
+
+  /**
+   * Called on a batch of requests for the given partition, which were sent together in a single
+   * message. Each request has its own id and is responded to individually; the transport sends
+   * every response back to the sender as soon as it is available.
+   *
+   * <p>By default, each request is handed to {@link #onRequest(ServerOutput, int, long,
+   * DirectBuffer, int, int)} on its own. Handlers which can process requests more efficiently
+   * together should override this.
+   *
+   * @param serverOutput output to write the responses
+   * @param partitionId the corresponding partition id
+   * @param requestIds the ids of the requests, in the same order as the requests
+   * @param requests the buffers which contain the requests, each spanning the whole buffer
+   */
+  default void onRequestBatch(
+      final ServerOutput serverOutput,
+      final int partitionId,
+      final long[] requestIds,
+      final DirectBuffer[] requests) {
+    for (int i = 0; i < requests.length; i++) {
+      onRequest(serverOutput, partitionId, requestIds[i], requests[i], 0, requests[i].capacity());
+    }
+  }
 }
@@ -9,16 +9,24 @@ package io.camunda.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingException;
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.utils.net.Address;
 import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.transport.ClientRequest;
 import io.camunda.zeebe.transport.ClientTransport;
 import java.net.ConnectException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,10 +38,28 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
   private static final String NO_REMOTE_ADDRESS_FOUND_ERROR_MESSAGE =
       "Failed to send request to %s, no remote address found.";
 
+  private static final String BATCH_RESPONSE_TOPIC_FORMAT = "batch-response-%s";
+
   private final MessagingService messagingService;
+  private final String batchResponseTopic;
+  private final AtomicLong nextCorrelationId = new AtomicLong();
+  private final Long2ObjectHashMap<BatchedRequestContext> pendingBatchedRequests =
+      new Long2ObjectHashMap<>();
 
   public AtomixClientTransportAdapter(final MessagingService messagingService) {
     this.messagingService = messagingService;
+    // several clients may share a messaging service, so each needs its own topic for responses
+    batchResponseTopic = BATCH_RESPONSE_TOPIC_FORMAT.formatted(UUID.randomUUID());
+  }
+
+  @Override
+  protected void onActorStarted() {
+    messagingService.registerHandler(batchResponseTopic, this::handleBatchedResponse, actor::run);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    messagingService.unregisterHandler(batchResponseTopic);
   }
 
   @Override
@@ -54,6 +80,121 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
     return sendRequestInternal(nodeAddressSupplier, r -> true, clientRequest, false, timeout);
   }
 
+  @Override
+  public List<ActorFuture<DirectBuffer>> sendRequestBatch(
+      final Supplier<String> nodeAddressSupplier,
+      final List<? extends ClientRequest> clientRequests,
+      final boolean shouldRetry,
+      final List<Duration> timeouts) {
+    if (clientRequests.isEmpty()) {
+      throw new IllegalArgumentException("Expected at least one request to send, but got none");
+    }
+    if (timeouts.size() != clientRequests.size()) {
+      throw new IllegalArgumentException(
+          "Expected one timeout per request, but got %d timeouts for %d requests"
+              .formatted(timeouts.size(), clientRequests.size()));
+    }
+
+    final var firstRequest = clientRequests.getFirst();
+    final var partitionId = firstRequest.getPartitionId();
+    final var requestType = firstRequest.getRequestType();
+    for (final var clientRequest : clientRequests) {
+      if (clientRequest.getPartitionId() != partitionId
+          || clientRequest.getRequestType() != requestType) {
+        throw new IllegalArgumentException(
+            "Expected all requests of a batch to target partition %d with type %s, but got %d and %s"
+                .formatted(
+                    partitionId,
+                    requestType,
+                    clientRequest.getPartitionId(),
+                    clientRequest.getRequestType()));
+      }
+    }
+
+    final var correlationIds = new long[clientRequests.size()];
+    for (int i = 0; i < correlationIds.length; i++) {
+      correlationIds[i] = nextCorrelationId.getAndIncrement();
+    }
+
+    // copy once
+    final var requestBytes =
+        MessageBatch.encodeRequests(batchResponseTopic, correlationIds, clientRequests);
+    final List<ActorFuture<DirectBuffer>> responseFutures = new ArrayList<>(correlationIds.length);
+    final var batchedRequests = new ArrayList<BatchedRequestContext>(correlationIds.length);
+    for (int i = 0; i < correlationIds.length; i++) {
+      final var responseFuture = new CompletableActorFuture<DirectBuffer>();
+      responseFutures.add(responseFuture);
+      batchedRequests.add(
+          new BatchedRequestContext(correlationIds[i], responseFuture, timeouts.get(i)));
+    }
+
+    actor.call(
+        () -> {
+          // register the requests before sending the batch, the responses may arrive before the
+          // batch is acknowledged
+          for (final var batchedRequest : batchedRequests) {
+            pendingBatchedRequests.put(batchedRequest.correlationId, batchedRequest);
+            batchedRequest.scheduledTimer =
+                actor.schedule(batchedRequest.timeout, () -> timeoutBatchedRequest(batchedRequest));
+          }
+
+          final var batchFuture = new CompletableActorFuture<DirectBuffer>();
+          startRequest(
+              new RequestContext(
+                  batchFuture,
+                  nodeAddressSupplier,
+                  AtomixServerTransport.batchTopicName(partitionId, requestType),
+                  requestBytes,
+                  r -> true,
+                  shouldRetry,
+                  timeouts.stream().max(Duration::compareTo).orElseThrow()));
+          batchFuture.onComplete(
+              (ack, error) -> {
+                if (error != null) {
+                  batchedRequests.forEach(
+                      batchedRequest -> completeBatchedRequestExceptionally(batchedRequest, error));
+                }
+              },
+              this);
+        });
+    return responseFutures;
+  }
+
+  private void handleBatchedResponse(final Address sender, final byte[] response) {
+    final long correlationId;
+    try {
+      correlationId = MessageBatch.decodeCorrelationId(response);
+    } catch (final IllegalArgumentException e) {
+      LOG.warn("Received invalid response to a batched request", e);
+      return;
+    }
+
+    final var batchedRequest = pendingBatchedRequests.remove(correlationId);
+    if (batchedRequest == null) {
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Batched request {} is already done", correlationId);
+      }
+      return;
+    }
+
+    batchedRequest.cancelTimer();
+    batchedRequest.future.complete(MessageBatch.decodeResponse(response));
+  }
+
+  private void completeBatchedRequestExceptionally(
+      final BatchedRequestContext batchedRequest, final Throwable error) {
+    if (pendingBatchedRequests.remove(batchedRequest.correlationId) != null) {
+      batchedRequest.cancelTimer();
+      batchedRequest.future.completeExceptionally(error);
+    }
+  }
+
+  private void timeoutBatchedRequest(final BatchedRequestContext batchedRequest) {
+    completeBatchedRequestExceptionally(
+        batchedRequest,
+        new TimeoutException("Request timed out after " + batchedRequest.timeout.toString()));
+  }
+
   private ActorFuture<DirectBuffer> sendRequestInternal(
       final Supplier<String> nodeAddressSupplier,
       final Predicate<DirectBuffer> responseValidator,
@@ -67,30 +208,42 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
     final var buffer = new UnsafeBuffer(requestBytes);
     clientRequest.write(buffer, 0);
 
-    final var partitionId = clientRequest.getPartitionId();
-    final var requestType = clientRequest.getRequestType();
+    final var topicName =
+        AtomixServerTransport.topicName(
+            clientRequest.getPartitionId(), clientRequest.getRequestType());
+    return send(
+        nodeAddressSupplier, topicName, requestBytes, responseValidator, shouldRetry, timeout);
+  }
 
+  private ActorFuture<DirectBuffer> send(
+      final Supplier<String> nodeAddressSupplier,
+      final String topicName,
+      final byte[] requestBytes,
+      final Predicate<DirectBuffer> responseValidator,
+      final boolean shouldRetry,
+      final Duration timeout) {
     final var requestFuture = new CompletableActorFuture<DirectBuffer>();
     final var requestContext =
         new RequestContext(
             requestFuture,
             nodeAddressSupplier,
-            partitionId,
-            requestType,
+            topicName,
             requestBytes,
             responseValidator,
             shouldRetry,
             timeout);
-    actor.call(
-        () -> {
-          final var scheduledTimer = actor.schedule(timeout, () -> timeoutFuture(requestContext));
-          requestContext.setScheduledTimer(scheduledTimer);
-          tryToSend(requestContext);
-        });
+    actor.call(() -> startRequest(requestContext));
 
     return requestFuture;
   }
 
+  private void startRequest(final RequestContext requestContext) {
+    final var scheduledTimer =
+        actor.schedule(requestContext.getTimeout(), () -> timeoutFuture(requestContext));
+    requestContext.setScheduledTimer(scheduledTimer);
+    tryToSend(requestContext);
+  }
+
   private void tryToSend(final RequestContext requestContext) {
     if (requestContext.isDone()) {
       if (LOG.isTraceEnabled()) {
@@ -228,4 +381,26 @@ public final class AtomixClientTransportAdapter extends Actor implements ClientT
 
     requestContext.timeout();
   }
+
+  private static final class BatchedRequestContext {
+    private final long correlationId;
+    private final CompletableActorFuture<DirectBuffer> future;
+    private final Duration timeout;
+    private ScheduledTimer scheduledTimer;
+
+    private BatchedRequestContext(
+        final long correlationId,
+        final CompletableActorFuture<DirectBuffer> future,
+        final Duration timeout) {
+      this.correlationId = correlationId;
+      this.future = future;
+      this.timeout = timeout;
+    }
+
+    private void cancelTimer() {
+      if (scheduledTimer != null) {
+        scheduledTimer.cancel();
+      }
+    }
+  }
 }
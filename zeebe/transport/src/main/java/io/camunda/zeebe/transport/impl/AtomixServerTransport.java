@@ -8,6 +8,7 @@
 package io.camunda.zeebe.transport.impl;
 
 import io.atomix.cluster.messaging.MessagingService;
+import io.atomix.utils.net.Address;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.RequestHandler;
@@ -26,6 +27,8 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
 
   private static final Logger LOG = Loggers.TRANSPORT_LOGGER;
   private static final String API_TOPIC_FORMAT = "%s-api-%d";
+  private static final String BATCH_API_TOPIC_FORMAT = "%s-batch-api-%d";
+  private static final byte[] BATCH_ACK = new byte[0];
   private static final String ERROR_MSG_MISSING_PARTITON_MAP =
       "Node already unsubscribed from partition %d, this can only happen when atomix does not cleanly remove its handlers.";
 
@@ -72,6 +75,11 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
               topicName,
               (sender, request) ->
                   handleAtomixRequest(request, partitionId, requestType, requestHandler));
+          messagingService.registerHandler(
+              batchTopicName(partitionId, requestType),
+              (sender, batch) ->
+                  handleAtomixRequestBatch(
+                      sender, batch, partitionId, requestType, requestHandler));
         });
   }
 
@@ -95,6 +103,7 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     final var topicName = topicName(partitionId, requestType);
     LOG.trace("Unsubscribe from topic {}", topicName);
     messagingService.unregisterHandler(topicName);
+    messagingService.unregisterHandler(batchTopicName(partitionId, requestType));
   }
 
   private CompletableFuture<byte[]> handleAtomixRequest(
@@ -142,6 +151,84 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
     return completableFuture;
   }
 
+  private CompletableFuture<byte[]> handleAtomixRequestBatch(
+      final Address sender,
+      final byte[] batchBytes,
+      final int partitionId,
+      final RequestType requestType,
+      final RequestHandler requestHandler) {
+    final var completableFuture = new CompletableFuture<byte[]>();
+    actor.call(
+        () -> {
+          final var requestMap = partitionsRequestMap.get(partitionId);
+          if (requestMap == null) {
+            final var errorMsg = String.format(ERROR_MSG_MISSING_PARTITON_MAP, partitionId);
+            LOG.trace(errorMsg);
+            completableFuture.completeExceptionally(new IllegalStateException(errorMsg));
+            return;
+          }
+
+          try {
+            final var batch = MessageBatch.decodeRequests(batchBytes);
+            final var requests = batch.requests();
+            final var requestIds = new long[requests.length];
+            for (int i = 0; i < requests.length; i++) {
+              requestIds[i] = requestIdGenerator.nextId();
+            }
+
+            requestHandler.onRequestBatch(this, partitionId, requestIds, requests);
+            if (LOG.isTraceEnabled()) {
+              LOG.trace(
+                  "Handled batch of {} requests for topic {}",
+                  requests.length,
+                  batchTopicName(partitionId, requestType));
+            }
+
+            // we only add the requests to the map after successful handling; each response is
+            // sent back on its own as soon as it is available
+            for (int i = 0; i < requests.length; i++) {
+              final var correlationId = batch.correlationIds()[i];
+              final var responseFuture = new CompletableFuture<byte[]>();
+              responseFuture.thenAccept(
+                  response ->
+                      sendBatchedResponse(sender, batch.responseTopic(), correlationId, response));
+              requestMap.put(requestIds[i], responseFuture);
+            }
+
+            // the batch itself is only acknowledged, the responses follow individually
+            completableFuture.complete(BATCH_ACK);
+          } catch (final Exception exception) {
+            LOG.error(
+                "Unexpected exception on handling request batch for partition {}.",
+                partitionId,
+                exception);
+            completableFuture.completeExceptionally(exception);
+          }
+        });
+
+    return completableFuture;
+  }
+
+  private void sendBatchedResponse(
+      final Address sender,
+      final String responseTopic,
+      final long correlationId,
+      final byte[] response) {
+    messagingService
+        .sendAsync(sender, responseTopic, MessageBatch.encodeResponse(correlationId, response))
+        .whenComplete(
+            (ok, error) -> {
+              if (error != null) {
+                // the sender will time out on this request, as it would on a lost response
+                LOG.debug(
+                    "Failed to send response of batched request {} to {}",
+                    correlationId,
+                    sender,
+                    error);
+              }
+            });
+  }
+
   @Override
   public void sendResponse(final ServerResponse response) {
     final var requestId = response.getRequestId();
@@ -180,4 +267,8 @@ public class AtomixServerTransport extends Actor implements ServerTransport {
   static String topicName(final int partitionId, final RequestType requestType) {
     return String.format(API_TOPIC_FORMAT, requestType.getId(), partitionId);
   }
+
+  static String batchTopicName(final int partitionId, final RequestType requestType) {
+    return String.format(BATCH_API_TOPIC_FORMAT, requestType.getId(), partitionId);
+  }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.impl;
+
+import io.camunda.zeebe.transport.ClientRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Frames several requests into a single message, and their responses into individual messages.
+ *
+ * <p>A batch starts with the topic the responses are sent to and the number of requests, followed
+ * by each request prefixed with its correlation id and its length. A response consists of the
+ * correlation id of its request followed by the response itself, so the sender can complete each
+ * request as soon as its response arrives.
+ */
+final class MessageBatch {
+
+  private static final int RESPONSE_HEADER_LENGTH = BitUtil.SIZE_OF_LONG;
+
+  private MessageBatch() {}
+
+  static byte[] encodeRequests(
+      final String responseTopic,
+      final long[] correlationIds,
+      final List<? extends ClientRequest> requests) {
+    final var topicBytes = responseTopic.getBytes(StandardCharsets.UTF_8);
+    int length = BitUtil.SIZE_OF_INT + topicBytes.length + BitUtil.SIZE_OF_INT;
+    for (final var request : requests) {
+      length += BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT + request.getLength();
+    }
+
+    final var bytes = new byte[length];
+    final var buffer = new UnsafeBuffer(bytes);
+    buffer.putInt(0, topicBytes.length);
+    buffer.putBytes(BitUtil.SIZE_OF_INT, topicBytes);
+    int offset = BitUtil.SIZE_OF_INT + topicBytes.length;
+    buffer.putInt(offset, requests.size());
+    offset += BitUtil.SIZE_OF_INT;
+    for (int i = 0; i < requests.size(); i++) {
+      final var request = requests.get(i);
+      final var requestLength = request.getLength();
+      buffer.putLong(offset, correlationIds[i]);
+      offset += BitUtil.SIZE_OF_LONG;
+      buffer.putInt(offset, requestLength);
+      offset += BitUtil.SIZE_OF_INT;
+      request.write(buffer, offset);
+      offset += requestLength;
+    }
+
+    return bytes;
+  }
+
+  /**
+   * Splits a batch into its requests. The returned buffers are views on the given bytes, each
+   * spanning exactly one request.
+   *
+   * @throws IllegalArgumentException if the bytes are not a valid batch
+   */
+  static Requests decodeRequests(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    ensureRemaining(bytes, 0, BitUtil.SIZE_OF_INT, "response topic length");
+    final int topicLength = buffer.getInt(0);
+    if (topicLength < 0) {
+      throw new IllegalArgumentException(
+          "Expected a non-negative response topic length, but got %d".formatted(topicLength));
+    }
+    int offset = BitUtil.SIZE_OF_INT;
+    ensureRemaining(bytes, offset, topicLength, "response topic");
+    final var responseTopic = buffer.getStringWithoutLengthUtf8(offset, topicLength);
+    offset += topicLength;
+
+    ensureRemaining(bytes, offset, BitUtil.SIZE_OF_INT, "number of requests");
+    final int count = buffer.getInt(offset);
+    if (count < 0) {
+      throw new IllegalArgumentException(
+          "Expected a non-negative number of batch entries, but got %d".formatted(count));
+    }
+    offset += BitUtil.SIZE_OF_INT;
+
+    final var correlationIds = new long[count];
+    final var requests = new DirectBuffer[count];
+    for (int i = 0; i < count; i++) {
+      ensureRemaining(bytes, offset, BitUtil.SIZE_OF_LONG + BitUtil.SIZE_OF_INT, "request header");
+      correlationIds[i] = buffer.getLong(offset);
+      offset += BitUtil.SIZE_OF_LONG;
+      final int length = buffer.getInt(offset);
+      offset += BitUtil.SIZE_OF_INT;
+      if (length < 0) {
+        throw new IllegalArgumentException(
+            "Expected a non-negative length of batch entry %d, but got %d".formatted(i, length));
+      }
+      ensureRemaining(bytes, offset, length, "request");
+
+      requests[i] = new UnsafeBuffer(bytes, offset, length);
+      offset += length;
+    }
+
+    return new Requests(responseTopic, correlationIds, requests);
+  }
+
+  static byte[] encodeResponse(final long correlationId, final byte[] response) {
+    final var bytes = new byte[RESPONSE_HEADER_LENGTH + response.length];
+    final var buffer = new UnsafeBuffer(bytes);
+    buffer.putLong(0, correlationId);
+    buffer.putBytes(RESPONSE_HEADER_LENGTH, response);
+    return bytes;
+  }
+
+  /**
+   * @throws IllegalArgumentException if the bytes are not a valid response
+   */
+  static long decodeCorrelationId(final byte[] response) {
+    ensureRemaining(response, 0, RESPONSE_HEADER_LENGTH, "correlation id");
+    return new UnsafeBuffer(response).getLong(0);
+  }
+
+  /** Returns a view on the actual response, i.e. without the correlation id. */
+  static DirectBuffer decodeResponse(final byte[] response) {
+    return new UnsafeBuffer(
+        response, RESPONSE_HEADER_LENGTH, response.length - RESPONSE_HEADER_LENGTH);
+  }
+
+  private static void ensureRemaining(
+      final byte[] bytes, final int offset, final int length, final String what) {
+    if (offset + length > bytes.length) {
+      throw new IllegalArgumentException(
+          "Expected %s of %d bytes at offset %d, but message ends after %d bytes"
+              .formatted(what, length, offset, bytes.length));
+    }
+  }
+
+  /**
+   * @param responseTopic the topic the sender expects the responses on
+   * @param correlationIds the ids the sender uses to correlate the responses, in request order
+   * @param requests the requests, each spanning a whole buffer
+   */
+  record Requests(String responseTopic, long[] correlationIds, DirectBuffer[] requests) {}
+}
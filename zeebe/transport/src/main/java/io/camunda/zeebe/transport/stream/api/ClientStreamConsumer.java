@@ -17,6 +17,9 @@ import org.agrona.DirectBuffer;
 @FunctionalInterface
 public interface ClientStreamConsumer {
 
+  /** Credits granted by consumers which do not limit how many payloads can be pushed to them. */
+  int UNLIMITED_CREDITS = Integer.MAX_VALUE;
+
   /**
    * Consumes the payload received from the server to the client. It is recommended to make the
    * implementation to be asynchronous. Otherwise, it could block the thread of {@link
@@ -25,4 +28,19 @@ public interface ClientStreamConsumer {
    * @param payload the data to be consumed by the client
    */
   ActorFuture<Void> push(DirectBuffer payload);
+
+  /**
+   * Returns how many payloads can currently be pushed to this consumer without it being blocked.
+   * The credits of all consumers of an aggregated stream are summed up and split across the
+   * servers, which will stop pushing to the stream once they used up their share. Consumers should
+   * therefore return a bounded count rather than a flag, as any non-zero credits may be used up by
+   * every server combined. They are only a hint: a push may still fail if the consumer is blocked.
+   *
+   * <p>Must be safe to call from any thread.
+   *
+   * @return the available credits, or {@link #UNLIMITED_CREDITS} if the consumer is not limited
+   */
+  default int availableCredits() {
+    return UNLIMITED_CREDITS;
+  }
 }
@@ -40,6 +40,9 @@ public interface ClientStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /** Invoked whenever a server is told that an aggregated stream has no credits left */
+  default void creditsExhausted() {}
+
   static ClientStreamMetrics noop() {
     return new ClientStreamMetrics() {};
   }
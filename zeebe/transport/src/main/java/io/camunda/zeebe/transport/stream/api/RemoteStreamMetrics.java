@@ -30,6 +30,12 @@ public interface RemoteStreamMetrics {
    */
   default void pushTryFailed(final ErrorCode code) {}
 
+  /**
+   * Invoked when a payload could not be pushed because no consumer of the matching streams had any
+   * credits left
+   */
+  default void creditsExhausted() {}
+
   static RemoteStreamMetrics noop() {
     return new RemoteStreamMetrics() {};
   }
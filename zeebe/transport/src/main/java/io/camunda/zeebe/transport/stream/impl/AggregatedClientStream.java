@@ -8,10 +8,13 @@
 package io.camunda.zeebe.transport.stream.impl;
 
 import io.atomix.cluster.MemberId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
 import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.agrona.collections.Int2ObjectHashMap;
@@ -24,9 +27,11 @@ final class AggregatedClientStream<M extends BufferWriter> {
   private final Set<MemberId> liveConnections = new HashSet<>();
   private final ClientStreamMetrics metrics;
   private final Int2ObjectHashMap<ClientStreamImpl<M>> clientStreams = new Int2ObjectHashMap<>();
+  private final Map<MemberId, Integer> grantedCredits = new HashMap<>();
 
   private boolean isOpened;
   private int nextLocalId;
+  private int pushesSinceGrant;
 
   AggregatedClientStream(final UUID streamId, final LogicalId<M> logicalId) {
     this(streamId, logicalId, ClientStreamMetrics.noop());
@@ -66,6 +71,8 @@ final class AggregatedClientStream<M extends BufferWriter> {
    */
   void add(final MemberId serverId) {
     liveConnections.add(serverId);
+    // a newly registered stream starts out with unlimited credits on the server
+    grantedCredits.put(serverId, ClientStreamConsumer.UNLIMITED_CREDITS);
   }
 
   /**
@@ -86,6 +93,76 @@ final class AggregatedClientStream<M extends BufferWriter> {
    */
   void remove(final MemberId serverId) {
     liveConnections.remove(serverId);
+    grantedCredits.remove(serverId);
+  }
+
+  /**
+   * Returns the credits of all clients of this stream combined, i.e. how many payloads can be
+   * pushed to this stream before all of its clients are blocked.
+   */
+  int availableCredits() {
+    long credits = 0;
+    for (final var client : clientStreams.values()) {
+      credits += client.clientStreamConsumer().availableCredits();
+      if (credits >= ClientStreamConsumer.UNLIMITED_CREDITS) {
+        return ClientStreamConsumer.UNLIMITED_CREDITS;
+      }
+    }
+
+    return (int) credits;
+  }
+
+  /**
+   * @return the credits last granted to the given server for this stream
+   */
+  int grantedCredits(final MemberId serverId) {
+    return grantedCredits.getOrDefault(serverId, ClientStreamConsumer.UNLIMITED_CREDITS);
+  }
+
+  /**
+   * Mark that the given credits were granted to the given server for this stream.
+   *
+   * @param serverId id of the server
+   * @param credits the granted credits
+   */
+  void grantCredits(final MemberId serverId, final int credits) {
+    grantedCredits.put(serverId, credits);
+  }
+
+  /** Mark that a payload was pushed to this stream by one of its servers. */
+  void onPushReceived() {
+    pushesSinceGrant++;
+  }
+
+  /**
+   * @return how many payloads were pushed to this stream since credits were last granted
+   */
+  int pushesSinceGrant() {
+    return pushesSinceGrant;
+  }
+
+  /** Mark that the credits of every server were just refreshed. */
+  void resetPushesSinceGrant() {
+    pushesSinceGrant = 0;
+  }
+
+  /**
+   * Returns true if the servers used up at least half of the credits they were last granted, in
+   * which case new credits should be granted right away instead of waiting for the next refresh, so
+   * the servers do not run dry while the clients could accept more.
+   */
+  boolean shouldReplenishCredits() {
+    long granted = 0;
+    for (final var serverId : liveConnections) {
+      final var credits = grantedCredits(serverId);
+      if (credits == ClientStreamConsumer.UNLIMITED_CREDITS) {
+        return false;
+      }
+
+      granted += credits;
+    }
+
+    return pushesSinceGrant > 0 && 2L * pushesSinceGrant >= granted;
   }
 
   Int2ObjectHashMap<ClientStreamImpl<M>> clientStreams() {
@@ -11,6 +11,7 @@ import io.atomix.cluster.MemberId;
 import io.camunda.zeebe.transport.stream.api.RemoteStreamInfo;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import org.agrona.DirectBuffer;
@@ -31,6 +32,19 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
     streamConsumers.remove(consumer);
   }
 
+  /**
+   * @return true if at least one consumer has credits left, i.e. can be pushed to
+   */
+  boolean hasCredits() {
+    for (final var consumer : streamConsumers) {
+      if (consumer.credits().hasCredits()) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
   @Override
   public Collection<RemoteStreamId> consumers() {
     return streamConsumers.stream().map(StreamConsumer::id).collect(Collectors.toSet());
@@ -49,11 +63,36 @@ record AggregatedRemoteStream<M>(LogicalId<M> logicalId, List<StreamConsumer<M>>
   /**
    * A stream consumer uniquely identified by the id, with its properties and streamType.
    *
+   * <p>The credits are mutable state of the consumer, and as such are not part of its identity.
+   *
    * @param id unique id
    * @param logicalId logical id
+   * @param credits the credits granted by the client for this consumer
    * @param <M> type of the properties
    */
-  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId) {}
+  record StreamConsumer<M>(StreamId id, LogicalId<M> logicalId, StreamCredits credits) {
+    StreamConsumer(final StreamId id, final LogicalId<M> logicalId) {
+      this(id, logicalId, new StreamCredits());
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+
+      if (!(o instanceof final StreamConsumer<?> that)) {
+        return false;
+      }
+
+      return id.equals(that.id) && logicalId.equals(that.logicalId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(id, logicalId);
+    }
+  }
 
   /**
    * Uniquely identifies a stream
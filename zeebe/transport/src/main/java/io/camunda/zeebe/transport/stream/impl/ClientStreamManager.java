@@ -15,6 +15,7 @@ import io.camunda.zeebe.transport.stream.api.ClientStreamMetrics;
 import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Set;
 import org.agrona.DirectBuffer;
@@ -86,6 +87,56 @@ final class ClientStreamManager<M extends BufferWriter> {
     requestManager.removeAll(servers);
   }
 
+  /**
+   * Splits the current credits of every stream across all servers it is registered with, and grants
+   * each server its share if it changed, or if the server may have used up some of it since it was
+   * last granted.
+   */
+  void refreshCredits() {
+    registry.list().forEach(this::refreshCredits);
+  }
+
+  private void refreshCredits(final AggregatedClientStream<M> stream) {
+    final var credits = stream.availableCredits();
+    final var hasReceivedPushes = stream.pushesSinceGrant() > 0;
+    // sort the servers so the remainder of the split always goes to the same ones
+    final var servers =
+        stream.liveConnections().stream().sorted(Comparator.comparing(MemberId::id)).toList();
+
+    for (int i = 0; i < servers.size(); i++) {
+      final var serverId = servers.get(i);
+      final var share = shareOf(credits, i, servers.size());
+      final var granted = stream.grantedCredits(serverId);
+
+      // servers replace their credits with every grant, so the share has to be granted again once
+      // they used some of it up, even if it did not change
+      if (granted != share
+          || (hasReceivedPushes && share != ClientStreamConsumer.UNLIMITED_CREDITS)) {
+        requestManager.grantCredits(stream, serverId, share);
+        stream.grantCredits(serverId, share);
+
+        if (share == 0 && granted != 0) {
+          metrics.creditsExhausted();
+        }
+      }
+    }
+
+    stream.resetPushesSinceGrant();
+  }
+
+  /**
+   * Returns the share of the given credits for the server at the given index. Credits are split
+   * evenly, such that all servers combined can never push more than the clients can take; unlimited
+   * credits are granted to every server as is.
+   */
+  private static int shareOf(final int credits, final int index, final int serverCount) {
+    if (credits == ClientStreamConsumer.UNLIMITED_CREDITS) {
+      return credits;
+    }
+
+    return credits / serverCount + (index < credits % serverCount ? 1 : 0);
+  }
+
   public void onPayloadReceived(
       final PushStreamRequest pushStreamRequest, final ActorFuture<Void> responseFuture) {
     final var streamId = pushStreamRequest.streamId();
@@ -103,6 +154,17 @@ final class ClientStreamManager<M extends BufferWriter> {
     final var clientStream = registry.get(streamId);
     clientStream.ifPresentOrElse(
         stream -> {
+          // if all clients are blocked, tell the servers right away instead of waiting for the
+          // next refresh, so they stop pushing to this stream; likewise, replenish their credits
+          // right away once they used up half of them, so they do not run dry in between refreshes
+          stream.onPushReceived();
+          responseFuture.onComplete(
+              (ok, error) -> {
+                if (error != null || stream.shouldReplenishCredits()) {
+                  refreshCredits(stream);
+                }
+              });
+
           try {
             streamPusher.push(stream, payload, responseFuture);
           } catch (final Exception e) {
@@ -19,6 +19,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.AddStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamCreditRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponseDecoder;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.Either;
@@ -169,6 +170,21 @@ final class ClientStreamRequestManager<M extends BufferWriter> {
         });
   }
 
+  /**
+   * Grants the given credits for the stream to the server, without waiting for an ack and without
+   * retry. Credits are sent again whenever they change, so a lost request only delays the update.
+   */
+  void grantCredits(
+      final AggregatedClientStream<M> stream, final MemberId serverId, final int credits) {
+    final var request = new StreamCreditRequest().streamId(stream.streamId()).credits(credits);
+    communicationService.unicast(
+        StreamTopics.CREDIT.topic(),
+        BufferUtil.bufferAsArray(request),
+        Function.identity(),
+        serverId,
+        true);
+  }
+
   private void add(final ClientStreamRegistration<M> registration) {
     if (registration.state() == State.ADDING || !registration.transitionToAdding()) {
       return;
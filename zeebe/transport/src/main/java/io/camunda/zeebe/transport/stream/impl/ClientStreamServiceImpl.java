@@ -22,6 +22,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.MessageUtil;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Function;
@@ -35,6 +36,9 @@ import org.agrona.DirectBuffer;
  */
 public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
     implements ClientStreamer<M>, ClientStreamService<M> {
+  // how often the credits of all streams are checked, and granted to the servers if they changed
+  private static final Duration CREDIT_REFRESH_INTERVAL = Duration.ofMillis(100);
+
   private final ClientStreamManager<M> clientStreamManager;
   private final ClusterCommunicationService communicationService;
   private final ClientStreamRegistry<M> registry;
@@ -68,6 +72,8 @@ public final class ClientStreamServiceImpl<M extends BufferWriter> extends Actor
         apiHandler::handleRestartRequest,
         Function.identity(),
         actor::run);
+
+    actor.runAtFixedRate(CREDIT_REFRESH_INTERVAL, clientStreamManager::refreshCredits);
   }
 
   @Override
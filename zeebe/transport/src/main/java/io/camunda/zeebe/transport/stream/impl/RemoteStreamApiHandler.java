@@ -14,6 +14,7 @@ import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.transport.stream.impl.messages.ErrorResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamCreditRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.UUIDEncoder;
 import io.camunda.zeebe.util.CloseableSilently;
@@ -99,6 +100,20 @@ public final class RemoteStreamApiHandler<M> implements CloseableSilently {
     return removeResponseOK;
   }
 
+  public void updateCredits(final MemberId sender, final StreamCreditRequest request) {
+    if (request.streamId() == null || request.streamId().equals(NULL_ID)) {
+      LOG.warn(
+          "Expected a stream ID to grant credits to, but received a nil UUID ([{}]) from {}",
+          request.streamId(),
+          sender);
+      return;
+    }
+
+    registry.updateCredits(request.streamId(), sender, request.credits());
+    LOG.trace(
+        "Granted {} credits to stream {} of {}", request.credits(), request.streamId(), sender);
+  }
+
   public void removeAll(final MemberId sender) {
     registry.removeAll(sender);
     LOG.debug("Removed all streams from {}", sender);
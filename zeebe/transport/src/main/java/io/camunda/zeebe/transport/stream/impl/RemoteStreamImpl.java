@@ -15,6 +15,7 @@ import io.camunda.zeebe.util.buffer.BufferWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -66,7 +67,7 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     while (size > 0) {
       final var index = ThreadLocalRandom.current().nextInt(size);
       try {
-        return consumers.get(index);
+        return pickConsumerWithCredits(consumers, index, size);
       } catch (final IndexOutOfBoundsException e) {
         LOGGER.trace(
             "Stream consumer list concurrently modified while picking consumer; retrying", e);
@@ -77,6 +78,24 @@ public final class RemoteStreamImpl<M, P extends BufferWriter> implements Remote
     return null;
   }
 
+  /**
+   * Starting at the given index, returns the first consumer for which a credit could be consumed.
+   * If all credits were consumed concurrently since the stream was picked, falls back to the
+   * consumer at the given index; the push may then still fail, in which case it is retried with the
+   * other consumers as usual.
+   */
+  private StreamConsumer<M> pickConsumerWithCredits(
+      final List<StreamConsumer<M>> consumers, final int startIndex, final int size) {
+    for (int i = 0; i < size; i++) {
+      final var consumer = consumers.get((startIndex + i) % size);
+      if (consumer.credits().tryConsume()) {
+        return consumer;
+      }
+    }
+
+    return consumers.get(startIndex);
+  }
+
   private final class RetryHandler implements RemoteStreamErrorHandler<P> {
     private final RemoteStreamErrorHandler<P> errorHandler;
     private final StreamConsumer<M> initialConsumer;
@@ -115,6 +115,21 @@ public class RemoteStreamRegistry<M> implements ImmutableStreamRegistry<M> {
     }
   }
 
+  /**
+   * Replaces the credits of the given stream, i.e. how many payloads may still be pushed to it.
+   * Does nothing if the stream is not registered.
+   *
+   * @param streamId id of the stream
+   * @param receiver The id of the node that receives data from the stream
+   * @param credits the new credits of the stream
+   */
+  public void updateCredits(final UUID streamId, final MemberId receiver, final int credits) {
+    final var consumer = idToConsumer.get(new StreamId(streamId, receiver));
+    if (consumer != null) {
+      consumer.credits().grant(credits);
+    }
+  }
+
   /**
    * Removes all stream from the given receiver
    *
@@ -46,6 +46,7 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
   private final ImmutableStreamRegistry<M> registry;
   private final RemoteStreamPusher<P> remoteStreamPusher;
   private final RemoteStreamErrorHandler<P> errorHandler;
+  private final RemoteStreamMetrics metrics;
 
   public RemoteStreamerImpl(
       final ClusterCommunicationService transport,
@@ -55,6 +56,7 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
     this.transport = Objects.requireNonNull(transport, "must specify a network transport");
     this.registry = Objects.requireNonNull(registry, "must specify a job stream registry");
     this.errorHandler = Objects.requireNonNull(errorHandler, "must specify an error handler");
+    this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
 
     remoteStreamPusher = new RemoteStreamPusher<>(this::send, actor::run, metrics);
   }
@@ -75,17 +77,30 @@ public final class RemoteStreamerImpl<M, P extends BufferWriter> extends Actor
         .map(target -> new RemoteStreamImpl<>(target, remoteStreamPusher, errorHandler));
   }
 
+  /**
+   * Picks a random stream which has at least one consumer with credits left. If there are
+   * consumers, but none of them has any credits left, no stream is returned, such that the payload
+   * is not pushed at all instead of being pushed to a client which cannot handle it.
+   */
   private Optional<AggregatedRemoteStream<M>> pickStream(
       final Set<AggregatedRemoteStream<M>> consumers) {
     final var targets = new ArrayList<>(consumers);
     Collections.shuffle(targets);
 
+    boolean hasConsumers = false;
     for (final var target : targets) {
       if (!target.streamConsumers().isEmpty()) {
-        return Optional.of(target);
+        hasConsumers = true;
+        if (target.hasCredits()) {
+          return Optional.of(target);
+        }
       }
     }
 
+    if (hasConsumers) {
+      metrics.creditsExhausted();
+    }
+
     return Optional.empty();
   }
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.transport.stream.impl;
+
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tracks how many payloads may still be pushed to a single remote stream consumer. Credits are
+ * granted by the client (e.g. the gateway) and replace whatever was granted before; every push
+ * consumes one credit.
+ *
+ * <p>Until the client grants credits for the first time, the consumer has {@link
+ * ClientStreamConsumer#UNLIMITED_CREDITS unlimited credits}. This keeps clients which never grant
+ * credits working as before.
+ *
+ * <p>Credits are granted on the transport actor, but consumed by whichever thread pushes, so all
+ * operations are thread-safe.
+ */
+final class StreamCredits {
+  private final AtomicInteger available = new AtomicInteger(ClientStreamConsumer.UNLIMITED_CREDITS);
+
+  void grant(final int credits) {
+    available.set(Math.max(0, credits));
+  }
+
+  boolean hasCredits() {
+    return available.get() > 0;
+  }
+
+  /**
+   * @return true if a credit was consumed (or credits are unlimited), false if there were none left
+   */
+  boolean tryConsume() {
+    while (true) {
+      final int current = available.get();
+      if (current == ClientStreamConsumer.UNLIMITED_CREDITS) {
+        return true;
+      }
+
+      if (current <= 0) {
+        return false;
+      }
+
+      if (available.compareAndSet(current, current - 1)) {
+        return true;
+      }
+    }
+  }
+
+  int available() {
+    return available.get();
+  }
+
+  @Override
+  public String toString() {
+    return "StreamCredits{" + "available=" + available.get() + '}';
+  }
+}
@@ -28,6 +28,10 @@ public final class MessageUtil {
     return parseRequest(bytes, new AddStreamRequest());
   }
 
+  public static StreamCreditRequest parseCreditRequest(final byte[] bytes) {
+    return parseRequest(bytes, new StreamCreditRequest());
+  }
+
   private static <R extends BufferReader> R parseRequest(final byte[] bytes, final R request) {
     final var buffer = new UnsafeBuffer(bytes);
     request.wrap(buffer, 0, buffer.capacity());
@@ -12,7 +12,8 @@ public enum StreamTopics {
   PUSH("stream-push"),
   REMOVE("stream-remove"),
   REMOVE_ALL("stream-remove-all"),
-  RESTART_STREAMS("stream-recreate");
+  RESTART_STREAMS("stream-recreate"),
+  CREDIT("stream-credit");
 
   private final String topic;
 
@@ -31,6 +31,7 @@ import java.net.ConnectException;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -402,6 +403,147 @@ public class AtomixTransportTest {
     assertThat(requestId1).isNotEqualByComparingTo(requestId2);
   }
 
+  @Test
+  public void shouldAnswerEachRequestOfBatch() {
+    // given
+    serverTransport.subscribe(0, RequestType.COMMAND, new DirectlyResponder()).join();
+
+    // when
+    final var responseFutures =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            List.of(new Request("a"), new Request("bb"), new Request("ccc")),
+            true,
+            List.of(REQUEST_TIMEOUT, REQUEST_TIMEOUT, REQUEST_TIMEOUT));
+
+    // then
+    assertThat(responseFutures)
+        .map(response -> new String(getBytes(response.join())))
+        .containsExactly("a", "bb", "ccc");
+  }
+
+  @Test
+  public void shouldHandBatchToHandlerAtOnce() {
+    // given
+    final var batchSize = new CompletableFuture<Integer>();
+    serverTransport
+        .subscribe(
+            0,
+            RequestType.COMMAND,
+            new DirectlyResponder() {
+              @Override
+              public void onRequestBatch(
+                  final ServerOutput serverOutput,
+                  final int partitionId,
+                  final long[] requestIds,
+                  final DirectBuffer[] requests) {
+                batchSize.complete(requests.length);
+                // respond in reverse order, each response must still go to its own request
+                for (int i = requests.length - 1; i >= 0; i--) {
+                  onRequest(
+                      serverOutput,
+                      partitionId,
+                      requestIds[i],
+                      requests[i],
+                      0,
+                      requests[i].capacity());
+                }
+              }
+            })
+        .join();
+
+    // when
+    final var responseFutures =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            List.of(new Request("first"), new Request("second")),
+            true,
+            List.of(REQUEST_TIMEOUT, REQUEST_TIMEOUT));
+
+    // then
+    assertThat(responseFutures)
+        .map(response -> new String(getBytes(response.join())))
+        .containsExactly("first", "second");
+    assertThat(batchSize.join()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldCompleteBatchedRequestsIndependently() {
+    // given
+    final var answered = new AtomicBoolean();
+    serverTransport
+        .subscribe(
+            0,
+            RequestType.COMMAND,
+            (output, partitionId, requestId, buffer, offset, length) -> {
+              if (answered.compareAndSet(false, true)) {
+                output.sendResponse(
+                    new ServerResponseImpl()
+                        .buffer(buffer, offset, length)
+                        .setRequestId(requestId)
+                        .setPartitionId(partitionId));
+              }
+            })
+        .join();
+
+    // when
+    final var responseFutures =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            List.of(new Request("first"), new Request("second")),
+            true,
+            List.of(REQUEST_TIMEOUT, REQUEST_TIMEOUT_NO_SUCCESS));
+
+    // then
+    assertThat(new String(getBytes(responseFutures.getFirst().join()))).isEqualTo("first");
+    assertThatThrownBy(responseFutures.getLast()::join).hasCauseInstanceOf(TimeoutException.class);
+  }
+
+  @Test
+  public void shouldRespondToBatchedRequestBeforeOthersAreAnswered() {
+    // given
+    final var pendingRequest = new CompletableFuture<Runnable>();
+    serverTransport
+        .subscribe(
+            0,
+            RequestType.COMMAND,
+            (output, partitionId, requestId, buffer, offset, length) -> {
+              final var response =
+                  new ServerResponseImpl()
+                      .buffer(buffer, offset, length)
+                      .setRequestId(requestId)
+                      .setPartitionId(partitionId);
+              if (!pendingRequest.isDone()) {
+                // hold back the response to the first request
+                pendingRequest.complete(() -> output.sendResponse(response));
+              } else {
+                output.sendResponse(response);
+              }
+            })
+        .join();
+
+    // when
+    final var responseFutures =
+        clientTransport.sendRequestBatch(
+            nodeAddressSupplier,
+            List.of(new Request("first"), new Request("second")),
+            true,
+            List.of(REQUEST_TIMEOUT, REQUEST_TIMEOUT));
+
+    // then
+    assertThat(new String(getBytes(responseFutures.getLast().join()))).isEqualTo("second");
+    assertThat(responseFutures.getFirst().isDone()).isFalse();
+
+    pendingRequest.join().run();
+    assertThat(new String(getBytes(responseFutures.getFirst().join()))).isEqualTo("first");
+  }
+
+  private static byte[] getBytes(final DirectBuffer buffer) {
+    final var bytes = new byte[buffer.capacity()];
+    buffer.getBytes(0, bytes);
+    return bytes;
+  }
+
   private static final class Request implements ClientRequest {
 
     private final String msg;
@@ -9,12 +9,17 @@ package io.camunda.zeebe.transport.stream.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.scheduler.testing.TestConcurrencyControl;
@@ -24,6 +29,7 @@ import io.camunda.zeebe.transport.stream.api.NoSuchStreamException;
 import io.camunda.zeebe.transport.stream.impl.messages.AddStreamResponse;
 import io.camunda.zeebe.transport.stream.impl.messages.PushStreamRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.RemoveStreamResponse;
+import io.camunda.zeebe.transport.stream.impl.messages.StreamCreditRequest;
 import io.camunda.zeebe.transport.stream.impl.messages.StreamTopics;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.BufferWriter;
@@ -324,6 +330,120 @@ class ClientStreamManagerTest {
     assertThat(metrics.getServerCount()).isZero();
   }
 
+  @Test
+  void shouldGrantCreditsWhenTheyChange() {
+    // given
+    final var serverId = MemberId.anonymous();
+    clientStreamManager.onServerJoined(serverId);
+    final ClientStreamConsumer blockedConsumer =
+        new ClientStreamConsumer() {
+          @Override
+          public ActorFuture<Void> push(final DirectBuffer payload) {
+            return CompletableActorFuture.completed(null);
+          }
+
+          @Override
+          public int availableCredits() {
+            return 0;
+          }
+        };
+    final var streamId = clientStreamManager.add(streamType, metadata, blockedConsumer);
+
+    // when
+    clientStreamManager.refreshCredits();
+    clientStreamManager.refreshCredits();
+
+    // then - credits are only granted once, since they did not change in between
+    final var request = new StreamCreditRequest().streamId(getServerStreamId(streamId)).credits(0);
+    verify(mockTransport, times(1))
+        .unicast(
+            eq(StreamTopics.CREDIT.topic()),
+            eq(BufferUtil.bufferAsArray(request)),
+            any(),
+            eq(serverId),
+            eq(true));
+    assertThat(metrics.getCreditsExhausted()).isOne();
+  }
+
+  @Test
+  void shouldNotGrantUnchangedUnlimitedCredits() {
+    // given
+    final var serverId = MemberId.anonymous();
+    clientStreamManager.onServerJoined(serverId);
+    clientStreamManager.add(streamType, metadata, NOOP_CONSUMER);
+
+    // when
+    clientStreamManager.refreshCredits();
+
+    // then
+    verify(mockTransport, never())
+        .unicast(eq(StreamTopics.CREDIT.topic()), any(), any(), any(), anyBoolean());
+  }
+
+  @Test
+  void shouldSplitCreditsAcrossServers() {
+    // given
+    final var server1 = MemberId.from("1");
+    final var server2 = MemberId.from("2");
+    clientStreamManager.onServerJoined(server1);
+    clientStreamManager.onServerJoined(server2);
+    final var streamId = clientStreamManager.add(streamType, metadata, limitedConsumer(5));
+
+    // when
+    clientStreamManager.refreshCredits();
+
+    // then - both servers combined may not push more than the client can take
+    final var serverStreamId = getServerStreamId(streamId);
+    verifyCreditsGranted(serverStreamId, server1, 3, 1);
+    verifyCreditsGranted(serverStreamId, server2, 2, 1);
+  }
+
+  @Test
+  void shouldGrantCreditsAgainOnceHalfAreUsedUp() {
+    // given
+    final var serverId = MemberId.from("1");
+    clientStreamManager.onServerJoined(serverId);
+    final var streamId = clientStreamManager.add(streamType, metadata, limitedConsumer(4));
+    final var serverStreamId = getServerStreamId(streamId);
+    clientStreamManager.refreshCredits();
+
+    // when - the server uses up half of its credits
+    final var request =
+        new PushStreamRequest().streamId(serverStreamId).payload(BufferUtil.wrapString("data"));
+    clientStreamManager.onPayloadReceived(request, new TestActorFuture<>());
+    verifyCreditsGranted(serverStreamId, serverId, 4, 1);
+    clientStreamManager.onPayloadReceived(request, new TestActorFuture<>());
+
+    // then - the credits are granted again right away, even though they did not change
+    verifyCreditsGranted(serverStreamId, serverId, 4, 2);
+  }
+
+  private void verifyCreditsGranted(
+      final UUID serverStreamId, final MemberId serverId, final int credits, final int times) {
+    final var request = new StreamCreditRequest().streamId(serverStreamId).credits(credits);
+    verify(mockTransport, times(times))
+        .unicast(
+            eq(StreamTopics.CREDIT.topic()),
+            eq(BufferUtil.bufferAsArray(request)),
+            any(),
+            eq(serverId),
+            eq(true));
+  }
+
+  private ClientStreamConsumer limitedConsumer(final int credits) {
+    return new ClientStreamConsumer() {
+      @Override
+      public ActorFuture<Void> push(final DirectBuffer payload) {
+        return CompletableActorFuture.completed(null);
+      }
+
+      @Override
+      public int availableCredits() {
+        return credits;
+      }
+    };
+  }
+
   private UUID getServerStreamId(final ClientStreamId clientStreamId) {
     return registry.getClient(clientStreamId).orElseThrow().serverStream().streamId();
   }
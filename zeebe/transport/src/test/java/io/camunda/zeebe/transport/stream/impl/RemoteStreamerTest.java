@@ -38,9 +38,9 @@ final class RemoteStreamerTest {
   private final RemoteStreamRegistry<TestMetadata> registry =
       new RemoteStreamRegistry<>(RemoteStreamMetrics.noop());
 
+  private final TestRemoteStreamMetrics metrics = new TestRemoteStreamMetrics();
   private final RemoteStreamerImpl<TestMetadata, TestPayload> streamer =
-      new RemoteStreamerImpl<>(
-          communicationService, registry, (e, d) -> {}, RemoteStreamMetrics.noop());
+      new RemoteStreamerImpl<>(communicationService, registry, (e, d) -> {}, metrics);
 
   @RegisterExtension
   private final ControlledActorSchedulerExtension scheduler =
@@ -123,6 +123,63 @@ final class RemoteStreamerTest {
             Mockito.any());
   }
 
+  @Test
+  void shouldNotPickStreamWithoutCredits() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1));
+
+    // when
+    registry.updateCredits(streamId.streamId(), streamId.receiver(), 0);
+
+    // then
+    assertThat(streamer.streamFor(type)).isEmpty();
+    assertThat(metrics.getCreditsExhausted()).isOne();
+  }
+
+  @Test
+  void shouldConsumeCreditOnPush() {
+    // given
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var streamId = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    registry.add(type, streamId.streamId(), streamId.receiver(), new TestMetadata(1));
+    registry.updateCredits(streamId.streamId(), streamId.receiver(), 1);
+
+    // when
+    streamer.streamFor(type).orElseThrow().push(new TestPayload(1));
+    scheduler.workUntilDone();
+
+    // then
+    assertThat(streamer.streamFor(type)).isEmpty();
+  }
+
+  @Test
+  void shouldPushToConsumerWithCredits() {
+    // given - two consumers of the same logical stream, only one of which has credits
+    final var type = new UnsafeBuffer(BufferUtil.wrapString("foo"));
+    final var metadata = new TestMetadata(1);
+    final var blocked = new StreamId(UUID.randomUUID(), MemberId.from("a"));
+    final var ready = new StreamId(UUID.randomUUID(), MemberId.from("b"));
+    registry.add(type, blocked.streamId(), blocked.receiver(), metadata);
+    registry.add(type, ready.streamId(), ready.receiver(), metadata);
+    registry.updateCredits(blocked.streamId(), blocked.receiver(), 0);
+
+    // when
+    streamer.streamFor(type).orElseThrow().push(new TestPayload(1));
+    scheduler.workUntilDone();
+
+    // then
+    Mockito.verify(communicationService, Mockito.timeout(5_000).times(1))
+        .send(
+            Mockito.eq(StreamTopics.PUSH.topic()),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.any(),
+            Mockito.eq(ready.receiver()),
+            Mockito.any());
+  }
+
   private record TestPayload(long key) implements BufferWriter {
 
     @Override
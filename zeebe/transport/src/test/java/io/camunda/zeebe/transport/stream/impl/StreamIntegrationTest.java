@@ -38,14 +38,18 @@ import io.camunda.zeebe.transport.stream.impl.messages.ErrorCode;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import org.agrona.CloseHelper;
@@ -159,6 +163,79 @@ final class StreamIntegrationTest {
         .returns(ErrorCode.NOT_FOUND, StreamResponseException::code);
   }
 
+  @Test
+  void shouldStopPushingOnceCreditsRunOut() {
+    // given - a client which never completes a push, and can take two payloads at most
+    final var budget = new AtomicInteger(0);
+    final Queue<CompletableActorFuture<Void>> pending = new ConcurrentLinkedQueue<>();
+    final var consumer =
+        new ClientStreamConsumer() {
+          @Override
+          public ActorFuture<Void> push(final DirectBuffer payload) {
+            final var result = new CompletableActorFuture<Void>();
+            pending.add(result);
+            return result;
+          }
+
+          @Override
+          public int availableCredits() {
+            return Math.max(0, budget.get() - pending.size());
+          }
+        };
+    final var streamType = BufferUtil.wrapString("foo");
+    final var streamId = clientStreamer.add(streamType, metadata, consumer).join();
+    final var servers = List.of(server1, server2);
+    awaitStreamOnClient(
+        streamId,
+        stream ->
+            assertThat(stream)
+                .map(ClientStream::liveConnections)
+                .hasValue(Set.of(server1.memberId(), server2.memberId())));
+
+    // start out blocked, so the servers are not pushing with the unlimited initial credits
+    awaitStreamOnServer(streamType, server1, stream -> assertThat(stream).isEmpty());
+    awaitStreamOnServer(streamType, server2, stream -> assertThat(stream).isEmpty());
+    budget.set(2);
+
+    // when - pushing from both servers for as long as they have credits
+    Awaitility.await("until the servers ran out of credits")
+        .untilAsserted(
+            () -> {
+              servers.forEach(
+                  server ->
+                      server
+                          .streamer
+                          .streamFor(streamType)
+                          .ifPresent(stream -> stream.push(new TestSerializableData(1))));
+              assertThat(pending).hasSizeGreaterThanOrEqualTo(2);
+              assertThat(servers)
+                  .allSatisfy(
+                      server -> assertThat(server.streamer.streamFor(streamType)).isEmpty());
+            });
+
+    // then - no server picks the stream again as long as the client is blocked
+    final var pushed = pending.size();
+    Awaitility.await("until the servers stay out of credits")
+        .during(Duration.ofMillis(500))
+        .untilAsserted(
+            () -> {
+              assertThat(pending).hasSize(pushed);
+              assertThat(servers)
+                  .allSatisfy(
+                      server -> assertThat(server.streamer.streamFor(streamType)).isEmpty());
+            });
+
+    // once the client catches up, the servers are granted new credits
+    pending.forEach(future -> future.complete(null));
+    pending.clear();
+    Awaitility.await("until the servers are granted new credits")
+        .untilAsserted(
+            () ->
+                assertThat(servers)
+                    .anySatisfy(
+                        server -> assertThat(server.streamer.streamFor(streamType)).isPresent()));
+  }
+
   private Node createNode(final String id) {
     return Node.builder().withId(id).withPort(SocketUtil.getNextAddress().getPort()).build();
   }
@@ -24,6 +24,7 @@ final class TestClientStreamMetrics implements ClientStreamMetrics {
   private int aggregatedStreamCount;
   private int pushSucceeded;
   private int pushFailed;
+  private int creditsExhausted;
 
   @Override
   public void serverCount(final int count) {
@@ -60,6 +61,15 @@ final class TestClientStreamMetrics implements ClientStreamMetrics {
     failedPushTries.compute(code, (ignored, value) -> value == null ? 1 : value + 1);
   }
 
+  @Override
+  public void creditsExhausted() {
+    creditsExhausted++;
+  }
+
+  public int getCreditsExhausted() {
+    return creditsExhausted;
+  }
+
   public int getServerCount() {
     return serverCount;
   }
@@ -17,6 +17,7 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
   private int streamCount;
   private int pushSucceeded;
   private int pushFailed;
+  private int creditsExhausted;
   private final Map<ErrorCode, Integer> failedPushTries = new EnumMap<>(ErrorCode.class);
 
   @Override
@@ -44,6 +45,15 @@ final class TestRemoteStreamMetrics implements RemoteStreamMetrics {
     failedPushTries.compute(code, (ignored, value) -> value == null ? 1 : value + 1);
   }
 
+  @Override
+  public void creditsExhausted() {
+    creditsExhausted++;
+  }
+
+  public int getCreditsExhausted() {
+    return creditsExhausted;
+  }
+
   public int getStreamCount() {
     return streamCount;
   }